@@ -0,0 +1,54 @@
+package com.ocare.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateTimeUtil.parse 빠른 경로와 기존 포매터 체인 처리량 비교 (ops/s = 초당 파싱 건수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeUtilBenchmark {
+
+    private static final String[] INPUTS = {
+            "2024-11-15 00:00:00",
+            "2024-11-15 00:10:00 +0000",
+            "2024-11-15T00:20:00Z",
+            "2024-11-15T00:30:00+0000"
+    };
+
+    /**
+     * 빠른 경로 (문자 직접 읽기)
+     */
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void fastPath(Blackhole blackhole) {
+        for (String input : INPUTS) {
+            blackhole.consume(DateTimeUtil.parse(input));
+        }
+    }
+
+    /**
+     * 기존 포매터 체인 (정규식 정규화 + 예외 기반 재시도)
+     */
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void formatterChain(Blackhole blackhole) {
+        for (String input : INPUTS) {
+            blackhole.consume(DateTimeUtil.parseWithFormatters(input));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ocare.domain.health;
+
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.dto.EntrySample;
+import com.ocare.domain.health.dto.response.DailySummaryResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 입력 데이터 (10분 단위 엔트리, 삼성헬스/애플건강 형식 혼합)
+ */
+public final class HealthBenchmarkData {
+
+    public static final String RECORD_KEY = "benchmark-record-key";
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final DateTimeFormatter SAMSUNG = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter APPLE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'+0000'");
+
+    private HealthBenchmarkData() {
+    }
+
+    /**
+     * 업로드 요청 JSON (짝수 번째는 삼성헬스 형식/숫자 값, 홀수 번째는 애플건강 형식/문자열 값)
+     */
+    public static String requestJson(int entryCount) {
+        StringBuilder json = new StringBuilder(entryCount * 200)
+                .append("{\"recordkey\":\"").append(RECORD_KEY).append("\",\"data\":{\"memo\":\"benchmark\",\"entries\":[");
+        for (int i = 0; i < entryCount; i++) {
+            LocalDateTime from = START.plusMinutes(10L * i);
+            boolean samsung = i % 2 == 0;
+            DateTimeFormatter formatter = samsung ? SAMSUNG : APPLE;
+            String quote = samsung ? "" : "\"";
+            int steps = 50 + i % 120;
+
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"period\":{\"from\":\"").append(from.format(formatter))
+                    .append("\",\"to\":\"").append(from.plusMinutes(10).format(formatter)).append("\"},")
+                    .append("\"distance\":{\"unit\":\"km\",\"value\":").append(quote).append(steps * 0.0007).append(quote).append("},")
+                    .append("\"calories\":{\"unit\":\"kcal\",\"value\":").append(quote).append(steps * 0.04).append(quote).append("},")
+                    .append("\"steps\":").append(quote).append(samsung ? String.valueOf(steps) : steps + ".0").append(quote).append('}');
+        }
+        return json.append("]}}").toString();
+    }
+
+    /**
+     * 집계 변경량 (10분 단위)
+     */
+    public static List<EntryDelta> deltas(int entryCount) {
+        List<EntryDelta> deltas = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            long epochDay = START.plusMinutes(10L * i).toLocalDate().toEpochDay();
+            int steps = 50 + i % 120;
+            deltas.add(new EntryDelta(epochDay, steps, steps * 0.04f, steps * 0.0007f, 1));
+        }
+        return deltas;
+    }
+
+    /**
+     * 하루치 엔트리 (10분 단위 144건, stepsOffset만큼 steps를 바꿔 재업로드 값으로 사용)
+     */
+    public static List<EntrySample> daySamples(LocalDate date, int stepsOffset) {
+        List<EntrySample> samples = new ArrayList<>(144);
+        for (int i = 0; i < 144; i++) {
+            LocalDateTime from = date.atStartOfDay().plusMinutes(10L * i);
+            int steps = 50 + i % 120 + stepsOffset;
+            samples.add(EntrySample.of(from, from.plusMinutes(10), steps, steps * 0.04f, steps * 0.0007f));
+        }
+        return samples;
+    }
+
+    /**
+     * START부터 이어지는 10분 단위 엔트리 entryCount건 (stepsOffset만큼 steps를 바꿔 재업로드 값으로 사용)
+     */
+    public static List<EntrySample> samples(int entryCount, int stepsOffset) {
+        List<EntrySample> samples = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            LocalDateTime from = START.plusMinutes(10L * i);
+            int steps = 50 + i % 120 + stepsOffset;
+            samples.add(EntrySample.of(from, from.plusMinutes(10), steps, steps * 0.04f, steps * 0.0007f));
+        }
+        return samples;
+    }
+
+    /**
+     * 일별 집계 응답 목록
+     */
+    public static List<DailySummaryResponse> dailySummaries(int days) {
+        List<DailySummaryResponse> summaries = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            summaries.add(DailySummaryResponse.builder()
+                    .recordKey(RECORD_KEY)
+                    .date(START.toLocalDate().plusDays(i))
+                    .steps(8000 + i)
+                    .calories(320.5f)
+                    .distance(5.6f)
+                    .build());
+        }
+        return summaries;
+    }
+}
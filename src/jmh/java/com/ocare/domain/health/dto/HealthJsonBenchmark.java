@@ -0,0 +1,65 @@
+package com.ocare.domain.health.dto;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.ocare.domain.health.HealthBenchmarkData;
+import com.ocare.domain.health.dto.request.HealthDataRequest;
+import com.ocare.domain.health.dto.response.DailySummaryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 요청 역직렬화 / 일별 집계 응답 직렬화 평균 처리 시간
+ * ObjectMapper는 Spring Boot 기본 설정(모듈 자동 등록, 알 수 없는 필드 무시, ISO 날짜)과 동일하게 구성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HealthJsonBenchmark {
+
+    @Param({"144", "4320"})
+    private int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private byte[] requestJson;
+    private List<DailySummaryResponse> summaries;
+
+    @Setup
+    public void setUp() throws Exception {
+        requestJson = HealthBenchmarkData.requestJson(size).getBytes(StandardCharsets.UTF_8);
+        summaries = HealthBenchmarkData.dailySummaries(size);
+    }
+
+    @Benchmark
+    public HealthDataRequest deserializeRequest() throws Exception {
+        return objectMapper.readValue(requestJson, HealthDataRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serializeDailySummaries() throws Exception {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+}
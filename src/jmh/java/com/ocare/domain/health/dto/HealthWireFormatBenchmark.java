@@ -0,0 +1,80 @@
+package com.ocare.domain.health.dto;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.ocare.domain.health.HealthBenchmarkData;
+import com.ocare.domain.health.dto.request.HealthDataRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 요청 전송 형식별(JSON/CBOR/Smile) 역직렬화/직렬화 평균 처리 시간
+ * 본문은 HealthBenchmarkData.requestJson과 같은 내용을 각 형식으로 옮긴 것 (형식별 본문 크기는 설정 시 출력)
+ * ObjectMapper는 HealthJsonBenchmark와 같은 설정을 형식별 매퍼에 적용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HealthWireFormatBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private byte[] requestBody;
+    private HealthDataRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper jsonMapper = configure(JsonMapper.builder());
+        objectMapper = switch (format) {
+            case "cbor" -> configure(CBORMapper.builder());
+            case "smile" -> configure(SmileMapper.builder());
+            default -> jsonMapper;
+        };
+
+        requestBody = objectMapper.writeValueAsBytes(jsonMapper.readTree(HealthBenchmarkData.requestJson(size)));
+        request = objectMapper.readValue(requestBody, HealthDataRequest.class);
+        System.out.printf("%n%s request body: %d bytes (%d entries)%n", format, requestBody.length, size);
+    }
+
+    @Benchmark
+    public HealthDataRequest deserializeRequest() throws Exception {
+        return objectMapper.readValue(requestBody, HealthDataRequest.class);
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() throws Exception {
+        return objectMapper.writeValueAsBytes(request);
+    }
+
+    private static ObjectMapper configure(MapperBuilder<?, ?> builder) {
+        return builder
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
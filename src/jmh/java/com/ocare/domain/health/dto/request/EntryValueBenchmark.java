@@ -0,0 +1,46 @@
+package com.ocare.domain.health.dto.request;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * EntryDto.getStepsAsInteger / ValueDto.getValueAsFloat 처리량 (숫자 값과 문자열 값 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryValueBenchmark {
+
+    private final EntryDto numberSteps = new EntryDto(null, null, null, 1234);
+    private final EntryDto stringSteps = new EntryDto(null, null, null, "1234.0");
+    private final ValueDto numberValue = new ValueDto("kcal", 56.78);
+    private final ValueDto stringValue = new ValueDto("kcal", "56.78");
+
+    @Benchmark
+    public Integer stepsFromNumber() {
+        return numberSteps.getStepsAsInteger();
+    }
+
+    @Benchmark
+    public Integer stepsFromString() {
+        return stringSteps.getStepsAsInteger();
+    }
+
+    @Benchmark
+    public Float valueFromNumber() {
+        return numberValue.getValueAsFloat();
+    }
+
+    @Benchmark
+    public Float valueFromString() {
+        return stringValue.getValueAsFloat();
+    }
+}
@@ -0,0 +1,190 @@
+package com.ocare.domain.health.repository;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.ocare.domain.health.HealthBenchmarkData;
+import com.ocare.domain.health.dto.RangeAggregation;
+import com.ocare.domain.health.dto.response.DailySummaryResponse;
+import com.ocare.domain.health.entity.DailyHealthSummaryEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 일별 집계 조회 경로별 평균 처리 시간 (인메모리 H2 + HikariCP, 읽기 전용 트랜잭션, JSON 직렬화 포함)
+ * - entityList: 엔티티 조회 → DailySummaryResponse::of 변환 → 목록 직렬화 (이전 방식)
+ * - projectionList: 응답 DTO 생성자 표현식 조회 → 목록 직렬화
+ * - projectionStream: DTO 스트림을 JsonGenerator에 한 행씩 출력 (NDJSON 경로)
+ * - entitySum / projectionSum: 기간 합계를 엔티티 합산 / DB SUM 한 행으로 계산
+ * 30일 = 한 달, 365일 = 1년, 1825일 = 5년
+ * Hibernate/Spring Data 초기화 이후 JIT 안정화에 시간이 걸려 워밍업을 다른 벤치마크보다 길게 둠
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DailySummaryReadBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    @Param({"30", "365", "1825"})
+    private int days;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private TransactionTemplate readOnlyTransaction;
+    private DailyHealthSummaryRepository repository;
+    private LocalDate end;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:bench-" + days + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan(DailyHealthSummaryEntity.class.getPackageName());
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+        entityManagerFactory.afterPropertiesSet();
+
+        readOnlyTransaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory.getObject()));
+        readOnlyTransaction.setReadOnly(true);
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject());
+        repository = new JpaRepositoryFactory(entityManager).getRepository(DailyHealthSummaryRepository.class);
+
+        end = START.plusDays(days - 1);
+        seed(new JdbcTemplate(dataSource));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.destroy();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long entityList() {
+        return readOnlyTransaction.execute(status -> write(repository
+                .findByRecordKeyAndSummaryDateBetweenOrderBySummaryDateAsc(HealthBenchmarkData.RECORD_KEY, START, end)
+                .stream()
+                .map(DailySummaryResponse::of)
+                .collect(Collectors.toList())));
+    }
+
+    @Benchmark
+    public long projectionList() {
+        return readOnlyTransaction.execute(status -> write(repository
+                .findSummariesByRecordKeyAndSummaryDateBetween(HealthBenchmarkData.RECORD_KEY, START, end)));
+    }
+
+    @Benchmark
+    public long projectionStream() {
+        return readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<DailySummaryResponse> rows = repository.streamByRecordKey(HealthBenchmarkData.RECORD_KEY);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())
+                         .setRootValueSeparator(null)) {
+                for (DailySummaryResponse row : (Iterable<DailySummaryResponse>) rows::iterator) {
+                    objectMapper.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        });
+    }
+
+    @Benchmark
+    public RangeAggregation entitySum() {
+        return readOnlyTransaction.execute(status -> {
+            RangeAggregation total = new RangeAggregation();
+            repository.findByRecordKeyAndSummaryDateBetweenOrderBySummaryDateAsc(HealthBenchmarkData.RECORD_KEY, START, end)
+                    .forEach(e -> total.add(e.getTotalSteps(), e.getTotalCalories(), e.getTotalDistance()));
+            return total;
+        });
+    }
+
+    @Benchmark
+    public RangeAggregation projectionSum() {
+        return readOnlyTransaction.execute(status ->
+                repository.sumByRecordKeyAndSummaryDateBetween(HealthBenchmarkData.RECORD_KEY, START, end));
+    }
+
+    /**
+     * 목록 직렬화 후 행 수 반환 (응답 본문 전송 대신 버리는 스트림에 출력)
+     */
+    private long write(List<DailySummaryResponse> summaries) {
+        try {
+            objectMapper.writeValue(OutputStream.nullOutputStream(), summaries);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return summaries.size();
+    }
+
+    /**
+     * 하루 한 행씩 일별 집계 적재
+     */
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(days);
+        long cumulativeSteps = 0L;
+        for (int i = 0; i < days; i++) {
+            int steps = 8000 + i % 500;
+            cumulativeSteps += steps;
+            rows.add(new Object[]{HealthBenchmarkData.RECORD_KEY, Date.valueOf(START.plusDays(i)),
+                    steps, 320.5f, 5.6f, cumulativeSteps, 320.5d * (i + 1), 5.6d * (i + 1), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO DAILY_HEALTH_SUMMARY (record_key, summary_date, total_steps, "
+                + "total_calories, total_distance, cumulative_steps, cumulative_calories, cumulative_distance, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+}
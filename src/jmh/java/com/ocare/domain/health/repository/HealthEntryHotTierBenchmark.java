@@ -0,0 +1,105 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.HealthBenchmarkData;
+import com.ocare.domain.health.dto.EntrySample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 핫 티어 조회 평균 처리 시간 (임시 디렉터리의 매핑 파일, 최근 14일치 적재)
+ * - readDay / readWeek: 1일 / 7일 엔트리 조회 (HealthEntryStoreBenchmark의 readDay와 비교)
+ * - fillDay: 저장소에서 읽은 하루치(144건)로 블록 채움 (조회 미스 시 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HealthEntryHotTierBenchmark {
+
+    private static final int WINDOW_DAYS = 14;
+
+    private final LocalDate today = LocalDate.now();
+
+    private Path directory;
+    private HealthEntryHotTier hotTier;
+    private List<EntrySample> fillSamples;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ReflectiveOperationException {
+        directory = Files.createTempDirectory("hot-tier");
+        hotTier = new HealthEntryHotTier();
+        set("enabled", true);
+        set("directory", directory.toString());
+        set("windowDays", WINDOW_DAYS);
+        set("maxOpenFiles", 100L);
+        hotTier.init();
+
+        for (int day = 0; day < WINDOW_DAYS; day++) {
+            LocalDate date = today.minusDays(day);
+            hotTier.fill(HealthBenchmarkData.RECORD_KEY, date, HealthBenchmarkData.daySamples(date, 0),
+                    hotTier.generation(HealthBenchmarkData.RECORD_KEY));
+        }
+        fillSamples = HealthBenchmarkData.daySamples(today, 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<List<EntrySample>> readDay() {
+        return hotTier.read(HealthBenchmarkData.RECORD_KEY, today.minusDays(1));
+    }
+
+    @Benchmark
+    public List<EntrySample> readWeek() {
+        List<EntrySample> entries = new ArrayList<>();
+        for (int day = 6; day >= 0; day--) {
+            entries.addAll(hotTier.read(HealthBenchmarkData.RECORD_KEY, today.minusDays(day)).orElseThrow());
+        }
+        return entries;
+    }
+
+    @Benchmark
+    public void fillDay() {
+        hotTier.fill("benchmark-fill-key", today, fillSamples, hotTier.generation("benchmark-fill-key"));
+    }
+
+    /**
+     * @Value 필드 설정 (스프링 컨텍스트 없이 생성)
+     */
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = HealthEntryHotTier.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(hotTier, value);
+    }
+}
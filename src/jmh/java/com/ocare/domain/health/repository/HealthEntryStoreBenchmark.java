@@ -0,0 +1,169 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.HealthBenchmarkData;
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.dto.EntrySample;
+import com.ocare.domain.health.entity.HealthEntryEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 원본 엔트리 저장 방식별 평균 처리 시간 (임시 디렉터리의 파일 H2 + HikariCP, 운영과 같은 JDBC 배치 설정)
+ * - insertDay: 새 일자의 하루치(144건) upsert
+ * - updateDay: 기존 일자의 하루치를 다른 값으로 재업로드
+ * - readDay / readMonth: 1일 / 30일 엔트리 조회 (readMonth = 4320건)
+ * 저장 공간은 시작 시 30일치를 적재한 뒤 테이블(인덱스 포함) 크기를 출력: [storage] layout=..., bytes=...
+ * (columnar는 인코딩된 블록 크기 합계 payloadBytes도 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HealthEntryStoreBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final int SEED_DAYS = 30;
+    private static final String WRITE_KEY = "benchmark-write-key";
+
+    @Param({"row", "columnar"})
+    private String layout;
+
+    private Path directory;
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private TransactionTemplate transaction;
+    private TransactionTemplate readOnlyTransaction;
+    private JdbcTemplate jdbcTemplate;
+    private HealthEntryStore store;
+    private int insertedDays;
+    private int updateCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("entry-store-" + layout);
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:file:" + directory.resolve("bench").toAbsolutePath());
+        dataSource.setUsername("sa");
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan(HealthEntryEntity.class.getPackageName());
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.jdbc.batch_size", "100",
+                "hibernate.order_inserts", "true",
+                "hibernate.order_updates", "true"));
+        entityManagerFactory.afterPropertiesSet();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory.getObject());
+        transaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject());
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        store = "row".equals(layout)
+                ? new RowHealthEntryStore(repositoryFactory.getRepository(HealthEntryRepository.class))
+                : new ColumnarHealthEntryStore(repositoryFactory.getRepository(HealthEntryBlockRepository.class));
+
+        for (int day = 0; day < SEED_DAYS; day++) {
+            List<EntrySample> samples = HealthBenchmarkData.daySamples(START.plusDays(day), 0);
+            transaction.execute(status -> store.upsert(HealthBenchmarkData.RECORD_KEY, samples));
+        }
+        printStorage();
+    }
+
+    /**
+     * 반복마다 insertDay가 쌓은 행 정리
+     */
+    @Setup(Level.Iteration)
+    public void clearWrites() {
+        jdbcTemplate.update("DELETE FROM HEALTH_ENTRY WHERE record_key = ?", WRITE_KEY);
+        jdbcTemplate.update("DELETE FROM HEALTH_ENTRY_BLOCK WHERE record_key = ?", WRITE_KEY);
+        insertedDays = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        entityManagerFactory.destroy();
+        dataSource.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<EntryDelta> insertDay() {
+        List<EntrySample> samples = HealthBenchmarkData.daySamples(START.plusDays(insertedDays++), 0);
+        return transaction.execute(status -> store.upsert(WRITE_KEY, samples));
+    }
+
+    @Benchmark
+    public List<EntryDelta> updateDay() {
+        List<EntrySample> samples = HealthBenchmarkData.daySamples(START, ++updateCount % 2);
+        return transaction.execute(status -> store.upsert(HealthBenchmarkData.RECORD_KEY, samples));
+    }
+
+    @Benchmark
+    public List<EntrySample> readDay() {
+        return readOnlyTransaction.execute(status ->
+                store.findByDateRange(HealthBenchmarkData.RECORD_KEY, START.plusDays(1), START.plusDays(1)));
+    }
+
+    @Benchmark
+    public List<EntrySample> readMonth() {
+        return readOnlyTransaction.execute(status ->
+                store.findByDateRange(HealthBenchmarkData.RECORD_KEY, START, START.plusDays(SEED_DAYS - 1)));
+    }
+
+    /**
+     * 적재한 30일치의 테이블 크기 출력 (H2 DISK_SPACE_USED, 인덱스 포함)
+     */
+    private void printStorage() {
+        jdbcTemplate.execute("CHECKPOINT");
+        String table = "row".equals(layout) ? "HEALTH_ENTRY" : "HEALTH_ENTRY_BLOCK";
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        Long bytes = jdbcTemplate.queryForObject("SELECT DISK_SPACE_USED('" + table + "')", Long.class);
+        Long payloadBytes = "row".equals(layout)
+                ? 0L
+                : jdbcTemplate.queryForObject("SELECT SUM(OCTET_LENGTH(payload)) FROM HEALTH_ENTRY_BLOCK", Long.class);
+        System.out.printf("%n[storage] layout=%s, days=%d, entries=%d, rows=%d, bytes=%d, payloadBytes=%d%n",
+                layout, SEED_DAYS, SEED_DAYS * 144, rows, bytes, payloadBytes);
+    }
+}
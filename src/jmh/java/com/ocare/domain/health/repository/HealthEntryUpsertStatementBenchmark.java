@@ -0,0 +1,152 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.HealthBenchmarkData;
+import com.ocare.domain.health.dto.EntrySample;
+import com.ocare.domain.health.entity.HealthEntryEntity;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드(1,000건) 한 번의 엔트리 upsert SQL 문 수와 처리 시간 (인메모리 H2, 운영과 같은 JDBC 배치 설정)
+ * - perEntry: 배치 조회 도입 전 방식 (엔트리마다 구간으로 기존 행 조회 → 수정 또는 신규 저장)
+ *   조회마다 앞선 신규/수정분이 자동 flush되어 엔트리당 SELECT 1 + INSERT/UPDATE 1
+ * - batched: RowHealthEntryStore (업로드 구간 한 번 조회 + 신규/수정분 JDBC 배치)
+ * - upload: insert는 새 엔트리, update는 같은 구간을 다른 값으로 재업로드
+ * SQL 문 수는 Hibernate Statistics의 prepareStatementCount를 보조 지표 statements로 기록 (반복마다 업로드 한 번)
+ * 보조 지표는 측정 반복끼리 합산되므로 측정 반복은 한 번만 실행해 statements가 업로드당 SQL 문 수가 되도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 1)
+@Fork(1)
+public class HealthEntryUpsertStatementBenchmark {
+
+    private static final int ENTRY_COUNT = 1000;
+    private static final String LEGACY_LOOKUP = "SELECT e FROM HealthEntryEntity e " +
+            "WHERE e.recordKey = :recordKey AND e.periodFrom = :periodFrom AND e.periodTo = :periodTo";
+
+    @Param({"perEntry", "batched"})
+    private String path;
+
+    @Param({"insert", "update"})
+    private String upload;
+
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbcTemplate;
+    private Statistics statistics;
+    private HealthEntryStore store;
+    private List<EntrySample> samples;
+    private int uploadCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:upsert-" + path + "-" + upload + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan(HealthEntryEntity.class.getPackageName());
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.jdbc.batch_size", "100",
+                "hibernate.order_inserts", "true",
+                "hibernate.order_updates", "true",
+                "hibernate.generate_statistics", "true"));
+        entityManagerFactory.afterPropertiesSet();
+
+        transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory.getObject()));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        statistics = entityManagerFactory.getObject().unwrap(SessionFactory.class).getStatistics();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject());
+        store = new RowHealthEntryStore(new JpaRepositoryFactory(entityManager).getRepository(HealthEntryRepository.class));
+    }
+
+    /**
+     * 반복마다 업로드 대상 준비 (insert: 기존 행 삭제, update: 기존 행과 다른 값) 후 통계 초기화
+     */
+    @Setup(Level.Iteration)
+    public void prepareUpload() {
+        uploadCount++;
+        if ("insert".equals(upload)) {
+            jdbcTemplate.update("DELETE FROM HEALTH_ENTRY WHERE record_key = ?", HealthBenchmarkData.RECORD_KEY);
+        } else if (uploadCount == 1) {
+            List<EntrySample> seed = HealthBenchmarkData.samples(ENTRY_COUNT, 0);
+            transaction.execute(status -> store.upsert(HealthBenchmarkData.RECORD_KEY, seed));
+        }
+        samples = HealthBenchmarkData.samples(ENTRY_COUNT, uploadCount);
+        statistics.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.destroy();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int upsert(StatementCounters counters) {
+        Integer saved = transaction.execute(status -> {
+            if ("perEntry".equals(path)) {
+                return upsertPerEntry(samples);
+            }
+            return store.upsert(HealthBenchmarkData.RECORD_KEY, samples).size();
+        });
+        counters.statements = statistics.getPrepareStatementCount();
+        return saved;
+    }
+
+    /**
+     * 배치 조회 도입 전 방식: 엔트리마다 구간으로 기존 행을 조회해 수정하거나 신규 저장
+     */
+    private int upsertPerEntry(List<EntrySample> entries) {
+        for (EntrySample entry : entries) {
+            List<HealthEntryEntity> existing = entityManager.createQuery(LEGACY_LOOKUP, HealthEntryEntity.class)
+                    .setParameter("recordKey", HealthBenchmarkData.RECORD_KEY)
+                    .setParameter("periodFrom", entry.getPeriodFrom())
+                    .setParameter("periodTo", entry.getPeriodTo())
+                    .getResultList();
+
+            if (!existing.isEmpty()) {
+                existing.get(0).update(entry.getSteps(), entry.getCalories(), entry.getDistance());
+                continue;
+            }
+            entityManager.persist(HealthEntryEntity.of(HealthBenchmarkData.RECORD_KEY, entry.getPeriodFrom(),
+                    entry.getPeriodTo(), entry.getSteps(), entry.getCalories(), entry.getDistance()));
+        }
+        return entries.size();
+    }
+}
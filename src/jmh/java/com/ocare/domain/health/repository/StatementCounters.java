@@ -0,0 +1,23 @@
+package com.ocare.domain.health.repository;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 업로드 한 번에 실행된 SQL 문 수 (JMH 보조 지표 statements)
+ * 반복마다 업로드 한 번만 실행하고 측정 반복도 한 번이므로 값이 곧 업로드당 SQL 문 수
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class StatementCounters {
+
+    public long statements;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        statements = 0;
+    }
+}
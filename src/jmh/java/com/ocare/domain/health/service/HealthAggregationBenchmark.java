@@ -0,0 +1,66 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.domain.health.HealthBenchmarkData;
+import com.ocare.domain.health.dto.DailyAggregation;
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.dto.MonthlyAggregation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HealthAggregationService 변경량 합산 평균 처리 시간
+ * - aggregateEntries: 기본형 배열 커널 (HealthAggregationKernel)
+ * - mapBased: 엔트리마다 맵을 조회하는 이전 방식
+ * 144건 = 하루, 4320건 = 30일, 52560건 = 1년 (10분 단위)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HealthAggregationBenchmark {
+
+    @Param({"144", "4320", "52560"})
+    private int entryCount;
+
+    private final HealthAggregationService aggregationService = new HealthAggregationService(null, null, null, null, null);
+
+    private List<EntryDelta> deltas;
+
+    @Setup
+    public void setUp() {
+        deltas = HealthBenchmarkData.deltas(entryCount);
+    }
+
+    @Benchmark
+    public Map<LocalDate, DailyAggregation> aggregateEntries() {
+        Map<LocalDate, DailyAggregation> dailyMap = new HashMap<>();
+        Map<String, MonthlyAggregation> monthlyMap = new HashMap<>();
+        aggregationService.aggregateEntries(deltas, dailyMap, monthlyMap);
+        return dailyMap;
+    }
+
+    @Benchmark
+    public Map<LocalDate, DailyAggregation> mapBased() {
+        Map<LocalDate, DailyAggregation> dailyMap = new HashMap<>();
+        Map<String, MonthlyAggregation> monthlyMap = new HashMap<>();
+        aggregationService.aggregateEntriesWithMaps(deltas, dailyMap, monthlyMap);
+        return dailyMap;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ocare.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 종류별 지연 시간 히스토그램과 오류 수 집계
+ * 워밍업 구간의 기록은 reset()으로 버림
+ */
+public final class LatencyReport {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> results = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 1건 기록 (실패도 지연 시간은 기록)
+     */
+    public void record(String operation, long latencyNanos, boolean success) {
+        recorders.computeIfAbsent(operation, k -> new Recorder(MAX_TRACKABLE_NANOS, 3))
+                .recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        if (!success) {
+            errors.computeIfAbsent(operation, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 지금까지의 기록 폐기 (워밍업 종료 시점)
+     */
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * 측정 구간 종료, 요청 종류별 결과 확정
+     */
+    public void finish() {
+        recorders.forEach((operation, recorder) -> results.put(operation, recorder.getIntervalHistogram()));
+    }
+
+    /**
+     * 결과 표 출력
+     */
+    public void print(double seconds) {
+        System.out.printf("%n%-10s %10s %8s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "errors", "ops/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (String operation : operations()) {
+            Histogram histogram = results.get(operation);
+            System.out.printf("%-10s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    operation, histogram.getTotalCount(), errorCount(operation),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    /**
+     * 결과 JSON 저장 (빌드별 수치 비교용)
+     */
+    public void write(Path path, LoadTestOptions options, double seconds) throws IOException {
+        String body = operations().stream()
+                .map(operation -> {
+                    Histogram histogram = results.get(operation);
+                    return String.format(
+                            "\"%s\":{\"count\":%d,\"errors\":%d,\"opsPerSecond\":%.1f,\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"p999Ms\":%.2f,\"maxMs\":%.2f}",
+                            operation, histogram.getTotalCount(), errorCount(operation),
+                            histogram.getTotalCount() / seconds,
+                            millis(histogram.getValueAtPercentile(50)),
+                            millis(histogram.getValueAtPercentile(99)),
+                            millis(histogram.getValueAtPercentile(99.9)),
+                            millis(histogram.getMaxValue()));
+                })
+                .collect(Collectors.joining(",", "{\"options\":\"" + options + "\",\"operations\":{", "}}"));
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, body);
+    }
+
+    private List<String> operations() {
+        return results.keySet().stream().sorted().toList();
+    }
+
+    private long errorCount(String operation) {
+        LongAdder count = errors.get(operation);
+        return count != null ? count.sum() : 0;
+    }
+
+    private double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
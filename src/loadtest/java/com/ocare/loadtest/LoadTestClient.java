@@ -0,0 +1,89 @@
+package com.ocare.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 부하 테스트 대상 API 호출 (회원가입/로그인, 업로드, 대시보드 조회)
+ */
+public final class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String PASSWORD = "loadtest123";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public LoadTestClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * 가상 회원 가입 후 로그인해 토큰과 recordKey 확보
+     */
+    public LoadTestMember signUpAndLogin(String runId, int index) throws IOException, InterruptedException {
+        String email = "lt-" + runId + "-" + index + "@loadtest.ocare";
+        String nickname = "lt-" + runId + "-" + index;
+
+        HttpResponse<String> signUp = postJson("/api/members/signup", objectMapper.writeValueAsString(Map.of(
+                "email", email, "password", PASSWORD, "name", "loadtest", "nickname", nickname)));
+        if (signUp.statusCode() != 201) {
+            throw new IllegalStateException("회원가입 실패: status=" + signUp.statusCode() + ", body=" + signUp.body());
+        }
+
+        HttpResponse<String> login = postJson("/api/members/login", objectMapper.writeValueAsString(Map.of(
+                "email", email, "password", PASSWORD)));
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: status=" + login.statusCode() + ", body=" + login.body());
+        }
+
+        JsonNode data = objectMapper.readTree(login.body()).path("data");
+        return new LoadTestMember(data.path("accessToken").asText(), data.path("member").path("recordKey").asText());
+    }
+
+    /**
+     * 건강 데이터 업로드 (비동기)
+     */
+    public CompletableFuture<HttpResponse<Void>> upload(LoadTestMember member, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/health/data"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + member.getAccessToken())
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    /**
+     * 조회 API 호출 (응답 본문은 읽고 버림)
+     */
+    public HttpResponse<Void> get(LoadTestMember member, String pathAndQuery) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + member.getAccessToken())
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpResponse<String> postJson(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
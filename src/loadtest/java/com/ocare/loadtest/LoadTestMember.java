@@ -0,0 +1,40 @@
+package com.ocare.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 가상 회원 (로그인 토큰, recordKey, 다음 업로드 구간 위치)
+ */
+public final class LoadTestMember {
+
+    private final String accessToken;
+    private final String recordKey;
+    private final AtomicLong nextSlot = new AtomicLong();
+
+    public LoadTestMember(String accessToken, String recordKey) {
+        this.accessToken = accessToken;
+        this.recordKey = recordKey;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRecordKey() {
+        return recordKey;
+    }
+
+    /**
+     * 다음 업로드에 사용할 10분 단위 구간 시작 위치를 확보 (업로드마다 이어지는 새 구간)
+     */
+    public long reserveSlots(int count) {
+        return nextSlot.getAndAdd(count);
+    }
+
+    /**
+     * 지금까지 업로드한 구간 수
+     */
+    public long getUploadedSlots() {
+        return nextSlot.get();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ocare.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (key=value 인자, 지정하지 않으면 기본값)
+ * - baseUrl: 대상 서버 (http://localhost:8080)
+ * - members: 가입/로그인할 가상 회원 수 (20)
+ * - uploadRate: 초당 업로드 요청 수 (20)
+ * - entriesPerUpload: 업로드 1건의 엔트리 수 (144 = 하루치 10분 단위)
+ * - readers: 대시보드 조회를 반복하는 동시 사용자 수 (8)
+ * - durationSeconds: 측정 시간 (60), warmupSeconds: 측정 전 워밍업 시간 (10)
+ * - report: 결과 JSON 저장 경로 (없으면 저장하지 않음)
+ */
+public final class LoadTestOptions {
+
+    private final String baseUrl;
+    private final int members;
+    private final int uploadRate;
+    private final int entriesPerUpload;
+    private final int readers;
+    private final Duration duration;
+    private final Duration warmup;
+    private final String reportPath;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.baseUrl = values.getOrDefault("baseUrl", "http://localhost:8080");
+        this.members = Integer.parseInt(values.getOrDefault("members", "20"));
+        this.uploadRate = Integer.parseInt(values.getOrDefault("uploadRate", "20"));
+        this.entriesPerUpload = Integer.parseInt(values.getOrDefault("entriesPerUpload", "144"));
+        this.readers = Integer.parseInt(values.getOrDefault("readers", "8"));
+        this.duration = Duration.ofSeconds(Long.parseLong(values.getOrDefault("durationSeconds", "60")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmupSeconds", "10")));
+        this.reportPath = values.get("report");
+    }
+
+    /**
+     * key=value 형식 인자 파싱
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int getMembers() {
+        return members;
+    }
+
+    public int getUploadRate() {
+        return uploadRate;
+    }
+
+    public int getEntriesPerUpload() {
+        return entriesPerUpload;
+    }
+
+    public int getReaders() {
+        return readers;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public String getReportPath() {
+        return reportPath;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("baseUrl=%s members=%d uploadRate=%d/s entriesPerUpload=%d readers=%d duration=%ds warmup=%ds",
+                baseUrl, members, uploadRate, entriesPerUpload, readers, duration.toSeconds(), warmup.toSeconds());
+    }
+}
@@ -0,0 +1,149 @@
+package com.ocare.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP 부하 테스트 실행기
+ * 1. 가상 회원 가입/로그인
+ * 2. 업로드: 목표 비율(uploadRate/s)로 요청을 예약 발송 (개방형 부하)
+ *    지연 시간은 예약 시각부터 측정해, 서버가 밀려 발송이 늦어진 시간도 포함 (coordinated omission 보정)
+ * 3. 조회: readers명의 사용자가 대시보드처럼 일별(70%)/월별(30%) 조회를 반복 (폐쇄형 부하)
+ * 4. 워밍업 이후 측정 구간의 p50/p99/p999 지연 시간과 처리량 출력
+ */
+public final class LoadTestRunner {
+
+    private static final String UPLOAD = "upload";
+    private static final String DAILY = "daily";
+    private static final String MONTHLY = "monthly";
+    private static final int DAILY_RANGE_DAYS = 30;
+
+    private final LoadTestOptions options;
+    private final LoadTestClient client;
+    private final LatencyReport report = new LatencyReport();
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    private LoadTestRunner(LoadTestOptions options) {
+        this.options = options;
+        this.client = new LoadTestClient(options.getBaseUrl());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println("부하 테스트 설정: " + options);
+        new LoadTestRunner(options).run();
+    }
+
+    /**
+     * 회원 준비 → 워밍업 → 측정 → 결과 출력
+     */
+    private void run() throws Exception {
+        List<LoadTestMember> members = prepareMembers();
+
+        ScheduledExecutorService uploadScheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService readerPool = Executors.newFixedThreadPool(options.getReaders());
+
+        startUploads(uploadScheduler, members);
+        for (int i = 0; i < options.getReaders(); i++) {
+            readerPool.submit(() -> readLoop(members));
+        }
+
+        TimeUnit.SECONDS.sleep(options.getWarmup().toSeconds());
+        report.reset();
+        long measureStart = System.nanoTime();
+        TimeUnit.SECONDS.sleep(options.getDuration().toSeconds());
+        report.finish();
+        double seconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+
+        running.set(false);
+        uploadScheduler.shutdownNow();
+        readerPool.shutdown();
+        readerPool.awaitTermination(30, TimeUnit.SECONDS);
+
+        report.print(seconds);
+        if (options.getReportPath() != null) {
+            report.write(Path.of(options.getReportPath()), options, seconds);
+            System.out.println("결과 저장: " + options.getReportPath());
+        }
+    }
+
+    /**
+     * 실행마다 고유한 이메일로 가상 회원 가입/로그인
+     */
+    private List<LoadTestMember> prepareMembers() throws IOException, InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<LoadTestMember> members = new ArrayList<>(options.getMembers());
+        for (int i = 0; i < options.getMembers(); i++) {
+            members.add(client.signUpAndLogin(runId, i));
+        }
+        System.out.printf("가상 회원 %d명 준비 완료 (runId=%s)%n", members.size(), runId);
+        return members;
+    }
+
+    /**
+     * 고정 간격으로 업로드 예약 (회원을 돌아가며 다음 구간 업로드)
+     */
+    private void startUploads(ScheduledExecutorService scheduler, List<LoadTestMember> members) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.getUploadRate();
+        long startNanos = System.nanoTime();
+        AtomicLong sequence = new AtomicLong();
+
+        scheduler.scheduleAtFixedRate(() -> {
+            long n = sequence.getAndIncrement();
+            long intendedStart = startNanos + n * intervalNanos;
+            LoadTestMember member = members.get((int) (n % members.size()));
+            String body = UploadPayloadGenerator.next(member, options.getEntriesPerUpload());
+
+            client.upload(member, body).whenComplete((response, error) ->
+                    report.record(UPLOAD, System.nanoTime() - intendedStart,
+                            error == null && response.statusCode() == 201));
+        }, 0, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 대시보드 조회 반복 (일별 최근 30일 구간 70%, 월별 30%)
+     */
+    private void readLoop(List<LoadTestMember> members) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running.get()) {
+            LoadTestMember member = members.get(random.nextInt(members.size()));
+            boolean daily = random.nextInt(10) < 7;
+            String operation = daily ? DAILY : MONTHLY;
+            String path = daily ? dailyPath(member) : "/api/health/monthly?recordKey=" + member.getRecordKey();
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.get(member, path);
+                report.record(operation, System.nanoTime() - start, response.statusCode() == 200);
+            } catch (IOException e) {
+                report.record(operation, System.nanoTime() - start, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 지금까지 업로드된 마지막 날짜 기준 최근 30일 일별 조회 경로
+     */
+    private String dailyPath(LoadTestMember member) {
+        LocalDate endDate = UploadPayloadGenerator.START
+                .plusMinutes(10 * Math.max(member.getUploadedSlots() - 1, 0))
+                .toLocalDate();
+        return "/api/health/daily?recordKey=" + member.getRecordKey()
+                + "&startDate=" + endDate.minusDays(DAILY_RANGE_DAYS - 1)
+                + "&endDate=" + endDate;
+    }
+}
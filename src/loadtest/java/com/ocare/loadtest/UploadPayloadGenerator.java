@@ -0,0 +1,49 @@
+package com.ocare.loadtest;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * INPUT_DATA 형식 업로드 본문 생성
+ * 짝수 번째 엔트리는 삼성헬스 형식(공백 구분, 숫자 값), 홀수 번째는 애플건강 형식(+0000 오프셋, 문자열 값)
+ */
+public final class UploadPayloadGenerator {
+
+    public static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final DateTimeFormatter SAMSUNG = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter APPLE = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'+0000'");
+
+    private UploadPayloadGenerator() {
+    }
+
+    /**
+     * 회원의 다음 구간부터 entryCount개의 10분 단위 엔트리를 담은 본문 생성
+     */
+    public static String next(LoadTestMember member, int entryCount) {
+        long firstSlot = member.reserveSlots(entryCount);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        StringBuilder json = new StringBuilder(entryCount * 220)
+                .append("{\"recordkey\":\"").append(member.getRecordKey())
+                .append("\",\"data\":{\"memo\":\"loadtest\",\"entries\":[");
+        for (int i = 0; i < entryCount; i++) {
+            LocalDateTime from = START.plusMinutes(10 * (firstSlot + i));
+            boolean samsung = i % 2 == 0;
+            DateTimeFormatter formatter = samsung ? SAMSUNG : APPLE;
+            String quote = samsung ? "" : "\"";
+            int steps = random.nextInt(0, 1500);
+
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"period\":{\"from\":\"").append(from.format(formatter))
+                    .append("\",\"to\":\"").append(from.plusMinutes(10).format(formatter)).append("\"},")
+                    .append("\"distance\":{\"unit\":\"km\",\"value\":").append(quote).append(steps * 0.0007).append(quote).append("},")
+                    .append("\"calories\":{\"unit\":\"kcal\",\"value\":").append(quote).append(steps * 0.04).append(quote).append("},")
+                    .append("\"steps\":").append(quote).append(steps).append(quote).append('}');
+        }
+        return json.append("]}}").toString();
+    }
+}
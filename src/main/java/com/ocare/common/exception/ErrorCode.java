@@ -26,6 +26,12 @@ public enum ErrorCode {
     HEALTH_DATA_PARSE_ERROR("HEALTH_001", "건강 데이터 파싱에 실패했습니다", HttpStatus.BAD_REQUEST),
     HEALTH_DATA_NOT_FOUND("HEALTH_002", "건강 데이터를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     HEALTH_RECORD_KEY_INVALID("HEALTH_003", "유효하지 않은 recordKey입니다", HttpStatus.BAD_REQUEST),
+    HEALTH_INGEST_QUEUE_UNAVAILABLE("HEALTH_004", "저장 작업을 등록할 수 없습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE),
+    HEALTH_RECORD_KEY_FORBIDDEN("HEALTH_005", "본인의 recordKey에 대해서만 요청할 수 있습니다", HttpStatus.FORBIDDEN),
+    HEALTH_DATE_RANGE_INVALID("HEALTH_006", "시작일은 종료일보다 늦을 수 없습니다", HttpStatus.BAD_REQUEST),
+    HEALTH_PAGE_SIZE_INVALID("HEALTH_007", "페이지 크기가 허용 범위를 벗어났습니다", HttpStatus.BAD_REQUEST),
+    HEALTH_WRITE_LOCK_TIMEOUT("HEALTH_008", "같은 recordKey의 저장이 진행 중입니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE),
+    HEALTH_ENTRY_RANGE_TOO_LONG("HEALTH_009", "원본 엔트리 조회 기간이 허용 범위를 벗어났습니다", HttpStatus.BAD_REQUEST),
 
     // Auth Errors (AUTH_XXX)
     AUTH_UNAUTHORIZED("AUTH_001", "인증이 필요합니다", HttpStatus.UNAUTHORIZED),
@@ -0,0 +1,18 @@
+package com.ocare.common.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+/**
+ * 커밋 이후 작업 실행 (TransactionUtil.afterCommit)
+ */
+@RequiredArgsConstructor
+class AfterCommitSynchronization implements TransactionSynchronization {
+
+    private final Runnable action;
+
+    @Override
+    public void afterCommit() {
+        action.run();
+    }
+}
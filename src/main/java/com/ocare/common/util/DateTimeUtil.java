@@ -1,6 +1,8 @@
 package com.ocare.common.util;
 
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -13,14 +15,41 @@ public class DateTimeUtil {
             DateTimeFormatter.ISO_DATE_TIME
     };
 
+    private static final int LOCAL_PART_LENGTH = 19;
+
     private DateTimeUtil() {
     }
 
+    /**
+     * 날짜/시간 문자열 파싱 (오프셋은 무시하고 표기된 로컬 시각 그대로 사용)
+     * 삼성헬스/애플건강 형식(yyyy-MM-dd HH:mm:ss, yyyy-MM-ddTHH:mm:ss + Z/+0000/+00:00)은
+     * 문자를 직접 읽어 처리하고, 그 외 형식만 포매터 체인으로 처리
+     */
     public static LocalDateTime parse(String dateTimeStr) {
         if (dateTimeStr == null || dateTimeStr.isBlank()) {
             throw new IllegalArgumentException("DateTime string is empty");
         }
 
+        if (isKnownLayout(dateTimeStr)) {
+            int year = digits(dateTimeStr, 0, 4);
+            int month = digits(dateTimeStr, 5, 2);
+            int day = digits(dateTimeStr, 8, 2);
+            int hour = digits(dateTimeStr, 11, 2);
+            int minute = digits(dateTimeStr, 14, 2);
+            int second = digits(dateTimeStr, 17, 2);
+
+            if (isValid(year, month, day, hour, minute, second)) {
+                return LocalDateTime.of(year, month, day, hour, minute, second);
+            }
+        }
+
+        return parseWithFormatters(dateTimeStr);
+    }
+
+    /**
+     * 포매터 체인 파싱 (알 수 없는 형식/범위를 벗어난 값 처리용)
+     */
+    static LocalDateTime parseWithFormatters(String dateTimeStr) {
         String normalized = normalize(dateTimeStr);
 
         for (DateTimeFormatter formatter : DATE_FORMATTERS) {
@@ -46,6 +75,70 @@ public class DateTimeUtil {
         }
     }
 
+    /**
+     * yyyy-MM-dd[ T]HH:mm:ss 뒤에 (없음 | Z | [공백][+-]HHmm | [공백][+-]HH:mm)이 오는 형식인지 확인
+     */
+    private static boolean isKnownLayout(String s) {
+        if (s.length() < LOCAL_PART_LENGTH
+                || s.charAt(4) != '-' || s.charAt(7) != '-'
+                || (s.charAt(10) != ' ' && s.charAt(10) != 'T')
+                || s.charAt(13) != ':' || s.charAt(16) != ':') {
+            return false;
+        }
+        return isKnownOffset(s, LOCAL_PART_LENGTH);
+    }
+
+    /**
+     * 로컬 시각 뒤의 오프셋 표기 확인
+     */
+    private static boolean isKnownOffset(String s, int from) {
+        int remaining = s.length() - from;
+        if (remaining == 0) {
+            return true;
+        }
+        if (remaining == 1) {
+            return s.charAt(from) == 'Z';
+        }
+
+        int sign = s.charAt(from) == ' ' ? from + 1 : from;
+        if (sign >= s.length() || (s.charAt(sign) != '+' && s.charAt(sign) != '-')) {
+            return false;
+        }
+
+        int offsetLength = s.length() - sign - 1;
+        if (offsetLength == 4) {
+            return digits(s, sign + 1, 4) >= 0;
+        }
+        return offsetLength == 5 && s.charAt(sign + 3) == ':'
+                && digits(s, sign + 1, 2) >= 0 && digits(s, sign + 4, 2) >= 0;
+    }
+
+    /**
+     * 고정 길이 숫자 읽기 (숫자가 아닌 문자가 있으면 -1)
+     */
+    private static int digits(String s, int from, int length) {
+        int value = 0;
+        for (int i = from; i < from + length; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * 각 필드가 유효 범위 안인지 확인 (범위를 벗어나면 포매터 체인에 판단을 맡김)
+     */
+    private static boolean isValid(int year, int month, int day, int hour, int minute, int second) {
+        return year >= 0 && month >= 1 && month <= 12
+                && day >= 1 && day <= Month.of(month).length(Year.isLeap(year))
+                && hour >= 0 && hour <= 23
+                && minute >= 0 && minute <= 59
+                && second >= 0 && second <= 59;
+    }
+
     private static String normalize(String dateTimeStr) {
         String result = dateTimeStr;
 
@@ -0,0 +1,33 @@
+package com.ocare.common.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.env.Environment;
+
+public final class HikariPoolUtil {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    private HikariPoolUtil() {
+    }
+
+    /**
+     * spring.datasource 접속 정보와 hikari 설정으로 url의 커넥션 풀 생성 (샤드/복제본 풀 공용)
+     */
+    public static HikariDataSource createPool(DataSourceProperties properties, String url, String poolName,
+                                              Environment environment) {
+        HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(properties.determineUsername())
+                .password(properties.determinePassword())
+                .build();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        return pool;
+    }
+}
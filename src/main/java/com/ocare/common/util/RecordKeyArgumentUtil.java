@@ -0,0 +1,60 @@
+package com.ocare.common.util;
+
+import com.ocare.config.shard.NoShardKey;
+import com.ocare.config.shard.ShardKey;
+import com.ocare.domain.health.dto.request.HealthDataRequest;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * 서비스 호출 인자에서 recordKey를 찾는 유틸리티 (샤드/복제본 라우팅 어스펙트용)
+ */
+public final class RecordKeyArgumentUtil {
+
+    private RecordKeyArgumentUtil() {}
+
+    /**
+     * ShardKey 인자의 recordKey (String 또는 HealthDataRequest)
+     * NoShardKey로 표시된 메서드/클래스는 빈 값, 둘 다 없으면 라우팅 기준을 알 수 없으므로 실패
+     */
+    public static Optional<String> find(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        Object[] args = joinPoint.getArgs();
+
+        for (int i = 0; i < args.length; i++) {
+            if (isShardKey(parameterAnnotations[i])) {
+                return Optional.ofNullable(recordKeyOf(args[i], method));
+            }
+        }
+        if (method.isAnnotationPresent(NoShardKey.class)
+                || method.getDeclaringClass().isAnnotationPresent(NoShardKey.class)) {
+            return Optional.empty();
+        }
+        throw new IllegalStateException("@ShardKey 인자 또는 @NoShardKey 표시가 없습니다: " + method.toGenericString());
+    }
+
+    private static boolean isShardKey(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof ShardKey) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String recordKeyOf(Object arg, Method method) {
+        if (arg == null || arg instanceof String) {
+            return (String) arg;
+        }
+        if (arg instanceof HealthDataRequest request) {
+            return request.getRecordKey();
+        }
+        throw new IllegalStateException("@ShardKey는 String 또는 HealthDataRequest 인자에만 사용할 수 있습니다: "
+                + method.toGenericString());
+    }
+}
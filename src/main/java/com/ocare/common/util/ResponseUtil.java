@@ -1,9 +1,15 @@
 package com.ocare.common.util;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * ResponseEntity 생성 유틸리티
@@ -16,10 +22,21 @@ public final class ResponseUtil {
         return ResponseEntity.ok(body);
     }
 
+    /**
+     * Content-Type을 지정한 200 OK 반환 (NDJSON 스트리밍 등)
+     */
+    public static <T> ResponseEntity<T> ok(MediaType contentType, T body) {
+        return ResponseEntity.ok().contentType(contentType).body(body);
+    }
+
     public static <T> ResponseEntity<T> created(T body) {
         return ResponseEntity.status(HttpStatus.CREATED).body(body);
     }
 
+    public static <T> ResponseEntity<T> accepted(T body) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(body);
+    }
+
     public static <T> ResponseEntity<T> noContent() {
         return ResponseEntity.noContent().build();
     }
@@ -32,6 +49,31 @@ public final class ResponseUtil {
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * 조건부 GET 응답
+     * 마지막 수정 시각으로 약한 ETag(W/"{초}.{나노초}")와 Last-Modified를 붙이고,
+     * If-None-Match/If-Modified-Since가 최신이면 본문을 만들지 않고 304 Not Modified 반환
+     * 조건 판단은 요청만으로 하고 상태와 검증 헤더는 반환하는 ResponseEntity에만 담음
+     * (WebRequest.checkNotModified가 응답에 직접 쓰는 헤더와 중복되지 않도록)
+     * 마지막 수정 시각이 없으면(데이터 없음) 조건 없이 200 OK
+     */
+    public static <T> ResponseEntity<T> okOrNotModified(NativeWebRequest webRequest,
+                                                        Optional<Instant> lastModified,
+                                                        Supplier<T> body) {
+        if (lastModified.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        Instant modified = lastModified.get();
+        String eTag = "W/\"" + Long.toHexString(modified.getEpochSecond())
+                + "." + Integer.toHexString(modified.getNano()) + "\"";
+        ServletWebRequest request = new ServletWebRequest(webRequest.getNativeRequest(HttpServletRequest.class));
+        if (request.checkNotModified(eTag, modified.toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).lastModified(modified).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).lastModified(modified).body(body.get());
+    }
+
     /**
      * Optional 값이 있으면 200 OK, 없으면 404 Not Found 반환
      */
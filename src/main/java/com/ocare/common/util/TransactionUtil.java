@@ -0,0 +1,20 @@
+package com.ocare.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에 실행 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new AfterCommitSynchronization(action));
+            return;
+        }
+        action.run();
+    }
+}
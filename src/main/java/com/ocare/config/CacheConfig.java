@@ -0,0 +1,83 @@
+package com.ocare.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ocare.domain.health.service.HealthSummaryCacheService;
+import com.ocare.domain.member.dto.response.MemberResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 2단계 캐시 설정
+ * - L1: 노드 로컬 Caffeine 캐시 (크기/TTL 기반 제거)
+ * - 노드 간 L1 무효화: Redis pub/sub 채널 구독
+ */
+@Configuration
+public class CacheConfig {
+
+    @Value("${health.cache.local.maximum-size}")
+    private long summaryMaximumSize;
+
+    @Value("${health.cache.local.expire-after-write-seconds}")
+    private long summaryExpireSeconds;
+
+    @Value("${health.cache.invalidation-channel}")
+    private String invalidationChannel;
+
+    @Value("${member.cache.local.maximum-size}")
+    private long memberMaximumSize;
+
+    @Value("${member.cache.local.expire-after-write-seconds}")
+    private long memberExpireSeconds;
+
+    /**
+     * 집계 조회 L1 캐시 (recordKey → 해당 회원의 조회 조건별 항목)
+     */
+    @Bean
+    public Cache<String, Map<String, Object>> summaryLocalCache(MeterRegistry meterRegistry) {
+        Cache<String, Map<String, Object>> cache = Caffeine.newBuilder()
+                .maximumSize(summaryMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(summaryExpireSeconds))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "health.summary.local");
+    }
+
+    /**
+     * recordKey → 회원 L1 캐시
+     */
+    @Bean
+    public Cache<String, MemberResponse> memberLocalCache(MeterRegistry meterRegistry) {
+        Cache<String, MemberResponse> cache = Caffeine.newBuilder()
+                .maximumSize(memberMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(memberExpireSeconds))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "member.local");
+    }
+
+    /**
+     * 집계 캐시 무효화 채널 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, HealthSummaryCacheService summaryCacheService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> summaryCacheService.handleInvalidationMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(invalidationChannel));
+        return container;
+    }
+}
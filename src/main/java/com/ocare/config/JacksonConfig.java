@@ -0,0 +1,34 @@
+package com.ocare.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 바이너리 전송 형식 설정 (Content-Type/Accept 협상)
+ * - application/cbor, application/x-jackson-smile 요청/응답을 기존 DTO 그대로 처리
+ * - Spring 기본 변환기 대신 Boot의 Jackson2ObjectMapperBuilder로 만들어 JSON과 같은 설정(모듈, 날짜 형식, 알 수 없는 필드 무시) 사용
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * CBOR 변환기 (기본 CBOR 변환기를 대체)
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile 변환기 (기본 Smile 변환기를 대체)
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
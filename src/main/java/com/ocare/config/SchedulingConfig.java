@@ -0,0 +1,12 @@
+package com.ocare.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (지연 집계 반영 주기 실행)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
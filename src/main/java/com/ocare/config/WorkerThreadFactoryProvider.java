@@ -0,0 +1,28 @@
+package com.ocare.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 백그라운드 워커 풀(일괄 저장, 비동기 저장 작업 컨슈머 등)의 스레드 생성기
+ * 가상 스레드 모드(spring.threads.virtual.enabled)면 가상 스레드, 아니면 플랫폼 스레드를 {prefix}{번호} 이름으로 생성
+ */
+@Component
+public class WorkerThreadFactoryProvider {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 이름 접두사가 prefix인 워커 스레드 생성기
+     */
+    public ThreadFactory create(String prefix) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        return new CustomizableThreadFactory(prefix);
+    }
+}
@@ -5,7 +5,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -27,13 +26,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Request Header에서 JWT 토큰 추출
         String token = jwtTokenProvider.resolveToken(request);
 
-        // 토큰 유효성 검증
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 토큰이 유효하면 인증 정보를 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 토큰이 유효하면 클레임으로 만든 인증 정보를 SecurityContext에 저장
+        if (token != null) {
+            jwtTokenProvider.getAuthentication(token)
+                    .ifPresent(SecurityContextHolder.getContext()::setAuthentication);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 비동기 디스패치(StreamingResponseBody 등)에서도 토큰으로 인증 정보를 다시 설정
+     * (세션을 사용하지 않아 최초 요청의 SecurityContext가 비동기 디스패치로 이어지지 않음)
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 }
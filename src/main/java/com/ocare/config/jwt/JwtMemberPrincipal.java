@@ -0,0 +1,50 @@
+package com.ocare.config.jwt;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임으로 구성한 인증 사용자 정보
+ * 요청마다 회원 테이블을 조회하지 않도록 토큰의 email/recordKey/role만으로 생성
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtMemberPrincipal {
+
+    private static final String ROLE_GATEWAY = "ROLE_GATEWAY";
+
+    private final String email;
+    private final String recordKey;
+    private final String role;
+
+    public static JwtMemberPrincipal of(String email, String recordKey, String role) {
+        return new JwtMemberPrincipal(email, recordKey, role);
+    }
+
+    /**
+     * 권한 목록
+     */
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role));
+    }
+
+    /**
+     * 요청한 recordKey가 본인 것인지 확인
+     */
+    public boolean isOwnerOf(String recordKey) {
+        return this.recordKey.equals(recordKey);
+    }
+
+    /**
+     * 여러 회원의 데이터를 대신 올리는 수집 게이트웨이인지 확인
+     */
+    public boolean isGateway() {
+        return ROLE_GATEWAY.equals(role);
+    }
+}
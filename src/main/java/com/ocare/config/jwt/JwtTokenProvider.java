@@ -4,25 +4,27 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * JWT 토큰 생성 및 검증
+ * 토큰에 recordKey와 role을 클레임으로 담아, 인증 시 서명 검증 한 번으로 사용자 정보를 복원
  */
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String CLAIM_RECORD_KEY = "recordKey";
+    private static final String CLAIM_ROLE = "role";
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -31,22 +33,27 @@ public class JwtTokenProvider {
 
     private SecretKey key;
 
-    private final UserDetailsService userDetailsService;
+    private JwtParser parser;
 
     @PostConstruct
     protected void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     /**
      * JWT 토큰 생성
      */
-    public String createToken(String email) {
+    public String createToken(String email, String recordKey) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
 
         return Jwts.builder()
                 .subject(email)
+                .claim(CLAIM_RECORD_KEY, recordKey)
+                .claim(CLAIM_ROLE, DEFAULT_ROLE)
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(key)
@@ -54,23 +61,23 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 토큰에서 인증 정보 조회
+     * 토큰 검증 후 인증 정보 생성 (서명 검증 1회, DB 조회 없음)
+     * 서명/만료 검증에 실패하거나 필수 클레임이 없으면 빈 값 반환
      */
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getEmail(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
-    }
+    public Optional<Authentication> getAuthentication(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            String recordKey = claims.get(CLAIM_RECORD_KEY, String.class);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            if (claims.getSubject() == null || recordKey == null || role == null) {
+                return Optional.empty();
+            }
 
-    /**
-     * 토큰에서 이메일 추출
-     */
-    public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+            JwtMemberPrincipal principal = JwtMemberPrincipal.of(claims.getSubject(), recordKey, role);
+            return Optional.of(new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -83,19 +90,4 @@ public class JwtTokenProvider {
         }
         return null;
     }
-
-    /**
-     * 토큰 유효성 검증
-     */
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
-    }
 }
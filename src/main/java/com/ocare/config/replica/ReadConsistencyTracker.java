@@ -0,0 +1,54 @@
+package com.ocare.config.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 최근 집계가 바뀐 recordKey 기록 (health.replica.enabled)
+ * 복제본은 primary보다 늦게 반영되므로 집계가 바뀐 뒤 consistency-window-millis 동안은
+ * 그 recordKey의 읽기를 primary로 보내 방금 올린 데이터가 조회되게 하고, 오래된 값이 캐시에 채워지지 않게 함
+ * 쓰기 경로의 커밋 이후(엔트리 저장, 지연 집계 반영)와 다른 노드의 무효화 메시지 수신마다 기록하므로 모든 노드에 적용
+ * 복제본을 쓰지 않으면 기록하지 않음
+ */
+@Component
+public class ReadConsistencyTracker {
+
+    private static final long MAXIMUM_KEYS = 100_000;
+
+    @Value("${health.replica.enabled}")
+    private boolean enabled;
+
+    @Value("${health.replica.consistency-window-millis}")
+    private long windowMillis;
+
+    private Cache<String, Boolean> recentlyWritten;
+
+    @PostConstruct
+    public void init() {
+        recentlyWritten = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_KEYS)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+    }
+
+    /**
+     * recordKey의 집계가 바뀌었음을 기록 (이 시점부터 window 동안 primary에서 읽음)
+     */
+    public void markWritten(String recordKey) {
+        if (enabled) {
+            recentlyWritten.put(recordKey, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * recordKey의 읽기를 primary로 보내야 하는지
+     */
+    public boolean isRecentlyWritten(String recordKey) {
+        return enabled && recentlyWritten.getIfPresent(recordKey) != null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.ocare.config.replica;
+
+import com.ocare.common.util.HikariPoolUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 분리 설정 (health.replica.enabled=true일 때만 적용)
+ * - primary: spring.datasource (쓰기, 읽기 전용이 아닌 모든 트랜잭션)
+ * - 복제본: health.replica.urls (@Transactional(readOnly = true) 트랜잭션)
+ * 커넥션 풀 설정(spring.datasource.hikari)은 모든 풀에 적용하고, 복제본 풀만 읽기 전용과 짧은 커넥션 대기 시간 사용
+ * 샤딩(health.sharding.enabled)과 함께 켤 수 없음 (샤드마다 복제본을 두는 구성은 지원하지 않으므로 시작 시 실패)
+ */
+@Configuration
+@ConditionalOnProperty(name = "health.replica.enabled", havingValue = "true")
+public class ReplicaConfig {
+
+    @Value("${health.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${health.replica.connection-timeout-millis}")
+    private long connectionTimeoutMillis;
+
+    @Value("${health.sharding.enabled}")
+    private boolean shardingEnabled;
+
+    @PostConstruct
+    public void init() {
+        if (shardingEnabled) {
+            throw new IllegalStateException(
+                    "읽기 복제본은 샤딩과 함께 사용할 수 없습니다 (health.replica.enabled와 health.sharding.enabled 중 하나만 사용)");
+        }
+    }
+
+    /**
+     * primary와 복제본을 트랜잭션의 읽기 전용 여부로 선택하는 DataSource
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        HikariDataSource primary = HikariPoolUtil.createPool(
+                properties, properties.determineUrl(), "primary", environment);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int replica = 0; replica < replicaUrls.size(); replica++) {
+            HikariDataSource pool = HikariPoolUtil.createPool(
+                    properties, replicaUrls.get(replica), "replica-" + replica, environment);
+            pool.setReadOnly(true);
+            pool.setConnectionTimeout(connectionTimeoutMillis);
+            // 복제본이 내려가 있어도 시작은 하고, 커넥션을 얻지 못하면 상태 확인에서 제외
+            pool.setInitializationFailTimeout(-1);
+            replicas.add(pool);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource
+     * 트랜잭션 시작 시점이 아닌 첫 SQL 실행 시점에 커넥션을 얻어 읽기 전용 여부가 정해진 뒤 라우팅되게 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 최근 집계가 바뀐 recordKey의 읽기를 primary로 바인딩
+     */
+    @Bean
+    public ReplicaRoutingAspect replicaRoutingAspect(ReadConsistencyTracker consistencyTracker) {
+        return new ReplicaRoutingAspect(consistencyTracker);
+    }
+}
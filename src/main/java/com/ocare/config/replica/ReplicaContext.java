@@ -0,0 +1,40 @@
+package com.ocare.config.replica;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 복제본 대신 primary로 보낼지 여부 (ReplicaRoutingDataSource가 참조)
+ * requirePrimary/restore는 항상 짝지어 호출
+ */
+public final class ReplicaContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaContext() {
+    }
+
+    /**
+     * 읽기 전용 트랜잭션도 primary를 사용해야 하는지
+     */
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    /**
+     * primary 사용으로 바인딩 후 이전 값 반환
+     */
+    public static boolean requirePrimary() {
+        boolean previous = isPrimaryRequired();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        return previous;
+    }
+
+    /**
+     * requirePrimary 이전 값으로 복원
+     */
+    public static void restore(boolean previous) {
+        if (previous) {
+            PRIMARY_REQUIRED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ocare.config.replica;
+
+import com.ocare.common.util.RecordKeyArgumentUtil;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Optional;
+
+/**
+ * 최근 집계가 바뀐 recordKey의 건강 서비스 호출을 primary로 바인딩 (복제본을 쓸 때만 등록)
+ * 트랜잭션 어드바이스보다 먼저(집계 조회 전 반영 HealthQueryFlushAspect, 샤드 바인딩 ShardRoutingAspect보다는 나중에) 실행되며,
+ * 호출이 끝나면 이전 바인딩으로 복원
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class ReplicaRoutingAspect {
+
+    private final ReadConsistencyTracker consistencyTracker;
+
+    /**
+     * recordKey 인자가 consistency window 안이면 읽기 전용 트랜잭션도 primary 사용
+     */
+    @Around("execution(public * com.ocare.domain.health.service..*(..))")
+    public Object routeHealth(ProceedingJoinPoint joinPoint) throws Throwable {
+        Optional<String> recordKey = RecordKeyArgumentUtil.find(joinPoint);
+        if (recordKey.isEmpty() || !consistencyTracker.isRecentlyWritten(recordKey.get())) {
+            return joinPoint.proceed();
+        }
+
+        boolean previous = ReplicaContext.requirePrimary();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ocare.config.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 primary 커넥션 풀로 연결하는 DataSource
+ * - 복제본 선택: 정상 상태인 복제본을 라운드 로빈 (모두 비정상이면 primary)
+ * - 상태 확인: health-check-millis 주기로 복제본 커넥션 검사, 커넥션을 얻지 못한 복제본은 즉시 비정상 처리
+ * - ReplicaContext.requirePrimary()로 바인딩된 호출은 읽기 전용이어도 primary
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy로 감싸서
+ * 첫 SQL 실행 시점에 커넥션을 얻어야 함 (ReplicaConfig)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final String METRIC_NAME = "health.replica.route";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final Set<Integer> unhealthy = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Counter primaryCounter;
+    private final List<Counter> replicaCounters;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("복제본이 하나 이상 필요합니다");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.primaryCounter = meterRegistry.counter(METRIC_NAME, "target", "primary");
+        this.replicaCounters = this.replicas.stream()
+                .map(replica -> meterRegistry.counter(METRIC_NAME, "target", replica.getPoolName()))
+                .toList();
+    }
+
+    /**
+     * 현재 트랜잭션에 맞는 커넥션 (복제본 커넥션을 얻지 못하면 그 복제본을 비정상 처리하고 primary 사용)
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Optional<Integer> replica = selectReplica();
+        if (replica.isEmpty()) {
+            primaryCounter.increment();
+            return primary.getConnection();
+        }
+
+        int index = replica.get();
+        try {
+            Connection connection = replicas.get(index).getConnection();
+            replicaCounters.get(index).increment();
+            return connection;
+        } catch (SQLException e) {
+            markUnhealthy(index, e.getMessage());
+            primaryCounter.increment();
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 접속 정보를 지정한 커넥션은 항상 primary
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryCounter.increment();
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 복제본 상태 확인 (비정상 → 정상 복구 포함)
+     */
+    @Scheduled(fixedDelayString = "${health.replica.health-check-millis}")
+    public void checkReplicas() {
+        for (int index = 0; index < replicas.size(); index++) {
+            try (Connection connection = replicas.get(index).getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markHealthy(index);
+                } else {
+                    markUnhealthy(index, "connection is not valid");
+                }
+            } catch (SQLException e) {
+                markUnhealthy(index, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 정상 상태인 복제본 수
+     */
+    public int getHealthyReplicaCount() {
+        return replicas.size() - unhealthy.size();
+    }
+
+    /**
+     * primary/복제본 커넥션 풀 종료
+     */
+    @Override
+    public void destroy() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이면 다음 정상 복제본 (primary를 써야 하면 빈 값)
+     */
+    private Optional<Integer> selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicaContext.isPrimaryRequired()) {
+            return Optional.empty();
+        }
+
+        int start = Math.floorMod(cursor.getAndIncrement(), replicas.size());
+        for (int offset = 0; offset < replicas.size(); offset++) {
+            int index = (start + offset) % replicas.size();
+            if (!unhealthy.contains(index)) {
+                return Optional.of(index);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void markHealthy(int index) {
+        if (unhealthy.remove(index)) {
+            log.info("복제본 복구: pool={}", replicas.get(index).getPoolName());
+        }
+    }
+
+    private void markUnhealthy(int index, String reason) {
+        if (unhealthy.add(index)) {
+            log.warn("복제본 제외 (primary로 대체): pool={}, reason={}", replicas.get(index).getPoolName(), reason);
+        }
+    }
+}
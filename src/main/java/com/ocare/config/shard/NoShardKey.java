@@ -0,0 +1,18 @@
+package com.ocare.config.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 샤드 키 없이 호출되는 건강 서비스 (클래스 전체 또는 메서드 단위)
+ * 호출자의 샤드 바인딩을 그대로 사용하므로, 회원 데이터는 ShardKey가 있는 서비스를 거쳐 접근해야 함
+ * (예: Redis만 사용하는 서비스, 항목마다 다른 서비스를 호출하는 일괄 처리, ShardRouter.forEachShard 안의 주기 작업)
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NoShardKey {
+}
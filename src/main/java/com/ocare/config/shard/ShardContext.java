@@ -0,0 +1,49 @@
+package com.ocare.config.shard;
+
+import java.util.Optional;
+
+/**
+ * 현재 스레드가 사용할 건강 데이터 샤드 번호 (ShardRoutingDataSource의 조회 키)
+ * 바인딩이 없으면 기본(글로벌) DB를 사용하며, bind/restore는 항상 짝지어 호출
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * 현재 바인딩된 샤드 번호 (없으면 글로벌 DB)
+     */
+    public static Optional<Integer> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * 샤드 바인딩 후 이전 바인딩 반환 (null이면 글로벌 DB로 바인딩)
+     */
+    public static Integer bind(Integer shard) {
+        Integer previous = CURRENT.get();
+        set(shard);
+        return previous;
+    }
+
+    /**
+     * bind 이전 바인딩으로 복원
+     */
+    public static void restore(Integer previous) {
+        set(previous);
+    }
+
+    /**
+     * 바인딩 설정 (null이면 ThreadLocal 제거)
+     */
+    private static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
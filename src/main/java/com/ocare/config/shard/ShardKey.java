@@ -0,0 +1,17 @@
+package com.ocare.config.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 건강 서비스 호출의 샤드/복제본 라우팅 기준 인자 (recordKey String 또는 HealthDataRequest)
+ * 건강 서비스의 공개 메서드는 이 인자를 하나 갖거나 NoShardKey로 표시되어야 하며, 둘 다 없으면 호출 시 실패
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
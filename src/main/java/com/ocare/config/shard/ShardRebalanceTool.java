@@ -0,0 +1,273 @@
+package com.ocare.config.shard;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 샤드 수 변경 시 건강 데이터 재배치 도구 (서버를 모두 중지한 상태에서 실행)
+ * ./gradlew shardRebalance -PshardRebalance.from=4 -PshardRebalance.to=8
+ * 인자 (key=value): from, to (필수), url (health.sharding.url과 같은 {shard} 형식), username, password
+ * 1. 새 샤드에 스키마가 없으면 샤드 0의 스키마(데이터 제외)를 복사하고 시퀀스를 샤드 구간으로 조정
+ * 2. 기존 샤드의 recordKey마다 새 샤드 수 기준 위치가 다르면 이동
+ *    대상 샤드의 같은 recordKey 행 삭제 → 복사 → 커밋 → 원래 샤드에서 삭제 → 커밋
+ *    (중간에 멈춰도 다시 실행하면 남은 recordKey부터 이어서 처리)
+ * 3. 샤드 수를 줄였다면 남는 샤드는 비워진 채 남으므로 파일은 직접 삭제
+ * 재배치 후 health.sharding.shards를 새 샤드 수로 바꿔 서버 실행
+ */
+public final class ShardRebalanceTool {
+
+    private static final String DEFAULT_URL =
+            "jdbc:h2:file:./data/ocaredb-shard-{shard};DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final String SHARD_PLACEHOLDER = "{shard}";
+    private static final String RECORD_KEY_COLUMN = "RECORD_KEY";
+    private static final String ID_COLUMN = "ID";
+    private static final String ENTRY_TABLE = "HEALTH_ENTRY";
+    private static final String ENTRY_SEQUENCE = "HEALTH_ENTRY_SEQ";
+
+    /**
+     * recordKey 단위로 옮기는 테이블과 ID 생성 방식 (null이면 IDENTITY 컬럼)
+     */
+    private static final Map<String, String> TABLE_ID_SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        TABLE_ID_SEQUENCES.put(ENTRY_TABLE, ENTRY_SEQUENCE);
+        TABLE_ID_SEQUENCES.put("HEALTH_ENTRY_BLOCK", null);
+        TABLE_ID_SEQUENCES.put("DAILY_HEALTH_SUMMARY", null);
+        TABLE_ID_SEQUENCES.put("WEEKLY_HEALTH_SUMMARY", null);
+        TABLE_ID_SEQUENCES.put("MONTHLY_HEALTH_SUMMARY", null);
+        TABLE_ID_SEQUENCES.put("YEARLY_HEALTH_SUMMARY", null);
+        TABLE_ID_SEQUENCES.put("HEALTH_AGGREGATION_DIRTY", null);
+    }
+
+    private final String urlTemplate;
+    private final String username;
+    private final String password;
+    private final int from;
+    private final int to;
+
+    ShardRebalanceTool(String urlTemplate, String username, String password, int from, int to) {
+        if (from < 1 || to < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다: from=" + from + ", to=" + to);
+        }
+        this.urlTemplate = urlTemplate;
+        this.username = username;
+        this.password = password;
+        this.from = from;
+        this.to = to;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> values = parse(args);
+        if (!values.containsKey("from") || !values.containsKey("to")) {
+            throw new IllegalArgumentException("from, to 인자가 필요합니다 (예: from=4 to=8)");
+        }
+
+        ShardRebalanceTool tool = new ShardRebalanceTool(
+                values.getOrDefault("url", DEFAULT_URL),
+                values.getOrDefault("username", "sa"),
+                values.getOrDefault("password", ""),
+                Integer.parseInt(values.get("from")),
+                Integer.parseInt(values.get("to")));
+        int moved = tool.run();
+        System.out.println("재배치 완료: moved recordKeys=" + moved);
+    }
+
+    /**
+     * key=value 형식 인자 파싱
+     */
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("인자는 key=value 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return values;
+    }
+
+    /**
+     * 재배치 실행 (이동한 recordKey 수 반환)
+     */
+    int run() throws SQLException {
+        int shardCount = Math.max(from, to);
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                Connection connection = DriverManager.getConnection(
+                        urlTemplate.replace(SHARD_PLACEHOLDER, String.valueOf(shard)), username, password);
+                connection.setAutoCommit(false);
+                connections.add(connection);
+            }
+
+            for (int shard = from; shard < to; shard++) {
+                prepareShard(connections.get(0), connections.get(shard), shard);
+            }
+
+            int moved = 0;
+            for (int source = 0; source < from; source++) {
+                for (String recordKey : findRecordKeys(connections.get(source))) {
+                    int target = ShardRouter.shardOf(recordKey, to);
+                    if (target != source) {
+                        move(connections.get(source), connections.get(target), recordKey);
+                        moved++;
+                    }
+                }
+                System.out.printf("샤드 %d 처리 완료 (누적 이동 %d)%n", source, moved);
+            }
+
+            if (to < from) {
+                System.out.printf("샤드 %d ~ %d는 비었으므로 DB 파일을 삭제해도 됩니다%n", to, from - 1);
+            }
+            return moved;
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * 새 샤드에 스키마가 없으면 샤드 0의 스키마를 복사하고 시퀀스를 샤드 구간 시작값으로 조정
+     */
+    private void prepareShard(Connection template, Connection shard, int shardIndex) throws SQLException {
+        if (!hasTable(shard, ENTRY_TABLE)) {
+            List<String> ddl = new ArrayList<>();
+            try (Statement statement = template.createStatement();
+                 ResultSet rs = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+                while (rs.next()) {
+                    ddl.add(rs.getString(1));
+                }
+            }
+            try (Statement statement = shard.createStatement()) {
+                for (String sql : ddl) {
+                    if (!sql.startsWith("CREATE USER")) {
+                        statement.execute(sql);
+                    }
+                }
+            }
+            System.out.printf("샤드 %d 스키마 생성%n", shardIndex);
+        }
+
+        long base = (shardIndex + 1) * ShardSchemaIntegrator.SEQUENCE_RANGE;
+        try (Statement statement = shard.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT NEXT VALUE FOR " + ENTRY_SEQUENCE)) {
+            rs.next();
+            if (rs.getLong(1) < base) {
+                statement.execute("ALTER SEQUENCE " + ENTRY_SEQUENCE + " RESTART WITH " + base);
+            }
+        }
+        shard.commit();
+    }
+
+    /**
+     * 테이블 존재 여부
+     */
+    private boolean hasTable(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet rs = metaData.getTables(null, null, table, new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    /**
+     * 샤드에 데이터가 있는 recordKey 목록 (건강 데이터 테이블 전체 기준)
+     */
+    private Set<String> findRecordKeys(Connection connection) throws SQLException {
+        Set<String> recordKeys = new TreeSet<>();
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLE_ID_SEQUENCES.keySet()) {
+                try (ResultSet rs = statement.executeQuery(
+                        "SELECT DISTINCT " + RECORD_KEY_COLUMN + " FROM " + table)) {
+                    while (rs.next()) {
+                        recordKeys.add(rs.getString(1));
+                    }
+                }
+            }
+        }
+        return recordKeys;
+    }
+
+    /**
+     * recordKey 하나의 행을 source → target으로 이동 (대상 정리 → 복사 → 커밋 → 원본 삭제 → 커밋)
+     */
+    private void move(Connection source, Connection target, String recordKey) throws SQLException {
+        for (String table : TABLE_ID_SEQUENCES.keySet()) {
+            delete(target, table, recordKey);
+        }
+        for (Map.Entry<String, String> table : TABLE_ID_SEQUENCES.entrySet()) {
+            copy(source, target, table.getKey(), table.getValue(), recordKey);
+        }
+        target.commit();
+
+        for (String table : TABLE_ID_SEQUENCES.keySet()) {
+            delete(source, table, recordKey);
+        }
+        source.commit();
+    }
+
+    /**
+     * recordKey의 행 삭제
+     */
+    private void delete(Connection connection, String table, String recordKey) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "DELETE FROM " + table + " WHERE " + RECORD_KEY_COLUMN + " = ?")) {
+            statement.setString(1, recordKey);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * recordKey의 행을 ID만 새로 발급해 복사 (시퀀스 또는 IDENTITY)
+     */
+    private void copy(Connection source, Connection target, String table, String idSequence, String recordKey)
+            throws SQLException {
+        try (PreparedStatement select = source.prepareStatement(
+                "SELECT * FROM " + table + " WHERE " + RECORD_KEY_COLUMN + " = ?")) {
+            select.setString(1, recordKey);
+            try (ResultSet rs = select.executeQuery()) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                List<Integer> columnIndexes = new ArrayList<>();
+                List<String> columnNames = new ArrayList<>();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    if (!ID_COLUMN.equalsIgnoreCase(metaData.getColumnName(i))) {
+                        columnIndexes.add(i);
+                        columnNames.add(metaData.getColumnName(i));
+                    }
+                }
+
+                String columns = String.join(", ", columnNames);
+                String placeholders = String.join(", ", Collections.nCopies(columnNames.size(), "?"));
+                String sql = idSequence == null
+                        ? "INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")"
+                        : "INSERT INTO " + table + " (" + ID_COLUMN + ", " + columns + ") VALUES (NEXT VALUE FOR "
+                                + idSequence + ", " + placeholders + ")";
+
+                try (PreparedStatement insert = target.prepareStatement(sql)) {
+                    while (rs.next()) {
+                        for (int i = 0; i < columnIndexes.size(); i++) {
+                            insert.setObject(i + 1, rs.getObject(columnIndexes.get(i)));
+                        }
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+}
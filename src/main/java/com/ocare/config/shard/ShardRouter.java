@@ -0,0 +1,99 @@
+package com.ocare.config.shard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * recordKey → 건강 데이터 샤드 번호 결정 (health.sharding.enabled)
+ * recordKey의 64비트 FNV-1a 해시를 jump consistent hash로 샤드에 배정하므로
+ * 샤드 수를 N → M(> N)으로 늘리면 약 (M - N) / M의 recordKey만 새 샤드로 이동 (나머지는 그대로)
+ * 샤딩이 꺼져 있으면 샤드는 하나이며 바인딩 없이 기본 DB 사용
+ */
+@Component
+public class ShardRouter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long JUMP_MULTIPLIER = 2862933555777941757L;
+
+    @Value("${health.sharding.enabled}")
+    private boolean enabled;
+
+    @Value("${health.sharding.shards}")
+    private int shards;
+
+    /**
+     * 샤딩 사용 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 샤드 수 (샤딩이 꺼져 있으면 1)
+     */
+    public int getShardCount() {
+        return enabled ? shards : 1;
+    }
+
+    /**
+     * recordKey가 저장되는 샤드 번호
+     */
+    public int shardOf(String recordKey) {
+        return shardOf(recordKey, getShardCount());
+    }
+
+    /**
+     * 모든 샤드에서 차례로 실행 (샤드마다 바인딩 후 복원, 샤딩이 꺼져 있으면 한 번만 실행)
+     */
+    public void forEachShard(Runnable action) {
+        if (!enabled) {
+            action.run();
+            return;
+        }
+
+        for (int shard = 0; shard < shards; shard++) {
+            Integer previous = ShardContext.bind(shard);
+            try {
+                action.run();
+            } finally {
+                ShardContext.restore(previous);
+            }
+        }
+    }
+
+    /**
+     * 샤드 수가 shardCount일 때 recordKey가 저장되는 샤드 번호 (재배치 도구와 공용)
+     */
+    public static int shardOf(String recordKey, int shardCount) {
+        return jumpConsistentHash(fnv1a64(recordKey), shardCount);
+    }
+
+    /**
+     * UTF-8 바이트의 64비트 FNV-1a 해시 (JVM/실행마다 같은 값)
+     */
+    private static long fnv1a64(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Lamping &amp; Veach jump consistent hash: 0 이상 buckets 미만의 버킷 번호
+     */
+    private static int jumpConsistentHash(long key, int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * JUMP_MULTIPLIER + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+}
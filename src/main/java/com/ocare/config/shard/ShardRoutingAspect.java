@@ -0,0 +1,70 @@
+package com.ocare.config.shard;
+
+import com.ocare.common.util.RecordKeyArgumentUtil;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 서비스 호출 단위 샤드 바인딩 (샤딩이 켜져 있을 때만 등록)
+ * - 건강 서비스: @ShardKey 인자(String 또는 HealthDataRequest)의 샤드로 바인딩
+ *   @NoShardKey 메서드/클래스는 호출자의 바인딩을 그대로 사용 (예: 샤드별 주기 작업은 ShardRouter.forEachShard 안에서 호출)
+ *   둘 다 없으면 잘못된 샤드로 흘러가지 않도록 호출 실패
+ * - 회원 서비스: 항상 글로벌 DB
+ * 트랜잭션 어드바이스보다 먼저 실행되어 바인딩 후 트랜잭션이 시작되며, 호출이 끝나면 이전 바인딩으로 복원
+ * 서비스 코드는 샤딩 여부를 알 필요 없음
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ShardRoutingAspect {
+
+    private final ShardRouter shardRouter;
+
+    /**
+     * 건강 서비스 호출을 recordKey의 샤드로 바인딩
+     */
+    @Around("execution(public * com.ocare.domain.health.service..*(..))")
+    public Object routeHealth(ProceedingJoinPoint joinPoint) throws Throwable {
+        Optional<String> recordKey = RecordKeyArgumentUtil.find(joinPoint);
+        if (recordKey.isEmpty()) {
+            return joinPoint.proceed();
+        }
+        return proceedOn(shardRouter.shardOf(recordKey.get()), joinPoint);
+    }
+
+    /**
+     * 회원 서비스 호출을 글로벌 DB로 바인딩
+     */
+    @Around("execution(public * com.ocare.domain.member.service..*(..))")
+    public Object routeMember(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedOn(null, joinPoint);
+    }
+
+    /**
+     * 샤드 바인딩 후 실행하고 이전 바인딩으로 복원
+     * 다른 DB의 트랜잭션 안에서 바인딩을 바꾸면 이미 얻은 커넥션을 계속 쓰게 되므로 실패 처리
+     */
+    private Object proceedOn(Integer shard, ProceedingJoinPoint joinPoint) throws Throwable {
+        Integer previous = ShardContext.current().orElse(null);
+        if (!Objects.equals(previous, shard) && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(String.format(
+                    "다른 샤드의 트랜잭션 안에서 호출할 수 없습니다: current=%s, target=%s, method=%s",
+                    previous, shard, joinPoint.getSignature().toShortString()));
+        }
+
+        ShardContext.bind(shard);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+}
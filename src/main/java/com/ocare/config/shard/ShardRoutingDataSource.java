@@ -0,0 +1,58 @@
+package com.ocare.config.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShardContext에 바인딩된 샤드의 커넥션 풀로 연결하는 DataSource
+ * 바인딩이 없으면 글로벌 DB(MEMBER 등) 사용, 없는 샤드 번호는 글로벌 DB로 대체하지 않고 실패
+ * 커넥션은 트랜잭션(또는 Hibernate 세션)이 처음 SQL을 실행할 때 얻으므로 바인딩은 트랜잭션 시작 전에 해야 함
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final HikariDataSource global;
+    private final List<HikariDataSource> shards;
+
+    public ShardRoutingDataSource(HikariDataSource global, List<HikariDataSource> shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+
+        setDefaultTargetDataSource(global);
+        setTargetDataSources(targets);
+        setLenientFallback(false);
+        this.global = global;
+        this.shards = List.copyOf(shards);
+    }
+
+    /**
+     * 샤드 번호 순서의 샤드 커넥션 풀 (스키마 준비 등 샤드별 직접 접근용)
+     */
+    public List<DataSource> getShardDataSources() {
+        return List.copyOf(shards);
+    }
+
+    /**
+     * 현재 스레드의 샤드 번호 (없으면 null → 글로벌 DB)
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current().orElse(null);
+    }
+
+    /**
+     * 글로벌/샤드 커넥션 풀 종료
+     */
+    @Override
+    public void destroy() {
+        shards.forEach(HikariDataSource::close);
+        global.close();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ocare.config.shard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DatasourceConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 DB 스키마 준비 (SessionFactory 생성 시 한 번)
+ * spring.jpa.hibernate.ddl-auto는 글로벌 DB에만 적용되므로 샤드마다 스키마 update 실행
+ * 기존 테이블 조회가 샤드 DB 기준(카탈로그 등)으로 되도록 샤드 DataSource로 만든 별도 ServiceRegistry 사용
+ * (엔티티 전체를 만들기 때문에 샤드에도 빈 MEMBER 테이블이 생기지만 사용하지 않음)
+ *
+ * 시퀀스 구간 분리: SessionFactory 하나가 모든 샤드를 쓰므로 시퀀스 ID 블록(allocationSize)을
+ * 다른 샤드에서 받아 쓸 수 있음 → 샤드 i의 시퀀스를 (i + 1) * SEQUENCE_RANGE부터 시작하게 해
+ * 어느 샤드에서 받은 ID든 모든 샤드에서 겹치지 않게 함
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ShardSchemaIntegrator implements Integrator {
+
+    static final long SEQUENCE_RANGE = 1_000_000_000_000L;
+
+    private final List<DataSource> shardDataSources;
+
+    /**
+     * 샤드마다 스키마 update와 시퀀스 시작값 조정
+     */
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            DataSource dataSource = shardDataSources.get(shard);
+            StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                    .applySetting(AvailableSettings.CONNECTION_PROVIDER, connectionProvider(dataSource))
+                    .applySetting(AvailableSettings.DIALECT, dialect.getClass().getName())
+                    .build();
+            try {
+                SchemaManagementToolCoordinator.process(metadata, registry,
+                        Map.of(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "update"), null);
+            } finally {
+                StandardServiceRegistryBuilder.destroy(registry);
+            }
+
+            rebaseSequences(metadata, dialect, dataSource, shard);
+            log.info("샤드 스키마 준비 완료: shard={}", shard);
+        }
+    }
+
+    /**
+     * 정리할 자원 없음
+     */
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    /**
+     * 샤드 DataSource를 직접 주입한 연결 제공자
+     * 네이티브 ServiceRegistry는 JPA 설정(jakarta.persistence.nonJtaDataSource)을 읽지 않으므로
+     * deprecated된 hibernate.connection.datasource 대신 제공자 인스턴스를 넘김
+     */
+    private static ConnectionProvider connectionProvider(DataSource dataSource) {
+        DatasourceConnectionProviderImpl connectionProvider = new DatasourceConnectionProviderImpl();
+        connectionProvider.setDataSource(dataSource);
+        return connectionProvider;
+    }
+
+    /**
+     * 샤드의 시퀀스가 샤드 구간보다 작으면 구간 시작값으로 재시작
+     */
+    private void rebaseSequences(Metadata metadata, Dialect dialect, DataSource dataSource, int shard) {
+        long base = (shard + 1) * SEQUENCE_RANGE;
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (Namespace namespace : metadata.getDatabase().getNamespaces()) {
+                for (Sequence sequence : namespace.getSequences()) {
+                    String name = sequence.getName().getSequenceName().render(dialect);
+                    if (nextValue(statement, dialect, name) < base) {
+                        statement.execute("ALTER SEQUENCE " + name + " RESTART WITH " + base);
+                        log.info("샤드 시퀀스 시작값 조정: shard={}, sequence={}, start={}", shard, name, base);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("샤드 시퀀스 조정 실패: shard=" + shard, e);
+        }
+    }
+
+    /**
+     * 시퀀스 다음 값 (블록 하나를 소비하지만 ID가 건너뛰어질 뿐 중복은 없음)
+     */
+    private long nextValue(Statement statement, Dialect dialect, String sequenceName) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(
+                dialect.getSequenceSupport().getSequenceNextValString(sequenceName))) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ocare.config.shard;
+
+import com.ocare.common.util.HikariPoolUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 건강 데이터 샤딩 설정 (health.sharding.enabled=true일 때만 적용)
+ * - 글로벌 DB: spring.datasource (MEMBER 및 바인딩 없는 모든 접근)
+ * - 샤드 DB: health.sharding.url의 {shard}를 0 ~ shards-1로 바꾼 DB (건강 데이터)
+ * 커넥션 풀 설정(spring.datasource.hikari)은 글로벌/샤드 풀에 똑같이 적용
+ */
+@Configuration
+@ConditionalOnProperty(name = "health.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    private static final String SHARD_PLACEHOLDER = "{shard}";
+
+    @Value("${health.sharding.url}")
+    private String shardUrl;
+
+    /**
+     * 글로벌 DB와 샤드 DB를 ShardContext 바인딩으로 선택하는 DataSource
+     * 빈 이름을 dataSource로 두지 않아 복제본 설정과 함께 켜졌을 때 빈 중복 대신 ReplicaConfig의 명시적인 검사로 실패
+     */
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties properties, Environment environment,
+                                                         ShardRouter shardRouter) {
+        HikariDataSource global = HikariPoolUtil.createPool(
+                properties, properties.determineUrl(), "global", environment);
+
+        List<HikariDataSource> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            String url = shardUrl.replace(SHARD_PLACEHOLDER, String.valueOf(shard));
+            shards.add(HikariPoolUtil.createPool(properties, url, "shard-" + shard, environment));
+        }
+        return new ShardRoutingDataSource(global, shards);
+    }
+
+    /**
+     * 샤드 스키마 준비용 Hibernate Integrator 등록
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaCustomizer(ShardRoutingDataSource dataSource) {
+        IntegratorProvider integratorProvider =
+                () -> List.of(new ShardSchemaIntegrator(dataSource.getShardDataSources()));
+        return hibernateProperties -> hibernateProperties.put(
+                EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, integratorProvider);
+    }
+
+    /**
+     * 서비스 호출 단위 샤드 바인딩
+     */
+    @Bean
+    public ShardRoutingAspect shardRoutingAspect(ShardRouter shardRouter) {
+        return new ShardRoutingAspect(shardRouter);
+    }
+}
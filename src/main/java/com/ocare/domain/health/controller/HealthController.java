@@ -1,23 +1,47 @@
 package com.ocare.domain.health.controller;
 
 import com.ocare.common.util.ResponseUtil;
+import com.ocare.config.jwt.JwtMemberPrincipal;
+import com.ocare.domain.health.dto.request.HealthDataBatchRequest;
 import com.ocare.domain.health.dto.request.HealthDataRequest;
+import com.ocare.domain.health.dto.response.DailySummaryPageResponse;
 import com.ocare.domain.health.dto.response.DailySummaryResponse;
+import com.ocare.domain.health.dto.response.HealthDataBatchResponse;
 import com.ocare.domain.health.dto.response.HealthDataSaveResponse;
+import com.ocare.domain.health.dto.response.HealthEntryResponse;
+import com.ocare.domain.health.dto.response.HealthIngestJobResponse;
 import com.ocare.domain.health.dto.response.MonthlySummaryResponse;
+import com.ocare.domain.health.dto.response.RangeTotalResponse;
+import com.ocare.domain.health.dto.response.WeeklySummaryResponse;
+import com.ocare.domain.health.dto.response.YearlySummaryResponse;
+import com.ocare.domain.health.service.HealthAccessService;
+import com.ocare.domain.health.service.HealthDataBatchService;
 import com.ocare.domain.health.service.HealthDataService;
+import com.ocare.domain.health.service.HealthDataStreamService;
+import com.ocare.domain.health.service.HealthEntryQueryService;
+import com.ocare.domain.health.service.HealthIngestJobService;
 import com.ocare.domain.health.service.HealthQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
 /**
  * 건강 데이터 API 컨트롤러
+ * 모든 API는 로그인 사용자 본인의 recordKey에 대해서만 허용 (일괄 저장은 수집 게이트웨이 토큰이면 여러 회원 허용)
+ * 집계 목록/기간 합계 조회는 ETag/Last-Modified 조건부 GET 지원 (변경이 없으면 304, 본문 조회 생략)
+ * 집계 조회는 이 노드가 받은 업로드의 집계 반영 대기분을 먼저 반영한 뒤 조회 (지연 집계 사용 시, HealthQueryFlushAspect)
+ * 요청/응답 본문은 JSON 외에 CBOR(application/cbor), Smile(application/x-jackson-smile)도 협상 가능
  */
 @RestController
 @RequestMapping("/api/health")
@@ -25,27 +49,114 @@ import java.util.List;
 public class HealthController {
 
     private final HealthDataService healthDataService;
+    private final HealthDataStreamService healthDataStreamService;
+    private final HealthDataBatchService healthDataBatchService;
+    private final HealthIngestJobService healthIngestJobService;
     private final HealthQueryService healthQueryService;
+    private final HealthEntryQueryService healthEntryQueryService;
+    private final HealthAccessService healthAccessService;
 
     /**
      * 건강 데이터 저장
      * POST /api/health/data
      */
     @PostMapping("/data")
-    public ResponseEntity<HealthDataSaveResponse> saveHealthData(@Valid @RequestBody HealthDataRequest request) {
+    public ResponseEntity<HealthDataSaveResponse> saveHealthData(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @Valid @RequestBody HealthDataRequest request) {
+        healthAccessService.validateOwner(principal, request.getRecordKey());
         return ResponseUtil.created(healthDataService.saveHealthData(request));
     }
 
+    /**
+     * 건강 데이터 스트리밍 저장 (대용량 업로드, JSON/CBOR/Smile)
+     * POST /api/health/data?mode=stream
+     */
+    @PostMapping(value = "/data", params = "mode=stream")
+    public ResponseEntity<HealthDataSaveResponse> saveHealthDataStream(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+            InputStream body) {
+        return ResponseUtil.created(
+                healthDataStreamService.saveHealthDataStream(body, contentType, principal.getRecordKey()));
+    }
+
+    /**
+     * 건강 데이터 비동기 저장 (작업 등록 후 202 Accepted)
+     * POST /api/health/data?mode=async
+     */
+    @PostMapping(value = "/data", params = "mode=async")
+    public ResponseEntity<HealthIngestJobResponse> submitHealthDataJob(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @Valid @RequestBody HealthDataRequest request) {
+        healthAccessService.validateOwner(principal, request.getRecordKey());
+        return ResponseUtil.accepted(healthIngestJobService.submitJob(request));
+    }
+
+    /**
+     * 여러 회원의 건강 데이터 일괄 저장 (recordKey별 병렬 처리, 항목별 결과 반환)
+     * POST /api/health/data/batch
+     */
+    @PostMapping("/data/batch")
+    public ResponseEntity<HealthDataBatchResponse> saveHealthDataBatch(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @Valid @RequestBody HealthDataBatchRequest request) {
+        return ResponseUtil.ok(healthDataBatchService.saveBatch(principal, request));
+    }
+
+    /**
+     * 비동기 저장 작업 상태 조회 (본인 작업만 조회, 그 외는 404)
+     * GET /api/health/jobs/{jobId}
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<HealthIngestJobResponse> getHealthDataJob(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @PathVariable String jobId) {
+        return ResponseUtil.okOrNotFound(healthIngestJobService.getJob(jobId, principal.getRecordKey()));
+    }
+
     /**
      * 일별 집계 데이터 조회
      * GET /api/health/daily?recordKey={recordKey}&startDate={yyyy-MM-dd}&endDate={yyyy-MM-dd}
      */
     @GetMapping("/daily")
     public ResponseEntity<List<DailySummaryResponse>> getDailySummaries(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
             @RequestParam String recordKey,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ResponseUtil.ok(healthQueryService.getDailySummaries(recordKey, startDate, endDate));
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            NativeWebRequest webRequest) {
+        healthAccessService.validateOwner(principal, recordKey);
+        return ResponseUtil.okOrNotModified(webRequest,
+                healthQueryService.getDailySummariesLastModified(recordKey, startDate, endDate),
+                () -> healthQueryService.getDailySummaries(recordKey, startDate, endDate));
+    }
+
+    /**
+     * 일별 집계 데이터 스트리밍 조회 (NDJSON, 전체 이력을 한 줄에 하나씩)
+     * GET /api/health/daily?recordKey={recordKey} (Accept: application/x-ndjson)
+     */
+    @GetMapping(value = "/daily", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamDailySummaries(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @RequestParam String recordKey) {
+        healthAccessService.validateOwner(principal, recordKey);
+        StreamingResponseBody body = out -> healthQueryService.writeDailySummaries(recordKey, out);
+        return ResponseUtil.ok(MediaType.APPLICATION_NDJSON, body);
+    }
+
+    /**
+     * 일별 집계 데이터 커서 페이지 조회
+     * GET /api/health/daily/page?recordKey={recordKey}&cursor={yyyy-MM-dd}&size={size}
+     */
+    @GetMapping("/daily/page")
+    public ResponseEntity<DailySummaryPageResponse> getDailySummaryPage(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @RequestParam String recordKey,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        healthAccessService.validateOwner(principal, recordKey);
+        return ResponseUtil.ok(healthQueryService.getDailySummaryPage(recordKey, cursor, size));
     }
 
     /**
@@ -54,20 +165,44 @@ public class HealthController {
      */
     @GetMapping("/daily/{date}")
     public ResponseEntity<DailySummaryResponse> getDailySummary(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam String recordKey) {
+        healthAccessService.validateOwner(principal, recordKey);
         return ResponseUtil.okOrNotFound(healthQueryService.getDailySummary(recordKey, date));
     }
 
+    /**
+     * 주별 집계 데이터 조회 (월요일 시작 ISO 주)
+     * GET /api/health/weekly?recordKey={recordKey}&startDate={yyyy-MM-dd}&endDate={yyyy-MM-dd}
+     */
+    @GetMapping("/weekly")
+    public ResponseEntity<List<WeeklySummaryResponse>> getWeeklySummaries(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @RequestParam String recordKey,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            NativeWebRequest webRequest) {
+        healthAccessService.validateOwner(principal, recordKey);
+        return ResponseUtil.okOrNotModified(webRequest,
+                healthQueryService.getWeeklySummariesLastModified(recordKey, startDate, endDate),
+                () -> healthQueryService.getWeeklySummaries(recordKey, startDate, endDate));
+    }
+
     /**
      * 월별 집계 데이터 조회
      * GET /api/health/monthly?recordKey={recordKey}&year={yyyy}
      */
     @GetMapping("/monthly")
     public ResponseEntity<List<MonthlySummaryResponse>> getMonthlySummaries(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
             @RequestParam String recordKey,
-            @RequestParam(required = false) Integer year) {
-        return ResponseUtil.ok(healthQueryService.getMonthlySummaries(recordKey, year));
+            @RequestParam(required = false) Integer year,
+            NativeWebRequest webRequest) {
+        healthAccessService.validateOwner(principal, recordKey);
+        return ResponseUtil.okOrNotModified(webRequest,
+                healthQueryService.getMonthlySummariesLastModified(recordKey, year),
+                () -> healthQueryService.getMonthlySummaries(recordKey, year));
     }
 
     /**
@@ -76,9 +211,71 @@ public class HealthController {
      */
     @GetMapping("/monthly/{year}/{month}")
     public ResponseEntity<MonthlySummaryResponse> getMonthlySummary(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
             @PathVariable Integer year,
             @PathVariable Integer month,
             @RequestParam String recordKey) {
+        healthAccessService.validateOwner(principal, recordKey);
         return ResponseUtil.okOrNotFound(healthQueryService.getMonthlySummary(recordKey, year, month));
     }
+
+    /**
+     * 연도별 집계 데이터 조회
+     * GET /api/health/yearly?recordKey={recordKey}
+     */
+    @GetMapping("/yearly")
+    public ResponseEntity<List<YearlySummaryResponse>> getYearlySummaries(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @RequestParam String recordKey,
+            NativeWebRequest webRequest) {
+        healthAccessService.validateOwner(principal, recordKey);
+        return ResponseUtil.okOrNotModified(webRequest,
+                healthQueryService.getYearlySummariesLastModified(recordKey),
+                () -> healthQueryService.getYearlySummaries(recordKey));
+    }
+
+    /**
+     * 임의 기간 합계 조회
+     * GET /api/health/range?recordKey={recordKey}&startDate={yyyy-MM-dd}&endDate={yyyy-MM-dd}
+     */
+    @GetMapping("/range")
+    public ResponseEntity<RangeTotalResponse> getRangeTotal(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @RequestParam String recordKey,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            NativeWebRequest webRequest) {
+        healthAccessService.validateOwner(principal, recordKey);
+        return ResponseUtil.okOrNotModified(webRequest,
+                healthQueryService.getRangeTotalLastModified(recordKey, startDate, endDate),
+                () -> healthQueryService.getRangeTotal(recordKey, startDate, endDate));
+    }
+
+    /**
+     * 임의 기간 합계 조회 (일별 누적 합계 기반, 단건 조회 2회)
+     * GET /api/health/range/total?recordKey={recordKey}&startDate={yyyy-MM-dd}&endDate={yyyy-MM-dd}
+     */
+    @GetMapping("/range/total")
+    public ResponseEntity<RangeTotalResponse> getCumulativeRangeTotal(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @RequestParam String recordKey,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        healthAccessService.validateOwner(principal, recordKey);
+        return ResponseUtil.ok(healthQueryService.getCumulativeRangeTotal(recordKey, startDate, endDate));
+    }
+
+    /**
+     * 원본 엔트리 조회 (측정 구간 순, 최대 health.query.max-entry-days일)
+     * GET /api/health/entries?recordKey={recordKey}&startDate={yyyy-MM-dd}&endDate={yyyy-MM-dd}
+     */
+    @GetMapping("/entries")
+    public ResponseEntity<List<HealthEntryResponse>> getEntries(
+            @AuthenticationPrincipal JwtMemberPrincipal principal,
+            @RequestParam String recordKey,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        healthAccessService.validateOwner(principal, recordKey);
+        return ResponseUtil.ok(healthEntryQueryService.getEntries(recordKey, startDate, endDate));
+    }
 }
@@ -10,10 +10,20 @@ public class DailyAggregation {
     private int steps = 0;
     private float calories = 0f;
     private float distance = 0f;
+    private int newEntries = 0;
 
-    public void add(int steps, float calories, float distance) {
+    public void add(int steps, float calories, float distance, int newEntries) {
         this.steps += steps;
         this.calories += calories;
         this.distance += distance;
+        this.newEntries += newEntries;
+    }
+
+    /**
+     * 변경량이 없고 신규 엔트리도 없음 (같은 값 재업로드)
+     * 값이 모두 0인 신규 엔트리만 있으면 변경 없음이 아님 (0인 집계 행을 만들어야 함)
+     */
+    public boolean isUnchanged() {
+        return steps == 0 && calories == 0f && distance == 0f && newEntries == 0;
     }
 }
@@ -0,0 +1,75 @@
+package com.ocare.domain.health.dto;
+
+import com.ocare.domain.health.entity.HealthAggregationDirtyEntity;
+import com.ocare.domain.health.entity.HealthEntryEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 업로드 배치에서 발생한 엔트리 단위 변경량
+ * 신규 엔트리는 값 그대로, 기존 엔트리는 (새 값 - 이전 값)을 가짐
+ * newEntries는 신규 엔트리 수로, 값이 모두 0인 신규 엔트리도 집계 행을 만들도록 변경량과 따로 보관
+ * 지연 집계 반영 시에는 일자별로 합쳐 둔 대기 변경량 하나가 하루치 변경량이 됨
+ * 일자는 집계 커널이 배열 인덱스로 바로 쓰도록 epoch-day로 보관
+ */
+@Getter
+@AllArgsConstructor
+public class EntryDelta {
+
+    private final long epochDay;
+    private final int steps;
+    private final float calories;
+    private final float distance;
+    private final int newEntries;
+
+    public static EntryDelta ofNew(HealthEntryEntity entry) {
+        return new EntryDelta(
+                entry.getPeriodFrom().toLocalDate().toEpochDay(),
+                entry.getSteps(),
+                entry.getCalories(),
+                entry.getDistance(),
+                1);
+    }
+
+    public static EntryDelta ofUpdate(HealthEntryEntity existing, Integer steps, Float calories, Float distance) {
+        return new EntryDelta(
+                existing.getPeriodFrom().toLocalDate().toEpochDay(),
+                steps - existing.getSteps(),
+                calories - existing.getCalories(),
+                distance - existing.getDistance(),
+                0);
+    }
+
+    public static EntryDelta ofNew(EntrySample entry) {
+        return new EntryDelta(
+                entry.getPeriodFrom().toLocalDate().toEpochDay(),
+                entry.getSteps(),
+                entry.getCalories(),
+                entry.getDistance(),
+                1);
+    }
+
+    public static EntryDelta ofUpdate(EntrySample existing, EntrySample updated) {
+        return new EntryDelta(
+                existing.getPeriodFrom().toLocalDate().toEpochDay(),
+                updated.getSteps() - existing.getSteps(),
+                updated.getCalories() - existing.getCalories(),
+                updated.getDistance() - existing.getDistance(),
+                0);
+    }
+
+    public static EntryDelta ofPending(HealthAggregationDirtyEntity pending) {
+        return new EntryDelta(
+                pending.getSummaryDate().toEpochDay(),
+                pending.getPendingSteps(),
+                pending.getPendingCalories(),
+                pending.getPendingDistance(),
+                pending.getPendingEntries());
+    }
+
+    public LocalDate getDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+}
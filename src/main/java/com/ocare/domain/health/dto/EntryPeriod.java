@@ -0,0 +1,19 @@
+package com.ocare.domain.health.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엔트리 식별용 측정 구간 (recordKey 내 uk_health_entry 키)
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(staticName = "of")
+public class EntryPeriod {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+}
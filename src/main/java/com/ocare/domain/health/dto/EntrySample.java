@@ -0,0 +1,35 @@
+package com.ocare.domain.health.dto;
+
+import com.ocare.domain.health.entity.HealthEntryEntity;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 방식과 무관한 엔트리 한 건 (측정 구간과 값)
+ * 업로드 파싱 결과이자 HealthEntryStore의 입출력 단위
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(staticName = "of")
+public class EntrySample {
+
+    private final LocalDateTime periodFrom;
+    private final LocalDateTime periodTo;
+    private final int steps;
+    private final float calories;
+    private final float distance;
+
+    public static EntrySample of(HealthEntryEntity entry) {
+        return new EntrySample(entry.getPeriodFrom(), entry.getPeriodTo(),
+                entry.getSteps(), entry.getCalories(), entry.getDistance());
+    }
+
+    public EntryPeriod getPeriod() {
+        return EntryPeriod.of(periodFrom, periodTo);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ocare.domain.health.dto;
+
+/**
+ * 비동기 건강 데이터 저장 작업 상태
+ */
+public enum HealthIngestJobStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
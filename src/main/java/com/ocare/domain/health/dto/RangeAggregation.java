@@ -0,0 +1,45 @@
+package com.ocare.domain.health.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기간 합계 누적 (여러 해에 걸친 합계를 위해 long/double 사용)
+ * 일별 집계의 누적 합계(cumulative_*) 계산에도 사용
+ */
+@Getter
+@NoArgsConstructor
+public class RangeAggregation {
+
+    private long steps = 0L;
+    private double calories = 0d;
+    private double distance = 0d;
+
+    /**
+     * JPQL 합계 조회(SELECT new ... SUM(...)) 결과로도 생성 (대상 행이 없으면 SUM이 null이므로 0으로 처리)
+     * Hibernate가 생성자를 인자 개수로 찾으므로 3인자 생성자는 이것 하나만 둠
+     */
+    public RangeAggregation(Long steps, Double calories, Double distance) {
+        this.steps = steps != null ? steps : 0L;
+        this.calories = calories != null ? calories : 0d;
+        this.distance = distance != null ? distance : 0d;
+    }
+
+    public static RangeAggregation of(long steps, double calories, double distance) {
+        return new RangeAggregation(steps, calories, distance);
+    }
+
+    public void add(int steps, float calories, float distance) {
+        this.steps += steps;
+        this.calories += calories;
+        this.distance += distance;
+    }
+
+    public RangeAggregation plus(RangeAggregation other) {
+        return new RangeAggregation(steps + other.steps, calories + other.calories, distance + other.distance);
+    }
+
+    public RangeAggregation minus(RangeAggregation other) {
+        return new RangeAggregation(steps - other.steps, calories - other.calories, distance - other.distance);
+    }
+}
@@ -0,0 +1,166 @@
+package com.ocare.domain.health.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 집계 조회 캐시 키
+ * recordKey/영역(일별·주별·월별·연도별)마다 Redis Hash 하나를 사용하고, 조회 조건을 Hash 필드로 구분
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SummaryCacheKey {
+
+    public static final String REGION_DAILY = "daily";
+    public static final String REGION_WEEKLY = "weekly";
+    public static final String REGION_MONTHLY = "monthly";
+    public static final String REGION_YEARLY = "yearly";
+    public static final List<String> REGIONS = List.of(REGION_DAILY, REGION_WEEKLY, REGION_MONTHLY, REGION_YEARLY);
+
+    private static final String FIELD_ALL = "all";
+    private static final String FIELD_DATE_PREFIX = "date:";
+    private static final String FIELD_RANGE_PREFIX = "range:";
+    private static final String FIELD_TOTAL_PREFIX = "total:";
+    private static final String FIELD_YEAR_PREFIX = "year:";
+    private static final String FIELD_MONTH_PREFIX = "month:";
+    private static final String FIELD_MODIFIED_PREFIX = "modified:";
+
+    private static final String KEY_PREFIX = "health:cache:";
+    private static final String LOCAL_KEY_SEPARATOR = "|";
+
+    private final String region;
+    private final String recordKey;
+    private final String field;
+
+    public static SummaryCacheKey dailyAll(String recordKey) {
+        return new SummaryCacheKey(REGION_DAILY, recordKey, FIELD_ALL);
+    }
+
+    public static SummaryCacheKey dailyRange(String recordKey, LocalDate startDate, LocalDate endDate) {
+        return new SummaryCacheKey(REGION_DAILY, recordKey, FIELD_RANGE_PREFIX + startDate + ":" + endDate);
+    }
+
+    public static SummaryCacheKey dailyDate(String recordKey, LocalDate date) {
+        return new SummaryCacheKey(REGION_DAILY, recordKey, dateField(date));
+    }
+
+    public static SummaryCacheKey dailyTotal(String recordKey, LocalDate startDate, LocalDate endDate) {
+        return new SummaryCacheKey(REGION_DAILY, recordKey, FIELD_TOTAL_PREFIX + startDate + ":" + endDate);
+    }
+
+    public static SummaryCacheKey weeklyAll(String recordKey) {
+        return new SummaryCacheKey(REGION_WEEKLY, recordKey, FIELD_ALL);
+    }
+
+    /**
+     * 주별 기간 조회 (weekStartDate는 월요일로 맞춘 값)
+     */
+    public static SummaryCacheKey weeklyRange(String recordKey, LocalDate weekStartDate, LocalDate endDate) {
+        return new SummaryCacheKey(REGION_WEEKLY, recordKey, FIELD_RANGE_PREFIX + weekStartDate + ":" + endDate);
+    }
+
+    public static SummaryCacheKey yearlyAll(String recordKey) {
+        return new SummaryCacheKey(REGION_YEARLY, recordKey, FIELD_ALL);
+    }
+
+    public static SummaryCacheKey monthlyAll(String recordKey) {
+        return new SummaryCacheKey(REGION_MONTHLY, recordKey, FIELD_ALL);
+    }
+
+    public static SummaryCacheKey monthlyYear(String recordKey, int year) {
+        return new SummaryCacheKey(REGION_MONTHLY, recordKey, yearField(year));
+    }
+
+    public static SummaryCacheKey monthlyMonth(String recordKey, int year, int month) {
+        return new SummaryCacheKey(REGION_MONTHLY, recordKey, monthField(year, month));
+    }
+
+    /**
+     * 같은 조회 조건의 마지막 수정 시각(max(updated_at)) 캐시 키: modified:{조회 필드}
+     * 조회 결과 필드와 같은 조건으로 무효화됨
+     */
+    public SummaryCacheKey lastModified() {
+        return new SummaryCacheKey(region, recordKey, FIELD_MODIFIED_PREFIX + field);
+    }
+
+    public static String hashKey(String region, String recordKey) {
+        return KEY_PREFIX + region + ":" + recordKey;
+    }
+
+    public static String dateField(LocalDate date) {
+        return FIELD_DATE_PREFIX + date;
+    }
+
+    public static String yearField(int year) {
+        return FIELD_YEAR_PREFIX + year;
+    }
+
+    public static String monthField(int year, int month) {
+        return FIELD_MONTH_PREFIX + year + "-" + month;
+    }
+
+    /**
+     * 로컬(L1) 캐시 키 접두사: {region}|
+     * L1은 recordKey별 묶음 안에서 이 키로 항목을 구분하므로 recordKey를 포함하지 않음
+     */
+    public static String localKeyPrefix(String region) {
+        return region + LOCAL_KEY_SEPARATOR;
+    }
+
+    /**
+     * 변경된 일자에 의해 무효화되어야 하는 필드인지 확인
+     * - daily: all, 변경 일자 단건, 변경 일자를 포함하는 기간/기간 합계
+     * - weekly: all, 변경 일자가 속한 주를 포함하는 기간
+     * - monthly: all, 변경 일자가 속한 연도/월
+     * - yearly: all
+     * 마지막 수정 시각 필드(modified:{조회 필드})는 조회 필드와 같은 기준으로 판단
+     */
+    public static boolean isAffected(String region, String field, Set<LocalDate> changedDates) {
+        if (field.startsWith(FIELD_MODIFIED_PREFIX)) {
+            return isAffected(region, field.substring(FIELD_MODIFIED_PREFIX.length()), changedDates);
+        }
+        if (FIELD_ALL.equals(field)) {
+            return true;
+        }
+
+        for (LocalDate date : changedDates) {
+            boolean affected = switch (region) {
+                case REGION_DAILY -> field.equals(dateField(date))
+                        || rangeCovers(field, FIELD_RANGE_PREFIX, date)
+                        || rangeCovers(field, FIELD_TOTAL_PREFIX, date);
+                case REGION_WEEKLY -> rangeCovers(field, FIELD_RANGE_PREFIX, SummaryTier.WEEKLY.periodStart(date));
+                case REGION_MONTHLY -> field.equals(yearField(date.getYear()))
+                        || field.equals(monthField(date.getYear(), date.getMonthValue()));
+                default -> false;
+            };
+            if (affected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 기간 필드({prefix}{start}:{end})가 일자를 포함하는지 확인
+     */
+    private static boolean rangeCovers(String field, String prefix, LocalDate date) {
+        if (!field.startsWith(prefix)) {
+            return false;
+        }
+        String[] bounds = field.substring(prefix.length()).split(":");
+        return !date.isBefore(LocalDate.parse(bounds[0])) && !date.isAfter(LocalDate.parse(bounds[1]));
+    }
+
+    public String getHashKey() {
+        return hashKey(region, recordKey);
+    }
+
+    public String getLocalKey() {
+        return localKeyPrefix(region) + field;
+    }
+}
@@ -0,0 +1,24 @@
+package com.ocare.domain.health.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 노드 간 집계 캐시 무효화 메시지 (Redis pub/sub)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryInvalidationMessage {
+
+    private String recordKey;
+    private Set<LocalDate> changedDates;
+
+    public static SummaryInvalidationMessage of(String recordKey, Set<LocalDate> changedDates) {
+        return new SummaryInvalidationMessage(recordKey, changedDates);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ocare.domain.health.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 기간 합계 조회 계획의 구간 하나 (해당 단위의 집계 행만으로 [from, to]를 덮음)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(staticName = "of")
+public class SummaryRangeSegment {
+
+    private final SummaryTier tier;
+    private final LocalDate from;
+    private final LocalDate to;
+}
@@ -0,0 +1,44 @@
+package com.ocare.domain.health.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 집계 단위 (기간 합계 조회 시 굵은 단위부터 사용)
+ * 주는 ISO 기준 월요일 시작
+ */
+public enum SummaryTier {
+    YEARLY,
+    MONTHLY,
+    WEEKLY,
+    DAILY;
+
+    /**
+     * 일자가 속한 기간의 시작일
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case YEARLY -> date.withDayOfYear(1);
+            case MONTHLY -> date.withDayOfMonth(1);
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case DAILY -> date;
+        };
+    }
+
+    /**
+     * 일자 이후(당일 포함) 처음 시작하는 기간의 시작일
+     */
+    public LocalDate nextPeriodStart(LocalDate date) {
+        LocalDate start = periodStart(date);
+        if (start.equals(date)) {
+            return date;
+        }
+        return switch (this) {
+            case YEARLY -> start.plusYears(1);
+            case MONTHLY -> start.plusMonths(1);
+            case WEEKLY -> start.plusWeeks(1);
+            case DAILY -> start;
+        };
+    }
+}
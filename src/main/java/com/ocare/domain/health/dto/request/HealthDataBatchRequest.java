@@ -0,0 +1,24 @@
+package com.ocare.domain.health.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 회원의 건강 데이터 일괄 저장 요청 (항목마다 단건 저장과 같은 형식)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthDataBatchRequest {
+
+    @NotNull(message = "items는 필수입니다")
+    @Size(min = 1, max = 500, message = "items는 1~500건이어야 합니다")
+    @Valid
+    private List<HealthDataRequest> items;
+}
@@ -0,0 +1,32 @@
+package com.ocare.domain.health.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 집계 커서 페이지
+ * nextCursor: 다음 페이지 조회 시 cursor로 전달할 값 (이 페이지 마지막 일자, 마지막 페이지면 null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySummaryPageResponse {
+
+    private List<DailySummaryResponse> items;
+    private LocalDate nextCursor;
+    private boolean hasNext;
+
+    public static DailySummaryPageResponse of(List<DailySummaryResponse> items, boolean hasNext) {
+        return DailySummaryPageResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? items.get(items.size() - 1).getDate() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ocare.domain.health.dto.response;
+
+import com.ocare.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 저장 요청 항목 하나의 처리 결과 (실패 시 errorCode/errorMessage 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthDataBatchItemResponse {
+
+    private String recordKey;
+    private boolean success;
+    private int savedCount;
+    private String errorCode;
+    private String errorMessage;
+
+    public static HealthDataBatchItemResponse ofSuccess(HealthDataSaveResponse saved) {
+        return HealthDataBatchItemResponse.builder()
+                .recordKey(saved.getRecordKey())
+                .success(true)
+                .savedCount(saved.getSavedCount())
+                .build();
+    }
+
+    public static HealthDataBatchItemResponse ofFailure(String recordKey, ErrorCode errorCode, String errorMessage) {
+        return HealthDataBatchItemResponse.builder()
+                .recordKey(recordKey)
+                .success(false)
+                .errorCode(errorCode.getCode())
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
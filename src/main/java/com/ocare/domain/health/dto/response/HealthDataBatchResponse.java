@@ -0,0 +1,31 @@
+package com.ocare.domain.health.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 저장 결과 (results는 요청 items와 같은 순서)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthDataBatchResponse {
+
+    private int successCount;
+    private int failureCount;
+    private List<HealthDataBatchItemResponse> results;
+
+    public static HealthDataBatchResponse of(List<HealthDataBatchItemResponse> results) {
+        int successCount = (int) results.stream().filter(HealthDataBatchItemResponse::isSuccess).count();
+        return HealthDataBatchResponse.builder()
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.ocare.domain.health.dto.response;
+
+import com.ocare.domain.health.dto.EntrySample;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원본 엔트리 한 건 (측정 구간과 값)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthEntryResponse {
+
+    private LocalDateTime periodFrom;
+    private LocalDateTime periodTo;
+    private Integer steps;
+    private Float calories;
+    private Float distance;
+
+    public static HealthEntryResponse of(EntrySample entry) {
+        return HealthEntryResponse.builder()
+                .periodFrom(entry.getPeriodFrom())
+                .periodTo(entry.getPeriodTo())
+                .steps(entry.getSteps())
+                .calories(entry.getCalories())
+                .distance(entry.getDistance())
+                .build();
+    }
+}
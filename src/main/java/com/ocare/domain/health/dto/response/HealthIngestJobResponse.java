@@ -0,0 +1,26 @@
+package com.ocare.domain.health.dto.response;
+
+import com.ocare.domain.health.dto.HealthIngestJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthIngestJobResponse {
+
+    private String jobId;
+    private String recordKey;
+    private HealthIngestJobStatus status;
+    private int totalCount;
+    private int processedCount;
+    private int savedCount;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
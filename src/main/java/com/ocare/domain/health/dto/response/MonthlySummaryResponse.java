@@ -20,15 +20,16 @@ public class MonthlySummaryResponse {
     private Float calories;
     private Float distance;
 
+    /**
+     * JPQL 생성자 표현식(SELECT new ...)으로 컬럼에서 바로 생성
+     */
+    public MonthlySummaryResponse(String recordKey, Integer year, Integer month,
+                                  Integer steps, Float calories, Float distance) {
+        this(recordKey, year, month, String.format("%d-%02d", year, month), steps, calories, distance);
+    }
+
     public static MonthlySummaryResponse of(MonthlyHealthSummaryEntity entity) {
-        return MonthlySummaryResponse.builder()
-                .recordKey(entity.getRecordKey())
-                .year(entity.getSummaryYear())
-                .month(entity.getSummaryMonth())
-                .yearMonth(String.format("%d-%02d", entity.getSummaryYear(), entity.getSummaryMonth()))
-                .steps(entity.getTotalSteps())
-                .calories(entity.getTotalCalories())
-                .distance(entity.getTotalDistance())
-                .build();
+        return new MonthlySummaryResponse(entity.getRecordKey(), entity.getSummaryYear(), entity.getSummaryMonth(),
+                entity.getTotalSteps(), entity.getTotalCalories(), entity.getTotalDistance());
     }
 }
@@ -0,0 +1,38 @@
+package com.ocare.domain.health.dto.response;
+
+import com.ocare.domain.health.dto.RangeAggregation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 임의 기간 [startDate, endDate] 합계
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RangeTotalResponse {
+
+    private String recordKey;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long steps;
+    private Double calories;
+    private Double distance;
+
+    public static RangeTotalResponse of(String recordKey, LocalDate startDate, LocalDate endDate,
+                                        RangeAggregation agg) {
+        return RangeTotalResponse.builder()
+                .recordKey(recordKey)
+                .startDate(startDate)
+                .endDate(endDate)
+                .steps(agg.getSteps())
+                .calories(agg.getCalories())
+                .distance(agg.getDistance())
+                .build();
+    }
+}
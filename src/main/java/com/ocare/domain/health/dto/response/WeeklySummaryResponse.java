@@ -0,0 +1,44 @@
+package com.ocare.domain.health.dto.response;
+
+import com.ocare.domain.health.entity.WeeklyHealthSummaryEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklySummaryResponse {
+
+    private String recordKey;
+    private Integer weekBasedYear;
+    private Integer week;
+    private LocalDate weekStartDate;
+    private LocalDate weekEndDate;
+    private Integer steps;
+    private Float calories;
+    private Float distance;
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...)으로 컬럼에서 바로 생성
+     */
+    public WeeklySummaryResponse(String recordKey, LocalDate weekStartDate,
+                                 Integer steps, Float calories, Float distance) {
+        this(recordKey,
+                weekStartDate.get(IsoFields.WEEK_BASED_YEAR),
+                weekStartDate.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR),
+                weekStartDate,
+                weekStartDate.plusDays(6),
+                steps, calories, distance);
+    }
+
+    public static WeeklySummaryResponse of(WeeklyHealthSummaryEntity entity) {
+        return new WeeklySummaryResponse(entity.getRecordKey(), entity.getWeekStartDate(),
+                entity.getTotalSteps(), entity.getTotalCalories(), entity.getTotalDistance());
+    }
+}
@@ -0,0 +1,30 @@
+package com.ocare.domain.health.dto.response;
+
+import com.ocare.domain.health.entity.YearlyHealthSummaryEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class YearlySummaryResponse {
+
+    private String recordKey;
+    private Integer year;
+    private Integer steps;
+    private Float calories;
+    private Float distance;
+
+    public static YearlySummaryResponse of(YearlyHealthSummaryEntity entity) {
+        return YearlySummaryResponse.builder()
+                .recordKey(entity.getRecordKey())
+                .year(entity.getSummaryYear())
+                .steps(entity.getTotalSteps())
+                .calories(entity.getTotalCalories())
+                .distance(entity.getTotalDistance())
+                .build();
+    }
+}
@@ -1,12 +1,18 @@
 package com.ocare.domain.health.entity;
 
 import com.ocare.domain.health.dto.DailyAggregation;
+import com.ocare.domain.health.dto.RangeAggregation;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * 일별 건강 데이터 집계
+ * cumulative_* 컬럼은 회원의 첫 기록일부터 해당 일자까지(당일 포함)의 누적 합계로,
+ * 임의 기간 합계를 두 일자의 누적 합계 차이로 계산하는 데 사용
+ */
 @Entity
 @Getter
 @NoArgsConstructor
@@ -43,13 +49,23 @@ public class DailyHealthSummaryEntity {
     @Column(name = "total_distance", nullable = false)
     private Float totalDistance;
 
+    @Column(name = "cumulative_steps", nullable = false)
+    private Long cumulativeSteps;
+
+    @Column(name = "cumulative_calories", nullable = false)
+    private Double cumulativeCalories;
+
+    @Column(name = "cumulative_distance", nullable = false)
+    private Double cumulativeDistance;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    public static DailyHealthSummaryEntity of(String recordKey, LocalDate summaryDate, DailyAggregation agg) {
+    public static DailyHealthSummaryEntity of(String recordKey, LocalDate summaryDate, DailyAggregation agg,
+                                              RangeAggregation cumulative) {
         LocalDateTime now = LocalDateTime.now();
         return DailyHealthSummaryEntity.builder()
                 .recordKey(recordKey)
@@ -57,6 +73,9 @@ public class DailyHealthSummaryEntity {
                 .totalSteps(agg.getSteps())
                 .totalCalories(agg.getCalories())
                 .totalDistance(agg.getDistance())
+                .cumulativeSteps(cumulative.getSteps())
+                .cumulativeCalories(cumulative.getCalories())
+                .cumulativeDistance(cumulative.getDistance())
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
@@ -68,4 +87,8 @@ public class DailyHealthSummaryEntity {
         this.totalDistance = agg.getDistance();
         this.updatedAt = LocalDateTime.now();
     }
+
+    public RangeAggregation getCumulative() {
+        return RangeAggregation.of(cumulativeSteps, cumulativeCalories, cumulativeDistance);
+    }
 }
@@ -0,0 +1,69 @@
+package com.ocare.domain.health.entity;
+
+import com.ocare.domain.health.dto.DailyAggregation;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 집계 반영 대기 중인 (recordKey, 일자)와 아직 반영되지 않은 변경량 합계
+ * pending_entries는 대기 중인 신규 엔트리 수 (변경량 합계가 0이어도 신규 일자의 집계 행을 만들도록 보관)
+ * 엔트리 upsert와 같은 트랜잭션에서 기록되고, 집계 반영 트랜잭션에서 삭제됨
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "HEALTH_AGGREGATION_DIRTY",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_aggregation_dirty",
+                        columnNames = {"record_key", "summary_date"})
+        })
+public class HealthAggregationDirtyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "record_key", nullable = false, length = 36)
+    private String recordKey;
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Column(name = "pending_steps", nullable = false)
+    private Integer pendingSteps;
+
+    @Column(name = "pending_calories", nullable = false)
+    private Float pendingCalories;
+
+    @Column(name = "pending_distance", nullable = false)
+    private Float pendingDistance;
+
+    @Column(name = "pending_entries", nullable = false)
+    private Integer pendingEntries;
+
+    @Column(name = "first_marked_at", nullable = false, updatable = false)
+    private LocalDateTime firstMarkedAt;
+
+    @Column(name = "last_marked_at", nullable = false)
+    private LocalDateTime lastMarkedAt;
+
+    public static HealthAggregationDirtyEntity of(String recordKey, LocalDate summaryDate,
+                                                  DailyAggregation agg, LocalDateTime now) {
+        return HealthAggregationDirtyEntity.builder()
+                .recordKey(recordKey)
+                .summaryDate(summaryDate)
+                .pendingSteps(agg.getSteps())
+                .pendingCalories(agg.getCalories())
+                .pendingDistance(agg.getDistance())
+                .pendingEntries(agg.getNewEntries())
+                .firstMarkedAt(now)
+                .lastMarkedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.ocare.domain.health.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * (recordKey, 일자)의 엔트리 전체를 컬럼 단위로 인코딩한 블록 (health.storage.layout=columnar)
+ * payload 형식은 HealthEntryBlockCodec 참고
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "HEALTH_ENTRY_BLOCK",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_health_entry_block",
+                        columnNames = {"record_key", "entry_date"})
+        })
+public class HealthEntryBlockEntity {
+
+    /**
+     * payload 최대 크기 (1분 단위 엔트리 하루치도 수십 KB 이내)
+     */
+    public static final int MAX_PAYLOAD_LENGTH = 1_000_000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "record_key", nullable = false, length = 36)
+    private String recordKey;
+
+    @Column(name = "entry_date", nullable = false)
+    private LocalDate entryDate;
+
+    @Column(name = "entry_count", nullable = false)
+    private Integer entryCount;
+
+    @Column(name = "payload", nullable = false, length = MAX_PAYLOAD_LENGTH)
+    private byte[] payload;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static HealthEntryBlockEntity of(String recordKey, LocalDate entryDate, int entryCount, byte[] payload) {
+        return HealthEntryBlockEntity.builder()
+                .recordKey(recordKey)
+                .entryDate(entryDate)
+                .entryCount(entryCount)
+                .payload(payload)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void update(int entryCount, byte[] payload) {
+        this.entryCount = entryCount;
+        this.payload = payload;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
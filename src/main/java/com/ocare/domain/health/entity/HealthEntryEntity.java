@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class HealthEntryEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "health_entry_seq")
+    @SequenceGenerator(name = "health_entry_seq", sequenceName = "HEALTH_ENTRY_SEQ", allocationSize = 100)
     private Long id;
 
     @Column(name = "record_key", nullable = false, length = 36)
@@ -0,0 +1,39 @@
+package com.ocare.domain.health.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원본 저장소 설정 (DB에 기록된 데이터와 설정이 어긋나지 않도록 시작 시 확인)
+ * - layout: 원본 엔트리 저장 방식 (health.storage.layout)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "HEALTH_STORAGE_SETTING")
+public class HealthStorageSettingEntity {
+
+    public static final String LAYOUT = "layout";
+
+    @Id
+    @Column(name = "setting_key", length = 50)
+    private String settingKey;
+
+    @Column(name = "setting_value", nullable = false, length = 100)
+    private String settingValue;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static HealthStorageSettingEntity of(String settingKey, String settingValue) {
+        return HealthStorageSettingEntity.builder()
+                .settingKey(settingKey)
+                .settingValue(settingValue)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
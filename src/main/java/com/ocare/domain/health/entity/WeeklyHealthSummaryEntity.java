@@ -0,0 +1,67 @@
+package com.ocare.domain.health.entity;
+
+import com.ocare.domain.health.dto.WeeklyAggregation;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주별 건강 데이터 집계 (ISO 주, 월요일 시작)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "WEEKLY_HEALTH_SUMMARY",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_weekly_summary",
+                        columnNames = {"record_key", "week_start_date"})
+        },
+        indexes = {
+                @Index(name = "idx_weekly_record_key", columnList = "record_key"),
+                @Index(name = "idx_week_start_date", columnList = "week_start_date")
+        })
+public class WeeklyHealthSummaryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "record_key", nullable = false, length = 36)
+    private String recordKey;
+
+    @Column(name = "week_start_date", nullable = false)
+    private LocalDate weekStartDate;
+
+    @Column(name = "total_steps", nullable = false)
+    private Integer totalSteps;
+
+    @Column(name = "total_calories", nullable = false)
+    private Float totalCalories;
+
+    @Column(name = "total_distance", nullable = false)
+    private Float totalDistance;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static WeeklyHealthSummaryEntity of(String recordKey, WeeklyAggregation agg) {
+        LocalDateTime now = LocalDateTime.now();
+        return WeeklyHealthSummaryEntity.builder()
+                .recordKey(recordKey)
+                .weekStartDate(agg.getWeekStartDate())
+                .totalSteps(agg.getSteps())
+                .totalCalories(agg.getCalories())
+                .totalDistance(agg.getDistance())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.ocare.domain.health.entity;
+
+import com.ocare.domain.health.dto.YearlyAggregation;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 연도별 건강 데이터 집계
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "YEARLY_HEALTH_SUMMARY",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_yearly_summary",
+                        columnNames = {"record_key", "summary_year"})
+        },
+        indexes = {
+                @Index(name = "idx_yearly_record_key", columnList = "record_key")
+        })
+public class YearlyHealthSummaryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "record_key", nullable = false, length = 36)
+    private String recordKey;
+
+    @Column(name = "summary_year", nullable = false)
+    private Integer summaryYear;
+
+    @Column(name = "total_steps", nullable = false)
+    private Integer totalSteps;
+
+    @Column(name = "total_calories", nullable = false)
+    private Float totalCalories;
+
+    @Column(name = "total_distance", nullable = false)
+    private Float totalDistance;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static YearlyHealthSummaryEntity of(String recordKey, YearlyAggregation agg) {
+        LocalDateTime now = LocalDateTime.now();
+        return YearlyHealthSummaryEntity.builder()
+                .recordKey(recordKey)
+                .summaryYear(agg.getYear())
+                .totalSteps(agg.getSteps())
+                .totalCalories(agg.getCalories())
+                .totalDistance(agg.getDistance())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.dto.EntryPeriod;
+import com.ocare.domain.health.dto.EntrySample;
+import com.ocare.domain.health.entity.HealthEntryBlockEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * (recordKey, 일자)당 HEALTH_ENTRY_BLOCK 한 행으로 저장 (health.storage.layout=columnar)
+ * 업로드에 포함된 일자의 블록을 한 번에 조회해 복원 → 메모리에서 upsert → 바뀐 블록만 다시 인코딩해 기록
+ * 10분 단위 엔트리 하루치(144건)가 행 144개 대신 1KB 안팎의 블록 하나가 됨
+ */
+@Repository
+@ConditionalOnProperty(name = "health.storage.layout", havingValue = "columnar")
+@RequiredArgsConstructor
+@Slf4j
+public class ColumnarHealthEntryStore implements HealthEntryStore {
+
+    private final HealthEntryBlockRepository healthEntryBlockRepository;
+
+    /**
+     * 일자별 블록 복원 → upsert → 변경된 블록 재인코딩
+     */
+    @Override
+    public List<EntryDelta> upsert(String recordKey, List<EntrySample> entries) {
+        Set<LocalDate> dates = new HashSet<>();
+        for (EntrySample entry : entries) {
+            dates.add(entry.getPeriodFrom().toLocalDate());
+        }
+
+        Map<LocalDate, HealthEntryBlockEntity> blocks = new HashMap<>(dates.size() * 2);
+        for (HealthEntryBlockEntity block : healthEntryBlockRepository.findByRecordKeyAndEntryDateIn(recordKey, dates)) {
+            blocks.put(block.getEntryDate(), block);
+        }
+
+        Map<LocalDate, Map<EntryPeriod, EntrySample>> dayEntries = new HashMap<>(dates.size() * 2);
+        Set<LocalDate> changedDates = new HashSet<>();
+        List<EntryDelta> deltas = new ArrayList<>(entries.size());
+
+        for (EntrySample entry : entries) {
+            LocalDate date = entry.getPeriodFrom().toLocalDate();
+            Map<EntryPeriod, EntrySample> existingEntries = dayEntries.computeIfAbsent(date,
+                    d -> decode(blocks.get(d)));
+            EntrySample existing = existingEntries.put(entry.getPeriod(), entry);
+
+            if (existing == null) {
+                deltas.add(EntryDelta.ofNew(entry));
+                changedDates.add(date);
+            } else {
+                deltas.add(EntryDelta.ofUpdate(existing, entry));
+                if (!existing.equals(entry)) {
+                    changedDates.add(date);
+                }
+            }
+        }
+
+        List<HealthEntryBlockEntity> blocksToSave = new ArrayList<>();
+        for (LocalDate date : changedDates) {
+            Map<EntryPeriod, EntrySample> merged = dayEntries.get(date);
+            byte[] payload = HealthEntryBlockCodec.encode(date, merged.values());
+            HealthEntryBlockEntity block = blocks.get(date);
+
+            if (block != null) {
+                block.update(merged.size(), payload);
+            } else {
+                blocksToSave.add(HealthEntryBlockEntity.of(recordKey, date, merged.size(), payload));
+            }
+        }
+
+        healthEntryBlockRepository.saveAll(blocksToSave);
+        log.debug("엔트리 블록 저장: recordKey={}, changedDays={}, insertedDays={}",
+                recordKey, changedDates.size(), blocksToSave.size());
+        return deltas;
+    }
+
+    /**
+     * 일자 범위의 블록을 복원해 일자 순으로 이어 붙임
+     */
+    @Override
+    public List<EntrySample> findByDateRange(String recordKey, LocalDate startDate, LocalDate endDate) {
+        List<EntrySample> entries = new ArrayList<>();
+        for (HealthEntryBlockEntity block : healthEntryBlockRepository
+                .findByRecordKeyAndEntryDateBetweenOrderByEntryDateAsc(recordKey, startDate, endDate)) {
+            entries.addAll(HealthEntryBlockCodec.decode(block.getEntryDate(), block.getPayload()));
+        }
+        return entries;
+    }
+
+    /**
+     * 블록을 측정 구간 → 엔트리 맵으로 복원 (블록이 없으면 빈 맵)
+     */
+    private Map<EntryPeriod, EntrySample> decode(HealthEntryBlockEntity block) {
+        if (block == null) {
+            return new LinkedHashMap<>();
+        }
+        List<EntrySample> decoded = HealthEntryBlockCodec.decode(block.getEntryDate(), block.getPayload());
+        Map<EntryPeriod, EntrySample> entries = new LinkedHashMap<>(decoded.size() * 2);
+        for (EntrySample entry : decoded) {
+            entries.put(entry.getPeriod(), entry);
+        }
+        return entries;
+    }
+}
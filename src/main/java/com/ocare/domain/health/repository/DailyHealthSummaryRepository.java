@@ -1,12 +1,25 @@
 package com.ocare.domain.health.repository;
 
+import com.ocare.domain.health.dto.RangeAggregation;
+import com.ocare.domain.health.dto.response.DailySummaryResponse;
 import com.ocare.domain.health.entity.DailyHealthSummaryEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * 일별 건강 데이터 집계 Repository
@@ -16,8 +29,157 @@ public interface DailyHealthSummaryRepository extends JpaRepository<DailyHealthS
 
     Optional<DailyHealthSummaryEntity> findByRecordKeyAndSummaryDate(String recordKey, LocalDate summaryDate);
 
-    List<DailyHealthSummaryEntity> findByRecordKeyOrderBySummaryDateAsc(String recordKey);
+    /**
+     * 전체 일별 집계 (응답 DTO로 바로 생성, 엔티티/스냅샷을 만들지 않음)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.DailySummaryResponse(" +
+            "d.recordKey, d.summaryDate, d.totalSteps, d.totalCalories, d.totalDistance) " +
+            "FROM DailyHealthSummaryEntity d " +
+            "WHERE d.recordKey = :recordKey " +
+            "ORDER BY d.summaryDate ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<DailySummaryResponse> findSummariesByRecordKey(@Param("recordKey") String recordKey);
+
+    /**
+     * 첫 페이지 (일자 오름차순 limit건)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.DailySummaryResponse(" +
+            "d.recordKey, d.summaryDate, d.totalSteps, d.totalCalories, d.totalDistance) " +
+            "FROM DailyHealthSummaryEntity d " +
+            "WHERE d.recordKey = :recordKey " +
+            "ORDER BY d.summaryDate ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<DailySummaryResponse> findSummariesByRecordKey(@Param("recordKey") String recordKey, Limit limit);
+
+    /**
+     * 커서(일자) 다음 페이지 (uk_daily_summary 인덱스 범위 조회)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.DailySummaryResponse(" +
+            "d.recordKey, d.summaryDate, d.totalSteps, d.totalCalories, d.totalDistance) " +
+            "FROM DailyHealthSummaryEntity d " +
+            "WHERE d.recordKey = :recordKey AND d.summaryDate > :cursor " +
+            "ORDER BY d.summaryDate ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<DailySummaryResponse> findSummariesByRecordKeyAndSummaryDateAfter(@Param("recordKey") String recordKey,
+                                                                          @Param("cursor") LocalDate cursor,
+                                                                          Limit limit);
+
+    /**
+     * 전체 일별 집계 스트림 (응답 DTO로 바로 생성해 영속성 컨텍스트에 쌓이지 않음, 트랜잭션 안에서 닫아야 함)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.DailySummaryResponse(" +
+            "d.recordKey, d.summaryDate, d.totalSteps, d.totalCalories, d.totalDistance) " +
+            "FROM DailyHealthSummaryEntity d " +
+            "WHERE d.recordKey = :recordKey " +
+            "ORDER BY d.summaryDate ASC")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<DailySummaryResponse> streamByRecordKey(@Param("recordKey") String recordKey);
 
     List<DailyHealthSummaryEntity> findByRecordKeyAndSummaryDateBetweenOrderBySummaryDateAsc(
             String recordKey, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * [startDate, endDate] 일별 집계 (응답 DTO로 바로 생성, 엔티티/스냅샷을 만들지 않음)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.DailySummaryResponse(" +
+            "d.recordKey, d.summaryDate, d.totalSteps, d.totalCalories, d.totalDistance) " +
+            "FROM DailyHealthSummaryEntity d " +
+            "WHERE d.recordKey = :recordKey AND d.summaryDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY d.summaryDate ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<DailySummaryResponse> findSummariesByRecordKeyAndSummaryDateBetween(@Param("recordKey") String recordKey,
+                                                                            @Param("startDate") LocalDate startDate,
+                                                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * [startDate, endDate] 일별 합계 (DB에서 합산해 한 행만 반환)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.RangeAggregation(" +
+            "SUM(d.totalSteps), SUM(d.totalCalories), SUM(d.totalDistance)) " +
+            "FROM DailyHealthSummaryEntity d " +
+            "WHERE d.recordKey = :recordKey AND d.summaryDate BETWEEN :startDate AND :endDate")
+    RangeAggregation sumByRecordKeyAndSummaryDateBetween(@Param("recordKey") String recordKey,
+                                                         @Param("startDate") LocalDate startDate,
+                                                         @Param("endDate") LocalDate endDate);
+
+    /**
+     * 전체 일별 집계의 마지막 수정 시각 (행이 없으면 빈 값)
+     */
+    @Query("SELECT MAX(d.updatedAt) FROM DailyHealthSummaryEntity d WHERE d.recordKey = :recordKey")
+    Optional<LocalDateTime> findMaxUpdatedAtByRecordKey(@Param("recordKey") String recordKey);
+
+    /**
+     * [startDate, endDate] 일별 집계의 마지막 수정 시각 (행이 없으면 빈 값)
+     */
+    @Query("SELECT MAX(d.updatedAt) FROM DailyHealthSummaryEntity d " +
+            "WHERE d.recordKey = :recordKey AND d.summaryDate BETWEEN :startDate AND :endDate")
+    Optional<LocalDateTime> findMaxUpdatedAtByRecordKeyAndSummaryDateBetween(@Param("recordKey") String recordKey,
+                                                                            @Param("startDate") LocalDate startDate,
+                                                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 일자 이전(당일 제외) 마지막 일별 집계
+     */
+    Optional<DailyHealthSummaryEntity> findFirstByRecordKeyAndSummaryDateLessThanOrderBySummaryDateDesc(
+            String recordKey, LocalDate summaryDate);
+
+    /**
+     * 일자 이전(당일 포함) 마지막 일별 집계
+     */
+    Optional<DailyHealthSummaryEntity> findFirstByRecordKeyAndSummaryDateLessThanEqualOrderBySummaryDateDesc(
+            String recordKey, LocalDate summaryDate);
+
+    /**
+     * 일별 합계에 변경량을 원자적으로 더함 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE DAILY_HEALTH_SUMMARY " +
+            "SET total_steps = total_steps + :steps, " +
+            "total_calories = total_calories + :calories, " +
+            "total_distance = total_distance + :distance, " +
+            "updated_at = :updatedAt " +
+            "WHERE record_key = :recordKey AND summary_date = :summaryDate",
+            nativeQuery = true)
+    int incrementSummary(@Param("recordKey") String recordKey,
+                         @Param("summaryDate") LocalDate summaryDate,
+                         @Param("steps") int steps,
+                         @Param("calories") float calories,
+                         @Param("distance") float distance,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * [startDate, endDate] 일별 집계의 누적 합계에 변경량을 더함 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE DAILY_HEALTH_SUMMARY " +
+            "SET cumulative_steps = cumulative_steps + :steps, " +
+            "cumulative_calories = cumulative_calories + :calories, " +
+            "cumulative_distance = cumulative_distance + :distance " +
+            "WHERE record_key = :recordKey AND summary_date BETWEEN :startDate AND :endDate",
+            nativeQuery = true)
+    int shiftCumulative(@Param("recordKey") String recordKey,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate,
+                        @Param("steps") long steps,
+                        @Param("calories") double calories,
+                        @Param("distance") double distance);
+
+    /**
+     * startDate 이후(당일 포함) 모든 일별 집계의 누적 합계에 변경량을 더함 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE DAILY_HEALTH_SUMMARY " +
+            "SET cumulative_steps = cumulative_steps + :steps, " +
+            "cumulative_calories = cumulative_calories + :calories, " +
+            "cumulative_distance = cumulative_distance + :distance " +
+            "WHERE record_key = :recordKey AND summary_date >= :startDate",
+            nativeQuery = true)
+    int shiftCumulativeFrom(@Param("recordKey") String recordKey,
+                            @Param("startDate") LocalDate startDate,
+                            @Param("steps") long steps,
+                            @Param("calories") double calories,
+                            @Param("distance") double distance);
 }
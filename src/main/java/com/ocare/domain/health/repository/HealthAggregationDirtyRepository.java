@@ -0,0 +1,54 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.entity.HealthAggregationDirtyEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 집계 반영 대기 Repository
+ */
+@Repository
+public interface HealthAggregationDirtyRepository extends JpaRepository<HealthAggregationDirtyEntity, Long> {
+
+    List<HealthAggregationDirtyEntity> findByRecordKey(String recordKey);
+
+    /**
+     * 반영할 차례인 recordKey 목록
+     * 마지막 기록 이후 quietBefore까지 추가 기록이 없었거나, 첫 기록이 staleBefore 이전인 recordKey
+     */
+    @Query("SELECT d.recordKey FROM HealthAggregationDirtyEntity d " +
+            "GROUP BY d.recordKey " +
+            "HAVING MAX(d.lastMarkedAt) <= :quietBefore OR MIN(d.firstMarkedAt) <= :staleBefore " +
+            "ORDER BY MIN(d.firstMarkedAt) ASC")
+    List<String> findDueRecordKeys(@Param("quietBefore") LocalDateTime quietBefore,
+                                   @Param("staleBefore") LocalDateTime staleBefore,
+                                   Limit limit);
+
+    /**
+     * 대기 중인 변경량과 신규 엔트리 수에 새 값을 원자적으로 더함 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE HEALTH_AGGREGATION_DIRTY " +
+            "SET pending_steps = pending_steps + :steps, " +
+            "pending_calories = pending_calories + :calories, " +
+            "pending_distance = pending_distance + :distance, " +
+            "pending_entries = pending_entries + :newEntries, " +
+            "last_marked_at = :markedAt " +
+            "WHERE record_key = :recordKey AND summary_date = :summaryDate",
+            nativeQuery = true)
+    int incrementPending(@Param("recordKey") String recordKey,
+                         @Param("summaryDate") LocalDate summaryDate,
+                         @Param("steps") int steps,
+                         @Param("calories") float calories,
+                         @Param("distance") float distance,
+                         @Param("newEntries") int newEntries,
+                         @Param("markedAt") LocalDateTime markedAt);
+}
@@ -0,0 +1,160 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.dto.EntrySample;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * HEALTH_ENTRY_BLOCK payload 인코딩 (하루치 엔트리를 측정 구간 순으로 정렬해 컬럼별로 기록)
+ * [version][flags][count]
+ * [시작 오프셋: 자정부터 초, 이전 값과의 차이] [구간 길이: 초, 이전 값과의 차이(zigzag)]
+ * [steps: 이전 값과의 차이(zigzag)] [calories / distance: 이전 값과 float 비트 XOR]
+ * [flags에 나노초가 있으면 시작/종료 나노초]
+ * 정수는 모두 LEB128 varint라 10분 단위 엔트리는 시작 오프셋 2바이트, 구간 길이 1바이트, steps 1~2바이트,
+ * 이전과 같은 calories/distance는 1바이트로 기록됨
+ */
+public final class HealthEntryBlockCodec {
+
+    private static final byte VERSION = 1;
+    private static final int FLAG_NANOS = 1;
+
+    private static final Comparator<EntrySample> PERIOD_ORDER =
+            Comparator.comparing(EntrySample::getPeriodFrom).thenComparing(EntrySample::getPeriodTo);
+
+    private HealthEntryBlockCodec() {
+    }
+
+    /**
+     * 일자의 엔트리를 payload로 인코딩 (모든 엔트리의 periodFrom 일자가 date여야 함)
+     */
+    public static byte[] encode(LocalDate date, Collection<EntrySample> entries) {
+        List<EntrySample> sorted = new ArrayList<>(entries);
+        sorted.sort(PERIOD_ORDER);
+
+        boolean nanos = false;
+        for (EntrySample entry : sorted) {
+            if (!entry.getPeriodFrom().toLocalDate().equals(date)) {
+                throw new IllegalArgumentException("블록 일자와 다른 엔트리: date=" + date + ", from=" + entry.getPeriodFrom());
+            }
+            nanos |= entry.getPeriodFrom().getNano() != 0 || entry.getPeriodTo().getNano() != 0;
+        }
+
+        HealthEntryBlockWriter out = new HealthEntryBlockWriter(8 + sorted.size() * 8);
+        out.writeByte(VERSION);
+        out.writeByte(nanos ? FLAG_NANOS : 0);
+        out.writeVarLong(sorted.size());
+
+        long previousOffset = 0;
+        for (EntrySample entry : sorted) {
+            long offset = entry.getPeriodFrom().toLocalTime().toSecondOfDay();
+            out.writeVarLong(offset - previousOffset);
+            previousOffset = offset;
+        }
+
+        long previousDuration = 0;
+        for (EntrySample entry : sorted) {
+            long duration = epochSecond(entry.getPeriodTo()) - epochSecond(entry.getPeriodFrom());
+            out.writeZigZag(duration - previousDuration);
+            previousDuration = duration;
+        }
+
+        long previousSteps = 0;
+        for (EntrySample entry : sorted) {
+            out.writeZigZag(entry.getSteps() - previousSteps);
+            previousSteps = entry.getSteps();
+        }
+
+        int previousCalories = 0;
+        for (EntrySample entry : sorted) {
+            int bits = Float.floatToIntBits(entry.getCalories());
+            out.writeVarLong(Integer.toUnsignedLong(bits ^ previousCalories));
+            previousCalories = bits;
+        }
+
+        int previousDistance = 0;
+        for (EntrySample entry : sorted) {
+            int bits = Float.floatToIntBits(entry.getDistance());
+            out.writeVarLong(Integer.toUnsignedLong(bits ^ previousDistance));
+            previousDistance = bits;
+        }
+
+        if (nanos) {
+            for (EntrySample entry : sorted) {
+                out.writeVarLong(entry.getPeriodFrom().getNano());
+                out.writeVarLong(entry.getPeriodTo().getNano());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * payload를 측정 구간 순 엔트리 목록으로 복원
+     */
+    public static List<EntrySample> decode(LocalDate date, byte[] payload) {
+        HealthEntryBlockReader in = new HealthEntryBlockReader(payload);
+        if (in.readByte() != VERSION) {
+            throw new IllegalStateException("지원하지 않는 엔트리 블록 버전: date=" + date);
+        }
+        int flags = in.readByte();
+        int count = (int) in.readVarLong();
+
+        long[] offsets = new long[count];
+        long offset = 0;
+        for (int i = 0; i < count; i++) {
+            offset += in.readVarLong();
+            offsets[i] = offset;
+        }
+
+        long[] durations = new long[count];
+        long duration = 0;
+        for (int i = 0; i < count; i++) {
+            duration += in.readZigZag();
+            durations[i] = duration;
+        }
+
+        int[] steps = new int[count];
+        long step = 0;
+        for (int i = 0; i < count; i++) {
+            step += in.readZigZag();
+            steps[i] = (int) step;
+        }
+
+        float[] calories = new float[count];
+        int caloriesBits = 0;
+        for (int i = 0; i < count; i++) {
+            caloriesBits ^= (int) in.readVarLong();
+            calories[i] = Float.intBitsToFloat(caloriesBits);
+        }
+
+        float[] distances = new float[count];
+        int distanceBits = 0;
+        for (int i = 0; i < count; i++) {
+            distanceBits ^= (int) in.readVarLong();
+            distances[i] = Float.intBitsToFloat(distanceBits);
+        }
+
+        LocalDateTime midnight = date.atStartOfDay();
+        boolean nanos = (flags & FLAG_NANOS) != 0;
+        List<EntrySample> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime from = midnight.plusSeconds(offsets[i]);
+            LocalDateTime to = from.plusSeconds(durations[i]);
+            if (nanos) {
+                from = from.withNano((int) in.readVarLong());
+                to = to.withNano((int) in.readVarLong());
+            }
+            entries.add(EntrySample.of(from, to, steps[i], calories[i], distances[i]));
+        }
+        return entries;
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,38 @@
+package com.ocare.domain.health.repository;
+
+/**
+ * HEALTH_ENTRY_BLOCK payload varint 입력 (HealthEntryBlockCodec 전용)
+ */
+final class HealthEntryBlockReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    HealthEntryBlockReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    int readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalStateException("엔트리 블록이 잘렸습니다: length=" + buffer.length);
+        }
+        return buffer[position++];
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("잘못된 varint");
+    }
+
+    long readZigZag() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
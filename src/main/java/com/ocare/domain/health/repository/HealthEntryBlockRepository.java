@@ -0,0 +1,21 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.entity.HealthEntryBlockEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 건강 데이터 원본 블록 Repository (health.storage.layout=columnar)
+ */
+@Repository
+public interface HealthEntryBlockRepository extends JpaRepository<HealthEntryBlockEntity, Long> {
+
+    List<HealthEntryBlockEntity> findByRecordKeyAndEntryDateIn(String recordKey, Collection<LocalDate> entryDates);
+
+    List<HealthEntryBlockEntity> findByRecordKeyAndEntryDateBetweenOrderByEntryDateAsc(
+            String recordKey, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,39 @@
+package com.ocare.domain.health.repository;
+
+import java.util.Arrays;
+
+/**
+ * HEALTH_ENTRY_BLOCK payload varint 출력 버퍼 (HealthEntryBlockCodec 전용)
+ */
+final class HealthEntryBlockWriter {
+
+    private byte[] buffer;
+    private int size;
+
+    HealthEntryBlockWriter(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    void writeByte(int value) {
+        if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    void writeZigZag(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+}
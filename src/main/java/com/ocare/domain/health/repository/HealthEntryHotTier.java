@@ -0,0 +1,441 @@
+package com.ocare.domain.health.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ocare.domain.health.dto.EntrySample;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * 최근 일자 원본 엔트리 핫 티어 (health.hot-tier.enabled=true일 때만 사용)
+ * recordKey마다 메모리 매핑 파일 하나에 최근 window-days일의 10분 슬롯 배열을 고정 레이아웃으로 보관
+ * - 파일: [헤더 16B] + 일자 블록 × window-days (블록 위치 = epochDay % window-days, 지난 일자는 새 일자가 덮어씀)
+ * - 일자 블록: [버전 8B][epochDay 8B][슬롯 존재 비트맵 24B][슬롯 144개 × (steps, calories, distance) 12B]
+ * - 버전이 홀수면 기록 중 (읽기는 미스로 처리하고, 기록 도중 종료되었다면 다음 조회에서 DB로 다시 채움)
+ * 업로드 반영은 recordKey 저장 락 안에서(커밋 직전/직후), 조회 미스 채움은 저장 락 없이 하며 읽기는 전후 버전 비교로 확인
+ * 조회 미스 채움: DB 로드 전에 읽은 recordKey 세대 번호가 채울 때도 같을 때만 채움
+ * (업로드가 커밋 직전/직후에 세대 번호를 올리므로 로드와 엇갈린 업로드가 있으면 오래된 값을 채우지 않음)
+ * 세대 번호 확인과 블록 기록은 recordKey 스트라이프 단위 모니터 안에서 하므로 채움과 업로드 반영이 섞이지 않음
+ * 10분 경계에 맞지 않는 엔트리가 있는 일자는 보관하지 않음 (항상 저장소에서 조회)
+ * 노드 로컬 저장이라 다른 노드가 받은 업로드를 알 수 없으므로 분산 락(다중 노드) 설정과 함께 켤 수 없음
+ */
+@Component
+@Slf4j
+public class HealthEntryHotTier {
+
+    static final int SLOTS_PER_DAY = 144;
+    static final int DAY_BLOCK_SIZE = 40 + SLOTS_PER_DAY * 12;
+
+    private static final int SLOT_MINUTES = 10;
+    private static final int MAGIC = 0x4F434854;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int VERSION_OFFSET = 0;
+    private static final int DAY_OFFSET = 8;
+    private static final int BITMAP_OFFSET = 16;
+    private static final int BITMAP_WORDS = 3;
+    private static final int SLOTS_OFFSET = 40;
+    private static final int SLOT_SIZE = 12;
+    private static final long EMPTY_DAY = Long.MIN_VALUE;
+    private static final String FILE_SUFFIX = ".slots";
+    private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, BYTE_ORDER);
+    private static final int GENERATION_STRIPES = 1024;
+
+    @Value("${health.hot-tier.enabled}")
+    private boolean enabled;
+
+    @Value("${health.hot-tier.directory}")
+    private String directory;
+
+    @Value("${health.hot-tier.window-days}")
+    private int windowDays;
+
+    @Value("${health.hot-tier.max-open-files}")
+    private long maxOpenFiles;
+
+    @Value("${health.ingest.lock.distributed}")
+    private boolean distributedLock;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Object[] stripeMonitors = IntStream.range(0, GENERATION_STRIPES)
+            .mapToObj(i -> new Object())
+            .toArray();
+
+    private Path root;
+    private Cache<String, MappedByteBuffer> mappings;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        if (distributedLock) {
+            throw new IllegalStateException("핫 티어는 단일 노드에서만 사용할 수 있습니다 (health.ingest.lock.distributed=false)");
+        }
+        try {
+            root = Files.createDirectories(Paths.get(directory));
+        } catch (IOException e) {
+            throw new UncheckedIOException("핫 티어 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+        mappings = Caffeine.newBuilder()
+                .maximumSize(maxOpenFiles)
+                .build();
+        log.info("핫 티어 사용: directory={}, windowDays={}", root.toAbsolutePath(), windowDays);
+    }
+
+    /**
+     * 핫 티어 보관 대상 일자인지 (오늘 포함 최근 window-days일)
+     */
+    public boolean covers(LocalDate date) {
+        if (!enabled) {
+            return false;
+        }
+        LocalDate today = LocalDate.now();
+        return !date.isAfter(today) && date.isAfter(today.minusDays(windowDays));
+    }
+
+    /**
+     * 보관 중인 일자의 엔트리를 매핑 파일에서 바로 읽음 (보관 중이 아니거나 기록 중이면 empty)
+     */
+    public Optional<List<EntrySample>> read(String recordKey, LocalDate date) {
+        if (!covers(date)) {
+            return Optional.empty();
+        }
+        Optional<MappedByteBuffer> mapping = open(recordKey, false);
+        if (mapping.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = mapping.get();
+        int block = blockOffset(date);
+        long version = (long) LONGS.getAcquire(buffer, block + VERSION_OFFSET);
+        if ((version & 1) != 0 || buffer.getLong(block + DAY_OFFSET) != date.toEpochDay()) {
+            return Optional.empty();
+        }
+
+        List<EntrySample> entries = readSlots(buffer, block, date);
+
+        VarHandle.loadLoadFence();
+        if ((long) LONGS.getAcquire(buffer, block + VERSION_OFFSET) != version) {
+            return Optional.empty();
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * recordKey의 현재 세대 번호 (조회 미스 시 저장소 로드 전에 읽어 fill에 넘김)
+     */
+    public long generation(String recordKey) {
+        return generations.get(stripe(recordKey));
+    }
+
+    /**
+     * 저장소에서 읽은 일자 전체 엔트리로 블록을 채움 (저장 락 없이 호출)
+     * 로드 전에 읽은 세대 번호가 바뀌었으면(그 사이 업로드가 커밋되었거나 반영 중) 채우지 않음
+     * 10분 슬롯으로 표현할 수 없는 일자는 보관하지 않음
+     */
+    public void fill(String recordKey, LocalDate date, List<EntrySample> entries, long generation) {
+        if (!covers(date) || !isSlotted(date, entries)) {
+            return;
+        }
+        int stripe = stripe(recordKey);
+        synchronized (stripeMonitors[stripe]) {
+            if (generations.get(stripe) != generation) {
+                return;
+            }
+            ByteBuffer buffer = open(recordKey, true).orElseThrow();
+            int block = blockOffset(date);
+
+            beginWrite(buffer, block);
+            buffer.putLong(block + DAY_OFFSET, date.toEpochDay());
+            for (int i = BITMAP_OFFSET; i < DAY_BLOCK_SIZE; i += Long.BYTES) {
+                buffer.putLong(block + i, 0L);
+            }
+            writeSlots(buffer, block, date, entries);
+            endWrite(buffer, block);
+        }
+    }
+
+    /**
+     * 업로드 트랜잭션에 핫 티어 반영 등록 (HealthEntryStore upsert 직후, 같은 트랜잭션 안에서 호출)
+     * 커밋 직전에 보관 중인 일자를 기록 중으로 표시하고, 커밋되면 반영 / 롤백되면 표시만 해제
+     * 커밋과 반영 사이에 종료되어도 기록 중 표시가 남아 오래된 값을 읽지 않음
+     */
+    public void stage(String recordKey, List<EntrySample> entries) {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Map<LocalDate, List<EntrySample>> byDate = new HashMap<>();
+        for (EntrySample entry : entries) {
+            LocalDate date = entry.getPeriodFrom().toLocalDate();
+            if (covers(date)) {
+                byDate.computeIfAbsent(date, d -> new ArrayList<>()).add(entry);
+            }
+        }
+        if (byDate.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new HealthEntryHotTierSynchronization(this, recordKey, byDate));
+    }
+
+    /**
+     * 업로드 커밋 직전: 세대 번호를 올리고 보관 중인 일자를 기록 중으로 표시
+     */
+    void beginStaged(String recordKey, Collection<LocalDate> dates) {
+        int stripe = stripe(recordKey);
+        synchronized (stripeMonitors[stripe]) {
+            generations.incrementAndGet(stripe);
+            forEachStoredDay(recordKey, dates, (buffer, date) -> beginWrite(buffer, blockOffset(date)));
+        }
+    }
+
+    /**
+     * 업로드 완료 직후: 커밋되면 보관 중인 일자에 병합, 상태를 알 수 없으면 그 일자를 비움, 롤백되면 표시만 해제
+     * 커밋 이후의 DB 로드만 채울 수 있도록 세대 번호를 다시 올림
+     */
+    void completeStaged(String recordKey, Map<LocalDate, List<EntrySample>> byDate, int status) {
+        int stripe = stripe(recordKey);
+        synchronized (stripeMonitors[stripe]) {
+            forEachStoredDay(recordKey, byDate.keySet(), (buffer, date) -> {
+                int block = blockOffset(date);
+                if (status == TransactionSynchronization.STATUS_COMMITTED && isSlotted(date, byDate.get(date))) {
+                    writeSlots(buffer, block, date, byDate.get(date));
+                } else if (status != TransactionSynchronization.STATUS_ROLLED_BACK) {
+                    buffer.putLong(block + DAY_OFFSET, EMPTY_DAY);
+                }
+                endWrite(buffer, block);
+            });
+            generations.incrementAndGet(stripe);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 일자만 남은 파일 삭제 (매핑이 닫히지 않은 파일도 삭제 후에는 다시 만들어 채움)
+     */
+    @Scheduled(fixedDelayString = "${health.hot-tier.sweep-millis}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (!hasCoveredDay(file)) {
+                    String fileName = file.getFileName().toString();
+                    mappings.invalidate(fileName);
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("핫 티어 정리 실패: directory={}, error={}", root, e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("핫 티어 정리: deletedFiles={}", deleted);
+        }
+    }
+
+    /**
+     * 블록에 보관 중인 일자에만 작업 실행 (실패해도 업로드 트랜잭션에는 영향 없음)
+     */
+    private void forEachStoredDay(String recordKey, Collection<LocalDate> dates,
+                                  BiConsumer<ByteBuffer, LocalDate> action) {
+        try {
+            Optional<MappedByteBuffer> mapping = open(recordKey, false);
+            if (mapping.isEmpty()) {
+                return;
+            }
+            for (LocalDate date : dates) {
+                int block = blockOffset(date);
+                if (mapping.get().getLong(block + DAY_OFFSET) == date.toEpochDay()) {
+                    action.accept(mapping.get(), date);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("핫 티어 반영 실패: recordKey={}, error={}", recordKey, e.getMessage());
+        }
+    }
+
+    /**
+     * recordKey의 매핑 파일 (create=false면 파일이 없을 때 empty)
+     */
+    private Optional<MappedByteBuffer> open(String recordKey, boolean create) {
+        String fileName = URLEncoder.encode(recordKey, StandardCharsets.UTF_8) + FILE_SUFFIX;
+        MappedByteBuffer mapped = mappings.getIfPresent(fileName);
+        if (mapped != null) {
+            return Optional.of(mapped);
+        }
+        Path file = root.resolve(fileName);
+        if (!create && !Files.exists(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(mappings.get(fileName, name -> map(file)));
+    }
+
+    /**
+     * 파일을 매핑하고, 새 파일이거나 레이아웃(window-days 등)이 다르면 빈 블록으로 초기화
+     */
+    private MappedByteBuffer map(Path file) {
+        long size = HEADER_SIZE + (long) windowDays * DAY_BLOCK_SIZE;
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean sized = channel.size() == size;
+            if (!sized) {
+                channel.truncate(0);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(BYTE_ORDER);
+
+            if (!sized || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION
+                    || buffer.getInt(8) != windowDays || buffer.getInt(12) != SLOTS_PER_DAY) {
+                buffer.putInt(0, MAGIC).putInt(4, FORMAT_VERSION).putInt(8, windowDays).putInt(12, SLOTS_PER_DAY);
+                for (int day = 0; day < windowDays; day++) {
+                    int block = HEADER_SIZE + day * DAY_BLOCK_SIZE;
+                    buffer.putLong(block + VERSION_OFFSET, 0L);
+                    buffer.putLong(block + DAY_OFFSET, EMPTY_DAY);
+                }
+            }
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("핫 티어 파일을 열 수 없습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 파일에 보관 기간 안의 일자가 남아 있는지 (매핑하지 않고 블록 헤더만 읽음)
+     */
+    private boolean hasCoveredDay(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer day = ByteBuffer.allocate(Long.BYTES).order(BYTE_ORDER);
+            for (long block = HEADER_SIZE; block + DAY_BLOCK_SIZE <= channel.size(); block += DAY_BLOCK_SIZE) {
+                day.clear();
+                channel.read(day, block + DAY_OFFSET);
+                long epochDay = day.getLong(0);
+                if (epochDay != EMPTY_DAY && covers(LocalDate.ofEpochDay(epochDay))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private int stripe(String recordKey) {
+        return Math.floorMod(recordKey.hashCode(), GENERATION_STRIPES);
+    }
+
+    private int blockOffset(LocalDate date) {
+        return HEADER_SIZE + (int) Math.floorMod(date.toEpochDay(), (long) windowDays) * DAY_BLOCK_SIZE;
+    }
+
+    /**
+     * 기록 시작 (버전을 홀수로, 이미 홀수면 유지)
+     */
+    private void beginWrite(ByteBuffer buffer, int block) {
+        long version = (long) LONGS.getVolatile(buffer, block + VERSION_OFFSET);
+        if ((version & 1) == 0) {
+            LONGS.setVolatile(buffer, block + VERSION_OFFSET, version + 1);
+        }
+        VarHandle.storeStoreFence();
+    }
+
+    /**
+     * 기록 종료 (버전을 짝수로)
+     */
+    private void endWrite(ByteBuffer buffer, int block) {
+        long version = (long) LONGS.getVolatile(buffer, block + VERSION_OFFSET);
+        if ((version & 1) != 0) {
+            LONGS.setRelease(buffer, block + VERSION_OFFSET, version + 1);
+        }
+    }
+
+    private List<EntrySample> readSlots(ByteBuffer buffer, int block, LocalDate date) {
+        List<EntrySample> entries = new ArrayList<>();
+        LocalDateTime midnight = date.atStartOfDay();
+        for (int word = 0; word < BITMAP_WORDS; word++) {
+            long bits = buffer.getLong(block + BITMAP_OFFSET + word * Long.BYTES);
+            while (bits != 0) {
+                int slot = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                int offset = block + SLOTS_OFFSET + slot * SLOT_SIZE;
+                LocalDateTime from = midnight.plusMinutes((long) slot * SLOT_MINUTES);
+                entries.add(EntrySample.of(from, from.plusMinutes(SLOT_MINUTES),
+                        buffer.getInt(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8)));
+            }
+        }
+        return entries;
+    }
+
+    private void writeSlots(ByteBuffer buffer, int block, LocalDate date, List<EntrySample> entries) {
+        for (EntrySample entry : entries) {
+            int slot = slotOf(date, entry);
+            int word = block + BITMAP_OFFSET + (slot / Long.SIZE) * Long.BYTES;
+            buffer.putLong(word, buffer.getLong(word) | (1L << (slot % Long.SIZE)));
+
+            int offset = block + SLOTS_OFFSET + slot * SLOT_SIZE;
+            buffer.putInt(offset, entry.getSteps());
+            buffer.putFloat(offset + 4, entry.getCalories());
+            buffer.putFloat(offset + 8, entry.getDistance());
+        }
+    }
+
+    /**
+     * 모든 엔트리가 그 일자의 10분 슬롯(시작이 10분 경계, 길이 10분)인지
+     */
+    private boolean isSlotted(LocalDate date, List<EntrySample> entries) {
+        for (EntrySample entry : entries) {
+            if (slotOf(date, entry) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 엔트리의 슬롯 번호 (10분 슬롯이 아니면 -1)
+     */
+    private int slotOf(LocalDate date, EntrySample entry) {
+        LocalDateTime from = entry.getPeriodFrom();
+        if (!from.toLocalDate().equals(date) || from.getSecond() != 0 || from.getNano() != 0
+                || from.getMinute() % SLOT_MINUTES != 0
+                || !entry.getPeriodTo().equals(from.plusMinutes(SLOT_MINUTES))) {
+            return -1;
+        }
+        return (from.getHour() * 60 + from.getMinute()) / SLOT_MINUTES;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.dto.EntrySample;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업로드 트랜잭션의 핫 티어 반영 (HealthEntryHotTier.stage에서 등록)
+ * 커밋 직전에 기록 중으로 표시하고, 완료 직후 결과에 따라 반영
+ */
+@RequiredArgsConstructor
+class HealthEntryHotTierSynchronization implements TransactionSynchronization {
+
+    private final HealthEntryHotTier hotTier;
+    private final String recordKey;
+    private final Map<LocalDate, List<EntrySample>> byDate;
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        hotTier.beginStaged(recordKey, byDate.keySet());
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        hotTier.completeStaged(recordKey, byDate, status);
+    }
+}
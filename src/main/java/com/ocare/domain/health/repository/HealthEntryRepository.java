@@ -6,7 +6,6 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * 건강 데이터 원본 Repository
@@ -14,11 +13,9 @@ import java.util.Optional;
 @Repository
 public interface HealthEntryRepository extends JpaRepository<HealthEntryEntity, Long> {
 
-    Optional<HealthEntryEntity> findByRecordKeyAndPeriodFromAndPeriodTo(
+    List<HealthEntryEntity> findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(
             String recordKey, LocalDateTime periodFrom, LocalDateTime periodTo);
 
-    List<HealthEntryEntity> findByRecordKey(String recordKey);
-
     List<HealthEntryEntity> findByRecordKeyAndPeriodFromBetween(
             String recordKey, LocalDateTime startDateTime, LocalDateTime endDateTime);
 }
@@ -0,0 +1,27 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.dto.EntrySample;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 건강 데이터 원본 저장소 (health.storage.layout으로 구현 선택)
+ * - row: 엔트리 한 건당 HEALTH_ENTRY 한 행 (RowHealthEntryStore)
+ * - columnar: (recordKey, 일자)당 HEALTH_ENTRY_BLOCK 한 행 (ColumnarHealthEntryStore)
+ * 엔트리는 recordKey 안에서 측정 구간(periodFrom, periodTo)으로 식별되며, 일자는 periodFrom 기준
+ */
+public interface HealthEntryStore {
+
+    /**
+     * 엔트리 upsert 후 입력 순서대로 집계용 변경량 반환 (호출자 트랜잭션 안에서 실행)
+     * 같은 입력 안의 중복 구간은 먼저 나온 엔트리를 수정하는 것으로 처리
+     */
+    List<EntryDelta> upsert(String recordKey, List<EntrySample> entries);
+
+    /**
+     * periodFrom 일자가 [startDate, endDate]인 엔트리를 측정 구간 순으로 조회
+     */
+    List<EntrySample> findByDateRange(String recordKey, LocalDate startDate, LocalDate endDate);
+}
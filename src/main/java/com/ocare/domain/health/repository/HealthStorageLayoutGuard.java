@@ -0,0 +1,80 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.config.shard.ShardRouter;
+import com.ocare.domain.health.entity.HealthStorageSettingEntity;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * 원본 엔트리 저장 방식(health.storage.layout) 고정
+ * 저장 방식을 바꾸면 기존 데이터를 읽지 못해 이미 올린 구간이 신규로 집계(중복)되거나 조회에서 빠지므로
+ * DB(샤딩이 켜져 있으면 샤드마다)에 처음 사용한 저장 방식을 기록하고, 설정과 다르면 시작하지 않음
+ * 기록이 없는 기존 DB는 원본 테이블에 남은 데이터로 저장 방식을 판단
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HealthStorageLayoutGuard {
+
+    static final String ROW = "row";
+    static final String COLUMNAR = "columnar";
+
+    private final HealthStorageSettingRepository settingRepository;
+    private final HealthEntryRepository healthEntryRepository;
+    private final HealthEntryBlockRepository healthEntryBlockRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${health.storage.layout:row}")
+    private String layout;
+
+    /**
+     * 모든 샤드의 저장 방식 확인 (primary에서 읽도록 읽기 전용이 아닌 트랜잭션 사용)
+     */
+    @PostConstruct
+    public void init() {
+        shardRouter.forEachShard(() -> transactionTemplate.executeWithoutResult(status -> verify()));
+    }
+
+    /**
+     * 기록된 저장 방식과 설정 비교, 기록이 없으면 남은 데이터로 판단한 뒤 기록
+     */
+    private void verify() {
+        Optional<HealthStorageSettingEntity> stored = settingRepository.findById(HealthStorageSettingEntity.LAYOUT);
+        String storedLayout = stored.map(HealthStorageSettingEntity::getSettingValue).orElseGet(this::detectLayout);
+
+        if (!layout.equals(storedLayout)) {
+            throw new IllegalStateException("health.storage.layout=" + layout + "이지만 DB에는 " + storedLayout
+                    + " 방식으로 저장된 데이터가 있습니다 (설정을 되돌리거나 데이터를 옮긴 뒤 시작)");
+        }
+        if (stored.isEmpty()) {
+            settingRepository.save(HealthStorageSettingEntity.of(HealthStorageSettingEntity.LAYOUT, layout));
+            log.info("원본 엔트리 저장 방식 기록: layout={}", layout);
+        }
+    }
+
+    /**
+     * 원본 테이블에 남은 데이터로 저장 방식 판단 (둘 다 비어 있으면 설정값)
+     */
+    private String detectLayout() {
+        boolean rows = healthEntryRepository.count() > 0;
+        boolean blocks = healthEntryBlockRepository.count() > 0;
+
+        if (rows && blocks) {
+            throw new IllegalStateException("HEALTH_ENTRY와 HEALTH_ENTRY_BLOCK에 모두 데이터가 있어 저장 방식을 판단할 수 없습니다");
+        }
+        if (rows) {
+            return ROW;
+        }
+        if (blocks) {
+            return COLUMNAR;
+        }
+        return layout;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.entity.HealthStorageSettingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 원본 저장소 설정 Repository
+ */
+@Repository
+public interface HealthStorageSettingRepository extends JpaRepository<HealthStorageSettingEntity, String> {
+}
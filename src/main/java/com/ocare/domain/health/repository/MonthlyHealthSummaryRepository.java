@@ -1,12 +1,22 @@
 package com.ocare.domain.health.repository;
 
+import com.ocare.domain.health.dto.RangeAggregation;
+import com.ocare.domain.health.dto.response.MonthlySummaryResponse;
 import com.ocare.domain.health.entity.MonthlyHealthSummaryEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 /**
  * 월별 건강 데이터 집계 Repository
  */
@@ -16,8 +26,71 @@ public interface MonthlyHealthSummaryRepository extends JpaRepository<MonthlyHea
     Optional<MonthlyHealthSummaryEntity> findByRecordKeyAndSummaryYearAndSummaryMonth(
             String recordKey, Integer summaryYear, Integer summaryMonth);
 
-    List<MonthlyHealthSummaryEntity> findByRecordKeyOrderBySummaryYearAscSummaryMonthAsc(String recordKey);
+    /**
+     * 전체 월별 집계 (응답 DTO로 바로 생성, 엔티티/스냅샷을 만들지 않음)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.MonthlySummaryResponse(" +
+            "m.recordKey, m.summaryYear, m.summaryMonth, m.totalSteps, m.totalCalories, m.totalDistance) " +
+            "FROM MonthlyHealthSummaryEntity m " +
+            "WHERE m.recordKey = :recordKey " +
+            "ORDER BY m.summaryYear ASC, m.summaryMonth ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<MonthlySummaryResponse> findSummariesByRecordKey(@Param("recordKey") String recordKey);
+
+    /**
+     * 특정 연도 월별 집계 (응답 DTO로 바로 생성, 엔티티/스냅샷을 만들지 않음)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.MonthlySummaryResponse(" +
+            "m.recordKey, m.summaryYear, m.summaryMonth, m.totalSteps, m.totalCalories, m.totalDistance) " +
+            "FROM MonthlyHealthSummaryEntity m " +
+            "WHERE m.recordKey = :recordKey AND m.summaryYear = :summaryYear " +
+            "ORDER BY m.summaryMonth ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<MonthlySummaryResponse> findSummariesByRecordKeyAndSummaryYear(@Param("recordKey") String recordKey,
+                                                                       @Param("summaryYear") Integer summaryYear);
+
+    /**
+     * 전체 월별 집계의 마지막 수정 시각 (행이 없으면 빈 값)
+     */
+    @Query("SELECT MAX(m.updatedAt) FROM MonthlyHealthSummaryEntity m WHERE m.recordKey = :recordKey")
+    Optional<LocalDateTime> findMaxUpdatedAtByRecordKey(@Param("recordKey") String recordKey);
+
+    /**
+     * 특정 연도 월별 집계의 마지막 수정 시각 (행이 없으면 빈 값)
+     */
+    @Query("SELECT MAX(m.updatedAt) FROM MonthlyHealthSummaryEntity m " +
+            "WHERE m.recordKey = :recordKey AND m.summaryYear = :summaryYear")
+    Optional<LocalDateTime> findMaxUpdatedAtByRecordKeyAndSummaryYear(@Param("recordKey") String recordKey,
+                                                                     @Param("summaryYear") Integer summaryYear);
+
+    /**
+     * 연월 인덱스(year * 12 + month - 1) 구간 월별 합계 (DB에서 합산해 한 행만 반환)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.RangeAggregation(" +
+            "SUM(m.totalSteps), SUM(m.totalCalories), SUM(m.totalDistance)) " +
+            "FROM MonthlyHealthSummaryEntity m " +
+            "WHERE m.recordKey = :recordKey " +
+            "AND m.summaryYear * 12 + m.summaryMonth - 1 BETWEEN :startIndex AND :endIndex")
+    RangeAggregation sumByRecordKeyAndMonthIndexBetween(@Param("recordKey") String recordKey,
+                                                        @Param("startIndex") int startIndex,
+                                                        @Param("endIndex") int endIndex);
 
-    List<MonthlyHealthSummaryEntity> findByRecordKeyAndSummaryYearOrderBySummaryMonthAsc(
-            String recordKey, Integer summaryYear);
+    /**
+     * 월별 합계에 변경량을 원자적으로 더함 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE MONTHLY_HEALTH_SUMMARY " +
+            "SET total_steps = total_steps + :steps, " +
+            "total_calories = total_calories + :calories, " +
+            "total_distance = total_distance + :distance, " +
+            "updated_at = :updatedAt " +
+            "WHERE record_key = :recordKey AND summary_year = :summaryYear AND summary_month = :summaryMonth",
+            nativeQuery = true)
+    int incrementSummary(@Param("recordKey") String recordKey,
+                         @Param("summaryYear") int summaryYear,
+                         @Param("summaryMonth") int summaryMonth,
+                         @Param("steps") int steps,
+                         @Param("calories") float calories,
+                         @Param("distance") float distance,
+                         @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,103 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.dto.EntryPeriod;
+import com.ocare.domain.health.dto.EntrySample;
+import com.ocare.domain.health.entity.HealthEntryEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔트리 한 건당 HEALTH_ENTRY 한 행으로 저장 (기본 방식)
+ * 업로드 구간을 한 번에 조회해 메모리에서 매칭하고, 신규/수정분은 flush 시 JDBC 배치로 기록
+ */
+@Repository
+@ConditionalOnProperty(name = "health.storage.layout", havingValue = "row", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class RowHealthEntryStore implements HealthEntryStore {
+
+    private final HealthEntryRepository healthEntryRepository;
+
+    /**
+     * 기존 엔트리 조회 → 수정 또는 신규 등록
+     */
+    @Override
+    public List<EntryDelta> upsert(String recordKey, List<EntrySample> entries) {
+        Map<EntryPeriod, HealthEntryEntity> existingEntries = findExistingEntries(recordKey, entries);
+
+        List<HealthEntryEntity> entriesToSave = new ArrayList<>();
+        List<EntryDelta> deltas = new ArrayList<>(entries.size());
+
+        for (EntrySample entry : entries) {
+            EntryPeriod period = entry.getPeriod();
+            HealthEntryEntity existing = existingEntries.get(period);
+
+            if (existing != null) {
+                deltas.add(EntryDelta.ofUpdate(existing, entry.getSteps(), entry.getCalories(), entry.getDistance()));
+                existing.update(entry.getSteps(), entry.getCalories(), entry.getDistance());
+                continue;
+            }
+
+            HealthEntryEntity created = HealthEntryEntity.of(recordKey, entry.getPeriodFrom(), entry.getPeriodTo(),
+                    entry.getSteps(), entry.getCalories(), entry.getDistance());
+            existingEntries.put(period, created);
+            entriesToSave.add(created);
+            deltas.add(EntryDelta.ofNew(created));
+        }
+
+        healthEntryRepository.saveAll(entriesToSave);
+        log.debug("엔트리 행 저장: recordKey={}, inserted={}", recordKey, entriesToSave.size());
+        return deltas;
+    }
+
+    /**
+     * 일자 범위의 엔트리 행 조회
+     */
+    @Override
+    public List<EntrySample> findByDateRange(String recordKey, LocalDate startDate, LocalDate endDate) {
+        return healthEntryRepository
+                .findByRecordKeyAndPeriodFromBetween(recordKey, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX))
+                .stream()
+                .map(EntrySample::of)
+                .sorted(Comparator.comparing(EntrySample::getPeriodFrom).thenComparing(EntrySample::getPeriodTo))
+                .toList();
+    }
+
+    /**
+     * 업로드 구간 [min(periodFrom), max(periodTo)]의 기존 엔트리를 한 번의 쿼리로 조회
+     */
+    private Map<EntryPeriod, HealthEntryEntity> findExistingEntries(String recordKey, List<EntrySample> entries) {
+        LocalDateTime minFrom = entries.get(0).getPeriodFrom();
+        LocalDateTime maxTo = entries.get(0).getPeriodTo();
+
+        for (EntrySample entry : entries) {
+            if (entry.getPeriodFrom().isBefore(minFrom)) {
+                minFrom = entry.getPeriodFrom();
+            }
+            if (entry.getPeriodTo().isAfter(maxTo)) {
+                maxTo = entry.getPeriodTo();
+            }
+        }
+
+        List<HealthEntryEntity> existing = healthEntryRepository
+                .findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(recordKey, minFrom, maxTo);
+
+        Map<EntryPeriod, HealthEntryEntity> existingEntries = new HashMap<>(existing.size() * 2);
+        for (HealthEntryEntity entry : existing) {
+            existingEntries.put(EntryPeriod.of(entry.getPeriodFrom(), entry.getPeriodTo()), entry);
+        }
+        return existingEntries;
+    }
+}
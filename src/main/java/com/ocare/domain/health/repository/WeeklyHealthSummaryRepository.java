@@ -0,0 +1,94 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.dto.RangeAggregation;
+import com.ocare.domain.health.dto.response.WeeklySummaryResponse;
+import com.ocare.domain.health.entity.WeeklyHealthSummaryEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * 주별 건강 데이터 집계 Repository
+ */
+@Repository
+public interface WeeklyHealthSummaryRepository extends JpaRepository<WeeklyHealthSummaryEntity, Long> {
+
+    /**
+     * 전체 주별 집계 (응답 DTO로 바로 생성, 엔티티/스냅샷을 만들지 않음)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.WeeklySummaryResponse(" +
+            "w.recordKey, w.weekStartDate, w.totalSteps, w.totalCalories, w.totalDistance) " +
+            "FROM WeeklyHealthSummaryEntity w " +
+            "WHERE w.recordKey = :recordKey " +
+            "ORDER BY w.weekStartDate ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<WeeklySummaryResponse> findSummariesByRecordKey(@Param("recordKey") String recordKey);
+
+    /**
+     * 주 시작일이 [startDate, endDate]인 주별 집계 (응답 DTO로 바로 생성, 엔티티/스냅샷을 만들지 않음)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.WeeklySummaryResponse(" +
+            "w.recordKey, w.weekStartDate, w.totalSteps, w.totalCalories, w.totalDistance) " +
+            "FROM WeeklyHealthSummaryEntity w " +
+            "WHERE w.recordKey = :recordKey AND w.weekStartDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY w.weekStartDate ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<WeeklySummaryResponse> findSummariesByRecordKeyAndWeekStartDateBetween(@Param("recordKey") String recordKey,
+                                                                               @Param("startDate") LocalDate startDate,
+                                                                               @Param("endDate") LocalDate endDate);
+
+    /**
+     * 주 시작일이 [startDate, endDate]인 주별 합계 (DB에서 합산해 한 행만 반환)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.RangeAggregation(" +
+            "SUM(w.totalSteps), SUM(w.totalCalories), SUM(w.totalDistance)) " +
+            "FROM WeeklyHealthSummaryEntity w " +
+            "WHERE w.recordKey = :recordKey AND w.weekStartDate BETWEEN :startDate AND :endDate")
+    RangeAggregation sumByRecordKeyAndWeekStartDateBetween(@Param("recordKey") String recordKey,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * 전체 주별 집계의 마지막 수정 시각 (행이 없으면 빈 값)
+     */
+    @Query("SELECT MAX(w.updatedAt) FROM WeeklyHealthSummaryEntity w WHERE w.recordKey = :recordKey")
+    Optional<LocalDateTime> findMaxUpdatedAtByRecordKey(@Param("recordKey") String recordKey);
+
+    /**
+     * 주 시작일이 [startDate, endDate]인 주별 집계의 마지막 수정 시각 (행이 없으면 빈 값)
+     */
+    @Query("SELECT MAX(w.updatedAt) FROM WeeklyHealthSummaryEntity w " +
+            "WHERE w.recordKey = :recordKey AND w.weekStartDate BETWEEN :startDate AND :endDate")
+    Optional<LocalDateTime> findMaxUpdatedAtByRecordKeyAndWeekStartDateBetween(@Param("recordKey") String recordKey,
+                                                                              @Param("startDate") LocalDate startDate,
+                                                                              @Param("endDate") LocalDate endDate);
+
+    /**
+     * 주별 합계에 변경량을 원자적으로 더함 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE WEEKLY_HEALTH_SUMMARY " +
+            "SET total_steps = total_steps + :steps, " +
+            "total_calories = total_calories + :calories, " +
+            "total_distance = total_distance + :distance, " +
+            "updated_at = :updatedAt " +
+            "WHERE record_key = :recordKey AND week_start_date = :weekStartDate",
+            nativeQuery = true)
+    int incrementSummary(@Param("recordKey") String recordKey,
+                         @Param("weekStartDate") LocalDate weekStartDate,
+                         @Param("steps") int steps,
+                         @Param("calories") float calories,
+                         @Param("distance") float distance,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,71 @@
+package com.ocare.domain.health.repository;
+
+import com.ocare.domain.health.dto.RangeAggregation;
+import com.ocare.domain.health.dto.response.YearlySummaryResponse;
+import com.ocare.domain.health.entity.YearlyHealthSummaryEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * 연도별 건강 데이터 집계 Repository
+ */
+@Repository
+public interface YearlyHealthSummaryRepository extends JpaRepository<YearlyHealthSummaryEntity, Long> {
+
+    /**
+     * 전체 연도별 집계 (응답 DTO로 바로 생성, 엔티티/스냅샷을 만들지 않음)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.response.YearlySummaryResponse(" +
+            "y.recordKey, y.summaryYear, y.totalSteps, y.totalCalories, y.totalDistance) " +
+            "FROM YearlyHealthSummaryEntity y " +
+            "WHERE y.recordKey = :recordKey " +
+            "ORDER BY y.summaryYear ASC")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<YearlySummaryResponse> findSummariesByRecordKey(@Param("recordKey") String recordKey);
+
+    /**
+     * 전체 연도별 집계의 마지막 수정 시각 (행이 없으면 빈 값)
+     */
+    @Query("SELECT MAX(y.updatedAt) FROM YearlyHealthSummaryEntity y WHERE y.recordKey = :recordKey")
+    Optional<LocalDateTime> findMaxUpdatedAtByRecordKey(@Param("recordKey") String recordKey);
+
+    /**
+     * [startYear, endYear] 연도별 합계 (DB에서 합산해 한 행만 반환)
+     */
+    @Query("SELECT new com.ocare.domain.health.dto.RangeAggregation(" +
+            "SUM(y.totalSteps), SUM(y.totalCalories), SUM(y.totalDistance)) " +
+            "FROM YearlyHealthSummaryEntity y " +
+            "WHERE y.recordKey = :recordKey AND y.summaryYear BETWEEN :startYear AND :endYear")
+    RangeAggregation sumByRecordKeyAndSummaryYearBetween(@Param("recordKey") String recordKey,
+                                                         @Param("startYear") int startYear,
+                                                         @Param("endYear") int endYear);
+
+    /**
+     * 연도별 합계에 변경량을 원자적으로 더함 (갱신된 행 수 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE YEARLY_HEALTH_SUMMARY " +
+            "SET total_steps = total_steps + :steps, " +
+            "total_calories = total_calories + :calories, " +
+            "total_distance = total_distance + :distance, " +
+            "updated_at = :updatedAt " +
+            "WHERE record_key = :recordKey AND summary_year = :summaryYear",
+            nativeQuery = true)
+    int incrementSummary(@Param("recordKey") String recordKey,
+                         @Param("summaryYear") int summaryYear,
+                         @Param("steps") int steps,
+                         @Param("calories") float calories,
+                         @Param("distance") float distance,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+}
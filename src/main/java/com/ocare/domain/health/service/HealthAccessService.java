@@ -0,0 +1,37 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.common.exception.CustomException;
+import com.ocare.common.exception.ErrorCode;
+import com.ocare.config.jwt.JwtMemberPrincipal;
+import com.ocare.config.shard.NoShardKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 건강 데이터 접근 권한 검증
+ * 토큰 클레임의 recordKey와 비교하므로 DB 조회 없이 확인
+ */
+@Service
+@Slf4j
+@NoShardKey
+public class HealthAccessService {
+
+    /**
+     * 요청한 recordKey가 로그인 사용자 본인 것인지 검증
+     */
+    public void validateOwner(JwtMemberPrincipal principal, String recordKey) {
+        if (!principal.isOwnerOf(recordKey)) {
+            log.warn("다른 사용자의 recordKey 접근 시도: email={}, recordKey={}", principal.getEmail(), recordKey);
+            throw CustomException.of(ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN);
+        }
+    }
+
+    /**
+     * 일괄 저장 항목의 recordKey에 쓸 수 있는지 검증 (본인 또는 수집 게이트웨이)
+     */
+    public void validateWriter(JwtMemberPrincipal principal, String recordKey) {
+        if (!principal.isGateway()) {
+            validateOwner(principal, recordKey);
+        }
+    }
+}
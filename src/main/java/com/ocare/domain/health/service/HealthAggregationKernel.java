@@ -0,0 +1,123 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.domain.health.dto.DailyAggregation;
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.dto.MonthlyAggregation;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 배치 변경량 일별/월별 합산 커널
+ * - 일자 키: epoch-day, 월 키: year * 12 + (month - 1)
+ * - 배치의 날짜 범위 크기만큼의 기본형 배열(long[]/double[])에 누적해 엔트리당 객체 생성이 없음
+ * - 합계는 double로 누적한 뒤 결과 변환 시 한 번만 float으로 변환
+ * - 변경량이 있었던 일자는 합계와 따로 표시해, 합계가 0이어도 맵 기반 합산과 같은 일자/월을 결과에 담음
+ * 날짜 범위가 MAX_SPAN_DAYS 이상이면 배열 대신 맵 기반 합산을 사용하도록 빈 값 반환
+ */
+final class HealthAggregationKernel {
+
+    static final int MAX_SPAN_DAYS = 3660;
+
+    private final long firstEpochDay;
+    private final long[] steps;
+    private final double[] calories;
+    private final double[] distance;
+    private final int[] newEntries;
+    private final boolean[] touched;
+
+    private HealthAggregationKernel(long firstEpochDay, int span) {
+        this.firstEpochDay = firstEpochDay;
+        this.steps = new long[span];
+        this.calories = new double[span];
+        this.distance = new double[span];
+        this.newEntries = new int[span];
+        this.touched = new boolean[span];
+    }
+
+    /**
+     * 변경량을 일자 배열에 합산 (비어 있거나 날짜 범위가 너무 넓으면 빈 값)
+     */
+    static Optional<HealthAggregationKernel> aggregate(List<EntryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0, size = deltas.size(); i < size; i++) {
+            long epochDay = deltas.get(i).getEpochDay();
+            min = Math.min(min, epochDay);
+            max = Math.max(max, epochDay);
+        }
+        if (max - min >= MAX_SPAN_DAYS) {
+            return Optional.empty();
+        }
+
+        HealthAggregationKernel kernel = new HealthAggregationKernel(min, (int) (max - min + 1));
+        for (int i = 0, size = deltas.size(); i < size; i++) {
+            EntryDelta delta = deltas.get(i);
+            int slot = (int) (delta.getEpochDay() - min);
+            kernel.steps[slot] += delta.getSteps();
+            kernel.calories[slot] += delta.getCalories();
+            kernel.distance[slot] += delta.getDistance();
+            kernel.newEntries[slot] += delta.getNewEntries();
+            kernel.touched[slot] = true;
+        }
+        return Optional.of(kernel);
+    }
+
+    /**
+     * 일자 배열을 월 배열로 접어 일별/월별 집계 맵에 담음
+     * 변경량이 하나도 없었던 일자/월만 빼고 담음 (합계가 0인 일자/월도 포함, 반영 여부는 호출 측에서 판단)
+     */
+    void collectInto(Map<LocalDate, DailyAggregation> dailyMap, Map<String, MonthlyAggregation> monthlyMap) {
+        LocalDate firstDate = LocalDate.ofEpochDay(firstEpochDay);
+        LocalDate lastDate = LocalDate.ofEpochDay(firstEpochDay + steps.length - 1);
+        int firstMonth = monthIndex(firstDate.getYear(), firstDate.getMonthValue());
+        int monthSpan = monthIndex(lastDate.getYear(), lastDate.getMonthValue()) - firstMonth + 1;
+
+        long[] monthSteps = new long[monthSpan];
+        double[] monthCalories = new double[monthSpan];
+        double[] monthDistance = new double[monthSpan];
+        int[] monthNewEntries = new int[monthSpan];
+        boolean[] monthTouched = new boolean[monthSpan];
+
+        for (int slot = 0; slot < steps.length; slot++) {
+            if (!touched[slot]) {
+                continue;
+            }
+
+            LocalDate date = LocalDate.ofEpochDay(firstEpochDay + slot);
+            DailyAggregation daily = new DailyAggregation();
+            daily.add((int) steps[slot], (float) calories[slot], (float) distance[slot], newEntries[slot]);
+            dailyMap.put(date, daily);
+
+            int month = monthIndex(date.getYear(), date.getMonthValue()) - firstMonth;
+            monthSteps[month] += steps[slot];
+            monthCalories[month] += calories[slot];
+            monthDistance[month] += distance[slot];
+            monthNewEntries[month] += newEntries[slot];
+            monthTouched[month] = true;
+        }
+
+        for (int month = 0; month < monthSpan; month++) {
+            if (!monthTouched[month]) {
+                continue;
+            }
+
+            int year = (firstMonth + month) / 12;
+            int monthValue = (firstMonth + month) % 12 + 1;
+            MonthlyAggregation monthly = new MonthlyAggregation(year, monthValue);
+            monthly.add((int) monthSteps[month], (float) monthCalories[month], (float) monthDistance[month],
+                    monthNewEntries[month]);
+            monthlyMap.put(year + "-" + monthValue, monthly);
+        }
+    }
+
+    private static int monthIndex(int year, int month) {
+        return year * 12 + month - 1;
+    }
+}
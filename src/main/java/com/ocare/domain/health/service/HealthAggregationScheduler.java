@@ -0,0 +1,179 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.common.util.TransactionUtil;
+import com.ocare.config.replica.ReadConsistencyTracker;
+import com.ocare.config.shard.NoShardKey;
+import com.ocare.config.shard.ShardKey;
+import com.ocare.config.shard.ShardRouter;
+import com.ocare.domain.health.dto.DailyAggregation;
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.entity.HealthAggregationDirtyEntity;
+import com.ocare.domain.health.repository.HealthAggregationDirtyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드 변경량의 집계 반영 시점 관리 (health.aggregation.write-behind.enabled)
+ * - 꺼짐: 업로드 트랜잭션에서 바로 집계 반영 (이전 방식)
+ * - 켜짐: 업로드는 (recordKey, 일자)별 대기 변경량과 신규 엔트리 수만 HEALTH_AGGREGATION_DIRTY에 더하고,
+ *   스케줄러가 recordKey마다 한 번에 모아 집계 반영 (짧은 간격의 연속 업로드를 한 번의 집계로 합침)
+ *   - 반영 시점: 마지막 업로드 후 window-millis 동안 추가 업로드가 없거나, 첫 업로드 후 max-staleness-millis 경과
+ *   - 집계 조회 전 flushIfDirty로 이 노드가 받은 업로드의 대기분을 먼저 반영 (HealthQueryFlushAspect, 자신이 올린 데이터는 바로 조회됨)
+ * 대기 기록과 반영 모두 recordKey 저장 락 안에서 실행되며, 대기분은 엔트리와 같은 트랜잭션에 기록되므로
+ * 노드가 중단되어도 남은 대기분은 다른 노드나 재시작 후 스케줄러가 반영
+ * 샤딩이 켜져 있으면 대기분은 recordKey의 샤드에 있으므로 주기 반영은 샤드마다 실행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HealthAggregationScheduler {
+
+    private final HealthAggregationService aggregationService;
+    private final HealthAggregationDirtyRepository dirtyRepository;
+    private final HealthWriteLockService writeLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final ReadConsistencyTracker readConsistencyTracker;
+    private final Set<String> pendingRecordKeys = ConcurrentHashMap.newKeySet();
+
+    @Value("${health.aggregation.write-behind.enabled}")
+    private boolean writeBehind;
+
+    @Value("${health.aggregation.write-behind.window-millis}")
+    private long windowMillis;
+
+    @Value("${health.aggregation.write-behind.max-staleness-millis}")
+    private long maxStalenessMillis;
+
+    @Value("${health.aggregation.write-behind.batch-size}")
+    private int batchSize;
+
+    /**
+     * 업로드 배치의 변경량 반영 (엔트리 upsert와 같은 트랜잭션, recordKey 락 안에서 호출)
+     * 지연 반영이 켜져 있으면 일자별로 합쳐 대기 변경량에 더하고, 꺼져 있으면 바로 집계
+     * 같은 값 재업로드처럼 변경이 없는 일자만 건너뜀 (값이 모두 0인 신규 엔트리는 신규 엔트리 수로 대기 기록)
+     */
+    public void submit(@ShardKey String recordKey, List<EntryDelta> deltas) {
+        if (!writeBehind) {
+            aggregationService.updateAggregations(recordKey, deltas);
+            return;
+        }
+
+        Map<LocalDate, DailyAggregation> dailyMap = new HashMap<>();
+        for (EntryDelta delta : deltas) {
+            dailyMap.computeIfAbsent(delta.getDate(), k -> new DailyAggregation())
+                    .add(delta.getSteps(), delta.getCalories(), delta.getDistance(), delta.getNewEntries());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int marked = 0;
+        for (Map.Entry<LocalDate, DailyAggregation> entry : dailyMap.entrySet()) {
+            DailyAggregation agg = entry.getValue();
+            if (agg.isUnchanged()) {
+                continue;
+            }
+
+            int updated = dirtyRepository.incrementPending(
+                    recordKey, entry.getKey(), agg.getSteps(), agg.getCalories(), agg.getDistance(),
+                    agg.getNewEntries(), now);
+
+            if (updated == 0) {
+                dirtyRepository.save(HealthAggregationDirtyEntity.of(recordKey, entry.getKey(), agg, now));
+            }
+            marked++;
+        }
+
+        if (marked > 0) {
+            pendingRecordKeys.add(recordKey);
+        }
+        log.debug("집계 반영 대기 기록: recordKey={}, days={}", recordKey, marked);
+    }
+
+    /**
+     * 반영할 차례가 된 recordKey의 대기분을 집계에 반영 (샤드마다 한 번에 batch-size개 recordKey)
+     * 한 recordKey의 실패는 로그만 남기고 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${health.aggregation.write-behind.tick-millis}")
+    @NoShardKey
+    public void flushDue() {
+        if (!writeBehind) {
+            return;
+        }
+
+        shardRouter.forEachShard(this::flushDueOnCurrentShard);
+    }
+
+    /**
+     * 현재 바인딩된 DB(샤드 또는 단일 DB)의 반영 대상 처리
+     */
+    private void flushDueOnCurrentShard() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> recordKeys = dirtyRepository.findDueRecordKeys(
+                now.minus(Duration.ofMillis(windowMillis)),
+                now.minus(Duration.ofMillis(maxStalenessMillis)),
+                Limit.of(batchSize));
+
+        for (String recordKey : recordKeys) {
+            try {
+                flush(recordKey);
+            } catch (RuntimeException e) {
+                log.warn("지연 집계 반영 실패, 다음 주기에 재시도: recordKey={}, error={}", recordKey, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이 노드가 받은 업로드 중 반영 대기분이 있으면 조회 전에 먼저 반영 (read-your-writes)
+     * 대기분이 없으면 DB 조회 없이 바로 반환
+     */
+    public void flushIfDirty(@ShardKey String recordKey) {
+        if (pendingRecordKeys.contains(recordKey)) {
+            flush(recordKey);
+        }
+    }
+
+    /**
+     * recordKey 락 안에서 대기분 조회 → 집계 반영 → 대기분 삭제 (하나의 트랜잭션)
+     * 대기 표시는 커밋 이후에 지움 → 주기 반영 도중 들어온 조회도 대기 표시를 보고 락에서 커밋을 기다림
+     * 실패하면 대기 표시가 남아 다음 조회에서 다시 반영
+     */
+    private void flush(String recordKey) {
+        writeLockService.executeWithLock(recordKey, () -> {
+            Integer applied = transactionTemplate.execute(status -> applyPending(recordKey));
+            pendingRecordKeys.remove(recordKey);
+            return applied;
+        });
+    }
+
+    /**
+     * 일자별 대기 변경량을 하루치 변경량으로 집계에 반영 (반영한 일자 수 반환)
+     * 커밋 이후 이 recordKey의 읽기는 복제 지연 동안 primary 사용
+     */
+    private int applyPending(String recordKey) {
+        List<HealthAggregationDirtyEntity> pending = dirtyRepository.findByRecordKey(recordKey);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        aggregationService.updateAggregations(recordKey, pending.stream().map(EntryDelta::ofPending).toList());
+        dirtyRepository.deleteAllInBatch(pending);
+        TransactionUtil.afterCommit(() -> readConsistencyTracker.markWritten(recordKey));
+
+        log.info("지연 집계 반영 완료: recordKey={}, days={}", recordKey, pending.size());
+        return pending.size();
+    }
+}
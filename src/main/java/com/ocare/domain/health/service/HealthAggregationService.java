@@ -1,23 +1,34 @@
 package com.ocare.domain.health.service;
 
+import com.ocare.config.shard.ShardKey;
 import com.ocare.domain.health.dto.DailyAggregation;
+import com.ocare.domain.health.dto.EntryDelta;
 import com.ocare.domain.health.dto.MonthlyAggregation;
+import com.ocare.domain.health.dto.RangeAggregation;
+import com.ocare.domain.health.dto.SummaryTier;
+import com.ocare.domain.health.dto.WeeklyAggregation;
+import com.ocare.domain.health.dto.YearlyAggregation;
 import com.ocare.domain.health.entity.DailyHealthSummaryEntity;
-import com.ocare.domain.health.entity.HealthEntryEntity;
 import com.ocare.domain.health.entity.MonthlyHealthSummaryEntity;
+import com.ocare.domain.health.entity.WeeklyHealthSummaryEntity;
+import com.ocare.domain.health.entity.YearlyHealthSummaryEntity;
 import com.ocare.domain.health.repository.DailyHealthSummaryRepository;
-import com.ocare.domain.health.repository.HealthEntryRepository;
 import com.ocare.domain.health.repository.MonthlyHealthSummaryRepository;
+import com.ocare.domain.health.repository.WeeklyHealthSummaryRepository;
+import com.ocare.domain.health.repository.YearlyHealthSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,77 +36,235 @@ import java.util.Optional;
 @Slf4j
 public class HealthAggregationService {
 
-    private final HealthEntryRepository healthEntryRepository;
     private final DailyHealthSummaryRepository dailySummaryRepository;
+    private final WeeklyHealthSummaryRepository weeklySummaryRepository;
     private final MonthlyHealthSummaryRepository monthlySummaryRepository;
+    private final YearlyHealthSummaryRepository yearlySummaryRepository;
+    private final HealthSummaryCacheService summaryCacheService;
 
-    public void updateAggregations(String recordKey) {
-        List<HealthEntryEntity> entries = healthEntryRepository.findByRecordKey(recordKey);
-
-        if (entries.isEmpty()) {
-            log.info("No entries found for recordKey: {}", recordKey);
+    /**
+     * 업로드 배치의 변경량만 일별/주별/월별/연도별 집계에 반영
+     * 주별/연도별은 배치에서 합산한 일별/월별 결과를 다시 묶어 계산
+     */
+    public void updateAggregations(@ShardKey String recordKey, List<EntryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            log.info("No entry deltas for recordKey: {}", recordKey);
             return;
         }
 
-        log.debug("집계 시작: recordKey={}, entryCount={}", recordKey, entries.size());
+        log.debug("집계 시작: recordKey={}, deltaCount={}", recordKey, deltas.size());
 
         Map<LocalDate, DailyAggregation> dailyMap = new HashMap<>();
         Map<String, MonthlyAggregation> monthlyMap = new HashMap<>();
 
-        aggregateEntries(entries, dailyMap, monthlyMap);
-        saveDailyAggregations(recordKey, dailyMap);
-        saveMonthlyAggregations(recordKey, monthlyMap);
+        aggregateEntries(deltas, dailyMap, monthlyMap);
+        Map<LocalDate, WeeklyAggregation> weeklyMap = rollUpWeeks(dailyMap);
+        Map<Integer, YearlyAggregation> yearlyMap = rollUpYears(monthlyMap);
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<LocalDate> changedDates = applyDailyAggregations(recordKey, dailyMap, now);
+        applyWeeklyAggregations(recordKey, weeklyMap, now);
+        applyMonthlyAggregations(recordKey, monthlyMap, now);
+        applyYearlyAggregations(recordKey, yearlyMap, now);
+        summaryCacheService.evictSummaries(recordKey, changedDates);
+
+        log.info("집계 완료: recordKey={}, daily={}, weekly={}, monthly={}, yearly={}",
+                recordKey, dailyMap.size(), weeklyMap.size(), monthlyMap.size(), yearlyMap.size());
+    }
+
+    /**
+     * 변경량을 일자/월 단위로 합산 (벤치마크에서 직접 호출하도록 package-private)
+     * 날짜 범위가 배열 커널 한도 안이면 커널로, 그보다 넓으면 맵 기반으로 합산
+     */
+    void aggregateEntries(List<EntryDelta> deltas,
+                          Map<LocalDate, DailyAggregation> dailyMap,
+                          Map<String, MonthlyAggregation> monthlyMap) {
+        Optional<HealthAggregationKernel> kernel = HealthAggregationKernel.aggregate(deltas);
+        if (kernel.isPresent()) {
+            kernel.get().collectInto(dailyMap, monthlyMap);
+            return;
+        }
 
-        log.info("집계 완료: recordKey={}, daily={}, monthly={}",
-                recordKey, dailyMap.size(), monthlyMap.size());
+        log.debug("날짜 범위가 넓어 맵 기반 집계 사용: deltaCount={}", deltas.size());
+        aggregateEntriesWithMaps(deltas, dailyMap, monthlyMap);
     }
 
-    private void aggregateEntries(List<HealthEntryEntity> entries,
+    /**
+     * 맵 기반 합산 (엔트리마다 일자/월 키로 조회)
+     */
+    void aggregateEntriesWithMaps(List<EntryDelta> deltas,
                                   Map<LocalDate, DailyAggregation> dailyMap,
                                   Map<String, MonthlyAggregation> monthlyMap) {
-        for (HealthEntryEntity entry : entries) {
-            LocalDate date = entry.getPeriodFrom().toLocalDate();
+        for (EntryDelta delta : deltas) {
+            LocalDate date = delta.getDate();
             int year = date.getYear();
             int month = date.getMonthValue();
             String monthKey = year + "-" + month;
 
             dailyMap.computeIfAbsent(date, k -> new DailyAggregation())
-                    .add(entry.getSteps(), entry.getCalories(), entry.getDistance());
+                    .add(delta.getSteps(), delta.getCalories(), delta.getDistance(), delta.getNewEntries());
 
             monthlyMap.computeIfAbsent(monthKey, k -> new MonthlyAggregation(year, month))
-                    .add(entry.getSteps(), entry.getCalories(), entry.getDistance());
+                    .add(delta.getSteps(), delta.getCalories(), delta.getDistance(), delta.getNewEntries());
         }
     }
 
-    private void saveDailyAggregations(String recordKey, Map<LocalDate, DailyAggregation> dailyMap) {
+    /**
+     * 일별 합계를 주(월요일 시작) 단위로 묶음
+     */
+    private Map<LocalDate, WeeklyAggregation> rollUpWeeks(Map<LocalDate, DailyAggregation> dailyMap) {
+        Map<LocalDate, WeeklyAggregation> weeklyMap = new HashMap<>();
         for (Map.Entry<LocalDate, DailyAggregation> entry : dailyMap.entrySet()) {
-            LocalDate date = entry.getKey();
+            LocalDate weekStartDate = SummaryTier.WEEKLY.periodStart(entry.getKey());
             DailyAggregation agg = entry.getValue();
+            weeklyMap.computeIfAbsent(weekStartDate, WeeklyAggregation::new)
+                    .add(agg.getSteps(), agg.getCalories(), agg.getDistance(), agg.getNewEntries());
+        }
+        return weeklyMap;
+    }
+
+    /**
+     * 월별 합계를 연도 단위로 묶음
+     */
+    private Map<Integer, YearlyAggregation> rollUpYears(Map<String, MonthlyAggregation> monthlyMap) {
+        Map<Integer, YearlyAggregation> yearlyMap = new HashMap<>();
+        for (MonthlyAggregation agg : monthlyMap.values()) {
+            yearlyMap.computeIfAbsent(agg.getYear(), YearlyAggregation::new)
+                    .add(agg.getSteps(), agg.getCalories(), agg.getDistance(), agg.getNewEntries());
+        }
+        return yearlyMap;
+    }
+
+    /**
+     * 일별 합계에 변경량 반영 (행이 없으면 신규 생성)하고 누적 합계(cumulative_*) 갱신
+     * 변경 일자를 날짜 순으로 훑으며 지금까지의 변경량 합을 유지
+     * - 신규 행: 변경 전 직전 행의 누적 합계 + 변경량 합으로 생성
+     * - 다음 변경 일자 전까지의 기존 행: 그런 행이 있을 때만 누적 합계에 변경량 합을 더함
+     * - 마지막 변경 일자 이후의 모든 행: 누적 합계에 전체 변경량 합을 더함
+     * 같은 값 재업로드로 변경이 없는 일자는 건너뛰고, 값이 모두 0인 신규 엔트리만 있는 일자는 0인 행을 생성
+     * 실제로 변경된 일자 목록 반환 (캐시 무효화 대상)
+     */
+    private Set<LocalDate> applyDailyAggregations(String recordKey, Map<LocalDate, DailyAggregation> dailyMap,
+                                                  LocalDateTime now) {
+        List<LocalDate> dates = dailyMap.entrySet().stream()
+                .filter(entry -> !entry.getValue().isUnchanged())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (dates.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        LocalDate firstDate = dates.get(0);
+        List<DailyHealthSummaryEntity> existingRows = dailySummaryRepository
+                .findByRecordKeyAndSummaryDateBetweenOrderBySummaryDateAsc(recordKey, firstDate, dates.get(dates.size() - 1));
+        RangeAggregation baseCumulative = dailySummaryRepository
+                .findFirstByRecordKeyAndSummaryDateLessThanOrderBySummaryDateDesc(recordKey, firstDate)
+                .map(DailyHealthSummaryEntity::getCumulative)
+                .orElseGet(RangeAggregation::new);
 
-            Optional<DailyHealthSummaryEntity> existing = dailySummaryRepository
-                    .findByRecordKeyAndSummaryDate(recordKey, date);
+        RangeAggregation shift = new RangeAggregation();
+        int row = 0;
+        for (int i = 0; i < dates.size(); i++) {
+            LocalDate date = dates.get(i);
+            DailyAggregation agg = dailyMap.get(date);
+            shift.add(agg.getSteps(), agg.getCalories(), agg.getDistance());
+
+            while (row < existingRows.size() && existingRows.get(row).getSummaryDate().isBefore(date)) {
+                baseCumulative = existingRows.get(row).getCumulative();
+                row++;
+            }
+
+            int updated = dailySummaryRepository.incrementSummary(
+                    recordKey, date, agg.getSteps(), agg.getCalories(), agg.getDistance(), now);
+
+            if (updated == 0) {
+                dailySummaryRepository.save(
+                        DailyHealthSummaryEntity.of(recordKey, date, agg, baseCumulative.plus(shift)));
+            }
 
-            if (existing.isPresent()) {
-                existing.get().updateSummary(agg);
+            LocalDate shiftStart = updated == 0 ? date.plusDays(1) : date;
+            if (i == dates.size() - 1) {
+                dailySummaryRepository.shiftCumulativeFrom(
+                        recordKey, shiftStart, shift.getSteps(), shift.getCalories(), shift.getDistance());
             } else {
-                DailyHealthSummaryEntity summary = DailyHealthSummaryEntity.of(recordKey, date, agg);
-                dailySummaryRepository.save(summary);
+                LocalDate shiftEnd = dates.get(i + 1).minusDays(1);
+                if (hasRowBetween(existingRows, row, shiftStart, shiftEnd)) {
+                    dailySummaryRepository.shiftCumulative(
+                            recordKey, shiftStart, shiftEnd, shift.getSteps(), shift.getCalories(), shift.getDistance());
+                }
             }
         }
+        return new HashSet<>(dates);
     }
 
-    private void saveMonthlyAggregations(String recordKey, Map<String, MonthlyAggregation> monthlyMap) {
-        for (Map.Entry<String, MonthlyAggregation> entry : monthlyMap.entrySet()) {
-            MonthlyAggregation agg = entry.getValue();
+    /**
+     * 변경 전 일별 집계 목록(from 위치부터)에 [startDate, endDate] 일자의 행이 있는지 확인
+     */
+    private boolean hasRowBetween(List<DailyHealthSummaryEntity> rows, int from,
+                                  LocalDate startDate, LocalDate endDate) {
+        for (int i = from; i < rows.size() && !rows.get(i).getSummaryDate().isAfter(endDate); i++) {
+            if (!rows.get(i).getSummaryDate().isBefore(startDate)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-            Optional<MonthlyHealthSummaryEntity> existing = monthlySummaryRepository
-                    .findByRecordKeyAndSummaryYearAndSummaryMonth(recordKey, agg.getYear(), agg.getMonth());
+    /**
+     * 주별 합계에 변경량 반영 (행이 없으면 신규 생성)
+     */
+    private void applyWeeklyAggregations(String recordKey, Map<LocalDate, WeeklyAggregation> weeklyMap,
+                                         LocalDateTime now) {
+        for (WeeklyAggregation agg : weeklyMap.values()) {
+            if (agg.isUnchanged()) {
+                continue;
+            }
 
-            if (existing.isPresent()) {
-                existing.get().updateSummary(agg);
-            } else {
-                MonthlyHealthSummaryEntity summary = MonthlyHealthSummaryEntity.of(recordKey, agg);
-                monthlySummaryRepository.save(summary);
+            int updated = weeklySummaryRepository.incrementSummary(
+                    recordKey, agg.getWeekStartDate(), agg.getSteps(), agg.getCalories(), agg.getDistance(), now);
+
+            if (updated == 0) {
+                weeklySummaryRepository.save(WeeklyHealthSummaryEntity.of(recordKey, agg));
+            }
+        }
+    }
+
+    /**
+     * 월별 합계에 변경량 반영 (행이 없으면 신규 생성)
+     */
+    private void applyMonthlyAggregations(String recordKey, Map<String, MonthlyAggregation> monthlyMap,
+                                          LocalDateTime now) {
+        for (MonthlyAggregation agg : monthlyMap.values()) {
+            if (agg.isUnchanged()) {
+                continue;
+            }
+
+            int updated = monthlySummaryRepository.incrementSummary(
+                    recordKey, agg.getYear(), agg.getMonth(),
+                    agg.getSteps(), agg.getCalories(), agg.getDistance(), now);
+
+            if (updated == 0) {
+                monthlySummaryRepository.save(MonthlyHealthSummaryEntity.of(recordKey, agg));
+            }
+        }
+    }
+
+    /**
+     * 연도별 합계에 변경량 반영 (행이 없으면 신규 생성)
+     */
+    private void applyYearlyAggregations(String recordKey, Map<Integer, YearlyAggregation> yearlyMap,
+                                         LocalDateTime now) {
+        for (YearlyAggregation agg : yearlyMap.values()) {
+            if (agg.isUnchanged()) {
+                continue;
+            }
+
+            int updated = yearlySummaryRepository.incrementSummary(
+                    recordKey, agg.getYear(), agg.getSteps(), agg.getCalories(), agg.getDistance(), now);
+
+            if (updated == 0) {
+                yearlySummaryRepository.save(YearlyHealthSummaryEntity.of(recordKey, agg));
             }
         }
     }
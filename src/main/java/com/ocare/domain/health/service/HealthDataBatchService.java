@@ -0,0 +1,119 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.common.exception.CustomException;
+import com.ocare.common.exception.ErrorCode;
+import com.ocare.config.WorkerThreadFactoryProvider;
+import com.ocare.config.jwt.JwtMemberPrincipal;
+import com.ocare.config.shard.NoShardKey;
+import com.ocare.domain.health.dto.request.HealthDataBatchRequest;
+import com.ocare.domain.health.dto.request.HealthDataRequest;
+import com.ocare.domain.health.dto.response.HealthDataBatchItemResponse;
+import com.ocare.domain.health.dto.response.HealthDataBatchResponse;
+import com.ocare.domain.member.service.MemberService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 여러 회원의 건강 데이터 일괄 저장
+ * 요청 항목을 recordKey별로 묶어 고정 크기 워커 풀에서 병렬 처리하고, 각 묶음은 HealthDataService로 순서대로 저장
+ * - 같은 recordKey의 항목은 한 워커에서 요청 순서대로 처리 (recordKey 저장 락 경합 없음)
+ * - 항목 하나의 실패(권한, 회원 없음, 락 대기 초과 등)는 그 항목의 결과로만 남기고 나머지는 계속 처리
+ * 워커 풀은 모든 일괄 요청이 함께 사용하므로 동시에 여러 요청이 와도 DB 동시 작업 수는 workers 이하
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@NoShardKey
+public class HealthDataBatchService {
+
+    private static final String WORKER_THREAD_PREFIX = "health-batch-";
+
+    private final HealthDataService healthDataService;
+    private final HealthAccessService healthAccessService;
+    private final MemberService memberService;
+    private final WorkerThreadFactoryProvider workerThreadFactoryProvider;
+
+    @Value("${health.ingest.batch.workers}")
+    private int workers;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(workers, workerThreadFactoryProvider.create(WORKER_THREAD_PREFIX));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 일괄 저장 후 항목별 결과 반환 (요청 순서와 같은 순서)
+     */
+    public HealthDataBatchResponse saveBatch(JwtMemberPrincipal principal, HealthDataBatchRequest request) {
+        List<HealthDataRequest> items = request.getItems();
+        HealthDataBatchItemResponse[] results = new HealthDataBatchItemResponse[items.size()];
+
+        Map<String, List<Integer>> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            partitions.computeIfAbsent(items.get(i).getRecordKey(), k -> new ArrayList<>()).add(i);
+        }
+        log.debug("일괄 저장 시작: items={}, recordKeys={}", items.size(), partitions.size());
+
+        CompletableFuture<?>[] tasks = partitions.values().stream()
+                .map(indices -> CompletableFuture.runAsync(() -> {
+                    for (int index : indices) {
+                        results[index] = saveItem(principal, items.get(index));
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks).join();
+
+        HealthDataBatchResponse response = HealthDataBatchResponse.of(Arrays.asList(results));
+        log.info("일괄 저장 완료: items={}, recordKeys={}, success={}, failure={}",
+                items.size(), partitions.size(), response.getSuccessCount(), response.getFailureCount());
+        return response;
+    }
+
+    /**
+     * 항목 하나 저장 (예외는 실패 결과로 변환)
+     */
+    private HealthDataBatchItemResponse saveItem(JwtMemberPrincipal principal, HealthDataRequest item) {
+        String recordKey = item.getRecordKey();
+        try {
+            validateTarget(principal, recordKey);
+            return HealthDataBatchItemResponse.ofSuccess(healthDataService.saveHealthData(item));
+        } catch (CustomException e) {
+            log.warn("일괄 저장 항목 실패: recordKey={}, code={}", recordKey, e.getCode());
+            return HealthDataBatchItemResponse.ofFailure(recordKey, e.getErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("일괄 저장 항목 처리 중 오류: recordKey={}", recordKey, e);
+            return HealthDataBatchItemResponse.ofFailure(recordKey, ErrorCode.INTERNAL_SERVER_ERROR,
+                    ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+
+    /**
+     * 저장 대상 검증: 본인 또는 수집 게이트웨이만 허용하고, 게이트웨이는 존재하는 회원인지도 확인 (회원 캐시 경유)
+     */
+    private void validateTarget(JwtMemberPrincipal principal, String recordKey) {
+        healthAccessService.validateWriter(principal, recordKey);
+        if (principal.isGateway()) {
+            memberService.findByRecordKey(recordKey);
+        }
+    }
+}
@@ -1,34 +1,45 @@
 package com.ocare.domain.health.service;
 
 import com.ocare.common.util.DateTimeUtil;
+import com.ocare.common.util.TransactionUtil;
+import com.ocare.config.replica.ReadConsistencyTracker;
+import com.ocare.config.shard.ShardKey;
+import com.ocare.domain.health.dto.EntryDelta;
+import com.ocare.domain.health.dto.EntrySample;
 import com.ocare.domain.health.dto.request.EntryDto;
 import com.ocare.domain.health.dto.request.HealthDataRequest;
 import com.ocare.domain.health.dto.response.HealthDataSaveResponse;
-import com.ocare.domain.health.entity.HealthEntryEntity;
-import com.ocare.domain.health.repository.HealthEntryRepository;
+import com.ocare.domain.health.repository.HealthEntryHotTier;
+import com.ocare.domain.health.repository.HealthEntryStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * 건강 데이터 저장
+ * 같은 recordKey의 저장은 HealthWriteLockService로 직렬화하며, 락은 트랜잭션 밖에서 잡고 커밋 이후에 해제
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class HealthDataService {
 
-    private final HealthEntryRepository healthEntryRepository;
-    private final HealthAggregationService aggregationService;
+    private final HealthEntryStore healthEntryStore;
+    private final HealthEntryHotTier hotTier;
+    private final HealthAggregationScheduler aggregationScheduler;
+    private final HealthWriteLockService writeLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadConsistencyTracker readConsistencyTracker;
 
     /**
      * 건강 데이터 저장 및 집계 처리
      */
-    public HealthDataSaveResponse saveHealthData(HealthDataRequest request) {
+    public HealthDataSaveResponse saveHealthData(@ShardKey HealthDataRequest request) {
         String recordKey = request.getRecordKey();
         List<EntryDto> entries = request.getData().getEntries();
 
@@ -39,54 +50,73 @@ public class HealthDataService {
 
         log.debug("건강 데이터 저장 시작: recordKey={}, entryCount={}", recordKey, entries.size());
 
-        List<HealthEntryEntity> entriesToSave = new ArrayList<>();
-        int savedCount = processEntries(recordKey, entries, entriesToSave);
+        int savedCount = saveEntries(recordKey, entries);
 
-        healthEntryRepository.saveAll(entriesToSave);
-        log.info("건강 데이터 저장 완료: recordKey={}, savedCount={}", recordKey, savedCount);
+        return HealthDataSaveResponse.of(recordKey, savedCount);
+    }
+
+    /**
+     * 엔트리 묶음 upsert 및 집계 반영
+     * 저장 방식(health.storage.layout)은 HealthEntryStore 구현이 결정
+     * 스트리밍 업로드에서는 청크 단위로 호출되어 청크마다 별도 트랜잭션으로 처리됨
+     * 파싱은 락 밖에서, 조회부터 커밋까지는 recordKey 락 안에서 실행
+     */
+    public int saveEntries(@ShardKey String recordKey, List<EntryDto> entries) {
+        List<EntrySample> parsedEntries = parseEntries(entries);
 
-        aggregationService.updateAggregations(recordKey);
+        if (parsedEntries.isEmpty()) {
+            log.warn("No parsable entries for recordKey: {}", recordKey);
+            return 0;
+        }
 
-        return HealthDataSaveResponse.of(recordKey, savedCount);
+        return writeLockService.executeWithLock(recordKey,
+                () -> transactionTemplate.execute(status -> upsertAndAggregate(recordKey, parsedEntries)));
+    }
+
+    /**
+     * 엔트리 upsert → 집계 반영 (하나의 트랜잭션)
+     * 지연 집계가 켜져 있으면 집계 대신 일자별 반영 대기분을 기록
+     * 핫 티어에 보관 중인 일자는 커밋 직후 같은 락 안에서 반영됨
+     * 커밋 이후 이 recordKey의 읽기는 복제 지연 동안 primary 사용
+     */
+    private int upsertAndAggregate(String recordKey, List<EntrySample> parsedEntries) {
+        List<EntryDelta> deltas = healthEntryStore.upsert(recordKey, parsedEntries);
+        hotTier.stage(recordKey, parsedEntries);
+        TransactionUtil.afterCommit(() -> readConsistencyTracker.markWritten(recordKey));
+        log.info("건강 데이터 저장 완료: recordKey={}, savedCount={}", recordKey, parsedEntries.size());
+
+        aggregationScheduler.submit(recordKey, deltas);
+
+        return parsedEntries.size();
     }
 
     /**
-     * 건강 데이터 엔트리 목록 처리
+     * 건강 데이터 엔트리 목록 파싱 (파싱 실패 엔트리는 제외)
      */
-    private int processEntries(String recordKey, List<EntryDto> entries, List<HealthEntryEntity> entriesToSave) {
-        int savedCount = 0;
+    private List<EntrySample> parseEntries(List<EntryDto> entries) {
+        List<EntrySample> parsedEntries = new ArrayList<>(entries.size());
 
         for (EntryDto entry : entries) {
             try {
-                HealthEntryEntity healthEntry = parseAndSaveEntry(recordKey, entry);
-                entriesToSave.add(healthEntry);
-                savedCount++;
+                parsedEntries.add(parseEntry(entry));
             } catch (Exception e) {
                 log.error("Failed to parse entry: {}", e.getMessage());
             }
         }
 
-        return savedCount;
+        return parsedEntries;
     }
 
     /**
-     * 단일 엔트리 파싱 및 엔티티 생성 (기존 데이터 있으면 업데이트)
+     * 단일 엔트리 파싱
      */
-    private HealthEntryEntity parseAndSaveEntry(String recordKey, EntryDto entry) {
+    private EntrySample parseEntry(EntryDto entry) {
         LocalDateTime periodFrom = DateTimeUtil.parse(entry.getPeriod().getFrom());
         LocalDateTime periodTo = DateTimeUtil.parse(entry.getPeriod().getTo());
         Integer steps = entry.getStepsAsInteger();
         Float calories = entry.getCalories().getValueAsFloat();
         Float distance = entry.getDistance().getValueAsFloat();
 
-        Optional<HealthEntryEntity> existingEntry = healthEntryRepository
-                .findByRecordKeyAndPeriodFromAndPeriodTo(recordKey, periodFrom, periodTo);
-
-        if (existingEntry.isPresent()) {
-            existingEntry.get().update(steps, calories, distance);
-            return existingEntry.get();
-        }
-
-        return HealthEntryEntity.of(recordKey, periodFrom, periodTo, steps, calories, distance);
+        return EntrySample.of(periodFrom, periodTo, steps, calories, distance);
     }
 }
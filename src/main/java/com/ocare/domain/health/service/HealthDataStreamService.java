@@ -0,0 +1,184 @@
+package com.ocare.domain.health.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ocare.common.exception.CustomException;
+import com.ocare.common.exception.ErrorCode;
+import com.ocare.config.shard.NoShardKey;
+import com.ocare.domain.health.dto.request.EntryDto;
+import com.ocare.domain.health.dto.response.HealthDataSaveResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대용량 건강 데이터 스트리밍 저장
+ * 요청 본문을 JsonParser로 읽으며 entries를 고정 크기 청크로 나눠 HealthDataService에 위임
+ * 최대 메모리 사용량은 전체 페이로드가 아닌 청크 크기에 비례
+ * Content-Type이 application/cbor, application/x-jackson-smile이면 해당 형식의 파서로 읽음 (그 외는 JSON)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@NoShardKey
+public class HealthDataStreamService {
+
+    private static final String FIELD_RECORD_KEY = "recordkey";
+    private static final String FIELD_DATA = "data";
+    private static final String FIELD_ENTRIES = "entries";
+    private static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final ObjectMapper objectMapper;
+    private final HealthDataService healthDataService;
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final SmileFactory smileFactory = new SmileFactory();
+
+    @Value("${health.ingest.stream-chunk-size}")
+    private int chunkSize;
+
+    /**
+     * 스트리밍 방식 건강 데이터 저장
+     * recordkey 필드는 data 필드보다 먼저 와야 하며, 로그인 사용자의 recordKey와 같아야 함
+     */
+    public HealthDataSaveResponse saveHealthDataStream(InputStream body, MediaType contentType, String ownerRecordKey) {
+        try (JsonParser parser = createParser(body, contentType)) {
+            return readRequest(parser, ownerRecordKey);
+        } catch (IOException e) {
+            log.error("스트리밍 파싱 실패: {}", e.getMessage());
+            throw CustomException.of(ErrorCode.HEALTH_DATA_PARSE_ERROR);
+        }
+    }
+
+    /**
+     * 요청 Content-Type에 맞는 파서 생성 (토큰 단위 처리는 형식과 무관하게 동일)
+     */
+    private JsonParser createParser(InputStream body, MediaType contentType) throws IOException {
+        if (MediaType.APPLICATION_CBOR.equalsTypeAndSubtype(contentType)) {
+            return cborFactory.createParser(body);
+        }
+        if (APPLICATION_SMILE.equalsTypeAndSubtype(contentType)) {
+            return smileFactory.createParser(body);
+        }
+        return objectMapper.getFactory().createParser(body);
+    }
+
+    /**
+     * 최상위 객체에서 recordkey와 data 필드 처리
+     */
+    private HealthDataSaveResponse readRequest(JsonParser parser, String ownerRecordKey) throws IOException {
+        expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+
+        String recordKey = null;
+        int savedCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            if (FIELD_RECORD_KEY.equals(fieldName)) {
+                recordKey = parser.getValueAsString();
+            } else if (FIELD_DATA.equals(fieldName)) {
+                validateRecordKey(recordKey, ownerRecordKey);
+                savedCount += readData(parser, recordKey);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        validateRecordKey(recordKey, ownerRecordKey);
+        log.info("스트리밍 저장 완료: recordKey={}, savedCount={}", recordKey, savedCount);
+        return HealthDataSaveResponse.of(recordKey, savedCount);
+    }
+
+    /**
+     * data 객체에서 entries 배열 처리
+     */
+    private int readData(JsonParser parser, String recordKey) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+
+        int savedCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            if (FIELD_ENTRIES.equals(fieldName)) {
+                savedCount += readEntries(parser, recordKey);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return savedCount;
+    }
+
+    /**
+     * entries 배열을 청크 단위로 읽어 저장
+     */
+    private int readEntries(JsonParser parser, String recordKey) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return 0;
+        }
+
+        int savedCount = 0;
+        List<EntryDto> chunk = new ArrayList<>(chunkSize);
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            chunk.add(objectMapper.readValue(parser, EntryDto.class));
+
+            if (chunk.size() >= chunkSize) {
+                savedCount += saveChunk(recordKey, chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            savedCount += saveChunk(recordKey, chunk);
+        }
+        return savedCount;
+    }
+
+    /**
+     * 청크 저장 (청크마다 별도 트랜잭션)
+     */
+    private int saveChunk(String recordKey, List<EntryDto> chunk) {
+        log.debug("스트리밍 청크 저장: recordKey={}, chunkSize={}", recordKey, chunk.size());
+        return healthDataService.saveEntries(recordKey, chunk);
+    }
+
+    /**
+     * recordkey 존재 여부 및 소유자 검증
+     */
+    private void validateRecordKey(String recordKey, String ownerRecordKey) {
+        if (recordKey == null || recordKey.isBlank()) {
+            log.error("스트리밍 요청에 recordkey가 없거나 data보다 뒤에 있습니다");
+            throw CustomException.of(ErrorCode.HEALTH_RECORD_KEY_INVALID);
+        }
+        if (!recordKey.equals(ownerRecordKey)) {
+            log.warn("다른 사용자의 recordKey로 스트리밍 저장 시도: recordKey={}", recordKey);
+            throw CustomException.of(ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN);
+        }
+    }
+
+    /**
+     * 토큰 타입 검증
+     */
+    private void expectToken(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            log.error("예상하지 못한 JSON 토큰: expected={}, actual={}", expected, actual);
+            throw CustomException.of(ErrorCode.HEALTH_DATA_PARSE_ERROR);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.common.exception.CustomException;
+import com.ocare.common.exception.ErrorCode;
+import com.ocare.config.shard.ShardKey;
+import com.ocare.domain.health.dto.EntrySample;
+import com.ocare.domain.health.dto.response.HealthEntryResponse;
+import com.ocare.domain.health.repository.HealthEntryHotTier;
+import com.ocare.domain.health.repository.HealthEntryStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 원본 엔트리 조회
+ * 핫 티어(health.hot-tier) 보관 기간의 일자는 매핑 파일에서 DB 조회 없이 읽고, 나머지 일자는 저장소에서 한 번에 조회
+ * 핫 티어에 없는 최근 일자는 저장 락 없이 primary로 조회해 채우며, 조회 전후로 업로드가 커밋되었으면 채우지 않음
+ * (핫 티어 세대 번호 비교, 업로드와 엇갈려 오래된 값이 남지 않고 조회가 업로드를 기다리지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HealthEntryQueryService {
+
+    private static final String METRIC_NAME = "health.entry.hot-tier";
+
+    private final HealthEntryStore healthEntryStore;
+    private final HealthEntryHotTier hotTier;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${health.query.max-entry-days}")
+    private int maxEntryDays;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 기간 [startDate, endDate]의 원본 엔트리를 측정 구간 순으로 조회
+     */
+    public List<HealthEntryResponse> getEntries(@ShardKey String recordKey, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw CustomException.of(ErrorCode.HEALTH_DATE_RANGE_INVALID);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= maxEntryDays) {
+            throw CustomException.of(ErrorCode.HEALTH_ENTRY_RANGE_TOO_LONG);
+        }
+
+        Map<LocalDate, List<EntrySample>> entriesByDate = new TreeMap<>();
+        List<LocalDate> coldDates = new ArrayList<>();
+        List<LocalDate> missedDates = new ArrayList<>();
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!hotTier.covers(date)) {
+                coldDates.add(date);
+                continue;
+            }
+            Optional<List<EntrySample>> hot = hotTier.read(recordKey, date);
+            if (hot.isPresent()) {
+                entriesByDate.put(date, hot.get());
+            } else {
+                missedDates.add(date);
+            }
+            count(hot.isPresent() ? "hit" : "miss");
+        }
+
+        if (!missedDates.isEmpty()) {
+            loadAndFill(recordKey, coldDates, missedDates, entriesByDate);
+        } else if (!coldDates.isEmpty()) {
+            entriesByDate.putAll(load(readOnlyTransaction, recordKey, coldDates));
+        }
+
+        log.debug("원본 엔트리 조회: recordKey={}, startDate={}, endDate={}, cold={}, missed={}",
+                recordKey, startDate, endDate, coldDates.size(), missedDates.size());
+        return entriesByDate.values().stream()
+                .flatMap(List::stream)
+                .map(HealthEntryResponse::of)
+                .toList();
+    }
+
+    /**
+     * 미스 일자와 보관 대상이 아닌 일자를 한 번에 조회한 뒤 핫 티어 채움
+     * 조회 전에 읽은 세대 번호를 넘겨, 조회와 엇갈려 커밋된 업로드가 있으면 핫 티어가 채우지 않음
+     * 핫 티어를 채우므로 복제 지연이 없는 primary에서 읽도록 읽기 전용이 아닌 트랜잭션 사용
+     */
+    private void loadAndFill(String recordKey, List<LocalDate> coldDates, List<LocalDate> missedDates,
+                             Map<LocalDate, List<EntrySample>> entriesByDate) {
+        long generation = hotTier.generation(recordKey);
+
+        List<LocalDate> loadDates = new ArrayList<>(coldDates);
+        loadDates.addAll(missedDates);
+        Map<LocalDate, List<EntrySample>> loaded = load(transactionTemplate, recordKey, loadDates);
+
+        for (LocalDate date : missedDates) {
+            hotTier.fill(recordKey, date, loaded.getOrDefault(date, List.of()), generation);
+        }
+        entriesByDate.putAll(loaded);
+    }
+
+    /**
+     * 일자 목록을 감싸는 기간을 한 번에 조회해 해당 일자만 남김
+     */
+    private Map<LocalDate, List<EntrySample>> load(TransactionTemplate template, String recordKey,
+                                                   List<LocalDate> dates) {
+        LocalDate from = dates.stream().min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = dates.stream().max(LocalDate::compareTo).orElseThrow();
+
+        List<EntrySample> entries = template.execute(status -> healthEntryStore.findByDateRange(recordKey, from, to));
+
+        return entries.stream()
+                .filter(entry -> dates.contains(entry.getPeriodFrom().toLocalDate()))
+                .collect(Collectors.groupingBy(entry -> entry.getPeriodFrom().toLocalDate()));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter(METRIC_NAME, "result", result).increment();
+    }
+}
@@ -0,0 +1,172 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.config.WorkerThreadFactoryProvider;
+import com.ocare.config.shard.NoShardKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 저장 작업 컨슈머
+ * 워커 수만큼 고정된 스레드가 각자 대기 큐를 폴링하며 작업을 하나씩 처리
+ * 각 워커는 고유한 처리 중 목록을 가지며, 기동 시 이전에 끝내지 못한 작업을 대기 큐로 되돌림
+ * 컨슈머 이름을 지정하지 않으면 호스트명-임의값으로 만들어 인스턴스끼리 처리 중 목록을 공유하지 않음
+ * 워커마다 생존 표시를 주기적으로 갱신하고, 표시가 만료된(중단된) 컨슈머의 처리 중 작업은 다른 컨슈머가 되돌림
+ * 가상 스레드 모드(spring.threads.virtual.enabled)에서는 워커를 가상 스레드로 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@NoShardKey
+public class HealthIngestJobConsumer implements SmartLifecycle {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final long RETRY_DELAY_MILLIS = 1000L;
+    private static final String WORKER_THREAD_PREFIX = "health-ingest-";
+    private static final int HEARTBEAT_TTL_MULTIPLIER = 3;
+
+    private final HealthIngestJobService healthIngestJobService;
+    private final HealthIngestJobWorker healthIngestJobWorker;
+    private final WorkerThreadFactoryProvider workerThreadFactoryProvider;
+
+    @Value("${health.ingest.async.workers}")
+    private int workers;
+
+    @Value("${health.ingest.async.consumer-name}")
+    private String consumerName;
+
+    @Value("${health.ingest.async.heartbeat-millis}")
+    private long heartbeatMillis;
+
+    private ExecutorService executor;
+    private volatile boolean running;
+    private final List<String> workerNames = new ArrayList<>();
+
+    @Override
+    public void start() {
+        String name = resolveConsumerName();
+        for (int i = 1; i <= workers; i++) {
+            workerNames.add(name + "-" + i);
+        }
+        running = true;
+        heartbeatAndRecover();
+
+        executor = Executors.newFixedThreadPool(workers, workerThreadFactoryProvider.create(WORKER_THREAD_PREFIX));
+        for (String workerName : workerNames) {
+            executor.submit(() -> consume(workerName));
+        }
+        log.info("비동기 저장 작업 컨슈머 시작: consumer={}, workers={}", name, workers);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(POLL_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+                log.warn("비동기 저장 작업 컨슈머 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 워커 생존 표시 갱신 후 중단된 컨슈머의 처리 중 작업 복구
+     */
+    @Scheduled(fixedDelayString = "${health.ingest.async.heartbeat-millis}")
+    public void heartbeatAndRecover() {
+        if (!running) {
+            return;
+        }
+        try {
+            heartbeat();
+            int count = healthIngestJobService.requeueAbandonedJobs();
+            if (count > 0) {
+                log.info("중단된 컨슈머의 저장 작업 복구: count={}", count);
+            }
+        } catch (DataAccessException e) {
+            log.error("컨슈머 생존 표시 갱신 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void heartbeat() {
+        Duration ttl = Duration.ofMillis(heartbeatMillis * HEARTBEAT_TTL_MULTIPLIER);
+        for (String workerName : workerNames) {
+            healthIngestJobService.heartbeat(workerName, ttl);
+        }
+    }
+
+    /**
+     * 컨슈머 이름 (지정하지 않으면 호스트명-임의값)
+     */
+    private String resolveConsumerName() {
+        if (StringUtils.hasText(consumerName)) {
+            return consumerName;
+        }
+        String host = Optional.ofNullable(System.getenv("HOSTNAME")).filter(StringUtils::hasText).orElse("local");
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 워커 루프
+     * 처리 완료 후에만 처리 중 목록에서 제거하므로, 처리 중 프로세스가 종료되어도 작업이 유실되지 않음
+     */
+    private void consume(String workerName) {
+        requeuePendingJobs(workerName);
+
+        while (running) {
+            try {
+                healthIngestJobService.pollJob(workerName, POLL_TIMEOUT).ifPresent(jobId -> {
+                    healthIngestJobWorker.process(jobId);
+                    healthIngestJobService.completeJob(workerName, jobId);
+                });
+            } catch (RuntimeException e) {
+                log.error("비동기 저장 작업 폴링 실패: worker={}, error={}", workerName, e.getMessage());
+                sleepBeforeRetry();
+            }
+        }
+    }
+
+    /**
+     * 이전 실행에서 중단된 작업 복구
+     */
+    private void requeuePendingJobs(String workerName) {
+        try {
+            int count = healthIngestJobService.requeuePendingJobs(workerName);
+            if (count > 0) {
+                log.info("중단된 저장 작업 복구: worker={}, count={}", workerName, count);
+            }
+        } catch (DataAccessException e) {
+            log.error("중단된 저장 작업 복구 실패: worker={}, error={}", workerName, e.getMessage());
+        }
+    }
+
+    private void sleepBeforeRetry() {
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
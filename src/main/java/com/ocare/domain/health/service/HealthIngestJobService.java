@@ -0,0 +1,298 @@
+package com.ocare.domain.health.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocare.common.exception.CustomException;
+import com.ocare.common.exception.ErrorCode;
+import com.ocare.config.shard.NoShardKey;
+import com.ocare.domain.health.dto.HealthIngestJobStatus;
+import com.ocare.domain.health.dto.request.HealthDataRequest;
+import com.ocare.domain.health.dto.response.HealthIngestJobResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 비동기 건강 데이터 저장 작업 관리
+ * Redis List 기반 신뢰성 큐(BRPOPLPUSH)로 작업을 전달하고, 작업 상태는 작업별 Redis Hash로 관리
+ * - 대기 큐: health:ingest:queue (jobId 목록)
+ * - 처리 중 목록: health:ingest:processing:{consumer} (처리 완료 전까지 jobId 보관)
+ * - 요청 본문: health:ingest:payload:{jobId}
+ * - 컨슈머 목록/생존 표시: health:ingest:consumers, health:ingest:consumer:{consumer} (만료되면 처리 중 목록을 대기 큐로 되돌림)
+ * 재전달된 작업은 청크 번호별로 한 번만 진행 상황에 누적
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@NoShardKey
+public class HealthIngestJobService {
+
+    private static final String QUEUE_KEY = "health:ingest:queue";
+    private static final String PROCESSING_KEY_PREFIX = "health:ingest:processing:";
+    private static final String PAYLOAD_KEY_PREFIX = "health:ingest:payload:";
+    private static final String JOB_KEY_PREFIX = "health:ingest:job:";
+    private static final String CONSUMERS_KEY = "health:ingest:consumers";
+    private static final String HEARTBEAT_KEY_PREFIX = "health:ingest:consumer:";
+    private static final String FIELD_CHUNK_PREFIX = "chunk:";
+    private static final String FIELD_RECORD_KEY = "recordKey";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_TOTAL_COUNT = "totalCount";
+    private static final String FIELD_PROCESSED_COUNT = "processedCount";
+    private static final String FIELD_SAVED_COUNT = "savedCount";
+    private static final String FIELD_ERROR_MESSAGE = "errorMessage";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+
+    private static final RedisScript<Long> ADD_PROGRESS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HSETNX', KEYS[1], ARGV[1], '1') == 0 then return 0 end "
+                    + "redis.call('HINCRBY', KEYS[1], '" + FIELD_PROCESSED_COUNT + "', ARGV[2]) "
+                    + "redis.call('HINCRBY', KEYS[1], '" + FIELD_SAVED_COUNT + "', ARGV[3]) "
+                    + "redis.call('HSET', KEYS[1], '" + FIELD_UPDATED_AT + "', ARGV[4]) "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${health.ingest.async.job-ttl-hours}")
+    private long jobTtlHours;
+
+    /**
+     * 저장 작업 등록
+     * 작업 상태와 요청 본문을 기록한 뒤 대기 큐에 jobId 적재
+     */
+    public HealthIngestJobResponse submitJob(HealthDataRequest request) {
+        String jobId = UUID.randomUUID().toString();
+        String now = LocalDateTime.now().toString();
+
+        Map<String, String> job = new HashMap<>();
+        job.put(FIELD_RECORD_KEY, request.getRecordKey());
+        job.put(FIELD_STATUS, HealthIngestJobStatus.QUEUED.name());
+        job.put(FIELD_TOTAL_COUNT, String.valueOf(countEntries(request)));
+        job.put(FIELD_PROCESSED_COUNT, "0");
+        job.put(FIELD_SAVED_COUNT, "0");
+        job.put(FIELD_CREATED_AT, now);
+        job.put(FIELD_UPDATED_AT, now);
+
+        String payload = serialize(request);
+        Duration ttl = Duration.ofHours(jobTtlHours);
+
+        try {
+            redisTemplate.opsForHash().putAll(jobKey(jobId), job);
+            redisTemplate.expire(jobKey(jobId), ttl);
+            redisTemplate.opsForValue().set(payloadKey(jobId), payload, ttl);
+            redisTemplate.opsForList().leftPush(QUEUE_KEY, jobId);
+        } catch (DataAccessException e) {
+            log.error("저장 작업 등록 실패: recordKey={}, error={}", request.getRecordKey(), e.getMessage());
+            throw CustomException.of(ErrorCode.HEALTH_INGEST_QUEUE_UNAVAILABLE);
+        }
+
+        log.info("저장 작업 등록: jobId={}, recordKey={}, totalCount={}",
+                jobId, request.getRecordKey(), job.get(FIELD_TOTAL_COUNT));
+        return toResponse(jobId, job);
+    }
+
+    /**
+     * 저장 작업 상태 조회 (다른 recordKey의 작업은 존재하지 않는 것으로 처리)
+     */
+    public Optional<HealthIngestJobResponse> getJob(String jobId, String recordKey) {
+        Map<Object, Object> job = redisTemplate.opsForHash().entries(jobKey(jobId));
+        if (job.isEmpty() || !recordKey.equals(job.get(FIELD_RECORD_KEY))) {
+            return Optional.empty();
+        }
+        return Optional.of(toResponse(jobId, job));
+    }
+
+    /**
+     * 대기 큐에서 작업 하나를 꺼내 컨슈머의 처리 중 목록으로 이동 (대기 시간 동안 블로킹)
+     */
+    Optional<String> pollJob(String consumerName, Duration timeout) {
+        return Optional.ofNullable(
+                redisTemplate.opsForList().rightPopAndLeftPush(QUEUE_KEY, processingKey(consumerName), timeout));
+    }
+
+    /**
+     * 요청 본문 조회
+     */
+    Optional<String> getPayload(String jobId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(payloadKey(jobId)));
+    }
+
+    /**
+     * 처리가 끝난 작업을 처리 중 목록에서 제거하고 요청 본문 삭제
+     */
+    void completeJob(String consumerName, String jobId) {
+        redisTemplate.opsForList().remove(processingKey(consumerName), 1, jobId);
+        redisTemplate.delete(payloadKey(jobId));
+    }
+
+    /**
+     * 이전 실행에서 처리 도중 중단된 작업을 대기 큐로 되돌림
+     */
+    int requeuePendingJobs(String consumerName) {
+        int count = 0;
+        while (redisTemplate.opsForList().rightPopAndLeftPush(processingKey(consumerName), QUEUE_KEY) != null) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 컨슈머 생존 표시 갱신 (ttl 안에 다시 갱신하지 않으면 중단된 것으로 간주)
+     */
+    void heartbeat(String consumerName, Duration ttl) {
+        redisTemplate.opsForValue().set(heartbeatKey(consumerName), "1", ttl);
+        redisTemplate.opsForSet().add(CONSUMERS_KEY, consumerName);
+    }
+
+    /**
+     * 생존 표시가 만료된 컨슈머의 처리 중 작업을 대기 큐로 되돌림
+     * 살아 있는 컨슈머의 처리 중 목록은 건드리지 않음
+     */
+    int requeueAbandonedJobs() {
+        Set<String> consumers = redisTemplate.opsForSet().members(CONSUMERS_KEY);
+        if (consumers == null) {
+            return 0;
+        }
+        int count = 0;
+        for (String consumerName : consumers) {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(heartbeatKey(consumerName)))) {
+                continue;
+            }
+            count += requeuePendingJobs(consumerName);
+            redisTemplate.opsForSet().remove(CONSUMERS_KEY, consumerName);
+        }
+        return count;
+    }
+
+    /**
+     * 작업 처리 시작 기록
+     */
+    void markProcessing(String jobId) {
+        updateStatus(jobId, HealthIngestJobStatus.PROCESSING);
+    }
+
+    /**
+     * 청크 처리 결과 누적 (같은 청크는 한 번만 누적, 누적했으면 true)
+     */
+    boolean addProgress(String jobId, int chunkIndex, int processedCount, int savedCount) {
+        Long added = redisTemplate.execute(ADD_PROGRESS_SCRIPT, List.of(jobKey(jobId)),
+                FIELD_CHUNK_PREFIX + chunkIndex, String.valueOf(processedCount), String.valueOf(savedCount),
+                LocalDateTime.now().toString());
+        return added != null && added == 1L;
+    }
+
+    /**
+     * 이미 진행 상황에 누적된 청크인지 (재전달된 작업에서 처리한 청크를 건너뜀)
+     */
+    boolean isChunkRecorded(String jobId, int chunkIndex) {
+        return redisTemplate.opsForHash().hasKey(jobKey(jobId), FIELD_CHUNK_PREFIX + chunkIndex);
+    }
+
+    /**
+     * 작업 완료 기록
+     */
+    void markCompleted(String jobId) {
+        updateStatus(jobId, HealthIngestJobStatus.COMPLETED);
+    }
+
+    /**
+     * 작업 실패 기록
+     */
+    void markFailed(String jobId, String errorMessage) {
+        redisTemplate.opsForHash().put(jobKey(jobId), FIELD_ERROR_MESSAGE, String.valueOf(errorMessage));
+        updateStatus(jobId, HealthIngestJobStatus.FAILED);
+    }
+
+    /**
+     * 상태 변경
+     */
+    private void updateStatus(String jobId, HealthIngestJobStatus status) {
+        Map<String, String> fields = Map.of(
+                FIELD_STATUS, status.name(),
+                FIELD_UPDATED_AT, LocalDateTime.now().toString()
+        );
+        redisTemplate.opsForHash().putAll(jobKey(jobId), fields);
+    }
+
+    /**
+     * 요청 엔트리 수 계산
+     */
+    private int countEntries(HealthDataRequest request) {
+        if (request.getData() == null || request.getData().getEntries() == null) {
+            return 0;
+        }
+        return request.getData().getEntries().size();
+    }
+
+    /**
+     * 요청 본문 직렬화
+     */
+    private String serialize(HealthDataRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            log.error("요청 직렬화 실패: {}", e.getMessage());
+            throw CustomException.of(ErrorCode.HEALTH_DATA_PARSE_ERROR);
+        }
+    }
+
+    /**
+     * Redis Hash → 응답 DTO 변환
+     */
+    private HealthIngestJobResponse toResponse(String jobId, Map<?, ?> job) {
+        return HealthIngestJobResponse.builder()
+                .jobId(jobId)
+                .recordKey(asString(job.get(FIELD_RECORD_KEY)))
+                .status(HealthIngestJobStatus.valueOf(asString(job.get(FIELD_STATUS))))
+                .totalCount(asInt(job.get(FIELD_TOTAL_COUNT)))
+                .processedCount(asInt(job.get(FIELD_PROCESSED_COUNT)))
+                .savedCount(asInt(job.get(FIELD_SAVED_COUNT)))
+                .errorMessage(asString(job.get(FIELD_ERROR_MESSAGE)))
+                .createdAt(asDateTime(job.get(FIELD_CREATED_AT)))
+                .updatedAt(asDateTime(job.get(FIELD_UPDATED_AT)))
+                .build();
+    }
+
+    private String jobKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+
+    private String payloadKey(String jobId) {
+        return PAYLOAD_KEY_PREFIX + jobId;
+    }
+
+    private String processingKey(String consumerName) {
+        return PROCESSING_KEY_PREFIX + consumerName;
+    }
+
+    private String heartbeatKey(String consumerName) {
+        return HEARTBEAT_KEY_PREFIX + consumerName;
+    }
+
+    private String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private int asInt(Object value) {
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+
+    private LocalDateTime asDateTime(Object value) {
+        return value != null ? LocalDateTime.parse(value.toString()) : null;
+    }
+}
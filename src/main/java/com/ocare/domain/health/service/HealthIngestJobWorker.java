@@ -0,0 +1,72 @@
+package com.ocare.domain.health.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocare.config.shard.NoShardKey;
+import com.ocare.domain.health.dto.request.EntryDto;
+import com.ocare.domain.health.dto.request.HealthDataRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 비동기 저장 작업 처리기
+ * 작업 하나의 entries를 청크 단위로 나눠 HealthDataService에 위임하고 진행 상황을 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@NoShardKey
+public class HealthIngestJobWorker {
+
+    private final ObjectMapper objectMapper;
+    private final HealthDataService healthDataService;
+    private final HealthIngestJobService healthIngestJobService;
+
+    @Value("${health.ingest.stream-chunk-size}")
+    private int chunkSize;
+
+    /**
+     * 작업 처리
+     * 처리 중 발생한 예외는 작업 상태(FAILED)로 기록하고 전파하지 않음
+     */
+    public void process(String jobId) {
+        log.info("저장 작업 처리 시작: jobId={}", jobId);
+
+        try {
+            String payload = healthIngestJobService.getPayload(jobId)
+                    .orElseThrow(() -> new IllegalStateException("요청 본문이 만료되었습니다"));
+            HealthDataRequest request = objectMapper.readValue(payload, HealthDataRequest.class);
+            healthIngestJobService.markProcessing(jobId);
+            processEntries(jobId, request);
+            healthIngestJobService.markCompleted(jobId);
+            log.info("저장 작업 완료: jobId={}", jobId);
+        } catch (Exception e) {
+            log.error("저장 작업 실패: jobId={}, error={}", jobId, e.getMessage());
+            healthIngestJobService.markFailed(jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * entries 청크 단위 저장 (청크마다 별도 트랜잭션)
+     * 재전달된 작업은 이미 진행 상황에 누적된 청크를 건너뜀 (저장은 upsert라 중복 처리되어도 결과가 같음)
+     */
+    private void processEntries(String jobId, HealthDataRequest request) {
+        if (request.getData() == null || request.getData().getEntries() == null) {
+            return;
+        }
+
+        List<EntryDto> entries = request.getData().getEntries();
+        for (int from = 0, chunkIndex = 0; from < entries.size(); from += chunkSize, chunkIndex++) {
+            if (healthIngestJobService.isChunkRecorded(jobId, chunkIndex)) {
+                log.debug("이미 처리한 청크 건너뜀: jobId={}, chunk={}", jobId, chunkIndex);
+                continue;
+            }
+            List<EntryDto> chunk = entries.subList(from, Math.min(from + chunkSize, entries.size()));
+            int savedCount = healthDataService.saveEntries(request.getRecordKey(), chunk);
+            healthIngestJobService.addProgress(jobId, chunkIndex, chunk.size(), savedCount);
+        }
+    }
+}
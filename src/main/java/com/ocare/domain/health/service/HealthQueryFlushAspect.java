@@ -0,0 +1,35 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.common.util.RecordKeyArgumentUtil;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 집계 조회 전 반영 대기분 반영 (read-your-writes)
+ * HealthQueryService의 모든 공개 조회 메서드 호출 전에 recordKey 인자의 대기분을 먼저 반영하므로
+ * 조회 API마다 따로 호출할 필요 없음
+ * 샤드/복제본 라우팅 어스펙트보다 먼저 실행되어, 반영 이후의 상태(최근 변경 여부)로 조회 라우팅이 정해짐
+ * 반영 자체는 HealthAggregationScheduler 호출이므로 라우팅 어스펙트가 따로 적용됨
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class HealthQueryFlushAspect {
+
+    private final HealthAggregationScheduler aggregationScheduler;
+
+    /**
+     * recordKey 인자가 있으면 조회 전에 대기분 반영
+     */
+    @Around("execution(public * com.ocare.domain.health.service.HealthQueryService.*(..))")
+    public Object flushBeforeQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        RecordKeyArgumentUtil.find(joinPoint).ifPresent(aggregationScheduler::flushIfDirty);
+        return joinPoint.proceed();
+    }
+}
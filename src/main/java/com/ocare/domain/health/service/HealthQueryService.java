@@ -1,83 +1,412 @@
 package com.ocare.domain.health.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ocare.common.exception.CustomException;
+import com.ocare.common.exception.ErrorCode;
+import com.ocare.config.shard.ShardKey;
+import com.ocare.domain.health.dto.RangeAggregation;
+import com.ocare.domain.health.dto.SummaryCacheKey;
+import com.ocare.domain.health.dto.SummaryRangeSegment;
+import com.ocare.domain.health.dto.SummaryTier;
+import com.ocare.domain.health.dto.response.DailySummaryPageResponse;
 import com.ocare.domain.health.dto.response.DailySummaryResponse;
 import com.ocare.domain.health.dto.response.MonthlySummaryResponse;
+import com.ocare.domain.health.dto.response.RangeTotalResponse;
+import com.ocare.domain.health.dto.response.WeeklySummaryResponse;
+import com.ocare.domain.health.dto.response.YearlySummaryResponse;
+import com.ocare.domain.health.entity.DailyHealthSummaryEntity;
 import com.ocare.domain.health.repository.DailyHealthSummaryRepository;
 import com.ocare.domain.health.repository.MonthlyHealthSummaryRepository;
+import com.ocare.domain.health.repository.WeeklyHealthSummaryRepository;
+import com.ocare.domain.health.repository.YearlyHealthSummaryRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+/**
+ * 일별/주별/월별/연도별 집계 및 기간 합계 조회
+ * 누적 합계 기간 조회, 커서 페이지/NDJSON 조회를 제외한 모든 조회는 HealthSummaryCacheService를 거쳐
+ * 캐시 미적중 시에만 DB 조회
+ * 캐시를 거치는 조회는 미적중 시 loader 안에서만 읽기 전용 트랜잭션을 열어 캐시 적중 시에는 커넥션을 사용하지 않음
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class HealthQueryService {
 
     private final DailyHealthSummaryRepository dailySummaryRepository;
+    private final WeeklyHealthSummaryRepository weeklySummaryRepository;
     private final MonthlyHealthSummaryRepository monthlySummaryRepository;
+    private final YearlyHealthSummaryRepository yearlySummaryRepository;
+    private final HealthSummaryCacheService summaryCacheService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${health.query.max-page-size}")
+    private int maxPageSize;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 캐시 미적중 loader용 읽기 전용 트랜잭션 템플릿 생성
+     */
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     /**
      * 일별 집계 데이터 목록 조회 (기간 필터링 선택)
      */
-    public List<DailySummaryResponse> getDailySummaries(String recordKey,
+    public List<DailySummaryResponse> getDailySummaries(@ShardKey String recordKey,
                                                          LocalDate startDate,
                                                          LocalDate endDate) {
         if (startDate != null && endDate != null) {
-            log.debug("일별 집계 조회: recordKey={}, startDate={}, endDate={}", recordKey, startDate, endDate);
-            return dailySummaryRepository
-                    .findByRecordKeyAndSummaryDateBetweenOrderBySummaryDateAsc(recordKey, startDate, endDate)
-                    .stream()
-                    .map(DailySummaryResponse::of)
-                    .collect(Collectors.toList());
+            return getOrLoad(
+                    SummaryCacheKey.dailyRange(recordKey, startDate, endDate),
+                    new TypeReference<>() {},
+                    () -> loadDailySummaries(recordKey, startDate, endDate));
         }
 
-        log.debug("일별 집계 조회: recordKey={}", recordKey);
-        return dailySummaryRepository.findByRecordKeyOrderBySummaryDateAsc(recordKey)
-                .stream()
-                .map(DailySummaryResponse::of)
-                .collect(Collectors.toList());
+        return getOrLoad(
+                SummaryCacheKey.dailyAll(recordKey),
+                new TypeReference<>() {},
+                () -> loadDailySummaries(recordKey));
+    }
+
+    /**
+     * 일별 집계 커서 페이지 조회 (summary_date 기준 keyset, cursor 다음 일자부터 size건)
+     * size + 1건을 읽어 다음 페이지 존재 여부를 판단
+     */
+    @Transactional(readOnly = true)
+    public DailySummaryPageResponse getDailySummaryPage(@ShardKey String recordKey, LocalDate cursor, int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw CustomException.of(ErrorCode.HEALTH_PAGE_SIZE_INVALID);
+        }
+
+        log.debug("일별 집계 페이지 조회: recordKey={}, cursor={}, size={}", recordKey, cursor, size);
+        Limit limit = Limit.of(size + 1);
+        List<DailySummaryResponse> rows = cursor == null
+                ? dailySummaryRepository.findSummariesByRecordKey(recordKey, limit)
+                : dailySummaryRepository.findSummariesByRecordKeyAndSummaryDateAfter(recordKey, cursor, limit);
+
+        boolean hasNext = rows.size() > size;
+        return DailySummaryPageResponse.of(hasNext ? rows.subList(0, size) : rows, hasNext);
+    }
+
+    /**
+     * 전체 일별 집계를 NDJSON(한 줄에 JSON 객체 하나)으로 출력
+     * DB 커서에서 한 행씩 읽어 바로 쓰므로 이력 길이와 무관하게 메모리 사용량이 일정
+     */
+    @Transactional(readOnly = true)
+    public void writeDailySummaries(@ShardKey String recordKey, OutputStream out) throws IOException {
+        log.debug("일별 집계 스트림 조회: recordKey={}", recordKey);
+        ObjectWriter writer = objectMapper.writerFor(DailySummaryResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Stream<DailySummaryResponse> rows = dailySummaryRepository.streamByRecordKey(recordKey);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .setRootValueSeparator(null)) {
+            for (DailySummaryResponse row : (Iterable<DailySummaryResponse>) rows::iterator) {
+                writer.writeValue(generator, row);
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    /**
+     * 주별 집계 데이터 목록 조회 (기간 필터링 선택, 기간과 겹치는 주 반환)
+     */
+    public List<WeeklySummaryResponse> getWeeklySummaries(@ShardKey String recordKey,
+                                                           LocalDate startDate,
+                                                           LocalDate endDate) {
+        if (startDate != null && endDate != null) {
+            LocalDate weekStartDate = SummaryTier.WEEKLY.periodStart(startDate);
+            return getOrLoad(
+                    SummaryCacheKey.weeklyRange(recordKey, weekStartDate, endDate),
+                    new TypeReference<>() {},
+                    () -> loadWeeklySummaries(recordKey, weekStartDate, endDate));
+        }
+
+        return getOrLoad(
+                SummaryCacheKey.weeklyAll(recordKey),
+                new TypeReference<>() {},
+                () -> loadWeeklySummaries(recordKey));
     }
 
     /**
      * 월별 집계 데이터 목록 조회 (연도 필터링 선택)
      */
-    public List<MonthlySummaryResponse> getMonthlySummaries(String recordKey, Integer year) {
+    public List<MonthlySummaryResponse> getMonthlySummaries(@ShardKey String recordKey, Integer year) {
         if (year != null) {
-            log.debug("월별 집계 조회: recordKey={}, year={}", recordKey, year);
-            return monthlySummaryRepository.findByRecordKeyAndSummaryYearOrderBySummaryMonthAsc(recordKey, year)
-                    .stream()
-                    .map(MonthlySummaryResponse::of)
-                    .collect(Collectors.toList());
+            return getOrLoad(
+                    SummaryCacheKey.monthlyYear(recordKey, year),
+                    new TypeReference<>() {},
+                    () -> loadMonthlySummaries(recordKey, year));
         }
 
-        log.debug("월별 집계 조회: recordKey={}", recordKey);
-        return monthlySummaryRepository.findByRecordKeyOrderBySummaryYearAscSummaryMonthAsc(recordKey)
-                .stream()
-                .map(MonthlySummaryResponse::of)
-                .collect(Collectors.toList());
+        return getOrLoad(
+                SummaryCacheKey.monthlyAll(recordKey),
+                new TypeReference<>() {},
+                () -> loadMonthlySummaries(recordKey));
+    }
+
+    /**
+     * 연도별 집계 데이터 목록 조회
+     */
+    public List<YearlySummaryResponse> getYearlySummaries(@ShardKey String recordKey) {
+        return getOrLoad(
+                SummaryCacheKey.yearlyAll(recordKey),
+                new TypeReference<>() {},
+                () -> loadYearlySummaries(recordKey));
+    }
+
+    /**
+     * 임의 기간 [startDate, endDate] 합계 조회
+     * 기간 안에 온전히 들어가는 연도/월/주 집계를 먼저 사용하고, 남은 가장자리만 일별 집계로 합산
+     */
+    public RangeTotalResponse getRangeTotal(@ShardKey String recordKey, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw CustomException.of(ErrorCode.HEALTH_DATE_RANGE_INVALID);
+        }
+
+        return getOrLoad(
+                SummaryCacheKey.dailyTotal(recordKey, startDate, endDate),
+                new TypeReference<>() {},
+                () -> loadRangeTotal(recordKey, startDate, endDate));
+    }
+
+    /**
+     * 일별 집계 목록의 마지막 수정 시각 (getDailySummaries와 같은 조회 조건, 데이터가 없으면 빈 값)
+     */
+    public Optional<Instant> getDailySummariesLastModified(@ShardKey String recordKey,
+                                                           LocalDate startDate,
+                                                           LocalDate endDate) {
+        if (startDate != null && endDate != null) {
+            return lastModified(SummaryCacheKey.dailyRange(recordKey, startDate, endDate),
+                    () -> dailySummaryRepository
+                            .findMaxUpdatedAtByRecordKeyAndSummaryDateBetween(recordKey, startDate, endDate));
+        }
+
+        return lastModified(SummaryCacheKey.dailyAll(recordKey),
+                () -> dailySummaryRepository.findMaxUpdatedAtByRecordKey(recordKey));
+    }
+
+    /**
+     * 주별 집계 목록의 마지막 수정 시각 (getWeeklySummaries와 같은 조회 조건, 데이터가 없으면 빈 값)
+     */
+    public Optional<Instant> getWeeklySummariesLastModified(@ShardKey String recordKey,
+                                                            LocalDate startDate,
+                                                            LocalDate endDate) {
+        if (startDate != null && endDate != null) {
+            LocalDate weekStartDate = SummaryTier.WEEKLY.periodStart(startDate);
+            return lastModified(SummaryCacheKey.weeklyRange(recordKey, weekStartDate, endDate),
+                    () -> weeklySummaryRepository
+                            .findMaxUpdatedAtByRecordKeyAndWeekStartDateBetween(recordKey, weekStartDate, endDate));
+        }
+
+        return lastModified(SummaryCacheKey.weeklyAll(recordKey),
+                () -> weeklySummaryRepository.findMaxUpdatedAtByRecordKey(recordKey));
+    }
+
+    /**
+     * 월별 집계 목록의 마지막 수정 시각 (getMonthlySummaries와 같은 조회 조건, 데이터가 없으면 빈 값)
+     */
+    public Optional<Instant> getMonthlySummariesLastModified(@ShardKey String recordKey, Integer year) {
+        if (year != null) {
+            return lastModified(SummaryCacheKey.monthlyYear(recordKey, year),
+                    () -> monthlySummaryRepository.findMaxUpdatedAtByRecordKeyAndSummaryYear(recordKey, year));
+        }
+
+        return lastModified(SummaryCacheKey.monthlyAll(recordKey),
+                () -> monthlySummaryRepository.findMaxUpdatedAtByRecordKey(recordKey));
+    }
+
+    /**
+     * 연도별 집계 목록의 마지막 수정 시각 (데이터가 없으면 빈 값)
+     */
+    public Optional<Instant> getYearlySummariesLastModified(@ShardKey String recordKey) {
+        return lastModified(SummaryCacheKey.yearlyAll(recordKey),
+                () -> yearlySummaryRepository.findMaxUpdatedAtByRecordKey(recordKey));
+    }
+
+    /**
+     * 임의 기간 합계의 마지막 수정 시각
+     * 주/월/연도별 집계는 일별 집계와 같은 트랜잭션에서 갱신되므로 기간 안의 일별 집계만 확인
+     */
+    public Optional<Instant> getRangeTotalLastModified(@ShardKey String recordKey,
+                                                       LocalDate startDate,
+                                                       LocalDate endDate) {
+        return lastModified(SummaryCacheKey.dailyTotal(recordKey, startDate, endDate),
+                () -> dailySummaryRepository
+                        .findMaxUpdatedAtByRecordKeyAndSummaryDateBetween(recordKey, startDate, endDate));
+    }
+
+    /**
+     * 임의 기간 [startDate, endDate] 합계 조회 (누적 합계 기반)
+     * 종료일 이전 마지막 행과 시작일 전날 이전 마지막 행의 누적 합계 차이로 계산 (인덱스 단건 조회 2회)
+     * 조회 비용이 일정하므로 캐시를 거치지 않음
+     */
+    @Transactional(readOnly = true)
+    public RangeTotalResponse getCumulativeRangeTotal(@ShardKey String recordKey,
+                                                      LocalDate startDate,
+                                                      LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw CustomException.of(ErrorCode.HEALTH_DATE_RANGE_INVALID);
+        }
+
+        log.debug("누적 합계 기간 조회: recordKey={}, startDate={}, endDate={}", recordKey, startDate, endDate);
+        RangeAggregation throughEnd = cumulativeOf(dailySummaryRepository
+                .findFirstByRecordKeyAndSummaryDateLessThanEqualOrderBySummaryDateDesc(recordKey, endDate));
+        RangeAggregation beforeStart = cumulativeOf(dailySummaryRepository
+                .findFirstByRecordKeyAndSummaryDateLessThanOrderBySummaryDateDesc(recordKey, startDate));
+        return RangeTotalResponse.of(recordKey, startDate, endDate, throughEnd.minus(beforeStart));
     }
 
     /**
      * 특정 연월 집계 데이터 조회
      */
-    public Optional<MonthlySummaryResponse> getMonthlySummary(String recordKey, Integer year, Integer month) {
+    public Optional<MonthlySummaryResponse> getMonthlySummary(@ShardKey String recordKey, Integer year, Integer month) {
+        return getOrLoad(
+                SummaryCacheKey.monthlyMonth(recordKey, year, month),
+                new TypeReference<>() {},
+                () -> loadMonthlySummary(recordKey, year, month));
+    }
+
+    /**
+     * 특정 일자 집계 데이터 조회
+     */
+    public Optional<DailySummaryResponse> getDailySummary(@ShardKey String recordKey, LocalDate date) {
+        return getOrLoad(
+                SummaryCacheKey.dailyDate(recordKey, date),
+                new TypeReference<>() {},
+                () -> loadDailySummary(recordKey, date));
+    }
+
+    private List<DailySummaryResponse> loadDailySummaries(String recordKey, LocalDate startDate, LocalDate endDate) {
+        log.debug("일별 집계 조회: recordKey={}, startDate={}, endDate={}", recordKey, startDate, endDate);
+        return dailySummaryRepository.findSummariesByRecordKeyAndSummaryDateBetween(recordKey, startDate, endDate);
+    }
+
+    private List<DailySummaryResponse> loadDailySummaries(String recordKey) {
+        log.debug("일별 집계 조회: recordKey={}", recordKey);
+        return dailySummaryRepository.findSummariesByRecordKey(recordKey);
+    }
+
+    private List<WeeklySummaryResponse> loadWeeklySummaries(String recordKey, LocalDate weekStartDate,
+                                                            LocalDate endDate) {
+        log.debug("주별 집계 조회: recordKey={}, weekStartDate={}, endDate={}", recordKey, weekStartDate, endDate);
+        return weeklySummaryRepository
+                .findSummariesByRecordKeyAndWeekStartDateBetween(recordKey, weekStartDate, endDate);
+    }
+
+    private List<WeeklySummaryResponse> loadWeeklySummaries(String recordKey) {
+        log.debug("주별 집계 조회: recordKey={}", recordKey);
+        return weeklySummaryRepository.findSummariesByRecordKey(recordKey);
+    }
+
+    private List<YearlySummaryResponse> loadYearlySummaries(String recordKey) {
+        log.debug("연도별 집계 조회: recordKey={}", recordKey);
+        return yearlySummaryRepository.findSummariesByRecordKey(recordKey);
+    }
+
+    private RangeTotalResponse loadRangeTotal(String recordKey, LocalDate startDate, LocalDate endDate) {
+        List<SummaryRangeSegment> segments = HealthRangePlanner.plan(startDate, endDate);
+        log.debug("기간 합계 조회: recordKey={}, startDate={}, endDate={}, segments={}",
+                recordKey, startDate, endDate, segments);
+
+        RangeAggregation total = new RangeAggregation();
+        for (SummaryRangeSegment segment : segments) {
+            total = total.plus(sumSegment(recordKey, segment));
+        }
+        return RangeTotalResponse.of(recordKey, startDate, endDate, total);
+    }
+
+    /**
+     * 구간 하나를 해당 단위의 집계 테이블에서 합산 (DB에서 SUM, 구간당 한 행)
+     */
+    private RangeAggregation sumSegment(String recordKey, SummaryRangeSegment segment) {
+        LocalDate from = segment.getFrom();
+        LocalDate to = segment.getTo();
+
+        return switch (segment.getTier()) {
+            case YEARLY -> yearlySummaryRepository
+                    .sumByRecordKeyAndSummaryYearBetween(recordKey, from.getYear(), to.getYear());
+            case MONTHLY -> monthlySummaryRepository
+                    .sumByRecordKeyAndMonthIndexBetween(recordKey, monthIndex(from), monthIndex(to));
+            case WEEKLY -> weeklySummaryRepository
+                    .sumByRecordKeyAndWeekStartDateBetween(recordKey, from, to);
+            case DAILY -> dailySummaryRepository
+                    .sumByRecordKeyAndSummaryDateBetween(recordKey, from, to);
+        };
+    }
+
+    /**
+     * 캐시를 거쳐 조회 (미적중 시에만 읽기 전용 트랜잭션에서 loader 실행)
+     */
+    private <T> T getOrLoad(SummaryCacheKey key, TypeReference<T> type, Supplier<T> loader) {
+        return summaryCacheService.getOrLoad(key, type, () -> readOnlyTransaction.execute(status -> loader.get()));
+    }
+
+    /**
+     * 조회 조건별 마지막 수정 시각(max(updated_at))을 캐시를 거쳐 조회
+     * 캐시 항목은 조회 결과와 같은 조건으로 무효화되므로 캐시된 목록과 항상 같은 시점을 가리킴
+     */
+    private Optional<Instant> lastModified(SummaryCacheKey key, Supplier<Optional<LocalDateTime>> loader) {
+        Optional<LocalDateTime> updatedAt = getOrLoad(
+                key.lastModified(), new TypeReference<>() {}, loader);
+        return updatedAt.map(value -> value.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private RangeAggregation cumulativeOf(Optional<DailyHealthSummaryEntity> row) {
+        return row.map(DailyHealthSummaryEntity::getCumulative).orElseGet(RangeAggregation::new);
+    }
+
+    private int monthIndex(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private List<MonthlySummaryResponse> loadMonthlySummaries(String recordKey, Integer year) {
+        log.debug("월별 집계 조회: recordKey={}, year={}", recordKey, year);
+        return monthlySummaryRepository.findSummariesByRecordKeyAndSummaryYear(recordKey, year);
+    }
+
+    private List<MonthlySummaryResponse> loadMonthlySummaries(String recordKey) {
+        log.debug("월별 집계 조회: recordKey={}", recordKey);
+        return monthlySummaryRepository.findSummariesByRecordKey(recordKey);
+    }
+
+    private Optional<MonthlySummaryResponse> loadMonthlySummary(String recordKey, Integer year, Integer month) {
         log.debug("특정 월 집계 조회: recordKey={}, year={}, month={}", recordKey, year, month);
         return monthlySummaryRepository
                 .findByRecordKeyAndSummaryYearAndSummaryMonth(recordKey, year, month)
                 .map(MonthlySummaryResponse::of);
     }
 
-    /**
-     * 특정 일자 집계 데이터 조회
-     */
-    public Optional<DailySummaryResponse> getDailySummary(String recordKey, LocalDate date) {
+    private Optional<DailySummaryResponse> loadDailySummary(String recordKey, LocalDate date) {
         log.debug("특정 일 집계 조회: recordKey={}, date={}", recordKey, date);
         return dailySummaryRepository
                 .findByRecordKeyAndSummaryDate(recordKey, date)
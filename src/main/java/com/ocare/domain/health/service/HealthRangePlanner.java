@@ -0,0 +1,55 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.domain.health.dto.SummaryRangeSegment;
+import com.ocare.domain.health.dto.SummaryTier;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기간 합계 조회 계획
+ * [start, end]에 온전히 들어가는 연도 → 월 → 주 순서로 굵은 단위부터 덮고,
+ * 남은 앞/뒤 가장자리만 일별 집계로 채움
+ * 예) 2023-12-28 ~ 2025-02-12
+ *     = 일(2023-12-28~12-31) + 연(2024) + 월(2025-01) + 일(02-01~02-02) + 주(02-03~02-09) + 일(02-10~02-12)
+ */
+final class HealthRangePlanner {
+
+    private static final SummaryTier[] TIERS = SummaryTier.values();
+
+    private HealthRangePlanner() {
+    }
+
+    /**
+     * 기간을 단위별 구간 목록으로 분해 (구간끼리 겹치지 않고 날짜 순서로 정렬됨)
+     */
+    static List<SummaryRangeSegment> plan(LocalDate startDate, LocalDate endDate) {
+        List<SummaryRangeSegment> segments = new ArrayList<>();
+        plan(startDate, endDate, 0, segments);
+        return segments;
+    }
+
+    private static void plan(LocalDate startDate, LocalDate endDate, int tierIndex, List<SummaryRangeSegment> segments) {
+        if (startDate.isAfter(endDate)) {
+            return;
+        }
+
+        SummaryTier tier = TIERS[tierIndex];
+        if (tier == SummaryTier.DAILY) {
+            segments.add(SummaryRangeSegment.of(tier, startDate, endDate));
+            return;
+        }
+
+        LocalDate first = tier.nextPeriodStart(startDate);
+        LocalDate afterLast = tier.periodStart(endDate.plusDays(1));
+        if (!first.isBefore(afterLast)) {
+            plan(startDate, endDate, tierIndex + 1, segments);
+            return;
+        }
+
+        plan(startDate, first.minusDays(1), tierIndex + 1, segments);
+        segments.add(SummaryRangeSegment.of(tier, first, afterLast.minusDays(1)));
+        plan(afterLast, endDate, tierIndex + 1, segments);
+    }
+}
@@ -0,0 +1,277 @@
+package com.ocare.domain.health.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ocare.common.util.TransactionUtil;
+import com.ocare.config.replica.ReadConsistencyTracker;
+import com.ocare.config.shard.NoShardKey;
+import com.ocare.domain.health.dto.SummaryCacheKey;
+import com.ocare.domain.health.dto.SummaryInvalidationMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 일별/주별/월별/연도별 집계 조회 2단계 캐시 (L1: 노드 로컬 Caffeine, L2: Redis)
+ * - 조회: L1 → L2 → DB 순서로 확인하고, 하위 단계에서 읽은 값을 상위 단계에 채움
+ * - L1 구조: recordKey별 항목 묶음(영역|필드 → 값)이라 무효화 시 해당 회원의 항목만 확인
+ * - 무효화: 집계가 바뀐 일자/월을 포함하는 항목만 삭제 (트랜잭션 커밋 이후)
+ *   L2 삭제 후 Redis 채널로 무효화 메시지를 발행하고, 각 노드는 수신 즉시 자신의 L1을 정리
+ * - L2 버전: 무효화마다 Hash의 버전 필드를 올리고, 미적중 결과는 조회 시작 시점의 버전과 같을 때만 저장
+ * - L1 세대: recordKey 스트라이프별 세대 번호로, 조회 도중 무효화가 일어났으면 L1에 채우지 않음
+ *   (버전과 세대 모두 무효화 이전에 읽은 느린 조회가 오래된 값을 다시 채우는 것을 방지)
+ * Redis 장애 시에는 L2를 건너뛰고 DB 조회 결과를 그대로 반환
+ * 읽기 복제본 사용 시 L1 정리 시점에 recordKey를 기록해 복제 지연 동안 primary에서 읽게 함 (ReadConsistencyTracker)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@NoShardKey
+public class HealthSummaryCacheService {
+
+    private static final String VERSION_FIELD = "_version";
+    private static final String INITIAL_VERSION = "0";
+    private static final String METRIC_NAME = "health.summary.cache";
+    private static final String TIER_LOCAL = "l1";
+    private static final String TIER_REDIS = "l2";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private static final RedisScript<Long> PUT_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('HGET', KEYS[1], ARGV[1]) or ARGV[2] "
+                    + "if version ~= ARGV[3] then return 0 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[4], ARGV[5]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[6]) "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Map<String, Object>> summaryLocalCache;
+    private final ReadConsistencyTracker readConsistencyTracker;
+    private final AtomicLongArray localGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+    @Value("${health.cache.summary-ttl-minutes}")
+    private long ttlMinutes;
+
+    @Value("${health.cache.invalidation-channel}")
+    private String invalidationChannel;
+
+    /**
+     * 캐시 조회, 미적중 시 loader 결과를 캐시에 저장 후 반환
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(SummaryCacheKey key, TypeReference<T> type, Supplier<T> loader) {
+        Map<String, Object> localEntries = summaryLocalCache.getIfPresent(key.getRecordKey());
+        Object local = localEntries != null ? localEntries.get(key.getLocalKey()) : null;
+        if (local != null) {
+            count(key, TIER_LOCAL, "hit");
+            return (T) local;
+        }
+        count(key, TIER_LOCAL, "miss");
+
+        long generation = localGenerations.get(stripe(key.getRecordKey()));
+        Optional<List<Object>> values = readFields(key);
+        if (values.isEmpty()) {
+            count(key, TIER_REDIS, "error");
+            return loader.get();
+        }
+
+        String cached = (String) values.get().get(0);
+        String version = values.get().get(1) != null ? (String) values.get().get(1) : INITIAL_VERSION;
+
+        if (cached != null) {
+            Optional<T> hit = deserialize(key, cached, type);
+            if (hit.isPresent()) {
+                count(key, TIER_REDIS, "hit");
+                putLocal(key, generation, hit.get());
+                return hit.get();
+            }
+        }
+
+        count(key, TIER_REDIS, "miss");
+        T loaded = loader.get();
+        if (put(key, version, loaded)) {
+            putLocal(key, generation, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 집계가 변경된 일자의 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 실행
+     */
+    public void evictSummaries(String recordKey, Set<LocalDate> changedDates) {
+        if (changedDates.isEmpty()) {
+            return;
+        }
+
+        TransactionUtil.afterCommit(() -> evict(recordKey, changedDates));
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지 처리 (L1만 정리)
+     * 다른 노드의 쓰기도 복제본이 따라잡기 전에 오래된 값을 다시 채우지 않도록 이후 조회는 잠시 primary 사용
+     */
+    public void handleInvalidationMessage(String payload) {
+        try {
+            SummaryInvalidationMessage message = objectMapper.readValue(payload, SummaryInvalidationMessage.class);
+            readConsistencyTracker.markWritten(message.getRecordKey());
+            evictLocal(message.getRecordKey(), message.getChangedDates());
+        } catch (JsonProcessingException e) {
+            log.warn("집계 캐시 무효화 메시지 파싱 실패: payload={}, error={}", payload, e.getMessage());
+        }
+    }
+
+    /**
+     * L2 삭제 → 자신의 L1 정리 → 다른 노드에 무효화 메시지 발행
+     */
+    private void evict(String recordKey, Set<LocalDate> changedDates) {
+        try {
+            for (String region : SummaryCacheKey.REGIONS) {
+                evictRedis(region, recordKey, changedDates);
+            }
+        } catch (DataAccessException e) {
+            log.warn("집계 캐시 무효화 실패: recordKey={}, error={}", recordKey, e.getMessage());
+        }
+
+        evictLocal(recordKey, changedDates);
+        publishInvalidation(recordKey, changedDates);
+    }
+
+    /**
+     * L2 무효화: 버전을 올린 뒤 영향받는 필드 삭제
+     */
+    private void evictRedis(String region, String recordKey, Set<LocalDate> changedDates) {
+        String hashKey = SummaryCacheKey.hashKey(region, recordKey);
+
+        redisTemplate.opsForHash().increment(hashKey, VERSION_FIELD, 1);
+        redisTemplate.expire(hashKey, Duration.ofMinutes(ttlMinutes));
+
+        Object[] fields = redisTemplate.opsForHash().keys(hashKey).stream()
+                .map(String.class::cast)
+                .filter(field -> !VERSION_FIELD.equals(field))
+                .filter(field -> SummaryCacheKey.isAffected(region, field, changedDates))
+                .toArray();
+        if (fields.length > 0) {
+            redisTemplate.opsForHash().delete(hashKey, fields);
+        }
+        log.debug("집계 캐시 무효화: key={}, fields={}", hashKey, fields.length);
+    }
+
+    /**
+     * L1 무효화: 세대 번호를 올린 뒤 영향받는 항목 삭제
+     */
+    private void evictLocal(String recordKey, Set<LocalDate> changedDates) {
+        localGenerations.incrementAndGet(stripe(recordKey));
+
+        Map<String, Object> localEntries = summaryLocalCache.getIfPresent(recordKey);
+        if (localEntries == null) {
+            return;
+        }
+        for (String region : SummaryCacheKey.REGIONS) {
+            String prefix = SummaryCacheKey.localKeyPrefix(region);
+            localEntries.keySet().removeIf(localKey -> localKey.startsWith(prefix)
+                    && SummaryCacheKey.isAffected(region, localKey.substring(prefix.length()), changedDates));
+        }
+    }
+
+    /**
+     * 무효화 메시지 발행 (자신도 수신하지만 이미 정리된 L1에 대해서는 영향 없음)
+     */
+    private void publishInvalidation(String recordKey, Set<LocalDate> changedDates) {
+        try {
+            String payload = objectMapper.writeValueAsString(SummaryInvalidationMessage.of(recordKey, changedDates));
+            redisTemplate.convertAndSend(invalidationChannel, payload);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("집계 캐시 무효화 메시지 발행 실패: recordKey={}, error={}", recordKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 값과 버전 필드 조회
+     */
+    private Optional<List<Object>> readFields(SummaryCacheKey key) {
+        try {
+            return Optional.of(redisTemplate.opsForHash()
+                    .multiGet(key.getHashKey(), List.of(key.getField(), VERSION_FIELD)));
+        } catch (DataAccessException e) {
+            log.warn("집계 캐시 조회 실패, DB 조회로 대체: key={}, error={}", key.getHashKey(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시 값 역직렬화 (형식이 맞지 않으면 미적중으로 처리)
+     */
+    private <T> Optional<T> deserialize(SummaryCacheKey key, String cached, TypeReference<T> type) {
+        try {
+            return Optional.of(objectMapper.readValue(cached, type));
+        } catch (JsonProcessingException e) {
+            log.warn("집계 캐시 역직렬화 실패: key={}, field={}, error={}",
+                    key.getHashKey(), key.getField(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 조회 시작 시점의 버전이 유지된 경우에만 L2에 저장
+     */
+    private <T> boolean put(SummaryCacheKey key, String version, T value) {
+        try {
+            Long stored = redisTemplate.execute(PUT_IF_VERSION_SCRIPT, List.of(key.getHashKey()),
+                    VERSION_FIELD, INITIAL_VERSION, version, key.getField(),
+                    objectMapper.writeValueAsString(value),
+                    String.valueOf(Duration.ofMinutes(ttlMinutes).toSeconds()));
+            return Long.valueOf(1L).equals(stored);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("집계 캐시 저장 실패: key={}, field={}, error={}",
+                    key.getHashKey(), key.getField(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 조회 시작 이후 무효화가 없었던 경우에만 L1에 저장
+     * 저장 직후 세대를 다시 확인해, 저장과 무효화가 교차한 경우 방금 넣은 항목을 제거
+     * recordKey 묶음은 처음 만들 때만 L1에 쓰므로 묶음의 만료 시각은 첫 저장 기준 (항목 추가로 연장되지 않음)
+     */
+    private <T> void putLocal(SummaryCacheKey key, long generation, T value) {
+        int stripe = stripe(key.getRecordKey());
+        if (localGenerations.get(stripe) != generation) {
+            return;
+        }
+        Map<String, Object> localEntries = summaryLocalCache.get(key.getRecordKey(),
+                recordKey -> new ConcurrentHashMap<>());
+        localEntries.put(key.getLocalKey(), value);
+        if (localGenerations.get(stripe) != generation) {
+            localEntries.remove(key.getLocalKey());
+        }
+    }
+
+    private int stripe(String recordKey) {
+        return Math.floorMod(recordKey.hashCode(), GENERATION_STRIPES);
+    }
+
+    private void count(SummaryCacheKey key, String tier, String result) {
+        meterRegistry.counter(METRIC_NAME, "region", key.getRegion(), "tier", tier, "result", result).increment();
+    }
+}
@@ -0,0 +1,151 @@
+package com.ocare.domain.health.service;
+
+import com.ocare.common.exception.CustomException;
+import com.ocare.common.exception.ErrorCode;
+import com.ocare.config.shard.ShardKey;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * recordKey별 저장 직렬화 락
+ * 같은 recordKey의 엔트리 조회 → upsert → 집계 반영이 동시에 실행되면 양쪽 모두 신규 행으로 판단해
+ * uk_health_entry/uk_daily_summary 위반이 발생하므로, 저장 트랜잭션 전체를 recordKey 단위로 직렬화
+ * - 노드 내: recordKey 해시 기반 스트라이프 ReentrantLock (다른 스트라이프의 recordKey는 병렬 처리)
+ * - 노드 간(health.ingest.lock.distributed=true): Redis SET NX PX 락 (health:ingest:lock:{recordKey}),
+ *   해제는 자신이 건 토큰일 때만 삭제
+ * 대기 시간 안에 락을 얻지 못하면 HEALTH_WRITE_LOCK_TIMEOUT
+ * Redis 장애 시에는 노드 내 락만으로 진행 (최종 방어선은 DB 유니크 제약)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HealthWriteLockService {
+
+    private static final String LOCK_KEY_PREFIX = "health:ingest:lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${health.ingest.lock.stripes}")
+    private int stripeCount;
+
+    @Value("${health.ingest.lock.wait-millis}")
+    private long waitMillis;
+
+    @Value("${health.ingest.lock.distributed}")
+    private boolean distributed;
+
+    @Value("${health.ingest.lock.lease-millis}")
+    private long leaseMillis;
+
+    @Value("${health.ingest.lock.retry-millis}")
+    private long retryMillis;
+
+    private ReentrantLock[] stripes;
+
+    @PostConstruct
+    public void init() {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * recordKey 락을 잡은 상태로 action 실행
+     * 트랜잭션은 action 안에서 시작/커밋되어야 다음 락 보유자가 커밋된 결과를 읽음
+     */
+    public <T> T executeWithLock(@ShardKey String recordKey, Supplier<T> action) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        ReentrantLock lock = stripes[stripe(recordKey)];
+
+        if (!tryLock(lock, deadline)) {
+            log.warn("저장 락 대기 시간 초과: recordKey={}", recordKey);
+            throw CustomException.of(ErrorCode.HEALTH_WRITE_LOCK_TIMEOUT);
+        }
+        try {
+            Optional<String> token = distributed ? acquireDistributed(recordKey, deadline) : Optional.empty();
+            try {
+                return action.get();
+            } finally {
+                token.ifPresent(value -> releaseDistributed(recordKey, value));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 남은 대기 시간 동안 스트라이프 락 획득 시도
+     */
+    private boolean tryLock(ReentrantLock lock, long deadline) {
+        try {
+            return lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw CustomException.of(ErrorCode.HEALTH_WRITE_LOCK_TIMEOUT);
+        }
+    }
+
+    /**
+     * Redis 락 획득 (대기 시간 동안 retry-millis 간격으로 재시도)
+     * Redis 장애 시 빈 값을 반환해 노드 내 락만으로 진행
+     */
+    private Optional<String> acquireDistributed(String recordKey, long deadline) {
+        String token = UUID.randomUUID().toString();
+        try {
+            while (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey(recordKey), token, Duration.ofMillis(leaseMillis)))) {
+                if (System.nanoTime() >= deadline) {
+                    log.warn("Redis 저장 락 대기 시간 초과: recordKey={}", recordKey);
+                    throw CustomException.of(ErrorCode.HEALTH_WRITE_LOCK_TIMEOUT);
+                }
+                TimeUnit.MILLISECONDS.sleep(retryMillis);
+            }
+            return Optional.of(token);
+        } catch (DataAccessException e) {
+            log.warn("Redis 저장 락 획득 실패, 노드 내 락으로 진행: recordKey={}, error={}", recordKey, e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw CustomException.of(ErrorCode.HEALTH_WRITE_LOCK_TIMEOUT);
+        }
+    }
+
+    /**
+     * 자신이 건 Redis 락만 해제 (lease 만료 후 다른 노드가 잡은 락은 유지)
+     */
+    private void releaseDistributed(String recordKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(recordKey)), token);
+        } catch (DataAccessException e) {
+            log.warn("Redis 저장 락 해제 실패 (lease 만료 시 해제): recordKey={}, error={}", recordKey, e.getMessage());
+        }
+    }
+
+    private int stripe(String recordKey) {
+        return Math.floorMod(recordKey.hashCode(), stripes.length);
+    }
+
+    private String lockKey(String recordKey) {
+        return LOCK_KEY_PREFIX + recordKey;
+    }
+}
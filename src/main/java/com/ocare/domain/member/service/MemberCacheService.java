@@ -0,0 +1,97 @@
+package com.ocare.domain.member.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ocare.domain.member.dto.response.MemberResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * recordKey → 회원 조회 2단계 캐시 (L1: 노드 로컬 Caffeine, L2: Redis)
+ * 회원 정보는 가입 이후 변경되지 않으므로 TTL 만료로만 제거하며, 존재하지 않는 회원은 캐시하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberCacheService {
+
+    private static final String KEY_PREFIX = "member:record-key:";
+    private static final String METRIC_NAME = "member.cache";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, MemberResponse> memberLocalCache;
+
+    @Value("${member.cache.ttl-minutes}")
+    private long ttlMinutes;
+
+    /**
+     * 캐시 조회, 미적중 시 loader 결과를 캐시에 저장 후 반환
+     */
+    public Optional<MemberResponse> getByRecordKey(String recordKey, Supplier<Optional<MemberResponse>> loader) {
+        MemberResponse local = memberLocalCache.getIfPresent(recordKey);
+        if (local != null) {
+            count("l1", "hit");
+            return Optional.of(local);
+        }
+        count("l1", "miss");
+
+        Optional<MemberResponse> cached = readRedis(recordKey);
+        if (cached.isPresent()) {
+            count("l2", "hit");
+            memberLocalCache.put(recordKey, cached.get());
+            return cached;
+        }
+        count("l2", "miss");
+
+        Optional<MemberResponse> loaded = loader.get();
+        loaded.ifPresent(member -> {
+            writeRedis(recordKey, member);
+            memberLocalCache.put(recordKey, member);
+        });
+        return loaded;
+    }
+
+    /**
+     * L2 조회 (장애/역직렬화 실패 시 미적중으로 처리)
+     */
+    private Optional<MemberResponse> readRedis(String recordKey) {
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + recordKey);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, MemberResponse.class));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("회원 캐시 조회 실패: recordKey={}, error={}", recordKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * L2 저장
+     */
+    private void writeRedis(String recordKey, MemberResponse member) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + recordKey,
+                    objectMapper.writeValueAsString(member), Duration.ofMinutes(ttlMinutes));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("회원 캐시 저장 실패: recordKey={}, error={}", recordKey, e.getMessage());
+        }
+    }
+
+    private void count(String tier, String result) {
+        meterRegistry.counter(METRIC_NAME, "tier", tier, "result", result).increment();
+    }
+}
@@ -24,6 +24,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final MemberCacheService memberCacheService;
 
     /**
      * 회원가입 처리
@@ -51,7 +52,7 @@ public class MemberService {
         MemberEntity member = findByEmailWithErrorCode(request.getEmail(), ErrorCode.MEMBER_PASSWORD_MISMATCH);
         validatePassword(request.getPassword(), member.getPassword(), request.getEmail());
 
-        String accessToken = jwtTokenProvider.createToken(member.getEmail());
+        String accessToken = jwtTokenProvider.createToken(member.getEmail(), member.getRecordKey());
         log.info("로그인 성공: id={}, email={}", member.getId(), member.getEmail());
 
         return LoginResponse.of(accessToken, MemberResponse.of(member));
@@ -65,10 +66,11 @@ public class MemberService {
     }
 
     /**
-     * recordKey로 회원 조회
+     * recordKey로 회원 조회 (2단계 캐시 경유)
      */
-    public MemberEntity findByRecordKey(String recordKey) {
-        return memberRepository.findByRecordKey(recordKey)
+    public MemberResponse findByRecordKey(String recordKey) {
+        return memberCacheService.getByRecordKey(recordKey,
+                        () -> memberRepository.findByRecordKey(recordKey).map(MemberResponse::of))
                 .orElseThrow(() -> {
                     log.error("존재하지 않는 recordKey: recordKey={}", recordKey);
                     return CustomException.of(ErrorCode.MEMBER_NOT_FOUND);
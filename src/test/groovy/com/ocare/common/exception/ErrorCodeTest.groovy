@@ -31,6 +31,12 @@ class ErrorCodeTest extends Specification {
 
         ErrorCode.HEALTH_RECORD_KEY_INVALID.code == "HEALTH_003"
         ErrorCode.HEALTH_RECORD_KEY_INVALID.status == HttpStatus.BAD_REQUEST
+
+        ErrorCode.HEALTH_INGEST_QUEUE_UNAVAILABLE.code == "HEALTH_004"
+        ErrorCode.HEALTH_INGEST_QUEUE_UNAVAILABLE.status == HttpStatus.SERVICE_UNAVAILABLE
+
+        ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN.code == "HEALTH_005"
+        ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN.status == HttpStatus.FORBIDDEN
     }
 
     def "ErrorCode enum 값 검증 테스트 - AUTH 에러"() {
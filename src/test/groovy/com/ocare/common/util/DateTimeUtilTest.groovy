@@ -0,0 +1,59 @@
+package com.ocare.common.util
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.LocalDateTime
+
+class DateTimeUtilTest extends Specification {
+
+    @Unroll
+    def "날짜/시간 파싱 테스트 - #input"() {
+        expect:
+        DateTimeUtil.parse(input) == expected
+
+        where:
+        input                            | expected
+        "2024-11-15 10:20:30"            | LocalDateTime.of(2024, 11, 15, 10, 20, 30)
+        "2024-11-15T10:20:30Z"           | LocalDateTime.of(2024, 11, 15, 10, 20, 30)
+        "2024-11-15T10:20:30+0000"       | LocalDateTime.of(2024, 11, 15, 10, 20, 30)
+        "2024-11-15T10:20:30+09:00"      | LocalDateTime.of(2024, 11, 15, 10, 20, 30)
+        "2024-11-15 10:20:30 +0000"      | LocalDateTime.of(2024, 11, 15, 10, 20, 30)
+        "2024-11-15T10:20:30-0500"       | LocalDateTime.of(2024, 11, 15, 10, 20, 30)
+        "2024-02-29 23:59:59"            | LocalDateTime.of(2024, 2, 29, 23, 59, 59)
+        "2024-11-15T10:20:30.123Z"       | LocalDateTime.of(2024, 11, 15, 10, 20, 30, 123_000_000)
+        "2024-11-15T10:20:30.5+09:00"    | LocalDateTime.of(2024, 11, 15, 10, 20, 30, 500_000_000)
+    }
+
+    @Unroll
+    def "빠른 경로와 포매터 체인 결과 일치 테스트 (범위를 벗어난 값은 포매터 체인으로 위임) - #input"() {
+        expect:
+        DateTimeUtil.parse(input) == DateTimeUtil.parseWithFormatters(input)
+
+        where:
+        input << [
+                "2024-11-15 00:00:00",
+                "2024-12-31T23:59:59Z",
+                "2024-01-01T00:10:00+0000",
+                "2024-01-01T00:10:00+09:00",
+                "2024-01-01 00:10:00 +0000",
+                "2024-01-01 00:10:00+0900",
+                "2023-02-28T12:00:00-0800",
+                "2024-11-15T10:20:30.123+00:00",
+                "2023-02-29 00:00:00",
+                "2024-11-15 24:00:00"
+        ]
+    }
+
+    @Unroll
+    def "날짜/시간 파싱 실패 테스트 - #input"() {
+        when:
+        DateTimeUtil.parse(input)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        input << [null, "", "   ", "2024-13-01 00:00:00", "2024/11/15 10:20:30", "not-a-date"]
+    }
+}
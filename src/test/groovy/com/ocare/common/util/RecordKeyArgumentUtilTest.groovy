@@ -0,0 +1,116 @@
+package com.ocare.common.util
+
+import com.ocare.config.shard.NoShardKey
+import com.ocare.config.shard.ShardKey
+import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.service.HealthAccessService
+import com.ocare.domain.health.service.HealthAggregationScheduler
+import com.ocare.domain.health.service.HealthAggregationService
+import com.ocare.domain.health.service.HealthDataBatchService
+import com.ocare.domain.health.service.HealthDataService
+import com.ocare.domain.health.service.HealthDataStreamService
+import com.ocare.domain.health.service.HealthEntryQueryService
+import com.ocare.domain.health.service.HealthIngestJobConsumer
+import com.ocare.domain.health.service.HealthIngestJobService
+import com.ocare.domain.health.service.HealthIngestJobWorker
+import com.ocare.domain.health.service.HealthQueryService
+import com.ocare.domain.health.service.HealthSummaryCacheService
+import com.ocare.domain.health.service.HealthWriteLockService
+import jakarta.annotation.PostConstruct
+import jakarta.annotation.PreDestroy
+import org.aspectj.lang.JoinPoint
+import org.aspectj.lang.reflect.MethodSignature
+import spock.lang.Specification
+
+import java.lang.reflect.Method
+import java.lang.reflect.Modifier
+
+class RecordKeyArgumentUtilTest extends Specification {
+
+    static final List<Class<?>> HEALTH_SERVICES = [HealthAccessService, HealthAggregationScheduler,
+            HealthAggregationService, HealthDataBatchService, HealthDataService, HealthDataStreamService,
+            HealthEntryQueryService, HealthIngestJobConsumer, HealthIngestJobService, HealthIngestJobWorker,
+            HealthQueryService, HealthSummaryCacheService, HealthWriteLockService]
+
+    def "recordKey 찾기 테스트 - ShardKey로 표시된 String 인자"() {
+        expect:
+        RecordKeyArgumentUtil.find(joinPoint("byString", "other", "rk")) == Optional.of("rk")
+    }
+
+    def "recordKey 찾기 테스트 - ShardKey로 표시된 HealthDataRequest 인자"() {
+        given:
+        HealthDataRequest request = Mock() {
+            getRecordKey() >> "rk"
+        }
+
+        expect:
+        RecordKeyArgumentUtil.find(joinPoint("byRequest", request)) == Optional.of("rk")
+    }
+
+    def "recordKey 찾기 테스트 - 이름이 recordKey여도 ShardKey가 없으면 사용하지 않음"() {
+        expect:
+        RecordKeyArgumentUtil.find(joinPoint("unrouted", "rk")) == Optional.empty()
+    }
+
+    def "recordKey 찾기 테스트 - ShardKey와 NoShardKey가 모두 없으면 실패"() {
+        when:
+        RecordKeyArgumentUtil.find(joinPoint("unmarked", "rk"))
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "recordKey 찾기 테스트 - ShardKey가 지원하지 않는 타입에 붙으면 실패"() {
+        when:
+        RecordKeyArgumentUtil.find(joinPoint("byNumber", 1L))
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "표시 누락 테스트 - 건강 서비스의 모든 공개 메서드에 ShardKey 또는 NoShardKey가 있음"() {
+        expect:
+        HEALTH_SERVICES.each { Class<?> type ->
+            type.declaredMethods
+                    .findAll { Modifier.isPublic(it.modifiers) && !it.synthetic && !isLifecycle(it) }
+                    .each { Method method ->
+                        assert isMarked(method): method.toGenericString()
+                    }
+        }
+    }
+
+    private static boolean isLifecycle(Method method) {
+        return method.isAnnotationPresent(PostConstruct) || method.isAnnotationPresent(PreDestroy)
+    }
+
+    private static boolean isMarked(Method method) {
+        return method.parameterAnnotations.any { annotations -> annotations.any { it instanceof ShardKey } } ||
+                method.isAnnotationPresent(NoShardKey) ||
+                method.declaringClass.isAnnotationPresent(NoShardKey)
+    }
+
+    private JoinPoint joinPoint(String name, Object... args) {
+        Method method = Target.declaredMethods.find { it.name == name }
+        MethodSignature signature = Mock() {
+            getMethod() >> method
+        }
+        return Mock(JoinPoint) {
+            getSignature() >> signature
+            getArgs() >> args
+        }
+    }
+
+    static class Target {
+
+        void byString(String other, @ShardKey String recordKey) {}
+
+        void byRequest(@ShardKey HealthDataRequest request) {}
+
+        void byNumber(@ShardKey Long recordKey) {}
+
+        @NoShardKey
+        void unrouted(String recordKey) {}
+
+        void unmarked(String recordKey) {}
+    }
+}
@@ -0,0 +1,40 @@
+package com.ocare.config
+
+import com.ocare.OcareApplication
+import com.ocare.config.replica.ReadConsistencyTracker
+import com.ocare.config.shard.ShardRouter
+import com.ocare.domain.health.repository.HealthEntryHotTier
+import com.ocare.domain.health.repository.RowHealthEntryStore
+import com.ocare.domain.health.service.HealthAggregationScheduler
+import com.ocare.domain.health.service.HealthAggregationService
+import com.ocare.domain.health.service.HealthDataService
+import com.ocare.domain.health.service.HealthSummaryCacheService
+import com.ocare.domain.health.service.HealthWriteLockService
+import org.spockframework.spring.SpringBean
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.annotation.Import
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+
+/**
+ * 샤딩/읽기 복제본 통합 테스트 공통 구성 (건강 데이터 저장 경로 빈, Redis 없이 캐시는 로더를 그대로 호출)
+ * DB 구성 속성과 @DataJpaTest/@AutoConfigureTestDatabase/@Transactional은 하위 테스트에 선언
+ * (@DataJpaTest가 메타 선언한 값이 상위 클래스 선언보다 우선하므로)
+ */
+@ContextConfiguration(classes = OcareApplication)
+@Import([ShardRouter, HealthDataService, RowHealthEntryStore, HealthEntryHotTier, HealthAggregationService,
+        HealthAggregationScheduler, HealthWriteLockService, ReadConsistencyTracker])
+abstract class HealthRoutingSpecification extends Specification {
+
+    @SpringBean
+    HealthSummaryCacheService summaryCacheService = Stub() {
+        getOrLoad(_, _, _) >> { args -> args[2].get() }
+    }
+
+    @SpringBean
+    StringRedisTemplate redisTemplate = Stub()
+
+    @Autowired
+    HealthDataService healthDataService
+}
@@ -0,0 +1,72 @@
+package com.ocare.config
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.dto.response.DailySummaryResponse
+import org.springframework.http.HttpInputMessage
+import org.springframework.http.HttpOutputMessage
+import org.springframework.http.MediaType
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder
+import org.springframework.mock.http.MockHttpInputMessage
+import org.springframework.mock.http.MockHttpOutputMessage
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.LocalDate
+
+class JacksonConfigTest extends Specification {
+
+    @Subject
+    JacksonConfig jacksonConfig = new JacksonConfig()
+
+    def "바이너리 변환기 테스트 - JSON과 같은 빌더 설정으로 응답 DTO 직렬화"() {
+        given:
+        AbstractJackson2HttpMessageConverter converter = converterOf(bootLikeBuilder())
+        DailySummaryResponse summary = DailySummaryResponse.builder()
+                .recordKey("test-record-key").date(LocalDate.of(2024, 1, 5))
+                .steps(8000).calories(320.5f).distance(5.6f)
+                .build()
+        MockHttpOutputMessage output = new MockHttpOutputMessage()
+
+        when:
+        converter.write(summary, mediaType, output as HttpOutputMessage)
+        JsonNode written = converter.objectMapper.readTree(output.bodyAsBytes)
+
+        then:
+        converter.canWrite(DailySummaryResponse, mediaType)
+        written.get("date").asText() == "2024-01-05"
+        written.get("steps").asInt() == 8000
+
+        where:
+        mediaType                                        | converterOf
+        MediaType.APPLICATION_CBOR                       | { b -> new JacksonConfig().cborHttpMessageConverter(b) }
+        MediaType.valueOf("application/x-jackson-smile") | { b -> new JacksonConfig().smileHttpMessageConverter(b) }
+    }
+
+    def "바이너리 변환기 테스트 - 업로드 요청 DTO 역직렬화"() {
+        given:
+        AbstractJackson2HttpMessageConverter converter = jacksonConfig.cborHttpMessageConverter(bootLikeBuilder())
+        byte[] body = converter.objectMapper.writeValueAsBytes([
+                recordkey: "test-record-key",
+                data     : [entries: [[period  : [from: "2024-11-15 00:00:00", to: "2024-11-15 00:10:00"],
+                                       distance: [unit: "km", value: 0.07],
+                                       calories: [unit: "kcal", value: "3.5"],
+                                       steps   : 100]]]
+        ])
+
+        when:
+        HealthDataRequest request = converter.read(HealthDataRequest,
+                new MockHttpInputMessage(body) as HttpInputMessage) as HealthDataRequest
+
+        then:
+        request.recordKey == "test-record-key"
+        request.data.entries[0].stepsAsInteger == 100
+        request.data.entries[0].calories.valueAsFloat == 3.5f
+    }
+
+    private Jackson2ObjectMapperBuilder bootLikeBuilder() {
+        return new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+    }
+}
@@ -0,0 +1,31 @@
+package com.ocare.config
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+class WorkerThreadFactoryProviderTest extends Specification {
+
+    @Subject
+    WorkerThreadFactoryProvider provider = new WorkerThreadFactoryProvider()
+
+    def "워커 스레드 생성 테스트 - 기본은 접두사 이름의 플랫폼 스레드"() {
+        when:
+        Thread thread = provider.create("health-test-").newThread({})
+
+        then:
+        !thread.virtual
+        thread.name == "health-test-1"
+    }
+
+    def "워커 스레드 생성 테스트 - 가상 스레드 모드면 접두사 이름의 가상 스레드"() {
+        given:
+        provider.virtualThreads = true
+
+        when:
+        Thread thread = provider.create("health-test-").newThread({})
+
+        then:
+        thread.virtual
+        thread.name == "health-test-1"
+    }
+}
@@ -0,0 +1,78 @@
+package com.ocare.config.jwt
+
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.security.Keys
+import org.springframework.security.core.Authentication
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.charset.StandardCharsets
+
+class JwtTokenProviderTest extends Specification {
+
+    static final String SECRET = "test-secret-key-for-jwt-token-provider-spec-0123456789"
+
+    @Subject
+    JwtTokenProvider jwtTokenProvider = new JwtTokenProvider()
+
+    def setup() {
+        jwtTokenProvider.secretKey = SECRET
+        jwtTokenProvider.tokenValidityInMilliseconds = 60_000L
+        jwtTokenProvider.init()
+    }
+
+    def "토큰 생성 후 인증 정보 복원 테스트 - 클레임으로 principal 구성"() {
+        given:
+        String token = jwtTokenProvider.createToken("gildong@test.com", "test-record-key")
+
+        when:
+        Optional<Authentication> result = jwtTokenProvider.getAuthentication(token)
+
+        then:
+        result.isPresent()
+        JwtMemberPrincipal principal = result.get().principal as JwtMemberPrincipal
+        principal.email == "gildong@test.com"
+        principal.recordKey == "test-record-key"
+        principal.isOwnerOf("test-record-key")
+        !principal.isOwnerOf("other-record-key")
+        result.get().authorities*.authority == ["ROLE_USER"]
+    }
+
+    def "인증 실패 테스트 - 서명이 다른 토큰"() {
+        given:
+        String token = Jwts.builder()
+                .subject("gildong@test.com")
+                .claim("recordKey", "test-record-key")
+                .claim("role", "ROLE_USER")
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-for-jwt-token-provider-spec-987654".getBytes(StandardCharsets.UTF_8)))
+                .compact()
+
+        expect:
+        jwtTokenProvider.getAuthentication(token).isEmpty()
+    }
+
+    def "인증 실패 테스트 - 만료된 토큰"() {
+        given:
+        jwtTokenProvider.tokenValidityInMilliseconds = -1_000L
+        String token = jwtTokenProvider.createToken("gildong@test.com", "test-record-key")
+
+        expect:
+        jwtTokenProvider.getAuthentication(token).isEmpty()
+    }
+
+    def "인증 실패 테스트 - recordKey 클레임이 없는 이전 형식 토큰"() {
+        given:
+        String token = Jwts.builder()
+                .subject("gildong@test.com")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact()
+
+        expect:
+        jwtTokenProvider.getAuthentication(token).isEmpty()
+    }
+
+    def "인증 실패 테스트 - 형식이 잘못된 토큰"() {
+        expect:
+        jwtTokenProvider.getAuthentication("not-a-jwt").isEmpty()
+    }
+}
@@ -0,0 +1,48 @@
+package com.ocare.config.replica
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+class ReadConsistencyTrackerTest extends Specification {
+
+    @Subject
+    ReadConsistencyTracker consistencyTracker = new ReadConsistencyTracker()
+
+    def setup() {
+        consistencyTracker.enabled = true
+        consistencyTracker.windowMillis = 60_000
+        consistencyTracker.init()
+    }
+
+    def "기록 테스트 - 집계가 바뀐 recordKey만 window 동안 primary 대상"() {
+        when:
+        consistencyTracker.markWritten("rk")
+
+        then:
+        consistencyTracker.isRecentlyWritten("rk")
+        !consistencyTracker.isRecentlyWritten("other")
+    }
+
+    def "기록 테스트 - window가 지나면 다시 복제본 대상"() {
+        given:
+        consistencyTracker.windowMillis = 0
+        consistencyTracker.init()
+
+        when:
+        consistencyTracker.markWritten("rk")
+
+        then:
+        !consistencyTracker.isRecentlyWritten("rk")
+    }
+
+    def "복제본 꺼짐 테스트 - 기록하지 않음"() {
+        given:
+        consistencyTracker.enabled = false
+
+        when:
+        consistencyTracker.markWritten("rk")
+
+        then:
+        !consistencyTracker.isRecentlyWritten("rk")
+    }
+}
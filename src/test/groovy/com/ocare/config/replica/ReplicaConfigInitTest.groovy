@@ -0,0 +1,33 @@
+package com.ocare.config.replica
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+class ReplicaConfigInitTest extends Specification {
+
+    @Subject
+    ReplicaConfig replicaConfig = new ReplicaConfig()
+
+    def "시작 테스트 - 샤딩과 함께 켜면 시작 실패"() {
+        given:
+        replicaConfig.shardingEnabled = true
+
+        when:
+        replicaConfig.init()
+
+        then:
+        def e = thrown(IllegalStateException)
+        e.message.contains("health.sharding.enabled")
+    }
+
+    def "시작 테스트 - 샤딩이 꺼져 있으면 통과"() {
+        given:
+        replicaConfig.shardingEnabled = false
+
+        when:
+        replicaConfig.init()
+
+        then:
+        noExceptionThrown()
+    }
+}
@@ -0,0 +1,144 @@
+package com.ocare.config.replica
+
+import com.ocare.config.HealthRoutingSpecification
+import com.ocare.domain.health.HealthDataRequestFixture
+import com.ocare.domain.health.dto.EntryDelta
+import com.ocare.domain.health.service.HealthAggregationService
+import com.ocare.domain.health.service.HealthQueryService
+import com.ocare.domain.member.entity.MemberEntity
+import com.ocare.domain.member.repository.MemberRepository
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+
+import java.sql.Connection
+import java.sql.DriverManager
+import java.time.LocalDateTime
+
+/**
+ * 읽기 복제본 분리 통합 테스트 (primary 1개 + 복제본 1개, 모두 H2 메모리 DB)
+ * 복제본은 primary와 별개의 DB(스키마만 복사, 데이터 복제 없음)라서 어느 쪽에서 읽었는지 결과로 구분됨
+ */
+@DataJpaTest(properties = [
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:replica-primary;DB_CLOSE_DELAY=-1",
+        "health.replica.enabled=true",
+        "health.replica.urls=jdbc:h2:mem:replica-0;DB_CLOSE_DELAY=-1",
+        "health.aggregation.write-behind.enabled=false"
+])
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration([AopAutoConfiguration, JacksonAutoConfiguration, MetricsAutoConfiguration,
+        SimpleMetricsExportAutoConfiguration])
+@Import([ReplicaConfig, HealthQueryService])
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaConfigTest extends HealthRoutingSpecification {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-0;DB_CLOSE_DELAY=-1"
+    static final LocalDateTime START = LocalDateTime.of(2024, 4, 1, 9, 0)
+
+    @Autowired
+    HealthQueryService healthQueryService
+
+    @Autowired
+    HealthAggregationService aggregationService
+
+    @Autowired
+    MemberRepository memberRepository
+
+    @Autowired
+    ReadConsistencyTracker consistencyTracker
+
+    @Autowired
+    MeterRegistry meterRegistry
+
+    @Autowired
+    TransactionTemplate transactionTemplate
+
+    def setup() {
+        copySchemaToReplica()
+    }
+
+    def "라우팅 테스트 - 저장은 primary, 읽기 전용 조회는 복제본"() {
+        given:
+        String recordKey = "replica-read"
+
+        when: "쓰기 경로를 거치지 않고 primary에 집계만 기록 (primary 읽기 기록 없음)"
+        transactionTemplate.executeWithoutResult {
+            aggregationService.updateAggregations(recordKey, [new EntryDelta(START.toLocalDate().toEpochDay(), 300, 10.5f, 0.21f, 1)])
+        }
+
+        then: "복제본에는 데이터가 없으므로 조회 결과가 비어 있으면 복제본에서 읽은 것"
+        !consistencyTracker.isRecentlyWritten(recordKey)
+        healthQueryService.getDailySummaries(recordKey, null, null).isEmpty()
+        routed("replica-0") > 0
+    }
+
+    def "일관성 테스트 - 저장이 커밋된 recordKey는 window 동안 primary에서 조회"() {
+        given:
+        String recordKey = "replica-consistency"
+
+        when:
+        healthDataService.saveHealthData(HealthDataRequestFixture.request(recordKey, START, 4))
+
+        then:
+        consistencyTracker.isRecentlyWritten(recordKey)
+        healthQueryService.getDailySummaries(recordKey, null, null)*.steps == [4 * 100]
+        healthQueryService.getDailySummaries("replica-other", null, null).isEmpty()
+    }
+
+    def "라우팅 테스트 - 읽기 전용이 아닌 트랜잭션의 조회는 primary"() {
+        given:
+        memberRepository.save(MemberEntity.of("복제본", "replica", "replica@test.com", "password", "replica-member-key"))
+
+        expect:
+        transactionTemplate.execute { memberRepository.findByEmail("replica@test.com") }.isPresent()
+        readOnly { memberRepository.findByEmail("replica@test.com") }.isEmpty()
+    }
+
+    private <T> T readOnly(Closure<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.transactionManager)
+        template.readOnly = true
+        return template.execute { action.call() }
+    }
+
+    private double routed(String target) {
+        return meterRegistry.counter("health.replica.route", "target", target).count()
+    }
+
+    /**
+     * primary 스키마를 복제본 DB에 복사 (처음 한 번)
+     */
+    private static void copySchemaToReplica() {
+        Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "")
+        Connection primary = DriverManager.getConnection("jdbc:h2:mem:replica-primary;DB_CLOSE_DELAY=-1", "sa", "")
+        try {
+            def exists = replica.createStatement().executeQuery(
+                    "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'HEALTH_ENTRY'")
+            exists.next()
+            if (exists.getInt(1) > 0) {
+                return
+            }
+
+            def script = primary.createStatement().executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")
+            while (script.next()) {
+                String sql = script.getString(1)
+                if (!sql.startsWith("CREATE USER")) {
+                    replica.createStatement().execute(sql)
+                }
+            }
+        } finally {
+            primary.close()
+            replica.close()
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.ocare.config.replica
+
+import com.zaxxer.hikari.HikariDataSource
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.sql.Connection
+import java.sql.SQLException
+
+class ReplicaRoutingDataSourceTest extends Specification {
+
+    Connection primaryConnection = Mock()
+    Connection replicaConnection0 = Mock()
+    Connection replicaConnection1 = Mock()
+
+    HikariDataSource primary = Mock() {
+        getConnection() >> primaryConnection
+    }
+    HikariDataSource replica0 = Mock() {
+        getPoolName() >> "replica-0"
+    }
+    HikariDataSource replica1 = Mock() {
+        getPoolName() >> "replica-1"
+    }
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    @Subject
+    ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, [replica0, replica1], meterRegistry)
+
+    def cleanup() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false)
+    }
+
+    def "라우팅 테스트 - 읽기 전용이 아닌 트랜잭션은 primary"() {
+        when:
+        Connection connection = dataSource.connection
+
+        then:
+        connection == primaryConnection
+        0 * replica0.getConnection()
+        0 * replica1.getConnection()
+        routed("primary") == 1
+    }
+
+    def "라우팅 테스트 - 읽기 전용 트랜잭션은 복제본을 번갈아 사용"() {
+        given:
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true)
+        replica0.getConnection() >> replicaConnection0
+        replica1.getConnection() >> replicaConnection1
+
+        expect:
+        (0..<4).collect { dataSource.connection } ==
+                [replicaConnection0, replicaConnection1, replicaConnection0, replicaConnection1]
+        routed("replica-0") == 2
+        routed("replica-1") == 2
+        routed("primary") == 0
+    }
+
+    def "라우팅 테스트 - primary로 바인딩된 호출은 읽기 전용이어도 primary"() {
+        given:
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true)
+        boolean previous = ReplicaContext.requirePrimary()
+
+        when:
+        Connection connection = dataSource.connection
+
+        then:
+        connection == primaryConnection
+        0 * replica0.getConnection()
+        0 * replica1.getConnection()
+
+        cleanup:
+        ReplicaContext.restore(previous)
+    }
+
+    def "상태 확인 테스트 - 커넥션을 얻지 못한 복제본은 제외하고, 복구되면 다시 사용"() {
+        given:
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true)
+        boolean replica0Down = true
+        replica0.getConnection() >> { if (replica0Down) throw new SQLException("down"); replicaConnection0 }
+        replica1.getConnection() >> replicaConnection1
+        replicaConnection0.isValid(_) >> true
+        replicaConnection1.isValid(_) >> true
+
+        when: "첫 요청은 primary로 대체, 이후에는 남은 복제본만 사용"
+        List<Connection> whileDown = (0..<3).collect { dataSource.connection }
+
+        then:
+        whileDown == [primaryConnection, replicaConnection1, replicaConnection1]
+        dataSource.healthyReplicaCount == 1
+
+        when: "복구 후 상태 확인"
+        replica0Down = false
+        dataSource.checkReplicas()
+
+        then:
+        dataSource.healthyReplicaCount == 2
+        (0..<2).collect { dataSource.connection } as Set == [replicaConnection0, replicaConnection1] as Set
+    }
+
+    def "상태 확인 테스트 - 모든 복제본이 비정상이면 primary"() {
+        given:
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true)
+        replica0.getConnection() >> { throw new SQLException("down") }
+        replica1.getConnection() >> replicaConnection1
+        replicaConnection1.isValid(_) >> false
+
+        when:
+        dataSource.checkReplicas()
+        Connection connection = dataSource.connection
+
+        then:
+        dataSource.healthyReplicaCount == 0
+        connection == primaryConnection
+    }
+
+    def "생성 테스트 - 복제본은 하나 이상"() {
+        when:
+        new ReplicaRoutingDataSource(primary, [], meterRegistry)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    private double routed(String target) {
+        return meterRegistry.counter("health.replica.route", "target", target).count()
+    }
+}
@@ -0,0 +1,112 @@
+package com.ocare.config.shard
+
+import com.ocare.config.HealthRoutingSpecification
+import com.ocare.domain.health.HealthDataRequestFixture
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+
+import java.sql.Connection
+import java.sql.DriverManager
+import java.time.LocalDateTime
+
+/**
+ * 샤드 재배치 도구 테스트
+ * 샤드 2개로 저장한 뒤 3개로 늘리고 다시 2개로 줄이면서, 행이 새 샤드 수 기준 위치에만 있는지 확인
+ */
+@DataJpaTest(properties = [
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:rebalance-global;DB_CLOSE_DELAY=-1",
+        "health.sharding.enabled=true",
+        "health.sharding.shards=2",
+        "health.sharding.url=jdbc:h2:mem:rebalance-{shard};DB_CLOSE_DELAY=-1",
+        "health.aggregation.write-behind.enabled=false"
+])
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(AopAutoConfiguration)
+@Import(ShardingConfig)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ShardRebalanceToolTest extends HealthRoutingSpecification {
+
+    static final String URL = "jdbc:h2:mem:rebalance-{shard};DB_CLOSE_DELAY=-1"
+    static final LocalDateTime START = LocalDateTime.of(2024, 5, 1, 9, 0)
+    static final List<String> TABLES = ["HEALTH_ENTRY", "DAILY_HEALTH_SUMMARY", "WEEKLY_HEALTH_SUMMARY",
+                                        "MONTHLY_HEALTH_SUMMARY", "YEARLY_HEALTH_SUMMARY"]
+
+    def "재배치 테스트 - 샤드를 늘리고 줄여도 recordKey의 모든 행이 새 위치로 이동"() {
+        given:
+        List<String> recordKeys = (0..<30).collect { "rebalance-${it}".toString() }
+        recordKeys.each { healthDataService.saveHealthData(HealthDataRequestFixture.request(it, START, 3)) }
+        Map<String, Integer> expectedRows = recordKeys.collectEntries { [(it): rowCount(ShardRouter.shardOf(it, 2), it)] }
+
+        when: "2 → 3"
+        int grown = new ShardRebalanceTool(URL, "sa", "", 2, 3).run()
+
+        then: "새 샤드(2)로 배정된 recordKey만 이동하고, 새 샤드 스키마와 시퀀스 구간이 준비됨"
+        grown == recordKeys.count { ShardRouter.shardOf(it, 3) == 2 }
+        grown > 0
+        recordKeys.every { rowsOnlyOn(it, ShardRouter.shardOf(it, 3), 3, expectedRows[it]) }
+        nextEntryId(2) >= 3 * ShardSchemaIntegrator.SEQUENCE_RANGE
+
+        when: "3 → 2"
+        int shrunk = new ShardRebalanceTool(URL, "sa", "", 3, 2).run()
+
+        then:
+        shrunk == grown
+        recordKeys.every { rowsOnlyOn(it, ShardRouter.shardOf(it, 2), 3, expectedRows[it]) }
+    }
+
+    def "재배치 테스트 - 다시 실행해도 이동할 recordKey가 없으면 아무것도 바꾸지 않음"() {
+        expect:
+        new ShardRebalanceTool(URL, "sa", "", 2, 2).run() == 0
+    }
+
+    def "재배치 테스트 - 샤드 수는 1 이상"() {
+        when:
+        new ShardRebalanceTool(URL, "sa", "", 0, 2)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    /**
+     * recordKey의 행이 shard에만 expected개 있고 나머지 샤드에는 없는지
+     */
+    private boolean rowsOnlyOn(String recordKey, int shard, int shardCount, int expected) {
+        return (0..<shardCount).every { it == shard ? rowCount(it, recordKey) == expected : rowCount(it, recordKey) == 0 }
+    }
+
+    private int rowCount(int shard, String recordKey) {
+        return withShard(shard) { Connection connection ->
+            TABLES.sum { String table ->
+                def statement = connection.prepareStatement("SELECT COUNT(*) FROM ${table} WHERE RECORD_KEY = ?")
+                statement.setString(1, recordKey)
+                def rs = statement.executeQuery()
+                rs.next()
+                rs.getInt(1)
+            } as int
+        }
+    }
+
+    private long nextEntryId(int shard) {
+        return withShard(shard) { Connection connection ->
+            def rs = connection.createStatement().executeQuery("SELECT NEXT VALUE FOR HEALTH_ENTRY_SEQ")
+            rs.next()
+            rs.getLong(1)
+        }
+    }
+
+    private static <T> T withShard(int shard, Closure<T> action) {
+        Connection connection = DriverManager.getConnection(URL.replace("{shard}", String.valueOf(shard)), "sa", "")
+        try {
+            return action.call(connection)
+        } finally {
+            connection.close()
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ocare.config.shard
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+class ShardRouterTest extends Specification {
+
+    static final List<String> RECORD_KEYS = (0..<10000).collect { "record-key-${it}".toString() }
+
+    @Subject
+    ShardRouter shardRouter = new ShardRouter()
+
+    def "샤드 결정 테스트 - 같은 recordKey는 항상 같은 샤드, 범위는 0 ~ 샤드 수 - 1"() {
+        given:
+        shardRouter.enabled = true
+        shardRouter.shards = 4
+
+        expect:
+        RECORD_KEYS.every { shardRouter.shardOf(it) == shardRouter.shardOf(it) }
+        RECORD_KEYS.collect { shardRouter.shardOf(it) }.toSet() == [0, 1, 2, 3] as Set
+    }
+
+    def "샤드 결정 테스트 - 샤드마다 고르게 배정"() {
+        when:
+        Map<Integer, Integer> counts = RECORD_KEYS.countBy { ShardRouter.shardOf(it, 4) }
+
+        then: "기대값 2500의 ±10% 이내"
+        counts.values().every { Math.abs(it - 2500) < 250 }
+    }
+
+    def "샤드 결정 테스트 - 샤드를 늘리면 새 샤드로 가는 recordKey만 이동"() {
+        when:
+        List<String> moved = RECORD_KEYS.findAll { ShardRouter.shardOf(it, 4) != ShardRouter.shardOf(it, 5) }
+
+        then: "이동한 recordKey는 모두 새 샤드(4)로 가고, 이동 비율은 약 1/5"
+        moved.every { ShardRouter.shardOf(it, 5) == 4 }
+        Math.abs(moved.size() - 2000) < 200
+    }
+
+    def "샤딩 꺼짐 테스트 - 샤드 하나, 바인딩 없이 한 번만 실행"() {
+        given:
+        List<Optional<Integer>> bindings = []
+
+        when:
+        shardRouter.forEachShard { bindings << ShardContext.current() }
+
+        then:
+        shardRouter.shardCount == 1
+        shardRouter.shardOf("any") == 0
+        bindings == [Optional.empty()]
+    }
+
+    def "샤드 순회 테스트 - 샤드마다 바인딩하고 끝나면 이전 바인딩으로 복원"() {
+        given:
+        shardRouter.enabled = true
+        shardRouter.shards = 3
+        List<Integer> bindings = []
+        Integer previous = ShardContext.bind(7)
+
+        when:
+        shardRouter.forEachShard { bindings << ShardContext.current().orElseThrow() }
+
+        then:
+        bindings == [0, 1, 2]
+        ShardContext.current() == Optional.of(7)
+
+        cleanup:
+        ShardContext.restore(previous)
+    }
+}
@@ -0,0 +1,148 @@
+package com.ocare.config.shard
+
+import com.ocare.config.HealthRoutingSpecification
+import com.ocare.domain.health.HealthDataRequestFixture
+import com.ocare.domain.health.dto.response.DailySummaryResponse
+import com.ocare.domain.health.service.HealthQueryService
+import com.ocare.domain.member.entity.MemberEntity
+import com.ocare.domain.member.repository.MemberRepository
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+
+import javax.sql.DataSource
+import java.time.LocalDateTime
+
+/**
+ * 샤딩 모드 통합 테스트 (글로벌 DB 1개 + 샤드 DB 2개, 모두 H2 메모리 DB)
+ * 서비스는 샤딩 여부와 무관하게 그대로 호출하고, 행이 recordKey의 샤드에만 기록되는지 DB별로 직접 확인
+ */
+@DataJpaTest(properties = [
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:sharding-global;DB_CLOSE_DELAY=-1",
+        "health.sharding.enabled=true",
+        "health.sharding.shards=2",
+        "health.sharding.url=jdbc:h2:mem:sharding-{shard};DB_CLOSE_DELAY=-1",
+        "health.aggregation.write-behind.enabled=false"
+])
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration([AopAutoConfiguration, JacksonAutoConfiguration])
+@Import([ShardingConfig, HealthQueryService])
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ShardingConfigTest extends HealthRoutingSpecification {
+
+    static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 9, 0)
+
+    @Autowired
+    HealthQueryService healthQueryService
+
+    @Autowired
+    MemberRepository memberRepository
+
+    @Autowired
+    ShardRouter shardRouter
+
+    @Autowired
+    DataSource dataSource
+
+    @Autowired
+    TransactionTemplate transactionTemplate
+
+    def "저장/조회 테스트 - 건강 데이터는 recordKey의 샤드에만 기록되고 조회도 그 샤드에서"() {
+        given: "샤드 0, 1에 하나씩 배정되는 recordKey"
+        String first = recordKeyOn(0, "save")
+        String second = recordKeyOn(1, "save")
+
+        when:
+        healthDataService.saveHealthData(HealthDataRequestFixture.request(first, START, 3))
+        healthDataService.saveHealthData(HealthDataRequestFixture.request(second, START, 5))
+
+        then:
+        count(0, "HEALTH_ENTRY", first) == 3
+        count(1, "HEALTH_ENTRY", first) == 0
+        count(1, "HEALTH_ENTRY", second) == 5
+        count(0, "HEALTH_ENTRY", second) == 0
+        count(null, "HEALTH_ENTRY", first) == 0
+        count(null, "HEALTH_ENTRY", second) == 0
+        count(0, "DAILY_HEALTH_SUMMARY", first) == 1
+        count(1, "DAILY_HEALTH_SUMMARY", second) == 1
+
+        and:
+        List<DailySummaryResponse> daily = healthQueryService.getDailySummaries(second, null, null)
+        daily*.date == [START.toLocalDate()]
+        daily[0].steps == 5 * 100
+        ShardContext.current().isEmpty()
+    }
+
+    def "ID 테스트 - 다른 샤드에서 받은 ID 블록을 이어 써도 샤드 안에서 ID가 겹치지 않음"() {
+        given: "시퀀스 블록(100개) 경계를 넘도록 샤드 0 → 샤드 1 순서로 저장"
+        String first = recordKeyOn(0, "id")
+        String second = recordKeyOn(1, "id")
+
+        when:
+        healthDataService.saveHealthData(HealthDataRequestFixture.request(first, START, 150))
+        healthDataService.saveHealthData(HealthDataRequestFixture.request(second, START, 250))
+
+        then:
+        count(0, "HEALTH_ENTRY", first) == 150
+        count(1, "HEALTH_ENTRY", second) == 250
+        [0, 1].every { shard ->
+            onShard(shard) { it.queryForObject("SELECT COUNT(DISTINCT ID) = COUNT(*) FROM HEALTH_ENTRY", Boolean) }
+        }
+    }
+
+    def "회원 테스트 - MEMBER는 글로벌 DB에 저장"() {
+        when:
+        memberRepository.save(MemberEntity.of("샤드", "shard", "shard@test.com", "password", "shard-member-key"))
+
+        then:
+        onShard(null) { it.queryForObject("SELECT COUNT(*) FROM MEMBER WHERE EMAIL = 'shard@test.com'", Integer) } == 1
+        [0, 1].every { shard ->
+            onShard(shard) { it.queryForObject("SELECT COUNT(*) FROM MEMBER", Integer) } == 0
+        }
+    }
+
+    def "바인딩 테스트 - 다른 샤드의 트랜잭션 안에서 호출하면 실패"() {
+        given:
+        String first = recordKeyOn(0, "cross")
+        String second = recordKeyOn(1, "cross")
+        Integer previous = ShardContext.bind(shardRouter.shardOf(first))
+
+        when:
+        transactionTemplate.execute { healthDataService.saveHealthData(HealthDataRequestFixture.request(second, START, 1)) }
+
+        then:
+        thrown(IllegalStateException)
+        count(1, "HEALTH_ENTRY", second) == 0
+
+        cleanup:
+        ShardContext.restore(previous)
+    }
+
+    private String recordKeyOn(int shard, String prefix) {
+        return (0..<1000).collect { "${prefix}-${it}".toString() }.find { shardRouter.shardOf(it) == shard }
+    }
+
+    private int count(Integer shard, String table, String recordKey) {
+        return onShard(shard) { JdbcTemplate jdbc ->
+            jdbc.queryForObject("SELECT COUNT(*) FROM ${table} WHERE RECORD_KEY = ?".toString(), Integer, recordKey)
+        }
+    }
+
+    private <T> T onShard(Integer shard, Closure<T> action) {
+        Integer previous = ShardContext.bind(shard)
+        try {
+            return action.call(new JdbcTemplate(dataSource))
+        } finally {
+            ShardContext.restore(previous)
+        }
+    }
+}
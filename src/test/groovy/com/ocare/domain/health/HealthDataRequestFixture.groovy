@@ -0,0 +1,38 @@
+package com.ocare.domain.health
+
+import com.ocare.domain.health.dto.request.DataWrapper
+import com.ocare.domain.health.dto.request.EntryDto
+import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.dto.request.PeriodDto
+import com.ocare.domain.health.dto.request.ValueDto
+
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+
+/**
+ * 통합 테스트용 업로드 요청 (start부터 10분 간격 엔트리, 엔트리마다 100걸음 / 3.5kcal / 0.07km)
+ */
+final class HealthDataRequestFixture {
+
+    static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+
+    private HealthDataRequestFixture() {
+    }
+
+    static HealthDataRequest request(String recordKey, LocalDateTime start, int count) {
+        HealthDataRequest request = new HealthDataRequest()
+        request.recordKey = recordKey
+        request.data = new DataWrapper()
+        request.data.entries = (0..<count).collect { int slot ->
+            EntryDto entry = new EntryDto()
+            entry.period = new PeriodDto()
+            entry.period.from = start.plusMinutes(slot * 10L).format(FORMATTER)
+            entry.period.to = start.plusMinutes(slot * 10L + 10).format(FORMATTER)
+            entry.steps = 100
+            entry.calories = new ValueDto("kcal", 3.5)
+            entry.distance = new ValueDto("km", 0.07)
+            entry
+        }
+        return request
+    }
+}
@@ -1,26 +1,71 @@
 package com.ocare.domain.health.controller
 
+import com.ocare.common.exception.CustomException
+import com.ocare.common.exception.ErrorCode
+import com.ocare.config.jwt.JwtMemberPrincipal
+import com.ocare.domain.health.dto.HealthIngestJobStatus
 import com.ocare.domain.health.dto.request.DataWrapper
+import com.ocare.domain.health.dto.request.HealthDataBatchRequest
 import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.dto.response.DailySummaryPageResponse
 import com.ocare.domain.health.dto.response.DailySummaryResponse
+import com.ocare.domain.health.dto.response.HealthDataBatchItemResponse
+import com.ocare.domain.health.dto.response.HealthDataBatchResponse
 import com.ocare.domain.health.dto.response.HealthDataSaveResponse
+import com.ocare.domain.health.dto.response.HealthEntryResponse
+import com.ocare.domain.health.dto.response.HealthIngestJobResponse
 import com.ocare.domain.health.dto.response.MonthlySummaryResponse
+import com.ocare.domain.health.dto.response.RangeTotalResponse
+import com.ocare.domain.health.dto.response.WeeklySummaryResponse
+import com.ocare.domain.health.dto.response.YearlySummaryResponse
+import com.ocare.domain.health.service.HealthAccessService
+import com.ocare.domain.health.service.HealthDataBatchService
 import com.ocare.domain.health.service.HealthDataService
+import com.ocare.domain.health.service.HealthDataStreamService
+import com.ocare.domain.health.service.HealthEntryQueryService
+import com.ocare.domain.health.service.HealthIngestJobService
 import com.ocare.domain.health.service.HealthQueryService
 import org.springframework.http.HttpStatus
+import org.springframework.http.MediaType
 import org.springframework.http.ResponseEntity
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.web.context.request.ServletWebRequest
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody
 import spock.lang.Specification
 import spock.lang.Subject
 
+import java.time.Instant
 import java.time.LocalDate
 
 class HealthControllerTest extends Specification {
 
     HealthDataService healthDataService = Mock()
+    HealthDataStreamService healthDataStreamService = Mock()
+    HealthDataBatchService healthDataBatchService = Mock()
+    HealthIngestJobService healthIngestJobService = Mock()
     HealthQueryService healthQueryService = Mock()
+    HealthEntryQueryService healthEntryQueryService = Mock()
+    HealthAccessService healthAccessService = new HealthAccessService()
+
+    JwtMemberPrincipal principal = JwtMemberPrincipal.of("test@test.com", "test-record-key", "ROLE_USER")
+
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/health/daily")
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse()
+    ServletWebRequest webRequest = new ServletWebRequest(servletRequest, servletResponse)
 
     @Subject
-    HealthController healthController = new HealthController(healthDataService, healthQueryService)
+    HealthController healthController = new HealthController(
+            healthDataService, healthDataStreamService, healthDataBatchService, healthIngestJobService,
+            healthQueryService, healthEntryQueryService, healthAccessService)
+
+    def setup() {
+        healthQueryService.getDailySummariesLastModified(*_) >> Optional.empty()
+        healthQueryService.getWeeklySummariesLastModified(*_) >> Optional.empty()
+        healthQueryService.getMonthlySummariesLastModified(*_) >> Optional.empty()
+        healthQueryService.getYearlySummariesLastModified(*_) >> Optional.empty()
+        healthQueryService.getRangeTotalLastModified(*_) >> Optional.empty()
+    }
 
     def "건강 데이터 저장 API 성공 테스트"() {
         given:
@@ -32,7 +77,7 @@ class HealthControllerTest extends Specification {
         HealthDataSaveResponse saveResponse = HealthDataSaveResponse.of("test-record-key", 5)
 
         when:
-        ResponseEntity<HealthDataSaveResponse> result = healthController.saveHealthData(request)
+        ResponseEntity<HealthDataSaveResponse> result = healthController.saveHealthData(principal, request)
 
         then:
         1 * healthDataService.saveHealthData(request) >> saveResponse
@@ -42,6 +87,97 @@ class HealthControllerTest extends Specification {
         result.body.savedCount == 5
     }
 
+    def "건강 데이터 스트리밍 저장 API 성공 테스트"() {
+        given:
+        InputStream body = new ByteArrayInputStream('{"recordkey":"test-record-key"}'.bytes)
+
+        when:
+        ResponseEntity<HealthDataSaveResponse> result = healthController.saveHealthDataStream(
+                principal, MediaType.APPLICATION_CBOR, body)
+
+        then:
+        1 * healthDataStreamService.saveHealthDataStream(body, MediaType.APPLICATION_CBOR, "test-record-key") >>
+                HealthDataSaveResponse.of("test-record-key", 3)
+
+        result.statusCode == HttpStatus.CREATED
+        result.body.savedCount == 3
+    }
+
+    def "건강 데이터 일괄 저장 API 테스트 - 항목별 결과와 함께 200"() {
+        given:
+        HealthDataBatchRequest request = new HealthDataBatchRequest([
+                new HealthDataRequest("test-record-key", new DataWrapper(null, [])),
+                new HealthDataRequest("other-record-key", new DataWrapper(null, []))
+        ])
+        HealthDataBatchResponse batchResponse = HealthDataBatchResponse.of([
+                HealthDataBatchItemResponse.ofSuccess(HealthDataSaveResponse.of("test-record-key", 0)),
+                HealthDataBatchItemResponse.ofFailure("other-record-key", ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN,
+                        ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN.message)
+        ])
+
+        when:
+        ResponseEntity<HealthDataBatchResponse> result = healthController.saveHealthDataBatch(principal, request)
+
+        then:
+        1 * healthDataBatchService.saveBatch(principal, request) >> batchResponse
+
+        result.statusCode == HttpStatus.OK
+        result.body.successCount == 1
+        result.body.failureCount == 1
+        result.body.results[1].errorCode == "HEALTH_005"
+    }
+
+    def "건강 데이터 비동기 저장 API 테스트 - 202 Accepted"() {
+        given:
+        HealthDataRequest request = new HealthDataRequest("test-record-key", new DataWrapper(null, []))
+        HealthIngestJobResponse jobResponse = HealthIngestJobResponse.builder()
+                .jobId("job-1")
+                .recordKey("test-record-key")
+                .status(HealthIngestJobStatus.QUEUED)
+                .build()
+
+        when:
+        ResponseEntity<HealthIngestJobResponse> result = healthController.submitHealthDataJob(principal, request)
+
+        then:
+        1 * healthIngestJobService.submitJob(request) >> jobResponse
+        0 * healthDataService._
+
+        result.statusCode == HttpStatus.ACCEPTED
+        result.body.jobId == "job-1"
+        result.body.status == HealthIngestJobStatus.QUEUED
+    }
+
+    def "비동기 저장 작업 조회 API 테스트 - 작업 존재"() {
+        given:
+        HealthIngestJobResponse jobResponse = HealthIngestJobResponse.builder()
+                .jobId("job-1")
+                .status(HealthIngestJobStatus.COMPLETED)
+                .totalCount(10)
+                .processedCount(10)
+                .savedCount(9)
+                .build()
+
+        when:
+        ResponseEntity<HealthIngestJobResponse> result = healthController.getHealthDataJob(principal, "job-1")
+
+        then:
+        1 * healthIngestJobService.getJob("job-1", "test-record-key") >> Optional.of(jobResponse)
+
+        result.statusCode == HttpStatus.OK
+        result.body.savedCount == 9
+    }
+
+    def "비동기 저장 작업 조회 API 테스트 - 작업 없음"() {
+        when:
+        ResponseEntity<HealthIngestJobResponse> result = healthController.getHealthDataJob(principal, "unknown")
+
+        then:
+        1 * healthIngestJobService.getJob("unknown", "test-record-key") >> Optional.empty()
+
+        result.statusCode == HttpStatus.NOT_FOUND
+    }
+
     def "일별 집계 데이터 조회 API 테스트 - 전체 조회"() {
         given:
         String recordKey = "test-record-key"
@@ -65,7 +201,7 @@ class HealthControllerTest extends Specification {
 
         when:
         ResponseEntity<List<DailySummaryResponse>> result =
-                healthController.getDailySummaries(recordKey, null, null)
+                healthController.getDailySummaries(principal, recordKey, null, null, webRequest)
 
         then:
         1 * healthQueryService.getDailySummaries(recordKey, null, null) >> summaries
@@ -92,7 +228,7 @@ class HealthControllerTest extends Specification {
 
         when:
         ResponseEntity<List<DailySummaryResponse>> result =
-                healthController.getDailySummaries(recordKey, startDate, endDate)
+                healthController.getDailySummaries(principal, recordKey, startDate, endDate, webRequest)
 
         then:
         1 * healthQueryService.getDailySummaries(recordKey, startDate, endDate) >> summaries
@@ -116,7 +252,7 @@ class HealthControllerTest extends Specification {
 
         when:
         ResponseEntity<DailySummaryResponse> result =
-                healthController.getDailySummary(date, recordKey)
+                healthController.getDailySummary(principal, date, recordKey)
 
         then:
         1 * healthQueryService.getDailySummary(recordKey, date) >> Optional.of(summary)
@@ -132,7 +268,7 @@ class HealthControllerTest extends Specification {
 
         when:
         ResponseEntity<DailySummaryResponse> result =
-                healthController.getDailySummary(date, recordKey)
+                healthController.getDailySummary(principal, date, recordKey)
 
         then:
         1 * healthQueryService.getDailySummary(recordKey, date) >> Optional.empty()
@@ -157,7 +293,7 @@ class HealthControllerTest extends Specification {
 
         when:
         ResponseEntity<List<MonthlySummaryResponse>> result =
-                healthController.getMonthlySummaries(recordKey, null)
+                healthController.getMonthlySummaries(principal, recordKey, null, webRequest)
 
         then:
         1 * healthQueryService.getMonthlySummaries(recordKey, null) >> summaries
@@ -184,7 +320,7 @@ class HealthControllerTest extends Specification {
 
         when:
         ResponseEntity<List<MonthlySummaryResponse>> result =
-                healthController.getMonthlySummaries(recordKey, year)
+                healthController.getMonthlySummaries(principal, recordKey, year, webRequest)
 
         then:
         1 * healthQueryService.getMonthlySummaries(recordKey, year) >> summaries
@@ -210,7 +346,7 @@ class HealthControllerTest extends Specification {
 
         when:
         ResponseEntity<MonthlySummaryResponse> result =
-                healthController.getMonthlySummary(year, month, recordKey)
+                healthController.getMonthlySummary(principal, year, month, recordKey)
 
         then:
         1 * healthQueryService.getMonthlySummary(recordKey, year, month) >> Optional.of(summary)
@@ -229,11 +365,241 @@ class HealthControllerTest extends Specification {
 
         when:
         ResponseEntity<MonthlySummaryResponse> result =
-                healthController.getMonthlySummary(year, month, recordKey)
+                healthController.getMonthlySummary(principal, year, month, recordKey)
 
         then:
         1 * healthQueryService.getMonthlySummary(recordKey, year, month) >> Optional.empty()
 
         result.statusCode == HttpStatus.NOT_FOUND
     }
+
+    def "주별 집계 데이터 조회 API 테스트 - 기간 조회"() {
+        given:
+        String recordKey = "test-record-key"
+        LocalDate startDate = LocalDate.of(2024, 1, 1)
+        LocalDate endDate = LocalDate.of(2024, 1, 31)
+
+        when:
+        ResponseEntity<List<WeeklySummaryResponse>> result =
+                healthController.getWeeklySummaries(principal, recordKey, startDate, endDate, webRequest)
+
+        then:
+        1 * healthQueryService.getWeeklySummaries(recordKey, startDate, endDate) >> [
+                WeeklySummaryResponse.builder().recordKey(recordKey).weekStartDate(startDate).steps(40000).build()
+        ]
+
+        result.statusCode == HttpStatus.OK
+        result.body.size() == 1
+    }
+
+    def "연도별 집계 데이터 조회 API 테스트"() {
+        given:
+        String recordKey = "test-record-key"
+
+        when:
+        ResponseEntity<List<YearlySummaryResponse>> result = healthController.getYearlySummaries(principal, recordKey, webRequest)
+
+        then:
+        1 * healthQueryService.getYearlySummaries(recordKey) >> [
+                YearlySummaryResponse.builder().recordKey(recordKey).year(2024).steps(2500000).build()
+        ]
+
+        result.statusCode == HttpStatus.OK
+        result.body[0].year == 2024
+    }
+
+    def "기간 합계 조회 API 테스트"() {
+        given:
+        String recordKey = "test-record-key"
+        LocalDate startDate = LocalDate.of(2023, 12, 30)
+        LocalDate endDate = LocalDate.of(2025, 2, 12)
+
+        when:
+        ResponseEntity<RangeTotalResponse> result = healthController.getRangeTotal(principal, recordKey, startDate, endDate, webRequest)
+
+        then:
+        1 * healthQueryService.getRangeTotal(recordKey, startDate, endDate) >> RangeTotalResponse.builder()
+                .recordKey(recordKey).startDate(startDate).endDate(endDate).steps(3253000L).build()
+
+        result.statusCode == HttpStatus.OK
+        result.body.steps == 3253000L
+    }
+
+    def "누적 합계 기간 조회 API 테스트"() {
+        given:
+        String recordKey = "test-record-key"
+        LocalDate startDate = LocalDate.of(2024, 1, 10)
+        LocalDate endDate = LocalDate.of(2024, 3, 31)
+
+        when:
+        ResponseEntity<RangeTotalResponse> result =
+                healthController.getCumulativeRangeTotal(principal, recordKey, startDate, endDate)
+
+        then:
+        1 * healthQueryService.getCumulativeRangeTotal(recordKey, startDate, endDate) >> RangeTotalResponse.builder()
+                .recordKey(recordKey).startDate(startDate).endDate(endDate).steps(800000L).build()
+
+        result.statusCode == HttpStatus.OK
+        result.body.steps == 800000L
+    }
+
+    def "원본 엔트리 조회 API 테스트"() {
+        given:
+        String recordKey = "test-record-key"
+        LocalDate date = LocalDate.of(2024, 1, 10)
+
+        when:
+        ResponseEntity<List<HealthEntryResponse>> result = healthController.getEntries(principal, recordKey, date, date)
+
+        then:
+        1 * healthEntryQueryService.getEntries(recordKey, date, date) >> [HealthEntryResponse.builder()
+                .periodFrom(date.atTime(9, 0)).periodTo(date.atTime(9, 10)).steps(120).build()]
+
+        result.statusCode == HttpStatus.OK
+        result.body*.steps == [120]
+    }
+
+    def "일별 집계 커서 페이지 조회 API 테스트"() {
+        given:
+        String recordKey = "test-record-key"
+        LocalDate cursor = LocalDate.of(2024, 1, 2)
+
+        when:
+        ResponseEntity<DailySummaryPageResponse> result =
+                healthController.getDailySummaryPage(principal, recordKey, cursor, 50)
+
+        then:
+        1 * healthQueryService.getDailySummaryPage(recordKey, cursor, 50) >>
+                DailySummaryPageResponse.of([DailySummaryResponse.builder().date(LocalDate.of(2024, 1, 3)).build()], false)
+
+        result.statusCode == HttpStatus.OK
+        result.body.items.size() == 1
+        !result.body.hasNext
+    }
+
+    def "일별 집계 NDJSON 스트리밍 조회 API 테스트"() {
+        given:
+        String recordKey = "test-record-key"
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        ResponseEntity<StreamingResponseBody> result = healthController.streamDailySummaries(principal, recordKey)
+        result.body.writeTo(out)
+
+        then:
+        1 * healthQueryService.writeDailySummaries(recordKey, out)
+
+        result.statusCode == HttpStatus.OK
+        result.headers.getContentType() == MediaType.APPLICATION_NDJSON
+    }
+
+    def "건강 데이터 저장 API 테스트 - 다른 사용자의 recordKey는 403"() {
+        given:
+        HealthDataRequest request = new HealthDataRequest("other-record-key", new DataWrapper(null, []))
+
+        when:
+        healthController.saveHealthData(principal, request)
+
+        then:
+        0 * healthDataService._
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN
+    }
+
+    def "일별 집계 조건부 조회 API 테스트 - 첫 조회는 ETag/Last-Modified와 함께 200"() {
+        given:
+        Instant modified = Instant.parse("2024-01-02T03:04:05.123456Z")
+
+        when:
+        ResponseEntity<List<DailySummaryResponse>> result =
+                healthController.getDailySummaries(principal, "test-record-key", null, null, webRequest)
+
+        then:
+        1 * healthQueryService.getDailySummariesLastModified("test-record-key", null, null) >> Optional.of(modified)
+        1 * healthQueryService.getDailySummaries("test-record-key", null, null) >> []
+
+        result.statusCode == HttpStatus.OK
+        result.headers.getETag() == 'W/"' + Long.toHexString(modified.epochSecond) + "." +
+                Integer.toHexString(modified.nano) + '"'
+        result.headers.getLastModified() == Instant.parse("2024-01-02T03:04:05Z").toEpochMilli()
+        servletResponse.getHeaderNames().isEmpty()
+    }
+
+    def "일별 집계 조건부 조회 API 테스트 - If-None-Match가 같으면 본문 조회 없이 304"() {
+        given:
+        Instant modified = Instant.parse("2024-01-02T03:04:05.123456Z")
+        servletRequest.addHeader("If-None-Match",
+                'W/"' + Long.toHexString(modified.epochSecond) + "." + Integer.toHexString(modified.nano) + '"')
+
+        when:
+        ResponseEntity<List<DailySummaryResponse>> result =
+                healthController.getDailySummaries(principal, "test-record-key", null, null, webRequest)
+
+        then:
+        1 * healthQueryService.getDailySummariesLastModified("test-record-key", null, null) >> Optional.of(modified)
+        0 * healthQueryService.getDailySummaries(*_)
+
+        result.statusCode == HttpStatus.NOT_MODIFIED
+        !result.hasBody()
+        result.headers.getETag() == 'W/"' + Long.toHexString(modified.epochSecond) + "." +
+                Integer.toHexString(modified.nano) + '"'
+        result.headers.getLastModified() == Instant.parse("2024-01-02T03:04:05Z").toEpochMilli()
+        servletResponse.getHeaderNames().isEmpty()
+    }
+
+    def "일별 집계 조건부 조회 API 테스트 - 이후 변경이 있으면 200"() {
+        given:
+        Instant previous = Instant.parse("2024-01-02T03:04:05.123456Z")
+        Instant modified = Instant.parse("2024-01-02T03:04:05.654321Z")
+        servletRequest.addHeader("If-None-Match",
+                'W/"' + Long.toHexString(previous.epochSecond) + "." + Integer.toHexString(previous.nano) + '"')
+
+        when:
+        ResponseEntity<List<DailySummaryResponse>> result =
+                healthController.getDailySummaries(principal, "test-record-key", null, null, webRequest)
+
+        then:
+        1 * healthQueryService.getDailySummariesLastModified("test-record-key", null, null) >> Optional.of(modified)
+        1 * healthQueryService.getDailySummaries("test-record-key", null, null) >> []
+
+        result.statusCode == HttpStatus.OK
+    }
+
+    def "월별 집계 조건부 조회 API 테스트 - If-Modified-Since 이후 변경이 없으면 304"() {
+        given:
+        servletRequest.addHeader("If-Modified-Since", "Tue, 02 Jan 2024 03:04:05 GMT")
+
+        when:
+        ResponseEntity<List<MonthlySummaryResponse>> result =
+                healthController.getMonthlySummaries(principal, "test-record-key", 2024, webRequest)
+
+        then:
+        1 * healthQueryService.getMonthlySummariesLastModified("test-record-key", 2024) >>
+                Optional.of(Instant.parse("2024-01-02T03:04:05.500Z"))
+        0 * healthQueryService.getMonthlySummaries(*_)
+
+        result.statusCode == HttpStatus.NOT_MODIFIED
+    }
+
+    def "집계 조건부 조회 API 테스트 - 데이터가 없으면 검증 헤더 없이 200"() {
+        when:
+        ResponseEntity<List<YearlySummaryResponse>> result =
+                healthController.getYearlySummaries(principal, "test-record-key", webRequest)
+
+        then:
+        1 * healthQueryService.getYearlySummaries("test-record-key") >> []
+
+        result.statusCode == HttpStatus.OK
+        result.headers.getETag() == null
+    }
+
+    def "집계 조회 API 테스트 - 다른 사용자의 recordKey는 403"() {
+        when:
+        healthController.getDailySummaries(principal, "other-record-key", null, null, webRequest)
+
+        then:
+        0 * healthQueryService._
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN
+    }
 }
@@ -0,0 +1,86 @@
+package com.ocare.domain.health.repository
+
+import com.ocare.domain.health.dto.EntrySample
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.LocalDateTime
+
+class HealthEntryBlockCodecTest extends Specification {
+
+    static final LocalDate DATE = LocalDate.of(2024, 3, 10)
+
+    def "인코딩 테스트 - 10분 단위 하루치 엔트리 복원"() {
+        given:
+        List<EntrySample> entries = (0..<144).collect { int slot ->
+            int steps = 50 + slot % 120
+            LocalDateTime from = DATE.atStartOfDay().plusMinutes(slot * 10L)
+            EntrySample.of(from, from.plusMinutes(10), steps, (steps * 0.04f) as float, (steps * 0.0007f) as float)
+        }
+
+        when:
+        byte[] payload = HealthEntryBlockCodec.encode(DATE, entries)
+
+        then:
+        HealthEntryBlockCodec.decode(DATE, payload) == entries
+        payload.length < 144 * 12
+    }
+
+    def "인코딩 테스트 - 입력 순서와 무관하게 측정 구간 순으로 복원"() {
+        given:
+        LocalDateTime nine = DATE.atTime(9, 0)
+        EntrySample late = EntrySample.of(nine.plusMinutes(30), nine.plusMinutes(40), 10, 1.0f, 0.01f)
+        EntrySample longer = EntrySample.of(nine, nine.plusMinutes(20), 30, 3.0f, 0.03f)
+        EntrySample shorter = EntrySample.of(nine, nine.plusMinutes(10), 20, 2.0f, 0.02f)
+
+        expect:
+        HealthEntryBlockCodec.decode(DATE, HealthEntryBlockCodec.encode(DATE, [late, longer, shorter])) ==
+                [shorter, longer, late]
+    }
+
+    def "인코딩 테스트 - 자정을 넘는 구간, 역방향 구간, 나노초, 음수 값 보존"() {
+        given:
+        List<EntrySample> entries = [
+                EntrySample.of(DATE.atTime(0, 0, 0, 123_400_000), DATE.atTime(0, 10, 0, 500), -5, -1.5f, 0f),
+                EntrySample.of(DATE.atTime(12, 0), DATE.atTime(11, 50), Integer.MAX_VALUE, Float.MAX_VALUE, 0.07f),
+                EntrySample.of(DATE.atTime(23, 55), DATE.plusDays(1).atTime(0, 5), Integer.MIN_VALUE, Float.MIN_VALUE, -0.07f)
+        ]
+
+        expect:
+        HealthEntryBlockCodec.decode(DATE, HealthEntryBlockCodec.encode(DATE, entries)) == entries
+    }
+
+    def "인코딩 테스트 - 빈 블록"() {
+        expect:
+        HealthEntryBlockCodec.decode(DATE, HealthEntryBlockCodec.encode(DATE, [])).isEmpty()
+    }
+
+    def "인코딩 테스트 - 블록 일자와 다른 엔트리는 거부"() {
+        given:
+        EntrySample nextDay = EntrySample.of(DATE.plusDays(1).atTime(1, 0), DATE.plusDays(1).atTime(1, 10), 1, 1f, 1f)
+
+        when:
+        HealthEntryBlockCodec.encode(DATE, [nextDay])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def "복원 테스트 - 알 수 없는 버전이나 잘린 블록은 실패"() {
+        given:
+        byte[] payload = HealthEntryBlockCodec.encode(DATE,
+                [EntrySample.of(DATE.atTime(9, 0), DATE.atTime(9, 10), 100, 3.5f, 0.07f)])
+
+        when:
+        HealthEntryBlockCodec.decode(DATE, corrupt(payload))
+
+        then:
+        thrown(IllegalStateException)
+
+        where:
+        corrupt << [
+                { byte[] p -> byte[] copy = p.clone(); copy[0] = 9; copy },
+                { byte[] p -> Arrays.copyOf(p, p.length - 1) }
+        ]
+    }
+}
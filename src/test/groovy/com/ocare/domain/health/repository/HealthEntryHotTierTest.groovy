@@ -0,0 +1,270 @@
+package com.ocare.domain.health.repository
+
+import com.ocare.domain.health.dto.EntrySample
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.LocalDate
+
+class HealthEntryHotTierTest extends Specification {
+
+    static final LocalDate TODAY = LocalDate.now()
+
+    @TempDir
+    Path directory
+
+    @Subject
+    HealthEntryHotTier hotTier
+
+    def setup() {
+        hotTier = newHotTier()
+    }
+
+    def cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    def "보관 범위 테스트 - 오늘 포함 최근 window-days일"() {
+        expect:
+        hotTier.covers(TODAY)
+        hotTier.covers(TODAY.minusDays(13))
+        !hotTier.covers(TODAY.minusDays(14))
+        !hotTier.covers(TODAY.plusDays(1))
+    }
+
+    def "채움 테스트 - 채운 일자를 측정 구간 순으로 그대로 읽음"() {
+        given:
+        List<EntrySample> entries = [sample(TODAY, 23, 50, 500), sample(TODAY, 0, 0, 10), sample(TODAY, 12, 30, 0)]
+
+        when:
+        hotTier.fill("rk", TODAY, entries, hotTier.generation("rk"))
+
+        then:
+        hotTier.read("rk", TODAY).get() == [sample(TODAY, 0, 0, 10), sample(TODAY, 12, 30, 0), sample(TODAY, 23, 50, 500)]
+        hotTier.read("rk", TODAY.minusDays(1)).isEmpty()
+        hotTier.read("other", TODAY).isEmpty()
+    }
+
+    def "채움 테스트 - 엔트리가 없는 일자도 빈 목록으로 보관"() {
+        when:
+        hotTier.fill("rk", TODAY, [], hotTier.generation("rk"))
+
+        then:
+        hotTier.read("rk", TODAY).get() == []
+    }
+
+    def "채움 테스트 - 10분 슬롯이 아닌 엔트리가 있는 일자는 보관하지 않음"() {
+        given:
+        EntrySample unslotted = EntrySample.of(TODAY.atTime(9, 3), TODAY.atTime(9, 13), 5, 0.2f, 0.01f)
+
+        when:
+        hotTier.fill("rk", TODAY, [sample(TODAY, 9, 0, 5), unslotted], hotTier.generation("rk"))
+
+        then:
+        hotTier.read("rk", TODAY).isEmpty()
+    }
+
+    def "채움 테스트 - 저장소 로드 이후 업로드가 커밋되었으면 채우지 않음"() {
+        given: "조회 미스 → 세대 번호를 읽고 저장소 로드"
+        long generation = hotTier.generation("rk")
+
+        when: "로드와 채움 사이에 업로드가 커밋됨"
+        List<TransactionSynchronization> synchronizations = stage("rk", [sample(TODAY, 10, 0, 150)])
+        synchronizations*.beforeCommit(false)
+        synchronizations*.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+        hotTier.fill("rk", TODAY, [sample(TODAY, 10, 0, 100)], generation)
+
+        then:
+        hotTier.read("rk", TODAY).isEmpty()
+
+        when: "커밋 이후에 읽은 세대 번호로는 채움"
+        hotTier.fill("rk", TODAY, [sample(TODAY, 10, 0, 150)], hotTier.generation("rk"))
+
+        then:
+        hotTier.read("rk", TODAY).get() == [sample(TODAY, 10, 0, 150)]
+    }
+
+    def "채움 테스트 - 업로드 커밋 도중에 읽은 세대 번호로는 채우지 않음"() {
+        given:
+        List<TransactionSynchronization> synchronizations = stage("rk", [sample(TODAY, 10, 0, 150)])
+        synchronizations*.beforeCommit(false)
+
+        when: "커밋 직전에 세대 번호를 읽고 커밋 전 값을 로드"
+        long generation = hotTier.generation("rk")
+        synchronizations*.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+        hotTier.fill("rk", TODAY, [sample(TODAY, 10, 0, 100)], generation)
+
+        then:
+        hotTier.read("rk", TODAY).isEmpty()
+    }
+
+    def "업로드 반영 테스트 - 커밋되면 보관 중인 일자에 병합"() {
+        given:
+        hotTier.fill("rk", TODAY, [sample(TODAY, 10, 0, 100)], hotTier.generation("rk"))
+
+        when:
+        List<TransactionSynchronization> synchronizations = stage("rk", [sample(TODAY, 10, 0, 150), sample(TODAY, 10, 10, 30)])
+        synchronizations*.beforeCommit(false)
+
+        then: "커밋 직후 반영 전까지는 미스"
+        hotTier.read("rk", TODAY).isEmpty()
+
+        when:
+        synchronizations*.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+
+        then:
+        hotTier.read("rk", TODAY).get() == [sample(TODAY, 10, 0, 150), sample(TODAY, 10, 10, 30)]
+    }
+
+    def "업로드 반영 테스트 - 롤백되면 기존 값 유지"() {
+        given:
+        hotTier.fill("rk", TODAY, [sample(TODAY, 10, 0, 100)], hotTier.generation("rk"))
+
+        when:
+        List<TransactionSynchronization> synchronizations = stage("rk", [sample(TODAY, 10, 0, 150)])
+        synchronizations*.beforeCommit(false)
+        synchronizations*.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK)
+
+        then:
+        hotTier.read("rk", TODAY).get() == [sample(TODAY, 10, 0, 100)]
+    }
+
+    def "업로드 반영 테스트 - 10분 슬롯이 아닌 엔트리가 커밋되면 그 일자를 비움"() {
+        given:
+        hotTier.fill("rk", TODAY, [sample(TODAY, 10, 0, 100)], hotTier.generation("rk"))
+        EntrySample unslotted = EntrySample.of(TODAY.atTime(10, 0), TODAY.atTime(10, 5), 5, 0.2f, 0.01f)
+
+        when:
+        List<TransactionSynchronization> synchronizations = stage("rk", [unslotted])
+        synchronizations*.beforeCommit(false)
+        synchronizations*.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+
+        then:
+        hotTier.read("rk", TODAY).isEmpty()
+    }
+
+    def "업로드 반영 테스트 - 보관 중이 아닌 일자와 보관 기간 밖 일자는 등록하지 않음"() {
+        when:
+        List<TransactionSynchronization> synchronizations = stage("rk", [sample(TODAY.minusDays(30), 10, 0, 100)])
+
+        then:
+        synchronizations.isEmpty()
+
+        when: "파일이 없으면 반영할 블록도 없음"
+        synchronizations = stage("rk", [sample(TODAY, 10, 0, 100)])
+        synchronizations*.beforeCommit(false)
+        synchronizations*.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)
+
+        then:
+        hotTier.read("rk", TODAY).isEmpty()
+    }
+
+    def "재시작 테스트 - 새 인스턴스가 같은 파일을 그대로 읽음"() {
+        given:
+        hotTier.fill("rk", TODAY, [sample(TODAY, 8, 0, 42)], hotTier.generation("rk"))
+
+        when:
+        HealthEntryHotTier restarted = newHotTier()
+
+        then:
+        restarted.read("rk", TODAY).get() == [sample(TODAY, 8, 0, 42)]
+    }
+
+    def "재시작 테스트 - 반영 도중 종료된 일자는 미스"() {
+        given:
+        hotTier.fill("rk", TODAY, [sample(TODAY, 8, 0, 42)], hotTier.generation("rk"))
+        stage("rk", [sample(TODAY, 8, 0, 50)])*.beforeCommit(false)
+
+        when:
+        HealthEntryHotTier restarted = newHotTier()
+
+        then:
+        restarted.read("rk", TODAY).isEmpty()
+    }
+
+    def "재시작 테스트 - window-days가 바뀌면 파일을 비우고 다시 채움"() {
+        given:
+        hotTier.fill("rk", TODAY, [sample(TODAY, 8, 0, 42)], hotTier.generation("rk"))
+
+        when:
+        HealthEntryHotTier restarted = newHotTier(7)
+
+        then:
+        restarted.read("rk", TODAY).isEmpty()
+    }
+
+    def "정리 테스트 - 보관 기간이 지난 일자만 남은 파일 삭제"() {
+        given:
+        hotTier.fill("stale", TODAY.minusDays(13), [sample(TODAY.minusDays(13), 8, 0, 1)],
+                hotTier.generation("stale"))
+        hotTier.fill("fresh", TODAY, [sample(TODAY, 8, 0, 1)], hotTier.generation("fresh"))
+
+        when: "하루가 지나 보관 기간이 줄어든 것과 같은 상태"
+        HealthEntryHotTier later = newHotTier(13)
+        later.sweep()
+
+        then:
+        !Files.exists(directory.resolve("stale.slots"))
+        Files.exists(directory.resolve("fresh.slots"))
+    }
+
+    def "설정 테스트 - 분산 락과 함께 켤 수 없음"() {
+        given:
+        HealthEntryHotTier distributed = new HealthEntryHotTier()
+        distributed.enabled = true
+        distributed.directory = directory.toString()
+        distributed.windowDays = 14
+        distributed.maxOpenFiles = 10
+        distributed.distributedLock = true
+
+        when:
+        distributed.init()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    def "설정 테스트 - 꺼져 있으면 보관하지 않음"() {
+        given:
+        HealthEntryHotTier disabled = new HealthEntryHotTier()
+        disabled.init()
+
+        when:
+        disabled.fill("rk", TODAY, [sample(TODAY, 8, 0, 1)], disabled.generation("rk"))
+
+        then:
+        !disabled.covers(TODAY)
+        disabled.read("rk", TODAY).isEmpty()
+        Files.list(directory).count() == 0
+    }
+
+    private HealthEntryHotTier newHotTier(int windowDays = 14) {
+        HealthEntryHotTier created = new HealthEntryHotTier()
+        created.enabled = true
+        created.directory = directory.toString()
+        created.windowDays = windowDays
+        created.maxOpenFiles = 10
+        created.init()
+        return created
+    }
+
+    private List<TransactionSynchronization> stage(String recordKey, List<EntrySample> entries) {
+        TransactionSynchronizationManager.initSynchronization()
+        hotTier.stage(recordKey, entries)
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations()
+        TransactionSynchronizationManager.clearSynchronization()
+        return synchronizations
+    }
+
+    private static EntrySample sample(LocalDate date, int hour, int minute, int steps) {
+        return EntrySample.of(date.atTime(hour, minute), date.atTime(hour, minute).plusMinutes(10),
+                steps, (steps * 0.04f) as float, (steps * 0.0007f) as float)
+    }
+}
@@ -0,0 +1,103 @@
+package com.ocare.domain.health.repository
+
+import com.ocare.OcareApplication
+import com.ocare.domain.health.dto.EntryDelta
+import com.ocare.domain.health.dto.EntrySample
+import com.ocare.domain.health.entity.HealthEntryBlockEntity
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.LocalDateTime
+
+/**
+ * 행 저장(row)과 블록 저장(columnar)의 upsert/조회 결과 비교
+ */
+@DataJpaTest(properties = ["spring.jpa.show-sql=false"])
+@ContextConfiguration(classes = OcareApplication)
+class HealthEntryStoreTest extends Specification {
+
+    static final String RECORD_KEY = "store-record-key"
+    static final LocalDateTime START = LocalDateTime.of(2024, 2, 28, 23, 40)
+
+    @Autowired
+    HealthEntryRepository healthEntryRepository
+
+    @Autowired
+    HealthEntryBlockRepository healthEntryBlockRepository
+
+    @Autowired
+    TestEntityManager testEntityManager
+
+    def "upsert 테스트 - 신규/수정/중복 구간의 변경량과 저장 결과가 저장 방식과 무관하게 같음 (#layout)"() {
+        given:
+        HealthEntryStore store = createStore(layout)
+        List<EntrySample> first = (0..<4).collect { sample(it, 100) }
+
+        when:
+        List<EntryDelta> inserted = store.upsert(RECORD_KEY, first)
+        flushAndClear()
+        List<EntryDelta> updated = store.upsert(RECORD_KEY, [sample(1, 150), sample(4, 70), sample(4, 90)])
+        flushAndClear()
+
+        then:
+        inserted*.steps == [100, 100, 100, 100]
+        inserted*.date == [LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 28),
+                           LocalDate.of(2024, 2, 29), LocalDate.of(2024, 2, 29)]
+        updated*.steps == [50, 70, 20]
+
+        store.findByDateRange(RECORD_KEY, LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29)) ==
+                [sample(0, 100), sample(1, 150), sample(2, 100), sample(3, 100), sample(4, 90)]
+        store.findByDateRange(RECORD_KEY, LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31))*.steps ==
+                [100, 100, 90]
+        store.findByDateRange("other", LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29)).isEmpty()
+
+        where:
+        layout << ["row", "columnar"]
+    }
+
+    def "블록 테스트 - 하루치 엔트리는 한 행, 값이 같은 재업로드는 블록을 다시 쓰지 않음"() {
+        given:
+        HealthEntryStore store = createStore("columnar")
+        List<EntrySample> entries = (0..<144).collect { sample(it, 100 + it) }
+        store.upsert(RECORD_KEY, entries)
+        flushAndClear()
+        Map<LocalDate, LocalDateTime> writtenAt = blocks().collectEntries { [(it.entryDate): it.updatedAt] }
+
+        when:
+        List<EntryDelta> deltas = store.upsert(RECORD_KEY, entries)
+        flushAndClear()
+
+        then:
+        blocks()*.entryCount == [2, 142]
+        deltas.every { it.steps == 0 && it.calories == 0f && it.distance == 0f }
+        blocks().collectEntries { [(it.entryDate): it.updatedAt] } == writtenAt
+        healthEntryRepository.count() == 0
+    }
+
+    private HealthEntryStore createStore(String layout) {
+        return layout == "row"
+                ? new RowHealthEntryStore(healthEntryRepository)
+                : new ColumnarHealthEntryStore(healthEntryBlockRepository)
+    }
+
+    private List<HealthEntryBlockEntity> blocks() {
+        return healthEntryBlockRepository.findAll().sort { it.entryDate }
+    }
+
+    private void flushAndClear() {
+        testEntityManager.flush()
+        testEntityManager.clear()
+    }
+
+    /**
+     * START부터 10분 단위 slot 번째 엔트리 (0, 1번은 2월 28일, 이후는 2월 29일)
+     */
+    private static EntrySample sample(int slot, int steps) {
+        LocalDateTime from = START.plusMinutes(slot * 10L)
+        return EntrySample.of(from, from.plusMinutes(10), steps, (steps * 0.04f) as float, (steps * 0.0007f) as float)
+    }
+}
@@ -0,0 +1,100 @@
+package com.ocare.domain.health.repository
+
+import com.ocare.config.shard.ShardRouter
+import com.ocare.domain.health.entity.HealthStorageSettingEntity
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+import spock.lang.Subject
+
+class HealthStorageLayoutGuardTest extends Specification {
+
+    HealthStorageSettingRepository settingRepository = Mock()
+    HealthEntryRepository healthEntryRepository = Mock()
+    HealthEntryBlockRepository healthEntryBlockRepository = Mock()
+    TransactionTemplate transactionTemplate = Mock()
+
+    @Subject
+    HealthStorageLayoutGuard layoutGuard = new HealthStorageLayoutGuard(settingRepository, healthEntryRepository,
+            healthEntryBlockRepository, new ShardRouter(), transactionTemplate)
+
+    def setup() {
+        // 트랜잭션: 콜백을 그대로 실행
+        transactionTemplate.executeWithoutResult(_) >> { args -> args[0].accept(null) }
+    }
+
+    def "저장 방식 확인 테스트 - 기록과 설정이 같으면 통과"() {
+        given:
+        layoutGuard.layout = "columnar"
+        settingRepository.findById("layout") >> Optional.of(HealthStorageSettingEntity.of("layout", "columnar"))
+
+        when:
+        layoutGuard.init()
+
+        then:
+        noExceptionThrown()
+        0 * settingRepository.save(_)
+        0 * healthEntryRepository.count()
+    }
+
+    def "저장 방식 확인 테스트 - 기록과 설정이 다르면 시작하지 않음"() {
+        given:
+        layoutGuard.layout = "columnar"
+        settingRepository.findById("layout") >> Optional.of(HealthStorageSettingEntity.of("layout", "row"))
+
+        when:
+        layoutGuard.init()
+
+        then:
+        thrown(IllegalStateException)
+        0 * settingRepository.save(_)
+    }
+
+    def "저장 방식 확인 테스트 - 빈 DB는 설정값을 기록"() {
+        given:
+        layoutGuard.layout = "columnar"
+        settingRepository.findById("layout") >> Optional.empty()
+        healthEntryRepository.count() >> 0
+        healthEntryBlockRepository.count() >> 0
+
+        when:
+        layoutGuard.init()
+
+        then:
+        1 * settingRepository.save({ it.settingKey == "layout" && it.settingValue == "columnar" })
+    }
+
+    def "저장 방식 확인 테스트 - 기록이 없는 기존 DB는 남은 데이터로 판단"() {
+        given:
+        layoutGuard.layout = layout
+        settingRepository.findById("layout") >> Optional.empty()
+        healthEntryRepository.count() >> rows
+        healthEntryBlockRepository.count() >> blocks
+
+        when:
+        layoutGuard.init()
+
+        then:
+        thrown(IllegalStateException)
+        0 * settingRepository.save(_)
+
+        where:
+        layout     | rows | blocks
+        "columnar" | 10   | 0
+        "row"      | 0    | 3
+        "row"      | 10   | 3
+    }
+
+    def "저장 방식 확인 테스트 - 기록이 없는 기존 DB의 데이터가 설정과 같으면 기록"() {
+        given:
+        layoutGuard.layout = "row"
+        settingRepository.findById("layout") >> Optional.empty()
+        healthEntryRepository.count() >> 10
+        healthEntryBlockRepository.count() >> 0
+
+        when:
+        layoutGuard.init()
+
+        then:
+        1 * settingRepository.save({ it.settingValue == "row" })
+    }
+}
@@ -0,0 +1,261 @@
+package com.ocare.domain.health.service
+
+import com.ocare.common.exception.CustomException
+import com.ocare.common.exception.ErrorCode
+import com.ocare.config.replica.ReadConsistencyTracker
+import com.ocare.config.shard.ShardContext
+import com.ocare.config.shard.ShardRouter
+import com.ocare.domain.health.dto.EntryDelta
+import com.ocare.domain.health.entity.HealthAggregationDirtyEntity
+import com.ocare.domain.health.repository.HealthAggregationDirtyRepository
+import org.springframework.data.domain.Limit
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.time.LocalDate
+import java.time.LocalDateTime
+
+class HealthAggregationSchedulerTest extends Specification {
+
+    static final LocalDate DAY1 = LocalDate.of(2024, 1, 31)
+    static final LocalDate DAY2 = LocalDate.of(2024, 2, 1)
+
+    HealthAggregationService aggregationService = Mock()
+    HealthAggregationDirtyRepository dirtyRepository = Mock()
+    HealthWriteLockService writeLockService = Mock()
+    TransactionTemplate transactionTemplate = Mock()
+    ShardRouter shardRouter = new ShardRouter()
+    ReadConsistencyTracker readConsistencyTracker = Mock()
+
+    @Subject
+    HealthAggregationScheduler aggregationScheduler = new HealthAggregationScheduler(
+            aggregationService, dirtyRepository, writeLockService, transactionTemplate, shardRouter,
+            readConsistencyTracker)
+
+    def setup() {
+        aggregationScheduler.writeBehind = true
+        aggregationScheduler.windowMillis = 2000
+        aggregationScheduler.maxStalenessMillis = 10000
+        aggregationScheduler.batchSize = 100
+        // 락/트랜잭션: 콜백을 그대로 실행
+        writeLockService.executeWithLock(_, _) >> { args -> args[1].get() }
+        transactionTemplate.execute(_) >> { args -> args[0].doInTransaction(null) }
+    }
+
+    def "반영 요청 테스트 - 지연 집계가 꺼져 있으면 바로 집계"() {
+        given:
+        aggregationScheduler.writeBehind = false
+        List<EntryDelta> deltas = [delta(DAY1, 100)]
+
+        when:
+        aggregationScheduler.submit("rk", deltas)
+        aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        1 * aggregationService.updateAggregations("rk", deltas)
+        0 * dirtyRepository._
+    }
+
+    def "반영 요청 테스트 - 일자별로 합쳐 대기분에 더하고 집계는 하지 않음"() {
+        when:
+        aggregationScheduler.submit("rk", [delta(DAY1, 100), delta(DAY1, 50), delta(DAY2, 30), delta(DAY2, -30)])
+
+        then:
+        1 * dirtyRepository.incrementPending("rk", DAY1, 150, 3.0f, 0.3f, 0, _ as LocalDateTime) >> 1
+        0 * dirtyRepository.incrementPending("rk", DAY2, *_)
+        0 * dirtyRepository.save(_)
+        0 * aggregationService._
+    }
+
+    def "반영 요청 테스트 - 대기 행이 없으면 새로 생성"() {
+        when:
+        aggregationScheduler.submit("rk", [delta(DAY2, 70)])
+
+        then:
+        1 * dirtyRepository.incrementPending("rk", DAY2, 70, 1.4f, 0.14f, 0, _) >> 0
+        1 * dirtyRepository.save({ HealthAggregationDirtyEntity row ->
+            row.recordKey == "rk" && row.summaryDate == DAY2 && row.pendingSteps == 70 &&
+                    row.firstMarkedAt == row.lastMarkedAt
+        })
+    }
+
+    def "반영 요청 테스트 - 값이 모두 0인 신규 엔트리도 신규 엔트리 수로 대기 기록"() {
+        when:
+        aggregationScheduler.submit("rk", [newDelta(DAY1, 0), newDelta(DAY1, 0), delta(DAY2, 0)])
+
+        then:
+        1 * dirtyRepository.incrementPending("rk", DAY1, 0, 0.0f, 0.0f, 2, _) >> 0
+        1 * dirtyRepository.save({ HealthAggregationDirtyEntity row ->
+            row.summaryDate == DAY1 && row.pendingSteps == 0 && row.pendingEntries == 2
+        })
+        0 * dirtyRepository.incrementPending("rk", DAY2, *_)
+        aggregationScheduler.pendingRecordKeys.contains("rk")
+    }
+
+    def "조회 전 반영 테스트 - 대기 중인 신규 엔트리 수를 집계에 넘김"() {
+        given:
+        dirtyRepository.incrementPending(*_) >> 1
+        aggregationScheduler.submit("rk", [newDelta(DAY1, 0)])
+
+        when:
+        aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        1 * dirtyRepository.findByRecordKey("rk") >> [pending(DAY1, 0, 1)]
+        1 * aggregationService.updateAggregations("rk", { List<EntryDelta> deltas ->
+            deltas*.steps == [0] && deltas*.newEntries == [1]
+        })
+    }
+
+    def "조회 전 반영 테스트 - 대기분이 없으면 락/DB 조회 없이 반환"() {
+        when:
+        aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        0 * writeLockService.executeWithLock(*_)
+        0 * dirtyRepository._
+    }
+
+    def "조회 전 반영 테스트 - 여러 업로드의 대기분을 일자당 한 건씩 한 번에 집계"() {
+        given:
+        dirtyRepository.incrementPending(*_) >> 1
+        aggregationScheduler.submit("rk", [delta(DAY1, 100)])
+        aggregationScheduler.submit("rk", [delta(DAY1, 20), delta(DAY2, 30)])
+        List<HealthAggregationDirtyEntity> pending = [pending(DAY1, 120), pending(DAY2, 30)]
+
+        when:
+        aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        1 * dirtyRepository.findByRecordKey("rk") >> pending
+        1 * aggregationService.updateAggregations("rk", { List<EntryDelta> deltas ->
+            deltas*.date == [DAY1, DAY2] && deltas*.steps == [120, 30]
+        })
+        1 * dirtyRepository.deleteAllInBatch(pending)
+        1 * readConsistencyTracker.markWritten("rk")
+
+        when: "반영 후 다시 조회"
+        aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        0 * dirtyRepository.findByRecordKey(_)
+        0 * aggregationService._
+    }
+
+    def "조회 전 반영 테스트 - 실패하면 다음 조회에서 다시 반영"() {
+        given:
+        dirtyRepository.incrementPending(*_) >> 1
+        aggregationScheduler.submit("rk", [delta(DAY1, 100)])
+
+        when:
+        aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        1 * dirtyRepository.findByRecordKey("rk") >> [pending(DAY1, 100)]
+        1 * aggregationService.updateAggregations(*_) >> { throw new IllegalStateException("fail") }
+        thrown(IllegalStateException)
+
+        when:
+        aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        1 * dirtyRepository.findByRecordKey("rk") >> [pending(DAY1, 100)]
+        1 * aggregationService.updateAggregations("rk", _)
+    }
+
+    def "조회 전 반영 테스트 - 주기 반영이 커밋되기 전까지는 대기 표시 유지"() {
+        given:
+        dirtyRepository.incrementPending(*_) >> 1
+        aggregationScheduler.submit("rk", [delta(DAY1, 100)])
+        boolean pendingDuringFlush = false
+
+        when: "주기 반영의 트랜잭션 안"
+        aggregationScheduler.flushDue()
+
+        then:
+        1 * dirtyRepository.findDueRecordKeys(*_) >> ["rk"]
+        1 * dirtyRepository.findByRecordKey("rk") >> [pending(DAY1, 100)]
+        1 * aggregationService.updateAggregations("rk", _) >> {
+            pendingDuringFlush = aggregationScheduler.pendingRecordKeys.contains("rk")
+        }
+        pendingDuringFlush
+
+        when: "커밋 이후 조회"
+        aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        0 * writeLockService.executeWithLock(*_)
+    }
+
+    def "주기 반영 테스트 - 조용한 구간/최대 지연 기준으로 대상을 찾고 실패한 recordKey는 건너뜀"() {
+        given:
+        LocalDateTime before = LocalDateTime.now()
+
+        when:
+        aggregationScheduler.flushDue()
+
+        then:
+        1 * dirtyRepository.findDueRecordKeys({ LocalDateTime quietBefore ->
+            !quietBefore.isBefore(before.minus(Duration.ofMillis(2000)))
+        }, { LocalDateTime staleBefore ->
+            !staleBefore.isBefore(before.minus(Duration.ofMillis(10000)))
+        }, Limit.of(100)) >> ["rk-1", "rk-2"]
+        1 * writeLockService.executeWithLock("rk-1", _) >> {
+            throw CustomException.of(ErrorCode.HEALTH_WRITE_LOCK_TIMEOUT)
+        }
+        1 * writeLockService.executeWithLock("rk-2", _) >> { args -> args[1].get() }
+        1 * dirtyRepository.findByRecordKey("rk-2") >> [pending(DAY1, 10)]
+        1 * aggregationService.updateAggregations("rk-2", _)
+        noExceptionThrown()
+    }
+
+    def "주기 반영 테스트 - 샤딩이 켜져 있으면 샤드마다 바인딩해 반영 대상 조회"() {
+        given:
+        shardRouter.enabled = true
+        shardRouter.shards = 3
+        List<Integer> queriedShards = []
+
+        when:
+        aggregationScheduler.flushDue()
+
+        then:
+        3 * dirtyRepository.findDueRecordKeys(_, _, Limit.of(100)) >> {
+            queriedShards << ShardContext.current().orElse(null)
+            []
+        }
+        queriedShards == [0, 1, 2]
+        ShardContext.current().isEmpty()
+    }
+
+    def "주기 반영 테스트 - 지연 집계가 꺼져 있으면 아무것도 하지 않음"() {
+        given:
+        aggregationScheduler.writeBehind = false
+
+        when:
+        aggregationScheduler.flushDue()
+
+        then:
+        0 * dirtyRepository._
+    }
+
+    private static EntryDelta delta(LocalDate date, int steps) {
+        return new EntryDelta(date.toEpochDay(), steps, steps / 50f as float, steps / 500f as float, 0)
+    }
+
+    private static EntryDelta newDelta(LocalDate date, int steps) {
+        return new EntryDelta(date.toEpochDay(), steps, steps / 50f as float, steps / 500f as float, 1)
+    }
+
+    private static HealthAggregationDirtyEntity pending(LocalDate date, int steps, int entries = 0) {
+        return HealthAggregationDirtyEntity.builder()
+                .recordKey("rk")
+                .summaryDate(date)
+                .pendingSteps(steps)
+                .pendingCalories(steps / 50f as float)
+                .pendingDistance(steps / 500f as float)
+                .pendingEntries(entries)
+                .build()
+    }
+}
@@ -1,11 +1,17 @@
 package com.ocare.domain.health.service
 
+import com.ocare.domain.health.dto.DailyAggregation
+import com.ocare.domain.health.dto.EntryDelta
+import com.ocare.domain.health.dto.MonthlyAggregation
 import com.ocare.domain.health.entity.DailyHealthSummaryEntity
 import com.ocare.domain.health.entity.HealthEntryEntity
 import com.ocare.domain.health.entity.MonthlyHealthSummaryEntity
+import com.ocare.domain.health.entity.WeeklyHealthSummaryEntity
+import com.ocare.domain.health.entity.YearlyHealthSummaryEntity
 import com.ocare.domain.health.repository.DailyHealthSummaryRepository
-import com.ocare.domain.health.repository.HealthEntryRepository
 import com.ocare.domain.health.repository.MonthlyHealthSummaryRepository
+import com.ocare.domain.health.repository.WeeklyHealthSummaryRepository
+import com.ocare.domain.health.repository.YearlyHealthSummaryRepository
 import spock.lang.Specification
 import spock.lang.Subject
 
@@ -14,144 +20,183 @@ import java.time.LocalDateTime
 
 class HealthAggregationServiceTest extends Specification {
 
-    HealthEntryRepository healthEntryRepository = Mock()
     DailyHealthSummaryRepository dailySummaryRepository = Mock()
+    WeeklyHealthSummaryRepository weeklySummaryRepository = Mock()
     MonthlyHealthSummaryRepository monthlySummaryRepository = Mock()
+    YearlyHealthSummaryRepository yearlySummaryRepository = Mock()
+    HealthSummaryCacheService summaryCacheService = Mock()
 
     @Subject
     HealthAggregationService healthAggregationService = new HealthAggregationService(
-            healthEntryRepository, dailySummaryRepository, monthlySummaryRepository)
+            dailySummaryRepository, weeklySummaryRepository, monthlySummaryRepository,
+            yearlySummaryRepository, summaryCacheService)
+
+    def setup() {
+        // 변경 전 일별 집계 없음
+        dailySummaryRepository.findByRecordKeyAndSummaryDateBetweenOrderBySummaryDateAsc(*_) >> []
+        dailySummaryRepository.findFirstByRecordKeyAndSummaryDateLessThanOrderBySummaryDateDesc(*_) >> Optional.empty()
+    }
 
     def "집계 업데이트 성공 테스트 - 새 데이터 생성"() {
         given:
         String recordKey = "test-record-key"
 
-        List<HealthEntryEntity> entries = [
-                createHealthEntry(1L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f),
-                createHealthEntry(2L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 10), 1500, 75.0f, 0.7f)
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 10), 1500, 75.0f, 0.7f)
         ]
 
         when:
-        healthAggregationService.updateAggregations(recordKey)
+        healthAggregationService.updateAggregations(recordKey, deltas)
 
         then:
-        1 * healthEntryRepository.findByRecordKey(recordKey) >> entries
-        1 * dailySummaryRepository.findByRecordKeyAndSummaryDate(recordKey, LocalDate.of(2024, 1, 1)) >> Optional.empty()
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 1), 2500, _, _, _) >> 0
         1 * dailySummaryRepository.save(_ as DailyHealthSummaryEntity)
-        1 * monthlySummaryRepository.findByRecordKeyAndSummaryYearAndSummaryMonth(recordKey, 2024, 1) >> Optional.empty()
+        1 * monthlySummaryRepository.incrementSummary(recordKey, 2024, 1, 2500, _, _, _) >> 0
         1 * monthlySummaryRepository.save(_ as MonthlyHealthSummaryEntity)
     }
 
-    def "집계 업데이트 성공 테스트 - 기존 데이터 갱신"() {
+    def "집계 업데이트 성공 테스트 - 기존 데이터에 변경량 누적"() {
         given:
         String recordKey = "test-record-key"
 
-        List<HealthEntryEntity> entries = [
-                createHealthEntry(1L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f)
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f)
         ]
 
-        DailyHealthSummaryEntity existingDaily = DailyHealthSummaryEntity.builder()
-                .id(1L)
-                .recordKey(recordKey)
-                .summaryDate(LocalDate.of(2024, 1, 1))
-                .totalSteps(500)
-                .totalCalories(25.0f)
-                .totalDistance(0.2f)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build()
+        when:
+        healthAggregationService.updateAggregations(recordKey, deltas)
 
-        MonthlyHealthSummaryEntity existingMonthly = MonthlyHealthSummaryEntity.builder()
-                .id(1L)
-                .recordKey(recordKey)
-                .summaryYear(2024)
-                .summaryMonth(1)
-                .totalSteps(500)
-                .totalCalories(25.0f)
-                .totalDistance(0.2f)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build()
+        then:
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 1), 1000, 50.0f, 0.5f, _) >> 1
+        0 * dailySummaryRepository.save(_)
+        1 * monthlySummaryRepository.incrementSummary(recordKey, 2024, 1, 1000, 50.0f, 0.5f, _) >> 1
+        0 * monthlySummaryRepository.save(_)
+    }
+
+    def "집계 업데이트 테스트 - 기존 엔트리 수정 시 차이만 반영"() {
+        given:
+        String recordKey = "test-record-key"
+        HealthEntryEntity existing = createHealthEntry(1L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f)
+
+        List<EntryDelta> deltas = [EntryDelta.ofUpdate(existing, 800, 40.0f, 0.5f)]
 
         when:
-        healthAggregationService.updateAggregations(recordKey)
+        healthAggregationService.updateAggregations(recordKey, deltas)
 
         then:
-        1 * healthEntryRepository.findByRecordKey(recordKey) >> entries
-        1 * dailySummaryRepository.findByRecordKeyAndSummaryDate(recordKey, LocalDate.of(2024, 1, 1)) >> Optional.of(existingDaily)
-        0 * dailySummaryRepository.save(_ as DailyHealthSummaryEntity)
-        1 * monthlySummaryRepository.findByRecordKeyAndSummaryYearAndSummaryMonth(recordKey, 2024, 1) >> Optional.of(existingMonthly)
-        0 * monthlySummaryRepository.save(_ as MonthlyHealthSummaryEntity)
-
-        existingDaily.totalSteps == 1000
-        existingMonthly.totalSteps == 1000
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 1), -200, -10.0f, 0.0f, _) >> 1
+        1 * monthlySummaryRepository.incrementSummary(recordKey, 2024, 1, -200, -10.0f, 0.0f, _) >> 1
+        0 * dailySummaryRepository.save(_)
+        0 * monthlySummaryRepository.save(_)
     }
 
-    def "집계 업데이트 테스트 - 엔트리 없음"() {
+    def "집계 업데이트 테스트 - 변경량 없음"() {
         given:
         String recordKey = "empty-record-key"
 
         when:
-        healthAggregationService.updateAggregations(recordKey)
+        healthAggregationService.updateAggregations(recordKey, [])
 
         then:
-        1 * healthEntryRepository.findByRecordKey(recordKey) >> []
-        0 * dailySummaryRepository.findByRecordKeyAndSummaryDate(_, _)
+        0 * dailySummaryRepository.incrementSummary(*_)
         0 * dailySummaryRepository.save(_)
-        0 * monthlySummaryRepository.findByRecordKeyAndSummaryYearAndSummaryMonth(_, _, _)
+        0 * monthlySummaryRepository.incrementSummary(*_)
         0 * monthlySummaryRepository.save(_)
+        0 * summaryCacheService.evictSummaries(*_)
     }
 
-    def "집계 업데이트 테스트 - 여러 날짜 데이터"() {
+    def "집계 업데이트 테스트 - 동일 데이터 재업로드 시 쓰기 생략"() {
         given:
         String recordKey = "test-record-key"
+        HealthEntryEntity existing = createHealthEntry(1L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f)
+
+        when:
+        healthAggregationService.updateAggregations(recordKey, [EntryDelta.ofUpdate(existing, 1000, 50.0f, 0.5f)])
 
-        List<HealthEntryEntity> entries = [
-                createHealthEntry(1L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f),
-                createHealthEntry(2L, recordKey, LocalDateTime.of(2024, 1, 2, 10, 0), 2000, 100.0f, 1.0f),
-                createHealthEntry(3L, recordKey, LocalDateTime.of(2024, 2, 1, 10, 0), 3000, 150.0f, 1.5f)
+        then:
+        0 * dailySummaryRepository.incrementSummary(*_)
+        0 * monthlySummaryRepository.incrementSummary(*_)
+        1 * summaryCacheService.evictSummaries(recordKey, [] as Set)
+    }
+
+    def "집계 업데이트 테스트 - 값이 모두 0인 신규 엔트리만 있는 일자도 0인 행 생성"() {
+        given:
+        String recordKey = "test-record-key"
+
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 0, 0.0f, 0.0f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 10), 0, 0.0f, 0.0f)
         ]
 
         when:
-        healthAggregationService.updateAggregations(recordKey)
+        healthAggregationService.updateAggregations(recordKey, deltas)
 
         then:
-        1 * healthEntryRepository.findByRecordKey(recordKey) >> entries
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 1), 0, 0.0f, 0.0f, _) >> 0
+        1 * dailySummaryRepository.save({ DailyHealthSummaryEntity entity ->
+            entity.summaryDate == LocalDate.of(2024, 1, 1) && entity.totalSteps == 0 && entity.cumulativeSteps == 0L
+        })
+        1 * weeklySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 1), 0, 0.0f, 0.0f, _) >> 0
+        1 * weeklySummaryRepository.save({ WeeklyHealthSummaryEntity entity -> entity.totalSteps == 0 })
+        1 * monthlySummaryRepository.incrementSummary(recordKey, 2024, 1, 0, 0.0f, 0.0f, _) >> 0
+        1 * monthlySummaryRepository.save({ MonthlyHealthSummaryEntity entity -> entity.totalSteps == 0 })
+        1 * yearlySummaryRepository.incrementSummary(recordKey, 2024, 0, 0.0f, 0.0f, _) >> 0
+        1 * yearlySummaryRepository.save({ YearlyHealthSummaryEntity entity -> entity.totalSteps == 0 })
+        1 * summaryCacheService.evictSummaries(recordKey, [LocalDate.of(2024, 1, 1)] as Set)
+    }
+
+    def "집계 업데이트 테스트 - 여러 날짜 데이터"() {
+        given:
+        String recordKey = "test-record-key"
+
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 2, 10, 0), 2000, 100.0f, 1.0f),
+                newDelta(recordKey, LocalDateTime.of(2024, 2, 1, 10, 0), 3000, 150.0f, 1.5f)
+        ]
+
+        when:
+        healthAggregationService.updateAggregations(recordKey, deltas)
 
+        then:
         // 일별 집계: 3개 날짜
-        1 * dailySummaryRepository.findByRecordKeyAndSummaryDate(recordKey, LocalDate.of(2024, 1, 1)) >> Optional.empty()
-        1 * dailySummaryRepository.findByRecordKeyAndSummaryDate(recordKey, LocalDate.of(2024, 1, 2)) >> Optional.empty()
-        1 * dailySummaryRepository.findByRecordKeyAndSummaryDate(recordKey, LocalDate.of(2024, 2, 1)) >> Optional.empty()
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 1), *_) >> 0
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 2), *_) >> 0
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 2, 1), *_) >> 0
         3 * dailySummaryRepository.save(_ as DailyHealthSummaryEntity)
 
         // 월별 집계: 2개 월
-        1 * monthlySummaryRepository.findByRecordKeyAndSummaryYearAndSummaryMonth(recordKey, 2024, 1) >> Optional.empty()
-        1 * monthlySummaryRepository.findByRecordKeyAndSummaryYearAndSummaryMonth(recordKey, 2024, 2) >> Optional.empty()
+        1 * monthlySummaryRepository.incrementSummary(recordKey, 2024, 1, 3000, _, _, _) >> 0
+        1 * monthlySummaryRepository.incrementSummary(recordKey, 2024, 2, 3000, _, _, _) >> 0
         2 * monthlySummaryRepository.save(_ as MonthlyHealthSummaryEntity)
+
+        // 캐시 무효화: 변경된 일자 전체
+        1 * summaryCacheService.evictSummaries(recordKey,
+                [LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2), LocalDate.of(2024, 2, 1)] as Set)
     }
 
     def "집계 업데이트 테스트 - 같은 날 여러 엔트리 합산"() {
         given:
         String recordKey = "test-record-key"
 
-        List<HealthEntryEntity> entries = [
-                createHealthEntry(1L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f),
-                createHealthEntry(2L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 10), 1500, 75.0f, 0.7f),
-                createHealthEntry(3L, recordKey, LocalDateTime.of(2024, 1, 1, 10, 20), 2000, 100.0f, 1.0f)
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 1000, 50.0f, 0.5f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 10), 1500, 75.0f, 0.7f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 20), 2000, 100.0f, 1.0f)
         ]
 
         when:
-        healthAggregationService.updateAggregations(recordKey)
+        healthAggregationService.updateAggregations(recordKey, deltas)
 
         then:
-        1 * healthEntryRepository.findByRecordKey(recordKey) >> entries
-        1 * dailySummaryRepository.findByRecordKeyAndSummaryDate(recordKey, LocalDate.of(2024, 1, 1)) >> Optional.empty()
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 1), *_) >> 0
         1 * dailySummaryRepository.save({ DailyHealthSummaryEntity entity ->
             entity.totalSteps == 4500 &&
             entity.totalCalories == 225.0f &&
             entity.totalDistance == 2.2f
         })
-        1 * monthlySummaryRepository.findByRecordKeyAndSummaryYearAndSummaryMonth(recordKey, 2024, 1) >> Optional.empty()
+        1 * monthlySummaryRepository.incrementSummary(recordKey, 2024, 1, *_) >> 0
         1 * monthlySummaryRepository.save({ MonthlyHealthSummaryEntity entity ->
             entity.totalSteps == 4500 &&
             entity.totalCalories == 225.0f &&
@@ -159,7 +204,170 @@ class HealthAggregationServiceTest extends Specification {
         })
     }
 
-    // Helper method
+    def "집계 업데이트 테스트 - 주별/연도별 집계 함께 반영"() {
+        given:
+        String recordKey = "test-record-key"
+
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, LocalDateTime.of(2023, 12, 31, 10, 0), 1000, 50.0f, 0.5f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 10, 0), 2000, 100.0f, 1.0f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 7, 10, 0), 3000, 150.0f, 1.5f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 8, 10, 0), 4000, 200.0f, 2.0f)
+        ]
+
+        when:
+        healthAggregationService.updateAggregations(recordKey, deltas)
+
+        then:
+        1 * weeklySummaryRepository.incrementSummary(recordKey, LocalDate.of(2023, 12, 25), 1000, 50.0f, 0.5f, _) >> 1
+        1 * weeklySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 1), 5000, 250.0f, 2.5f, _) >> 1
+        1 * weeklySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 8), 4000, 200.0f, 2.0f, _) >> 0
+        1 * weeklySummaryRepository.save({ WeeklyHealthSummaryEntity entity ->
+            entity.weekStartDate == LocalDate.of(2024, 1, 8) && entity.totalSteps == 4000
+        })
+        1 * yearlySummaryRepository.incrementSummary(recordKey, 2023, 1000, 50.0f, 0.5f, _) >> 1
+        1 * yearlySummaryRepository.incrementSummary(recordKey, 2024, 9000, 450.0f, 4.5f, _) >> 0
+        1 * yearlySummaryRepository.save({ YearlyHealthSummaryEntity entity ->
+            entity.summaryYear == 2024 && entity.totalSteps == 9000
+        })
+        0 * weeklySummaryRepository.save(_)
+        0 * yearlySummaryRepository.save(_)
+    }
+
+    def "집계 업데이트 테스트 - 늦게 들어온 데이터는 이후 일자의 누적 합계까지 반영"() {
+        given:
+        String recordKey = "test-record-key"
+        HealthEntryEntity jan3Entry = createHealthEntry(1L, recordKey, LocalDateTime.of(2024, 1, 3, 10, 0), 1000, 50.0f, 0.5f)
+
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 2, 10, 0), 500, 25.0f, 0.25f),
+                EntryDelta.ofUpdate(jan3Entry, 1100, 55.0f, 0.5f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 4, 10, 0), 200, 10.0f, 0.25f)
+        ]
+
+        when:
+        healthAggregationService.updateAggregations(recordKey, deltas)
+
+        then:
+        1 * dailySummaryRepository.findByRecordKeyAndSummaryDateBetweenOrderBySummaryDateAsc(
+                recordKey, LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 4)) >> [
+                createDailySummary(recordKey, LocalDate.of(2024, 1, 3), 2000, 3000L, 150.0d, 1.5d)
+        ]
+        1 * dailySummaryRepository.findFirstByRecordKeyAndSummaryDateLessThanOrderBySummaryDateDesc(
+                recordKey, LocalDate.of(2024, 1, 2)) >> Optional.of(
+                createDailySummary(recordKey, LocalDate.of(2024, 1, 1), 1000, 1000L, 50.0d, 0.5d))
+
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 2), *_) >> 0
+        1 * dailySummaryRepository.save({ DailyHealthSummaryEntity entity ->
+            entity.summaryDate == LocalDate.of(2024, 1, 2) && entity.cumulativeSteps == 1500L &&
+            entity.cumulativeCalories == 75.0d && entity.cumulativeDistance == 0.75d
+        })
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 3), 100, 5.0f, 0.0f, _) >> 1
+        1 * dailySummaryRepository.shiftCumulative(recordKey, LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 3),
+                600L, 30.0d, 0.25d) >> 1
+        1 * dailySummaryRepository.incrementSummary(recordKey, LocalDate.of(2024, 1, 4), *_) >> 0
+        1 * dailySummaryRepository.save({ DailyHealthSummaryEntity entity ->
+            entity.summaryDate == LocalDate.of(2024, 1, 4) && entity.cumulativeSteps == 3800L &&
+            entity.cumulativeCalories == 190.0d && entity.cumulativeDistance == 2.0d
+        })
+        1 * dailySummaryRepository.shiftCumulativeFrom(recordKey, LocalDate.of(2024, 1, 5), 800L, 40.0d, 0.5d)
+        0 * dailySummaryRepository.shiftCumulative(*_)
+    }
+
+    def "변경량 합산 테스트 - 배열 커널과 맵 기반 결과 일치"() {
+        given:
+        String recordKey = "test-record-key"
+        HealthEntryEntity existing = createHealthEntry(1L, recordKey, LocalDateTime.of(2024, 1, 31, 23, 50), 900, 45.0f, 0.6f)
+        HealthEntryEntity reuploaded = createHealthEntry(2L, recordKey, LocalDateTime.of(2024, 3, 15, 9, 0), 500, 25.0f, 0.3f)
+        HealthEntryEntity lowered = createHealthEntry(3L, recordKey, LocalDateTime.of(2024, 2, 20, 9, 0), 200, 10.0f, 0.1f)
+
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, LocalDateTime.of(2023, 12, 31, 23, 50), 300, 15.0f, 0.2f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 0, 0), 1000, 50.0f, 0.5f),
+                newDelta(recordKey, LocalDateTime.of(2024, 1, 1, 0, 10), 1200, 60.1f, 0.7f),
+                EntryDelta.ofUpdate(existing, 400, 20.0f, 0.3f),
+                newDelta(recordKey, LocalDateTime.of(2024, 2, 29, 12, 0), 700, 35.3f, 0.4f),
+                // 합계가 0인 일자: 값이 모두 0인 신규 엔트리, 서로 상쇄되는 변경량, 같은 값 재업로드(월 전체가 0)
+                newDelta(recordKey, LocalDateTime.of(2024, 2, 10, 8, 0), 0, 0.0f, 0.0f),
+                EntryDelta.ofUpdate(lowered, 0, 0.0f, 0.0f),
+                newDelta(recordKey, LocalDateTime.of(2024, 2, 20, 9, 10), 200, 10.0f, 0.1f),
+                EntryDelta.ofUpdate(reuploaded, 500, 25.0f, 0.3f)
+        ]
+        Map<LocalDate, DailyAggregation> kernelDaily = [:]
+        Map<String, MonthlyAggregation> kernelMonthly = [:]
+        Map<LocalDate, DailyAggregation> mapDaily = [:]
+        Map<String, MonthlyAggregation> mapMonthly = [:]
+
+        when:
+        healthAggregationService.aggregateEntries(deltas, kernelDaily, kernelMonthly)
+        healthAggregationService.aggregateEntriesWithMaps(deltas, mapDaily, mapMonthly)
+
+        then:
+        kernelDaily.keySet() == mapDaily.keySet()
+        kernelDaily.keySet().containsAll([LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 20), LocalDate.of(2024, 3, 15)])
+        kernelDaily.every { date, agg ->
+            agg.steps == mapDaily[date].steps && agg.newEntries == mapDaily[date].newEntries &&
+            Math.abs(agg.calories - mapDaily[date].calories) < 0.001f &&
+            Math.abs(agg.distance - mapDaily[date].distance) < 0.001f
+        }
+        kernelMonthly.keySet() == ["2023-12", "2024-1", "2024-2", "2024-3"] as Set
+        kernelMonthly.keySet() == mapMonthly.keySet()
+        kernelMonthly.every { key, agg ->
+            agg.year == mapMonthly[key].year && agg.month == mapMonthly[key].month &&
+            agg.steps == mapMonthly[key].steps && agg.newEntries == mapMonthly[key].newEntries &&
+            Math.abs(agg.calories - mapMonthly[key].calories) < 0.001f &&
+            Math.abs(agg.distance - mapMonthly[key].distance) < 0.001f
+        }
+        kernelMonthly["2024-1"].steps == 2200 - 500
+        kernelDaily[LocalDate.of(2024, 2, 10)].with { steps == 0 && newEntries == 1 && !unchanged }
+        kernelDaily[LocalDate.of(2024, 3, 15)].unchanged
+        kernelMonthly["2024-3"].unchanged
+    }
+
+    def "변경량 합산 테스트 - 날짜 범위가 넓으면 맵 기반으로 합산"() {
+        given:
+        String recordKey = "test-record-key"
+        LocalDateTime first = LocalDateTime.of(2010, 1, 1, 0, 0)
+
+        List<EntryDelta> deltas = [
+                newDelta(recordKey, first, 1000, 50.0f, 0.5f),
+                newDelta(recordKey, first.plusDays(HealthAggregationKernel.MAX_SPAN_DAYS), 2000, 100.0f, 1.0f)
+        ]
+        Map<LocalDate, DailyAggregation> dailyMap = [:]
+        Map<String, MonthlyAggregation> monthlyMap = [:]
+
+        expect:
+        HealthAggregationKernel.aggregate(deltas).isEmpty()
+
+        when:
+        healthAggregationService.aggregateEntries(deltas, dailyMap, monthlyMap)
+
+        then:
+        dailyMap.keySet() == [first.toLocalDate(), first.toLocalDate().plusDays(HealthAggregationKernel.MAX_SPAN_DAYS)] as Set
+        monthlyMap.values()*.steps.sort() == [1000, 2000]
+    }
+
+    // Helper methods
+    private EntryDelta newDelta(String recordKey, LocalDateTime periodFrom,
+                                Integer steps, Float calories, Float distance) {
+        return EntryDelta.ofNew(createHealthEntry(null, recordKey, periodFrom, steps, calories, distance))
+    }
+
+    private DailyHealthSummaryEntity createDailySummary(String recordKey, LocalDate date, Integer steps,
+                                                        Long cumulativeSteps, Double cumulativeCalories,
+                                                        Double cumulativeDistance) {
+        return DailyHealthSummaryEntity.builder()
+                .recordKey(recordKey)
+                .summaryDate(date)
+                .totalSteps(steps)
+                .totalCalories((steps * 0.05f) as Float)
+                .totalDistance((steps * 0.0005f) as Float)
+                .cumulativeSteps(cumulativeSteps)
+                .cumulativeCalories(cumulativeCalories)
+                .cumulativeDistance(cumulativeDistance)
+                .build()
+    }
+
     private HealthEntryEntity createHealthEntry(Long id, String recordKey, LocalDateTime periodFrom,
                                                  Integer steps, Float calories, Float distance) {
         return HealthEntryEntity.builder()
@@ -0,0 +1,142 @@
+package com.ocare.domain.health.service
+
+import com.ocare.common.exception.CustomException
+import com.ocare.common.exception.ErrorCode
+import com.ocare.config.WorkerThreadFactoryProvider
+import com.ocare.config.jwt.JwtMemberPrincipal
+import com.ocare.domain.health.dto.request.DataWrapper
+import com.ocare.domain.health.dto.request.HealthDataBatchRequest
+import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.dto.response.HealthDataBatchResponse
+import com.ocare.domain.health.dto.response.HealthDataSaveResponse
+import com.ocare.domain.member.service.MemberService
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class HealthDataBatchServiceTest extends Specification {
+
+    HealthDataService healthDataService = Mock()
+    MemberService memberService = Mock()
+
+    JwtMemberPrincipal gateway = JwtMemberPrincipal.of("gateway@test.com", "gateway-key", "ROLE_GATEWAY")
+    JwtMemberPrincipal member = JwtMemberPrincipal.of("test@test.com", "rk-a", "ROLE_USER")
+
+    @Subject
+    HealthDataBatchService batchService = new HealthDataBatchService(
+            healthDataService, new HealthAccessService(), memberService, new WorkerThreadFactoryProvider())
+
+    def setup() {
+        batchService.workers = 2
+        batchService.init()
+    }
+
+    def cleanup() {
+        batchService.shutdown()
+    }
+
+    def "일괄 저장 테스트 - 결과는 요청 순서, 같은 recordKey 항목은 요청 순서대로 저장"() {
+        given:
+        List<HealthDataRequest> items = [item("rk-a", 1), item("rk-b", 2), item("rk-a", 3)]
+        Map<String, List<Integer>> saveOrder = new ConcurrentHashMap<>()
+        healthDataService.saveHealthData(_) >> { HealthDataRequest request ->
+            saveOrder.computeIfAbsent(request.recordKey, { new CopyOnWriteArrayList<>() }).add(request.data.entries.size())
+            HealthDataSaveResponse.of(request.recordKey, request.data.entries.size())
+        }
+
+        when:
+        HealthDataBatchResponse response = batchService.saveBatch(gateway, new HealthDataBatchRequest(items))
+
+        then:
+        response.successCount == 3
+        response.failureCount == 0
+        response.results*.recordKey == ["rk-a", "rk-b", "rk-a"]
+        response.results*.savedCount == [1, 2, 3]
+        saveOrder["rk-a"] == [1, 3]
+    }
+
+    def "일괄 저장 테스트 - 한 회원의 실패는 다른 회원 처리에 영향 없음"() {
+        given:
+        List<HealthDataRequest> items = [item("rk-a", 1), item("rk-b", 1), item("rk-c", 1)]
+        healthDataService.saveHealthData({ it.recordKey == "rk-a" }) >> {
+            throw CustomException.of(ErrorCode.HEALTH_WRITE_LOCK_TIMEOUT)
+        }
+        healthDataService.saveHealthData({ it.recordKey == "rk-b" }) >> { throw new IllegalStateException("db down") }
+        healthDataService.saveHealthData({ it.recordKey == "rk-c" }) >> HealthDataSaveResponse.of("rk-c", 1)
+
+        when:
+        HealthDataBatchResponse response = batchService.saveBatch(gateway, new HealthDataBatchRequest(items))
+
+        then:
+        response.successCount == 1
+        response.failureCount == 2
+        response.results*.success == [false, false, true]
+        response.results*.errorCode == ["HEALTH_008", "COMMON_002", null]
+    }
+
+    def "일괄 저장 테스트 - 일반 회원은 본인 recordKey 항목만 저장"() {
+        given:
+        List<HealthDataRequest> items = [item("rk-a", 1), item("rk-b", 1)]
+
+        when:
+        HealthDataBatchResponse response = batchService.saveBatch(member, new HealthDataBatchRequest(items))
+
+        then:
+        1 * healthDataService.saveHealthData({ it.recordKey == "rk-a" }) >> HealthDataSaveResponse.of("rk-a", 1)
+        0 * healthDataService.saveHealthData({ it.recordKey == "rk-b" })
+        0 * memberService._
+        response.results*.success == [true, false]
+        response.results[1].errorCode == ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN.code
+    }
+
+    def "일괄 저장 테스트 - 게이트웨이는 존재하지 않는 회원 항목만 실패"() {
+        given:
+        List<HealthDataRequest> items = [item("rk-a", 1), item("unknown", 1)]
+        memberService.findByRecordKey("unknown") >> { throw CustomException.of(ErrorCode.MEMBER_NOT_FOUND) }
+
+        when:
+        HealthDataBatchResponse response = batchService.saveBatch(gateway, new HealthDataBatchRequest(items))
+
+        then:
+        1 * healthDataService.saveHealthData({ it.recordKey == "rk-a" }) >> HealthDataSaveResponse.of("rk-a", 1)
+        0 * healthDataService.saveHealthData({ it.recordKey == "unknown" })
+        response.results*.errorCode == [null, ErrorCode.MEMBER_NOT_FOUND.code]
+    }
+
+    def "일괄 저장 테스트 - 서로 다른 recordKey는 워커 풀에서 동시에 처리"() {
+        given: "두 저장이 서로를 기다림 (Spock Mock 호출은 직렬화되므로 직접 구현)"
+        CountDownLatch bothStarted = new CountDownLatch(2)
+        HealthDataService blockingService = new HealthDataService(null, null, null, null, null, null) {
+            @Override
+            HealthDataSaveResponse saveHealthData(HealthDataRequest request) {
+                bothStarted.countDown()
+                if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("not parallel")
+                }
+                return HealthDataSaveResponse.of(request.recordKey, 1)
+            }
+        }
+        HealthDataBatchService parallelService = new HealthDataBatchService(
+                blockingService, new HealthAccessService(), memberService, new WorkerThreadFactoryProvider())
+        parallelService.workers = 2
+        parallelService.init()
+
+        when:
+        HealthDataBatchResponse response = parallelService.saveBatch(gateway,
+                new HealthDataBatchRequest([item("rk-a", 1), item("rk-b", 1)]))
+
+        then:
+        response.successCount == 2
+
+        cleanup:
+        parallelService.shutdown()
+    }
+
+    private static HealthDataRequest item(String recordKey, int entryCount) {
+        return new HealthDataRequest(recordKey, new DataWrapper(null, (1..entryCount).collect { null }))
+    }
+}
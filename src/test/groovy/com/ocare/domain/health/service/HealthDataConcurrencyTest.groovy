@@ -0,0 +1,156 @@
+package com.ocare.domain.health.service
+
+import com.ocare.OcareApplication
+import com.ocare.config.replica.ReadConsistencyTracker
+import com.ocare.config.shard.ShardRouter
+import com.ocare.domain.health.dto.request.DataWrapper
+import com.ocare.domain.health.dto.request.EntryDto
+import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.dto.request.PeriodDto
+import com.ocare.domain.health.dto.request.ValueDto
+import com.ocare.domain.health.dto.response.DailySummaryResponse
+import com.ocare.domain.health.dto.response.MonthlySummaryResponse
+import com.ocare.domain.health.entity.DailyHealthSummaryEntity
+import com.ocare.domain.health.repository.DailyHealthSummaryRepository
+import com.ocare.domain.health.repository.HealthAggregationDirtyRepository
+import com.ocare.domain.health.repository.HealthEntryHotTier
+import com.ocare.domain.health.repository.HealthEntryRepository
+import com.ocare.domain.health.repository.MonthlyHealthSummaryRepository
+import com.ocare.domain.health.repository.RowHealthEntryStore
+import org.spockframework.spring.SpringBean
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.test.context.ContextConfiguration
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+/**
+ * 같은 recordKey에 구간이 겹치는 업로드를 동시에 보내 저장 직렬화 검증
+ * 테스트 트랜잭션 없이 업로드마다 실제 커밋 (스레드별 트랜잭션), Redis 락은 끄고 노드 내 락만 사용
+ * 업로드는 반영 대기분만 기록하고, 조회 전 반영(flushIfDirty)으로 한 번에 집계한 결과를 검증
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@ContextConfiguration(classes = OcareApplication)
+@Import([HealthDataService, RowHealthEntryStore, HealthEntryHotTier, HealthAggregationService,
+         HealthAggregationScheduler, HealthWriteLockService, ShardRouter, ReadConsistencyTracker])
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HealthDataConcurrencyTest extends Specification {
+
+    static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+    static final LocalDateTime START = LocalDateTime.of(2024, 1, 31, 20, 0)
+    static final int UPLOADS_PER_KEY = 8
+    static final int WINDOW = 120
+    static final int SHIFT = 30
+
+    @SpringBean
+    HealthSummaryCacheService summaryCacheService = Stub()
+
+    @SpringBean
+    StringRedisTemplate redisTemplate = Stub()
+
+    @Autowired
+    HealthDataService healthDataService
+
+    @Autowired
+    HealthAggregationScheduler aggregationScheduler
+
+    @Autowired
+    HealthEntryRepository healthEntryRepository
+
+    @Autowired
+    HealthAggregationDirtyRepository dirtyRepository
+
+    @Autowired
+    DailyHealthSummaryRepository dailySummaryRepository
+
+    @Autowired
+    MonthlyHealthSummaryRepository monthlySummaryRepository
+
+    def "동시 업로드 테스트 - 겹치는 구간을 동시에 올려도 실패 없이 합계가 정확함"() {
+        given:
+        List<String> recordKeys = ["concurrency-a", "concurrency-b"]
+        CountDownLatch ready = new CountDownLatch(recordKeys.size() * UPLOADS_PER_KEY)
+        CountDownLatch start = new CountDownLatch(1)
+        ExecutorService executor = Executors.newFixedThreadPool(recordKeys.size() * UPLOADS_PER_KEY)
+
+        when:
+        List<Future<Integer>> results = recordKeys.collectMany { String recordKey ->
+            (0..<UPLOADS_PER_KEY).collect { int upload ->
+                executor.submit({
+                    ready.countDown()
+                    start.await()
+                    healthDataService.saveHealthData(createRequest(recordKey, upload * SHIFT, WINDOW)).savedCount
+                } as Callable<Integer>)
+            }
+        }
+        ready.await(10, TimeUnit.SECONDS)
+        start.countDown()
+        List<Integer> savedCounts = results.collect { it.get(60, TimeUnit.SECONDS) }
+        recordKeys.each { aggregationScheduler.flushIfDirty(it) }
+
+        then:
+        savedCounts.every { it == WINDOW }
+
+        and:
+        int slots = (UPLOADS_PER_KEY - 1) * SHIFT + WINDOW
+        Map<LocalDate, Integer> expectedDaily = (0..<slots).groupBy { slotStart(it).toLocalDate() }
+                .collectEntries { date, slotList -> [(date): slotList.sum { stepsOf(it) }] }
+        recordKeys.each { String recordKey ->
+            assert healthEntryRepository.findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(
+                    recordKey, START, slotStart(slots)).size() == slots
+            assert dirtyRepository.findByRecordKey(recordKey).isEmpty()
+
+            List<DailySummaryResponse> daily = dailySummaryRepository.findSummariesByRecordKey(recordKey)
+            assert daily.collectEntries { [(it.date): it.steps] } == expectedDaily
+
+            LocalDate lastDate = expectedDaily.keySet().max()
+            DailyHealthSummaryEntity last = dailySummaryRepository
+                    .findByRecordKeyAndSummaryDate(recordKey, lastDate).orElseThrow()
+            assert last.cumulativeSteps == expectedDaily.values().sum()
+
+            List<MonthlySummaryResponse> monthly = monthlySummaryRepository.findSummariesByRecordKey(recordKey)
+            assert monthly.sum { it.steps } == expectedDaily.values().sum()
+        }
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    private HealthDataRequest createRequest(String recordKey, int firstSlot, int count) {
+        HealthDataRequest request = new HealthDataRequest()
+        request.recordKey = recordKey
+        request.data = new DataWrapper()
+        request.data.entries = (firstSlot..<firstSlot + count).collect { int slot ->
+            EntryDto entry = new EntryDto()
+            entry.period = new PeriodDto()
+            entry.period.from = slotStart(slot).format(FORMATTER)
+            entry.period.to = slotStart(slot + 1).format(FORMATTER)
+            entry.steps = stepsOf(slot)
+            entry.calories = new ValueDto("kcal", 3.5)
+            entry.distance = new ValueDto("km", 0.07)
+            entry
+        }
+        return request
+    }
+
+    private static LocalDateTime slotStart(int slot) {
+        return START.plusMinutes(slot * 10L)
+    }
+
+    private static int stepsOf(int slot) {
+        return 50 + slot % 40
+    }
+}
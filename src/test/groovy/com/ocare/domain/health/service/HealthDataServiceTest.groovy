@@ -1,5 +1,7 @@
 package com.ocare.domain.health.service
 
+import com.ocare.config.replica.ReadConsistencyTracker
+import com.ocare.domain.health.dto.EntryDelta
 import com.ocare.domain.health.dto.request.DataWrapper
 import com.ocare.domain.health.dto.request.EntryDto
 import com.ocare.domain.health.dto.request.HealthDataRequest
@@ -7,7 +9,11 @@ import com.ocare.domain.health.dto.request.PeriodDto
 import com.ocare.domain.health.dto.request.ValueDto
 import com.ocare.domain.health.dto.response.HealthDataSaveResponse
 import com.ocare.domain.health.entity.HealthEntryEntity
+import com.ocare.domain.health.repository.HealthEntryHotTier
 import com.ocare.domain.health.repository.HealthEntryRepository
+import com.ocare.domain.health.repository.RowHealthEntryStore
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import org.springframework.transaction.support.TransactionTemplate
 import spock.lang.Specification
 import spock.lang.Subject
 
@@ -16,10 +22,22 @@ import java.time.LocalDateTime
 class HealthDataServiceTest extends Specification {
 
     HealthEntryRepository healthEntryRepository = Mock()
-    HealthAggregationService aggregationService = Mock()
+    HealthAggregationScheduler aggregationScheduler = Mock()
+    HealthWriteLockService writeLockService = Mock()
+    HealthEntryHotTier hotTier = Mock()
+    TransactionTemplate transactionTemplate = Mock()
+    ReadConsistencyTracker readConsistencyTracker = Mock()
 
     @Subject
-    HealthDataService healthDataService = new HealthDataService(healthEntryRepository, aggregationService)
+    HealthDataService healthDataService = new HealthDataService(
+            new RowHealthEntryStore(healthEntryRepository), hotTier, aggregationScheduler, writeLockService,
+            transactionTemplate, readConsistencyTracker)
+
+    def setup() {
+        // 락/트랜잭션: 콜백을 그대로 실행
+        writeLockService.executeWithLock(_, _) >> { args -> args[1].get() }
+        transactionTemplate.execute(_) >> { args -> args[0].doInTransaction(null) }
+    }
 
     def "건강 데이터 저장 성공 테스트"() {
         given:
@@ -29,14 +47,72 @@ class HealthDataServiceTest extends Specification {
         HealthDataSaveResponse response = healthDataService.saveHealthData(request)
 
         then:
-        2 * healthEntryRepository.findByRecordKeyAndPeriodFromAndPeriodTo(_, _, _) >> Optional.empty()
-        1 * healthEntryRepository.saveAll(_ as List) >> []
-        1 * aggregationService.updateAggregations("test-record-key")
+        1 * healthEntryRepository.findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(
+                "test-record-key",
+                LocalDateTime.of(2024, 1, 1, 10, 0),
+                LocalDateTime.of(2024, 1, 1, 10, 20)) >> []
+        1 * healthEntryRepository.saveAll({ List entities -> entities.size() == 2 }) >> []
+        1 * aggregationScheduler.submit("test-record-key", { List<EntryDelta> deltas ->
+            deltas.size() == 2 && deltas*.steps == [100, 101]
+        })
 
         response.savedCount == 2
         response.recordKey == "test-record-key"
     }
 
+    def "건강 데이터 저장 테스트 - recordKey 락 안에서 트랜잭션 실행"() {
+        given:
+        HealthDataRequest request = createHealthDataRequest("test-record-key", 1)
+
+        when:
+        healthDataService.saveHealthData(request)
+
+        then:
+        1 * writeLockService.executeWithLock("test-record-key", _) >> { args -> args[1].get() }
+
+        then:
+        1 * transactionTemplate.execute(_) >> { args -> args[0].doInTransaction(null) }
+
+        then:
+        1 * healthEntryRepository.findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(_, _, _) >> []
+        1 * aggregationScheduler.submit("test-record-key", _)
+    }
+
+    def "건강 데이터 저장 테스트 - 커밋 이후에 복제 지연 동안 primary 읽기 기록"() {
+        given:
+        HealthDataRequest request = createHealthDataRequest("test-record-key", 1)
+        healthEntryRepository.findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(_, _, _) >> []
+        TransactionSynchronizationManager.initSynchronization()
+
+        when:
+        healthDataService.saveHealthData(request)
+
+        then:
+        0 * readConsistencyTracker.markWritten(_)
+
+        when:
+        TransactionSynchronizationManager.synchronizations*.afterCommit()
+
+        then:
+        1 * readConsistencyTracker.markWritten("test-record-key")
+
+        cleanup:
+        TransactionSynchronizationManager.clearSynchronization()
+    }
+
+    def "건강 데이터 저장 테스트 - 파싱 가능한 엔트리가 없으면 락을 잡지 않음"() {
+        given:
+        HealthDataRequest request = createHealthDataRequest("test-record-key", 1)
+        request.data.entries[0].period.from = "invalid"
+
+        when:
+        HealthDataSaveResponse response = healthDataService.saveHealthData(request)
+
+        then:
+        0 * writeLockService.executeWithLock(_, _)
+        response.savedCount == 0
+    }
+
     def "건강 데이터 저장 테스트 - 빈 엔트리"() {
         given:
         HealthDataRequest request = new HealthDataRequest()
@@ -48,9 +124,9 @@ class HealthDataServiceTest extends Specification {
         HealthDataSaveResponse response = healthDataService.saveHealthData(request)
 
         then:
-        0 * healthEntryRepository.findByRecordKeyAndPeriodFromAndPeriodTo(_, _, _)
+        0 * healthEntryRepository.findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(_, _, _)
         0 * healthEntryRepository.saveAll(_)
-        0 * aggregationService.updateAggregations(_)
+        0 * aggregationScheduler.submit(_, _)
 
         response.savedCount == 0
     }
@@ -80,7 +156,7 @@ class HealthDataServiceTest extends Specification {
                 .recordKey("test-record-key")
                 .periodFrom(LocalDateTime.of(2024, 1, 1, 10, 0, 0))
                 .periodTo(LocalDateTime.of(2024, 1, 1, 10, 10, 0))
-                .steps(100)
+                .steps(60)
                 .calories(5.0f)
                 .distance(0.1f)
                 .createdAt(LocalDateTime.now())
@@ -90,9 +166,49 @@ class HealthDataServiceTest extends Specification {
         HealthDataSaveResponse response = healthDataService.saveHealthData(request)
 
         then:
-        1 * healthEntryRepository.findByRecordKeyAndPeriodFromAndPeriodTo("test-record-key", _, _) >> Optional.of(existingEntry)
-        1 * healthEntryRepository.saveAll(_ as List) >> [existingEntry]
-        1 * aggregationService.updateAggregations("test-record-key")
+        1 * healthEntryRepository.findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(
+                "test-record-key", _, _) >> [existingEntry]
+        1 * healthEntryRepository.saveAll([]) >> []
+        1 * aggregationScheduler.submit("test-record-key", { List<EntryDelta> deltas ->
+            deltas.size() == 1 && deltas[0].steps == 40 && deltas[0].calories == 0f
+        })
+
+        response.savedCount == 1
+        existingEntry.steps == 100
+    }
+
+    def "건강 데이터 저장 테스트 - 같은 업로드 내 중복 구간은 한 건으로 병합"() {
+        given:
+        HealthDataRequest request = createHealthDataRequest("test-record-key", 1)
+        EntryDto duplicate = new EntryDto(request.data.entries[0].period, new ValueDto("km", 0.3), new ValueDto("kcal", 9.0), 150)
+        request.data.entries.add(duplicate)
+
+        when:
+        HealthDataSaveResponse response = healthDataService.saveHealthData(request)
+
+        then:
+        1 * healthEntryRepository.findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(_, _, _) >> []
+        1 * healthEntryRepository.saveAll({ List<HealthEntryEntity> entities ->
+            entities.size() == 1 && entities[0].steps == 150
+        }) >> []
+        1 * aggregationScheduler.submit("test-record-key", { List<EntryDelta> deltas ->
+            deltas*.steps == [100, 50]
+        })
+
+        response.savedCount == 2
+    }
+
+    def "건강 데이터 저장 테스트 - 파싱 실패 엔트리 제외"() {
+        given:
+        HealthDataRequest request = createHealthDataRequest("test-record-key", 2)
+        request.data.entries[1].period.from = "invalid"
+
+        when:
+        HealthDataSaveResponse response = healthDataService.saveHealthData(request)
+
+        then:
+        1 * healthEntryRepository.findByRecordKeyAndPeriodFromGreaterThanEqualAndPeriodToLessThanEqual(_, _, _) >> []
+        1 * healthEntryRepository.saveAll({ List entities -> entities.size() == 1 }) >> []
 
         response.savedCount == 1
     }
@@ -0,0 +1,165 @@
+package com.ocare.domain.health.service
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper
+import com.ocare.common.exception.CustomException
+import com.ocare.common.exception.ErrorCode
+import com.ocare.domain.health.dto.request.EntryDto
+import com.ocare.domain.health.dto.response.HealthDataSaveResponse
+import org.springframework.http.MediaType
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.charset.StandardCharsets
+
+class HealthDataStreamServiceTest extends Specification {
+
+    HealthDataService healthDataService = Mock()
+
+    @Subject
+    HealthDataStreamService healthDataStreamService = new HealthDataStreamService(new ObjectMapper(), healthDataService)
+
+    def setup() {
+        healthDataStreamService.chunkSize = 2
+    }
+
+    def "스트리밍 저장 성공 테스트 - 청크 단위 위임"() {
+        given:
+        InputStream body = toStream(createPayload("test-record-key", 5))
+
+        when:
+        HealthDataSaveResponse response = healthDataStreamService.saveHealthDataStream(
+                body, MediaType.APPLICATION_JSON, "test-record-key")
+
+        then:
+        2 * healthDataService.saveEntries("test-record-key", { List<EntryDto> chunk -> chunk.size() == 2 }) >> 2
+        1 * healthDataService.saveEntries("test-record-key", { List<EntryDto> chunk -> chunk.size() == 1 }) >> 1
+
+        response.recordKey == "test-record-key"
+        response.savedCount == 5
+    }
+
+    def "스트리밍 저장 테스트 - 엔트리 값 파싱"() {
+        given:
+        InputStream body = toStream(createPayload("test-record-key", 1))
+
+        when:
+        healthDataStreamService.saveHealthDataStream(body, MediaType.APPLICATION_JSON, "test-record-key")
+
+        then:
+        1 * healthDataService.saveEntries("test-record-key", { List<EntryDto> chunk ->
+            chunk[0].period.from == "2024-11-15 00:00:00" &&
+            chunk[0].stepsAsInteger == 100 &&
+            chunk[0].calories.valueAsFloat == 3.5f
+        }) >> 1
+    }
+
+    def "스트리밍 저장 테스트 - CBOR/Smile 본문은 Content-Type에 맞는 파서로 처리"() {
+        given:
+        ObjectMapper jsonMapper = new ObjectMapper()
+        byte[] payload = formatMapper.writeValueAsBytes(jsonMapper.readTree(createPayload("test-record-key", 3)))
+
+        when:
+        HealthDataSaveResponse response = healthDataStreamService.saveHealthDataStream(
+                new ByteArrayInputStream(payload), MediaType.valueOf(contentType), "test-record-key")
+
+        then:
+        1 * healthDataService.saveEntries("test-record-key", { List<EntryDto> chunk ->
+            chunk.size() == 2 && chunk[0].stepsAsInteger == 100 && chunk[1].calories.valueAsFloat == 3.5f
+        }) >> 2
+        1 * healthDataService.saveEntries("test-record-key", { List<EntryDto> chunk -> chunk.size() == 1 }) >> 1
+        response.savedCount == 3
+
+        where:
+        contentType                   | formatMapper
+        "application/cbor"            | new CBORMapper()
+        "application/x-jackson-smile" | new SmileMapper()
+    }
+
+    def "스트리밍 저장 테스트 - Content-Type이 없으면 JSON으로 처리"() {
+        when:
+        HealthDataSaveResponse response = healthDataStreamService.saveHealthDataStream(
+                toStream(createPayload("test-record-key", 1)), null, "test-record-key")
+
+        then:
+        1 * healthDataService.saveEntries("test-record-key", _) >> 1
+        response.savedCount == 1
+    }
+
+    def "스트리밍 저장 테스트 - 와일드카드 Content-Type은 JSON으로 처리"() {
+        when:
+        HealthDataSaveResponse response = healthDataStreamService.saveHealthDataStream(
+                toStream(createPayload("test-record-key", 1)), MediaType.valueOf(contentType), "test-record-key")
+
+        then:
+        1 * healthDataService.saveEntries("test-record-key", _) >> 1
+        response.savedCount == 1
+
+        where:
+        contentType << ["*/*", "application/*"]
+    }
+
+    def "스트리밍 저장 테스트 - 알 수 없는 필드는 무시"() {
+        given:
+        String payload = '{"recordkey":"test-record-key","type":"steps","data":{"memo":"m","source":{"name":"x"},"entries":[]}}'
+
+        when:
+        HealthDataSaveResponse response = healthDataStreamService.saveHealthDataStream(
+                toStream(payload), MediaType.APPLICATION_JSON, "test-record-key")
+
+        then:
+        0 * healthDataService.saveEntries(_, _)
+        response.savedCount == 0
+    }
+
+    def "스트리밍 저장 실패 테스트 - recordkey가 data보다 뒤에 있음"() {
+        given:
+        String payload = '{"data":{"entries":[]},"recordkey":"test-record-key"}'
+
+        when:
+        healthDataStreamService.saveHealthDataStream(toStream(payload), MediaType.APPLICATION_JSON, "test-record-key")
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_RECORD_KEY_INVALID
+    }
+
+    def "스트리밍 저장 실패 테스트 - 다른 사용자의 recordkey"() {
+        given:
+        InputStream body = toStream(createPayload("other-record-key", 1))
+
+        when:
+        healthDataStreamService.saveHealthDataStream(body, MediaType.APPLICATION_JSON, "test-record-key")
+
+        then:
+        0 * healthDataService.saveEntries(_, _)
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_RECORD_KEY_FORBIDDEN
+    }
+
+    def "스트리밍 저장 실패 테스트 - 잘못된 JSON"() {
+        when:
+        healthDataStreamService.saveHealthDataStream(
+                toStream('{"recordkey":"k","data":{"entries":[{'), MediaType.APPLICATION_JSON, "k")
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_DATA_PARSE_ERROR
+    }
+
+    // Helper methods
+    private String createPayload(String recordKey, int entryCount) {
+        List<String> entries = (0..<entryCount).collect { int i ->
+            String from = String.format("2024-11-15 %02d:%02d:00", i.intdiv(6), (i % 6) * 10)
+            String to = String.format("2024-11-15 %02d:%02d:00", (i + 1).intdiv(6), ((i + 1) % 6) * 10)
+            """{"period":{"from":"${from}","to":"${to}"},"distance":{"unit":"km","value":0.07},""" +
+                    """"calories":{"unit":"kcal","value":3.5},"steps":${100 + i}}"""
+        }
+        return """{"recordkey":"${recordKey}","data":{"memo":"test","entries":[${entries.join(',')}]}}"""
+    }
+
+    private InputStream toStream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8))
+    }
+}
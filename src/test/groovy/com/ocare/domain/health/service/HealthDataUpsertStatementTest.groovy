@@ -0,0 +1,126 @@
+package com.ocare.domain.health.service
+
+import com.ocare.OcareApplication
+import com.ocare.config.replica.ReadConsistencyTracker
+import com.ocare.config.shard.ShardRouter
+import com.ocare.domain.health.dto.request.DataWrapper
+import com.ocare.domain.health.dto.request.EntryDto
+import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.dto.request.PeriodDto
+import com.ocare.domain.health.dto.request.ValueDto
+import com.ocare.domain.health.repository.HealthEntryHotTier
+import com.ocare.domain.health.repository.RowHealthEntryStore
+import jakarta.persistence.EntityManagerFactory
+import org.hibernate.SessionFactory
+import org.hibernate.stat.Statistics
+import org.spockframework.spring.SpringBean
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import org.springframework.context.annotation.Import
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+
+/**
+ * 업로드 1건당 실행되는 SQL 문 수 상한 검증 (지연 집계를 끄고 집계 반영까지 포함)
+ * 이전 방식(엔트리별 조회)과의 SQL 문 수 비교는 HealthEntryUpsertStatementBenchmark에서 측정해 기준선에 기록
+ */
+@DataJpaTest(properties = [
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "health.aggregation.write-behind.enabled=false"
+])
+@ContextConfiguration(classes = OcareApplication)
+@Import([HealthDataService, RowHealthEntryStore, HealthEntryHotTier, HealthAggregationService,
+         HealthAggregationScheduler, ShardRouter, ReadConsistencyTracker])
+class HealthDataUpsertStatementTest extends Specification {
+
+    static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")
+
+    @SpringBean
+    HealthSummaryCacheService summaryCacheService = Stub()
+
+    @SpringBean
+    HealthWriteLockService writeLockService = Stub() {
+        executeWithLock(_, _) >> { args -> args[1].get() }
+    }
+
+    @Autowired
+    HealthDataService healthDataService
+
+    @Autowired
+    TestEntityManager testEntityManager
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory
+
+    def "업로드당 SQL 문 수 측정 - 신규 #entryCount건"() {
+        given:
+        Statistics statistics = statistics()
+        HealthDataRequest request = createRequest("statement-new-${entryCount}", entryCount, 100)
+
+        when:
+        statistics.clear()
+        healthDataService.saveHealthData(request)
+        testEntityManager.flush()
+        long statements = statistics.prepareStatementCount
+
+        then:
+        statements <= maxStatements
+
+        where:
+        entryCount | maxStatements
+        1000       | 40
+        5000       | 150
+    }
+
+    def "업로드당 SQL 문 수 측정 - 기존 #entryCount건 재업로드"() {
+        given:
+        Statistics statistics = statistics()
+        String recordKey = "statement-update-${entryCount}"
+        healthDataService.saveHealthData(createRequest(recordKey, entryCount, 100))
+        testEntityManager.flush()
+        testEntityManager.clear()
+
+        when:
+        statistics.clear()
+        healthDataService.saveHealthData(createRequest(recordKey, entryCount, 200))
+        testEntityManager.flush()
+        long statements = statistics.prepareStatementCount
+
+        then:
+        statements <= maxStatements
+
+        where:
+        entryCount | maxStatements
+        1000       | 40
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory).statistics
+    }
+
+    private HealthDataRequest createRequest(String recordKey, int entryCount, int steps) {
+        HealthDataRequest request = new HealthDataRequest()
+        request.recordKey = recordKey
+        request.data = new DataWrapper()
+        request.data.entries = []
+
+        LocalDateTime start = LocalDateTime.of(2024, 11, 1, 0, 0)
+        for (int i = 0; i < entryCount; i++) {
+            EntryDto entry = new EntryDto()
+            entry.period = new PeriodDto()
+            entry.period.from = start.plusMinutes(i * 10L).format(FORMATTER)
+            entry.period.to = start.plusMinutes((i + 1) * 10L).format(FORMATTER)
+            entry.steps = steps
+            entry.calories = new ValueDto("kcal", 3.5)
+            entry.distance = new ValueDto("km", 0.07)
+            request.data.entries.add(entry)
+        }
+
+        return request
+    }
+}
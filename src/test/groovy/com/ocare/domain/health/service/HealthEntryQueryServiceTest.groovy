@@ -0,0 +1,131 @@
+package com.ocare.domain.health.service
+
+import com.ocare.common.exception.CustomException
+import com.ocare.common.exception.ErrorCode
+import com.ocare.domain.health.dto.EntrySample
+import com.ocare.domain.health.repository.HealthEntryHotTier
+import com.ocare.domain.health.repository.HealthEntryStore
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.LocalDate
+
+class HealthEntryQueryServiceTest extends Specification {
+
+    static final LocalDate TODAY = LocalDate.of(2024, 3, 10)
+
+    HealthEntryStore healthEntryStore = Mock()
+    HealthEntryHotTier hotTier = Mock()
+    PlatformTransactionManager transactionManager = Mock()
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    @Subject
+    HealthEntryQueryService healthEntryQueryService = new HealthEntryQueryService(
+            healthEntryStore, hotTier, new TransactionTemplate(transactionManager), meterRegistry)
+
+    def setup() {
+        healthEntryQueryService.maxEntryDays = 31
+        healthEntryQueryService.init()
+
+        // 핫 티어 보관 대상: TODAY 포함 최근 2일
+        hotTier.covers(_) >> { LocalDate date -> !date.isAfter(TODAY) && date.isAfter(TODAY.minusDays(2)) }
+    }
+
+    def "기간 검증 테스트 - 시작일이 종료일보다 늦으면 예외"() {
+        when:
+        healthEntryQueryService.getEntries("rk", TODAY, TODAY.minusDays(1))
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_DATE_RANGE_INVALID
+    }
+
+    def "기간 검증 테스트 - 최대 일수를 넘으면 예외"() {
+        when:
+        healthEntryQueryService.getEntries("rk", TODAY.minusDays(31), TODAY)
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_ENTRY_RANGE_TOO_LONG
+        0 * healthEntryStore._
+    }
+
+    def "핫 티어 적중 테스트 - 보관 중인 일자는 저장소를 조회하지 않음"() {
+        given:
+        hotTier.read("rk", TODAY.minusDays(1)) >> Optional.of([sample(TODAY.minusDays(1), 10)])
+        hotTier.read("rk", TODAY) >> Optional.of([sample(TODAY, 20)])
+
+        when:
+        def result = healthEntryQueryService.getEntries("rk", TODAY.minusDays(1), TODAY)
+
+        then:
+        result*.steps == [10, 20]
+        0 * healthEntryStore._
+        0 * transactionManager._
+        hotTierCount("hit") == 2
+    }
+
+    def "핫 티어 미스 테스트 - 보관 대상이 아닌 일자와 함께 primary에서 한 번에 조회하고 미스 일자를 채움"() {
+        given:
+        hotTier.read("rk", TODAY.minusDays(1)) >> Optional.of([sample(TODAY.minusDays(1), 10)])
+        hotTier.read("rk", TODAY) >> Optional.empty()
+
+        when:
+        def result = healthEntryQueryService.getEntries("rk", TODAY.minusDays(3), TODAY)
+
+        then: "조회 전에 세대 번호를 읽고"
+        1 * hotTier.generation("rk") >> 7L
+
+        then: "저장 락 없이 읽기 전용이 아닌 트랜잭션으로 조회"
+        1 * transactionManager.getTransaction({ !it.readOnly })
+        1 * healthEntryStore.findByDateRange("rk", TODAY.minusDays(3), TODAY) >> [
+                sample(TODAY.minusDays(3), 1), sample(TODAY.minusDays(1), 99), sample(TODAY, 30)]
+
+        then: "조회 전 세대 번호로 미스 일자만 채움"
+        1 * hotTier.fill("rk", TODAY, [sample(TODAY, 30)], 7L)
+        0 * hotTier.fill("rk", TODAY.minusDays(1), *_)
+
+        and: "적중한 일자는 핫 티어 값을 사용"
+        result*.steps == [1, 10, 30]
+        hotTierCount("hit") == 1
+        hotTierCount("miss") == 1
+    }
+
+    def "핫 티어 미스 테스트 - 엔트리가 없는 일자도 빈 목록으로 채움"() {
+        given:
+        hotTier.read("rk", TODAY) >> Optional.empty()
+        hotTier.generation("rk") >> 3L
+
+        when:
+        def result = healthEntryQueryService.getEntries("rk", TODAY, TODAY)
+
+        then:
+        1 * healthEntryStore.findByDateRange("rk", TODAY, TODAY) >> []
+        1 * hotTier.fill("rk", TODAY, [], 3L)
+        result.isEmpty()
+    }
+
+    def "보관 대상 밖 테스트 - 읽기 전용 트랜잭션으로 저장소에서만 조회"() {
+        when:
+        def result = healthEntryQueryService.getEntries("rk", TODAY.minusDays(10), TODAY.minusDays(5))
+
+        then:
+        1 * transactionManager.getTransaction({ it.readOnly })
+        1 * healthEntryStore.findByDateRange("rk", TODAY.minusDays(10), TODAY.minusDays(5)) >> [
+                sample(TODAY.minusDays(9), 5), sample(TODAY.minusDays(5), 7)]
+        0 * hotTier.generation(_)
+        0 * hotTier.fill(*_)
+        result*.steps == [5, 7]
+    }
+
+    private double hotTierCount(String result) {
+        return meterRegistry.counter("health.entry.hot-tier", "result", result).count()
+    }
+
+    private static EntrySample sample(LocalDate date, int steps) {
+        return EntrySample.of(date.atTime(9, 0), date.atTime(9, 10), steps, 0.5f, 0.01f)
+    }
+}
@@ -0,0 +1,221 @@
+package com.ocare.domain.health.service
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.ocare.common.exception.CustomException
+import com.ocare.common.exception.ErrorCode
+import com.ocare.domain.health.dto.HealthIngestJobStatus
+import com.ocare.domain.health.dto.request.DataWrapper
+import com.ocare.domain.health.dto.request.EntryDto
+import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.dto.request.PeriodDto
+import com.ocare.domain.health.dto.response.HealthIngestJobResponse
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.core.HashOperations
+import org.springframework.data.redis.core.ListOperations
+import org.springframework.data.redis.core.SetOperations
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import org.springframework.data.redis.core.script.RedisScript
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+
+class HealthIngestJobServiceTest extends Specification {
+
+    StringRedisTemplate redisTemplate = Mock()
+    HashOperations<String, Object, Object> hashOperations = Mock()
+    ValueOperations<String, String> valueOperations = Mock()
+    ListOperations<String, String> listOperations = Mock()
+    SetOperations<String, String> setOperations = Mock()
+
+    @Subject
+    HealthIngestJobService healthIngestJobService = new HealthIngestJobService(redisTemplate, new ObjectMapper())
+
+    def setup() {
+        healthIngestJobService.jobTtlHours = 24
+        redisTemplate.opsForHash() >> hashOperations
+        redisTemplate.opsForValue() >> valueOperations
+        redisTemplate.opsForList() >> listOperations
+        redisTemplate.opsForSet() >> setOperations
+    }
+
+    def "작업 등록 테스트 - 상태와 요청 본문 기록 후 대기 큐 적재"() {
+        given:
+        HealthDataRequest request = createRequest("test-record-key", 3)
+        String queuedJobId = null
+
+        when:
+        HealthIngestJobResponse response = healthIngestJobService.submitJob(request)
+
+        then:
+        1 * hashOperations.putAll({ it.startsWith("health:ingest:job:") }, { Map job ->
+            job.status == "QUEUED" && job.totalCount == "3" && job.recordKey == "test-record-key"
+        })
+        1 * redisTemplate.expire({ it.startsWith("health:ingest:job:") }, Duration.ofHours(24))
+        1 * valueOperations.set({ it.startsWith("health:ingest:payload:") },
+                { it.contains('"recordkey":"test-record-key"') }, Duration.ofHours(24))
+
+        then:
+        1 * listOperations.leftPush("health:ingest:queue", _) >> { args -> queuedJobId = args[1]; 1L }
+
+        queuedJobId == response.jobId
+        response.status == HealthIngestJobStatus.QUEUED
+        response.totalCount == 3
+        response.processedCount == 0
+    }
+
+    def "작업 등록 테스트 - Redis 연결 실패 시 예외"() {
+        given:
+        HealthDataRequest request = createRequest("test-record-key", 1)
+        hashOperations.putAll(_, _) >> { throw new RedisConnectionFailureException("down") }
+
+        when:
+        healthIngestJobService.submitJob(request)
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_INGEST_QUEUE_UNAVAILABLE
+        0 * listOperations.leftPush(_, _)
+    }
+
+    def "작업 조회 테스트 - 진행 상태 변환"() {
+        given:
+        hashOperations.entries("health:ingest:job:job-1") >> [
+                recordKey     : "test-record-key",
+                status        : "PROCESSING",
+                totalCount    : "1000",
+                processedCount: "500",
+                savedCount    : "480",
+                createdAt     : "2024-11-15T10:00:00",
+                updatedAt     : "2024-11-15T10:00:05"
+        ]
+
+        when:
+        Optional<HealthIngestJobResponse> result = healthIngestJobService.getJob("job-1", "test-record-key")
+
+        then:
+        result.isPresent()
+        result.get().jobId == "job-1"
+        result.get().status == HealthIngestJobStatus.PROCESSING
+        result.get().processedCount == 500
+        result.get().savedCount == 480
+        result.get().errorMessage == null
+    }
+
+    def "작업 조회 테스트 - 존재하지 않는 작업"() {
+        given:
+        hashOperations.entries("health:ingest:job:unknown") >> [:]
+
+        expect:
+        healthIngestJobService.getJob("unknown", "test-record-key").isEmpty()
+    }
+
+    def "작업 조회 테스트 - 다른 사용자의 작업은 조회되지 않음"() {
+        given:
+        hashOperations.entries("health:ingest:job:job-1") >> [
+                recordKey: "other-record-key",
+                status   : "QUEUED"
+        ]
+
+        expect:
+        healthIngestJobService.getJob("job-1", "test-record-key").isEmpty()
+    }
+
+    def "진행 상황 누적 테스트 - 청크 번호를 기록하며 한 번만 누적"() {
+        when:
+        boolean first = healthIngestJobService.addProgress("job-1", 0, 500, 498)
+        boolean redelivered = healthIngestJobService.addProgress("job-1", 0, 500, 498)
+
+        then:
+        2 * redisTemplate.execute(_ as RedisScript, ["health:ingest:job:job-1"], "chunk:0", "500", "498", _) >>> [1L, 0L]
+        first
+        !redelivered
+    }
+
+    def "진행 상황 누적 테스트 - 누적된 청크 확인"() {
+        given:
+        hashOperations.hasKey("health:ingest:job:job-1", "chunk:0") >> true
+        hashOperations.hasKey("health:ingest:job:job-1", "chunk:1") >> false
+
+        expect:
+        healthIngestJobService.isChunkRecorded("job-1", 0)
+        !healthIngestJobService.isChunkRecorded("job-1", 1)
+    }
+
+    def "작업 실패 기록 테스트"() {
+        when:
+        healthIngestJobService.markFailed("job-1", "boom")
+
+        then:
+        1 * hashOperations.put("health:ingest:job:job-1", "errorMessage", "boom")
+        1 * hashOperations.putAll("health:ingest:job:job-1", { it.status == "FAILED" })
+    }
+
+    def "작업 폴링 테스트 - 대기 큐에서 처리 중 목록으로 이동"() {
+        given:
+        listOperations.rightPopAndLeftPush("health:ingest:queue", "health:ingest:processing:node-1", Duration.ofSeconds(2)) >> "job-1"
+
+        expect:
+        healthIngestJobService.pollJob("node-1", Duration.ofSeconds(2)) == Optional.of("job-1")
+    }
+
+    def "작업 폴링 테스트 - 대기 시간 내 작업 없음"() {
+        given:
+        listOperations.rightPopAndLeftPush(_, _, _) >> null
+
+        expect:
+        healthIngestJobService.pollJob("node-1", Duration.ofSeconds(2)).isEmpty()
+    }
+
+    def "작업 완료 테스트 - 처리 중 목록과 요청 본문 제거"() {
+        when:
+        healthIngestJobService.completeJob("node-1", "job-1")
+
+        then:
+        1 * listOperations.remove("health:ingest:processing:node-1", 1, "job-1")
+        1 * redisTemplate.delete("health:ingest:payload:job-1")
+    }
+
+    def "중단된 작업 복구 테스트 - 처리 중 목록을 대기 큐로 이동"() {
+        when:
+        int count = healthIngestJobService.requeuePendingJobs("node-1")
+
+        then:
+        3 * listOperations.rightPopAndLeftPush("health:ingest:processing:node-1", "health:ingest:queue") >>> ["job-1", "job-2", null]
+        count == 2
+    }
+
+    def "컨슈머 생존 표시 테스트 - 만료 시간과 함께 기록하고 컨슈머 목록에 등록"() {
+        when:
+        healthIngestJobService.heartbeat("node-a-1", Duration.ofSeconds(15))
+
+        then:
+        1 * valueOperations.set("health:ingest:consumer:node-a-1", "1", Duration.ofSeconds(15))
+        1 * setOperations.add("health:ingest:consumers", "node-a-1")
+    }
+
+    def "중단된 컨슈머 복구 테스트 - 생존 표시가 만료된 컨슈머의 처리 중 작업만 되돌림"() {
+        given:
+        setOperations.members("health:ingest:consumers") >> (["node-a-1", "node-b-1"] as Set)
+        redisTemplate.hasKey("health:ingest:consumer:node-a-1") >> true
+        redisTemplate.hasKey("health:ingest:consumer:node-b-1") >> false
+
+        when:
+        int count = healthIngestJobService.requeueAbandonedJobs()
+
+        then:
+        0 * listOperations.rightPopAndLeftPush("health:ingest:processing:node-a-1", _)
+        2 * listOperations.rightPopAndLeftPush("health:ingest:processing:node-b-1", "health:ingest:queue") >>> ["job-1", null]
+        1 * setOperations.remove("health:ingest:consumers", "node-b-1")
+        0 * setOperations.remove("health:ingest:consumers", "node-a-1")
+        count == 1
+    }
+
+    private HealthDataRequest createRequest(String recordKey, int entryCount) {
+        List<EntryDto> entries = (0..<entryCount).collect {
+            new EntryDto(new PeriodDto("2024-11-15 00:0${it}:00", "2024-11-15 00:0${it + 1}:00"), null, null, 100)
+        }
+        return new HealthDataRequest(recordKey, new DataWrapper(null, entries))
+    }
+}
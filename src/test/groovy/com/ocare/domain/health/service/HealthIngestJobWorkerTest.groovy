@@ -0,0 +1,111 @@
+package com.ocare.domain.health.service
+
+import com.fasterxml.jackson.databind.DeserializationFeature
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.ocare.domain.health.dto.request.DataWrapper
+import com.ocare.domain.health.dto.request.EntryDto
+import com.ocare.domain.health.dto.request.HealthDataRequest
+import com.ocare.domain.health.dto.request.PeriodDto
+import spock.lang.Specification
+import spock.lang.Subject
+
+class HealthIngestJobWorkerTest extends Specification {
+
+    ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+    HealthDataService healthDataService = Mock()
+    HealthIngestJobService healthIngestJobService = Mock()
+
+    @Subject
+    HealthIngestJobWorker worker = new HealthIngestJobWorker(objectMapper, healthDataService, healthIngestJobService)
+
+    def setup() {
+        worker.chunkSize = 2
+    }
+
+    def "작업 처리 테스트 - 청크 단위 저장 및 진행 상황 기록"() {
+        given:
+        healthIngestJobService.getPayload("job-1") >> Optional.of(toPayload(createRequest("test-record-key", 5)))
+
+        when:
+        worker.process("job-1")
+
+        then:
+        1 * healthIngestJobService.markProcessing("job-1")
+
+        then:
+        2 * healthDataService.saveEntries("test-record-key", { it.size() == 2 }) >> 2
+        1 * healthDataService.saveEntries("test-record-key", { it.size() == 1 }) >> 1
+        1 * healthIngestJobService.addProgress("job-1", 0, 2, 2)
+        1 * healthIngestJobService.addProgress("job-1", 1, 2, 2)
+        1 * healthIngestJobService.addProgress("job-1", 2, 1, 1)
+
+        then:
+        1 * healthIngestJobService.markCompleted("job-1")
+        0 * healthIngestJobService.markFailed(_, _)
+    }
+
+    def "작업 처리 테스트 - 재전달된 작업은 이미 누적된 청크를 건너뜀"() {
+        given:
+        healthIngestJobService.getPayload("job-1") >> Optional.of(toPayload(createRequest("test-record-key", 5)))
+        healthIngestJobService.isChunkRecorded("job-1", 0) >> true
+        healthIngestJobService.isChunkRecorded("job-1", 1) >> true
+
+        when:
+        worker.process("job-1")
+
+        then:
+        1 * healthDataService.saveEntries("test-record-key", { it.size() == 1 }) >> 1
+        0 * healthDataService.saveEntries("test-record-key", { it.size() == 2 })
+        1 * healthIngestJobService.addProgress("job-1", 2, 1, 1)
+        1 * healthIngestJobService.markCompleted("job-1")
+    }
+
+    def "작업 처리 테스트 - 저장 실패 시 FAILED 기록"() {
+        given:
+        healthIngestJobService.getPayload("job-1") >> Optional.of(toPayload(createRequest("test-record-key", 1)))
+        healthDataService.saveEntries(_, _) >> { throw new IllegalStateException("db down") }
+
+        when:
+        worker.process("job-1")
+
+        then:
+        noExceptionThrown()
+        1 * healthIngestJobService.markFailed("job-1", "db down")
+        0 * healthIngestJobService.markCompleted(_)
+    }
+
+    def "작업 처리 테스트 - 손상된 요청 본문은 FAILED 처리"() {
+        given:
+        healthIngestJobService.getPayload("job-1") >> Optional.of("{broken")
+
+        when:
+        worker.process("job-1")
+
+        then:
+        0 * healthDataService.saveEntries(_, _)
+        1 * healthIngestJobService.markFailed("job-1", _)
+    }
+
+    def "작업 처리 테스트 - 요청 본문 만료 시 FAILED 처리"() {
+        given:
+        healthIngestJobService.getPayload("job-1") >> Optional.empty()
+
+        when:
+        worker.process("job-1")
+
+        then:
+        0 * healthIngestJobService.markProcessing(_)
+        1 * healthIngestJobService.markFailed("job-1", "요청 본문이 만료되었습니다")
+    }
+
+    private String toPayload(HealthDataRequest request) {
+        return objectMapper.writeValueAsString(request)
+    }
+
+    private HealthDataRequest createRequest(String recordKey, int entryCount) {
+        List<EntryDto> entries = (0..<entryCount).collect {
+            new EntryDto(new PeriodDto("2024-11-15 00:0${it}:00", "2024-11-15 00:0${it + 1}:00"), null, null, 100)
+        }
+        return new HealthDataRequest(recordKey, new DataWrapper(null, entries))
+    }
+}
@@ -0,0 +1,73 @@
+package com.ocare.domain.health.service
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.ocare.domain.health.dto.response.RangeTotalResponse
+import com.ocare.domain.health.repository.DailyHealthSummaryRepository
+import com.ocare.domain.health.repository.MonthlyHealthSummaryRepository
+import com.ocare.domain.health.repository.WeeklyHealthSummaryRepository
+import com.ocare.domain.health.repository.YearlyHealthSummaryRepository
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory
+import org.springframework.transaction.PlatformTransactionManager
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class HealthQueryFlushAspectTest extends Specification {
+
+    DailyHealthSummaryRepository dailySummaryRepository = Mock()
+    HealthSummaryCacheService summaryCacheService = Mock()
+    HealthAggregationScheduler aggregationScheduler = Mock()
+
+    HealthQueryService healthQueryService
+
+    def setup() {
+        HealthQueryService target = new HealthQueryService(dailySummaryRepository, Mock(WeeklyHealthSummaryRepository),
+                Mock(MonthlyHealthSummaryRepository), Mock(YearlyHealthSummaryRepository), summaryCacheService,
+                new ObjectMapper(), Mock(PlatformTransactionManager))
+        target.maxPageSize = 1000
+        target.init()
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target)
+        factory.proxyTargetClass = true
+        factory.addAspect(new HealthQueryFlushAspect(aggregationScheduler))
+        healthQueryService = factory.getProxy()
+    }
+
+    def "조회 전 반영 테스트 - 집계 조회 전에 recordKey의 대기분을 먼저 반영"() {
+        given:
+        LocalDate startDate = LocalDate.of(2024, 1, 1)
+        LocalDate endDate = LocalDate.of(2024, 1, 31)
+
+        when:
+        healthQueryService.getRangeTotal("rk", startDate, endDate)
+
+        then:
+        1 * aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        1 * summaryCacheService.getOrLoad(_, _, _) >> RangeTotalResponse.builder()
+                .recordKey("rk").startDate(startDate).endDate(endDate).steps(0L).build()
+    }
+
+    def "조회 전 반영 테스트 - 캐시를 거치지 않는 조회도 반영"() {
+        when:
+        healthQueryService.getDailySummaryPage("rk", null, 10)
+
+        then:
+        1 * aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        1 * dailySummaryRepository.findSummariesByRecordKey("rk", _) >> []
+    }
+
+    def "조회 전 반영 테스트 - 조건부 조회의 마지막 수정 시각 확인 전에도 반영"() {
+        when:
+        healthQueryService.getYearlySummariesLastModified("rk")
+
+        then:
+        1 * aggregationScheduler.flushIfDirty("rk")
+
+        then:
+        1 * summaryCacheService.getOrLoad(_, _, _) >> Optional.empty()
+    }
+}
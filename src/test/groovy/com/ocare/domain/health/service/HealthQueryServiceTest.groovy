@@ -1,24 +1,98 @@
 package com.ocare.domain.health.service
 
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+import com.ocare.common.exception.CustomException
+import com.ocare.common.exception.ErrorCode
+import com.ocare.domain.health.dto.RangeAggregation
+import com.ocare.domain.health.dto.SummaryCacheKey
+import com.ocare.domain.health.dto.response.DailySummaryPageResponse
 import com.ocare.domain.health.dto.response.DailySummaryResponse
 import com.ocare.domain.health.dto.response.MonthlySummaryResponse
+import com.ocare.domain.health.dto.response.RangeTotalResponse
+import com.ocare.domain.health.dto.response.WeeklySummaryResponse
+import com.ocare.domain.health.dto.response.YearlySummaryResponse
 import com.ocare.domain.health.entity.DailyHealthSummaryEntity
 import com.ocare.domain.health.entity.MonthlyHealthSummaryEntity
 import com.ocare.domain.health.repository.DailyHealthSummaryRepository
 import com.ocare.domain.health.repository.MonthlyHealthSummaryRepository
+import com.ocare.domain.health.repository.WeeklyHealthSummaryRepository
+import com.ocare.domain.health.repository.YearlyHealthSummaryRepository
+import org.springframework.data.domain.Limit
+import org.springframework.transaction.PlatformTransactionManager
 import spock.lang.Specification
 import spock.lang.Subject
 
+import java.time.Instant
 import java.time.LocalDate
 import java.time.LocalDateTime
+import java.time.ZoneId
 
 class HealthQueryServiceTest extends Specification {
 
     DailyHealthSummaryRepository dailySummaryRepository = Mock()
+    WeeklyHealthSummaryRepository weeklySummaryRepository = Mock()
     MonthlyHealthSummaryRepository monthlySummaryRepository = Mock()
+    YearlyHealthSummaryRepository yearlySummaryRepository = Mock()
+    HealthSummaryCacheService summaryCacheService = Mock()
+    PlatformTransactionManager transactionManager = Mock()
 
     @Subject
-    HealthQueryService healthQueryService = new HealthQueryService(dailySummaryRepository, monthlySummaryRepository)
+    HealthQueryService healthQueryService = new HealthQueryService(
+            dailySummaryRepository, weeklySummaryRepository, monthlySummaryRepository,
+            yearlySummaryRepository, summaryCacheService, new ObjectMapper().registerModule(new JavaTimeModule()),
+            transactionManager)
+
+    def setup() {
+        healthQueryService.maxPageSize = 1000
+        healthQueryService.init()
+
+        // 캐시 미적중: loader를 그대로 실행
+        summaryCacheService.getOrLoad(_, _, _) >> { args -> args[2].get() }
+    }
+
+    def "집계 조회 캐시 키 테스트 - 조회 조건별 필드"() {
+        when:
+        healthQueryService.getDailySummaries("rk", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))
+        healthQueryService.getDailySummaries("rk", null, null)
+        healthQueryService.getDailySummary("rk", LocalDate.of(2024, 1, 5))
+        healthQueryService.getMonthlySummaries("rk", 2024)
+        healthQueryService.getMonthlySummary("rk", 2024, 1)
+
+        then:
+        1 * summaryCacheService.getOrLoad({ SummaryCacheKey key ->
+            key.hashKey == "health:cache:daily:rk" && key.field == "range:2024-01-01:2024-01-31" }, _, _) >> []
+        1 * summaryCacheService.getOrLoad({ SummaryCacheKey key ->
+            key.hashKey == "health:cache:daily:rk" && key.field == "all" }, _, _) >> []
+        1 * summaryCacheService.getOrLoad({ SummaryCacheKey key ->
+            key.hashKey == "health:cache:daily:rk" && key.field == "date:2024-01-05" }, _, _) >> Optional.empty()
+        1 * summaryCacheService.getOrLoad({ SummaryCacheKey key ->
+            key.hashKey == "health:cache:monthly:rk" && key.field == "year:2024" }, _, _) >> []
+        1 * summaryCacheService.getOrLoad({ SummaryCacheKey key ->
+            key.hashKey == "health:cache:monthly:rk" && key.field == "month:2024-1" }, _, _) >> Optional.empty()
+        0 * dailySummaryRepository._
+        0 * monthlySummaryRepository._
+    }
+
+    def "트랜잭션 범위 테스트 - 캐시 적중 시 트랜잭션을 열지 않음"() {
+        when:
+        List<DailySummaryResponse> result = healthQueryService.getDailySummaries("rk", null, null)
+
+        then:
+        1 * summaryCacheService.getOrLoad(_, _, _) >> []
+        0 * transactionManager._
+        result == []
+    }
+
+    def "트랜잭션 범위 테스트 - 캐시 미적중 시 읽기 전용 트랜잭션에서 조회"() {
+        when:
+        healthQueryService.getDailySummaries("rk", null, null)
+
+        then:
+        1 * transactionManager.getTransaction({ it.readOnly }) >> null
+        1 * dailySummaryRepository.findSummariesByRecordKey("rk") >> []
+        1 * transactionManager.commit(_)
+    }
 
     def "일별 집계 데이터 전체 조회 테스트"() {
         given:
@@ -33,7 +107,7 @@ class HealthQueryServiceTest extends Specification {
         List<DailySummaryResponse> result = healthQueryService.getDailySummaries(recordKey, null, null)
 
         then:
-        1 * dailySummaryRepository.findByRecordKeyOrderBySummaryDateAsc(recordKey) >> entities
+        1 * dailySummaryRepository.findSummariesByRecordKey(recordKey) >> entities.collect { DailySummaryResponse.of(it) }
 
         result.size() == 2
         result[0].recordKey == recordKey
@@ -49,7 +123,7 @@ class HealthQueryServiceTest extends Specification {
         List<DailySummaryResponse> result = healthQueryService.getDailySummaries(recordKey, null, null)
 
         then:
-        1 * dailySummaryRepository.findByRecordKeyOrderBySummaryDateAsc(recordKey) >> []
+        1 * dailySummaryRepository.findSummariesByRecordKey(recordKey) >> []
 
         result.isEmpty()
     }
@@ -68,7 +142,8 @@ class HealthQueryServiceTest extends Specification {
         List<DailySummaryResponse> result = healthQueryService.getDailySummaries(recordKey, startDate, endDate)
 
         then:
-        1 * dailySummaryRepository.findByRecordKeyAndSummaryDateBetweenOrderBySummaryDateAsc(recordKey, startDate, endDate) >> entities
+        1 * dailySummaryRepository.findSummariesByRecordKeyAndSummaryDateBetween(recordKey, startDate, endDate) >>
+                entities.collect { DailySummaryResponse.of(it) }
 
         result.size() == 1
         result[0].date == LocalDate.of(2024, 1, 15)
@@ -122,11 +197,12 @@ class HealthQueryServiceTest extends Specification {
         List<MonthlySummaryResponse> result = healthQueryService.getMonthlySummaries(recordKey, null)
 
         then:
-        1 * monthlySummaryRepository.findByRecordKeyOrderBySummaryYearAscSummaryMonthAsc(recordKey) >> entities
+        1 * monthlySummaryRepository.findSummariesByRecordKey(recordKey) >> entities.collect { MonthlySummaryResponse.of(it) }
 
         result.size() == 2
         result[0].year == 2024
         result[0].month == 1
+        result[0].yearMonth == "2024-01"
         result[0].steps == 150000
         result[1].month == 2
     }
@@ -139,7 +215,7 @@ class HealthQueryServiceTest extends Specification {
         List<MonthlySummaryResponse> result = healthQueryService.getMonthlySummaries(recordKey, null)
 
         then:
-        1 * monthlySummaryRepository.findByRecordKeyOrderBySummaryYearAscSummaryMonthAsc(recordKey) >> []
+        1 * monthlySummaryRepository.findSummariesByRecordKey(recordKey) >> []
 
         result.isEmpty()
     }
@@ -158,7 +234,8 @@ class HealthQueryServiceTest extends Specification {
         List<MonthlySummaryResponse> result = healthQueryService.getMonthlySummaries(recordKey, year)
 
         then:
-        1 * monthlySummaryRepository.findByRecordKeyAndSummaryYearOrderBySummaryMonthAsc(recordKey, year) >> entities
+        1 * monthlySummaryRepository.findSummariesByRecordKeyAndSummaryYear(recordKey, year) >>
+                entities.collect { MonthlySummaryResponse.of(it) }
 
         result.size() == 2
         result.every { it.year == 2024 }
@@ -200,6 +277,255 @@ class HealthQueryServiceTest extends Specification {
         result.isEmpty()
     }
 
+    def "일별 집계 커서 페이지 조회 테스트 - 첫 페이지, 다음 페이지 있음"() {
+        given:
+        String recordKey = "test-record-key"
+
+        when:
+        DailySummaryPageResponse result = healthQueryService.getDailySummaryPage(recordKey, null, 2)
+
+        then:
+        1 * dailySummaryRepository.findSummariesByRecordKey(recordKey, Limit.of(3)) >> [
+                new DailySummaryResponse(recordKey, LocalDate.of(2024, 1, 1), 5000, 200.0f, 3.5f),
+                new DailySummaryResponse(recordKey, LocalDate.of(2024, 1, 2), 6000, 250.0f, 4.0f),
+                new DailySummaryResponse(recordKey, LocalDate.of(2024, 1, 3), 7000, 300.0f, 4.5f)
+        ]
+        0 * summaryCacheService._
+
+        result.items*.date == [LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2)]
+        result.hasNext
+        result.nextCursor == LocalDate.of(2024, 1, 2)
+    }
+
+    def "일별 집계 커서 페이지 조회 테스트 - 커서 이후 마지막 페이지"() {
+        given:
+        String recordKey = "test-record-key"
+
+        when:
+        DailySummaryPageResponse result = healthQueryService.getDailySummaryPage(recordKey, LocalDate.of(2024, 1, 2), 2)
+
+        then:
+        1 * dailySummaryRepository.findSummariesByRecordKeyAndSummaryDateAfter(
+                recordKey, LocalDate.of(2024, 1, 2), Limit.of(3)) >> [
+                new DailySummaryResponse(recordKey, LocalDate.of(2024, 1, 3), 7000, 300.0f, 4.5f)
+        ]
+
+        result.items*.date == [LocalDate.of(2024, 1, 3)]
+        !result.hasNext
+        result.nextCursor == null
+    }
+
+    def "일별 집계 커서 페이지 조회 테스트 - 허용 범위를 벗어난 크기"() {
+        when:
+        healthQueryService.getDailySummaryPage("test-record-key", null, size)
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_PAGE_SIZE_INVALID
+        0 * dailySummaryRepository._
+
+        where:
+        size << [0, 1001]
+    }
+
+    def "일별 집계 NDJSON 출력 테스트 - 한 줄에 한 행"() {
+        given:
+        String recordKey = "test-record-key"
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        healthQueryService.writeDailySummaries(recordKey, out)
+
+        then:
+        1 * dailySummaryRepository.streamByRecordKey(recordKey) >> [
+                new DailySummaryResponse(recordKey, LocalDate.of(2024, 1, 1), 5000, 200.0f, 3.5f),
+                new DailySummaryResponse(recordKey, LocalDate.of(2024, 1, 2), 6000, 250.0f, 4.0f)
+        ].stream()
+
+        List<String> lines = out.toString("UTF-8").split("\n") as List
+        lines.size() == 2
+        lines[0].startsWith('{"recordKey":"test-record-key","date":')
+        lines[0].contains('"steps":5000')
+        lines[1].startsWith('{"recordKey":"test-record-key","date":')
+        lines[1].contains('"steps":6000')
+    }
+
+    def "일별 집계 NDJSON 출력 테스트 - 데이터 없음"() {
+        given:
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+
+        when:
+        healthQueryService.writeDailySummaries("test-record-key", out)
+
+        then:
+        1 * dailySummaryRepository.streamByRecordKey("test-record-key") >> [].stream()
+        out.size() == 0
+    }
+
+    def "마지막 수정 시각 조회 테스트 - 목록과 같은 조건의 modified 필드로 캐시"() {
+        given:
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 31, 9, 30)
+
+        when:
+        Optional<Instant> result = healthQueryService.getDailySummariesLastModified(
+                "rk", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))
+
+        then:
+        1 * summaryCacheService.getOrLoad({ SummaryCacheKey key ->
+            key.hashKey == "health:cache:daily:rk" && key.field == "modified:range:2024-01-01:2024-01-31" }, _, _) >>
+                { args -> args[2].get() }
+        1 * dailySummaryRepository.findMaxUpdatedAtByRecordKeyAndSummaryDateBetween(
+                "rk", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)) >> Optional.of(updatedAt)
+        result == Optional.of(updatedAt.atZone(ZoneId.systemDefault()).toInstant())
+    }
+
+    def "마지막 수정 시각 조회 테스트 - 데이터 없음"() {
+        when:
+        Optional<Instant> result = healthQueryService.getMonthlySummariesLastModified("rk", 2024)
+
+        then:
+        1 * monthlySummaryRepository.findMaxUpdatedAtByRecordKeyAndSummaryYear("rk", 2024) >> Optional.empty()
+        result.isEmpty()
+    }
+
+    def "주별 집계 데이터 기간 조회 테스트 - 시작일이 속한 주부터 조회"() {
+        given:
+        String recordKey = "test-record-key"
+
+        when:
+        List<WeeklySummaryResponse> result = healthQueryService.getWeeklySummaries(
+                recordKey, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 31))
+
+        then:
+        1 * summaryCacheService.getOrLoad({ SummaryCacheKey key ->
+            key.hashKey == "health:cache:weekly:test-record-key" && key.field == "range:2024-01-08:2024-01-31" },
+                _, _) >> { args -> args[2].get() }
+        1 * weeklySummaryRepository.findSummariesByRecordKeyAndWeekStartDateBetween(
+                recordKey, LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 31)) >> [
+                new WeeklySummaryResponse(recordKey, LocalDate.of(2024, 1, 8), 40000, 1600.0f, 28.0f)
+        ]
+
+        result.size() == 1
+        result[0].weekStartDate == LocalDate.of(2024, 1, 8)
+        result[0].weekEndDate == LocalDate.of(2024, 1, 14)
+        result[0].weekBasedYear == 2024
+        result[0].week == 2
+        result[0].steps == 40000
+    }
+
+    def "연도별 집계 데이터 전체 조회 테스트"() {
+        given:
+        String recordKey = "test-record-key"
+
+        when:
+        List<YearlySummaryResponse> result = healthQueryService.getYearlySummaries(recordKey)
+
+        then:
+        1 * yearlySummaryRepository.findSummariesByRecordKey(recordKey) >> [
+                new YearlySummaryResponse(recordKey, 2023, 2000000, 80000.0f, 1400.0f),
+                new YearlySummaryResponse(recordKey, 2024, 2500000, 95000.0f, 1700.0f)
+        ]
+
+        result*.year == [2023, 2024]
+        result*.steps == [2000000, 2500000]
+    }
+
+    def "기간 합계 조회 테스트 - 연/월/주 집계를 먼저 사용하고 가장자리만 일별 조회"() {
+        given:
+        String recordKey = "test-record-key"
+
+        when:
+        RangeTotalResponse result = healthQueryService.getRangeTotal(
+                recordKey, LocalDate.of(2023, 12, 30), LocalDate.of(2025, 2, 12))
+
+        then:
+        1 * summaryCacheService.getOrLoad({ SummaryCacheKey key ->
+            key.hashKey == "health:cache:daily:test-record-key" && key.field == "total:2023-12-30:2025-02-12" },
+                _, _) >> { args -> args[2].get() }
+        1 * dailySummaryRepository.sumByRecordKeyAndSummaryDateBetween(
+                recordKey, LocalDate.of(2023, 12, 30), LocalDate.of(2023, 12, 31)) >> RangeAggregation.of(1000L, 40.0d, 0.5d)
+        1 * yearlySummaryRepository.sumByRecordKeyAndSummaryYearBetween(recordKey, 2024, 2024) >>
+                RangeAggregation.of(3000000L, 120000.0d, 2000.0d)
+        1 * monthlySummaryRepository.sumByRecordKeyAndMonthIndexBetween(recordKey, 2025 * 12, 2025 * 12) >>
+                RangeAggregation.of(200000L, 8000.0d, 140.0d)
+        1 * dailySummaryRepository.sumByRecordKeyAndSummaryDateBetween(
+                recordKey, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 2)) >> new RangeAggregation(null, null, null)
+        1 * weeklySummaryRepository.sumByRecordKeyAndWeekStartDateBetween(
+                recordKey, LocalDate.of(2025, 2, 3), LocalDate.of(2025, 2, 9)) >> RangeAggregation.of(50000L, 2000.0d, 35.0d)
+        1 * dailySummaryRepository.sumByRecordKeyAndSummaryDateBetween(
+                recordKey, LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 12)) >> RangeAggregation.of(2000L, 80.0d, 1.5d)
+        0 * dailySummaryRepository._
+        0 * weeklySummaryRepository._
+        0 * monthlySummaryRepository._
+        0 * yearlySummaryRepository._
+
+        result.startDate == LocalDate.of(2023, 12, 30)
+        result.endDate == LocalDate.of(2025, 2, 12)
+        result.steps == 3253000L
+        result.calories == 130120.0d
+        result.distance == 2177.0d
+    }
+
+    def "기간 합계 조회 테스트 - 시작일이 종료일보다 늦으면 예외"() {
+        when:
+        healthQueryService.getRangeTotal("test-record-key", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 31))
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_DATE_RANGE_INVALID
+        0 * summaryCacheService._
+    }
+
+    def "누적 합계 기간 조회 테스트 - 두 일자의 누적 합계 차이"() {
+        given:
+        String recordKey = "test-record-key"
+
+        when:
+        RangeTotalResponse result = healthQueryService.getCumulativeRangeTotal(
+                recordKey, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 3, 31))
+
+        then:
+        1 * dailySummaryRepository.findFirstByRecordKeyAndSummaryDateLessThanEqualOrderBySummaryDateDesc(
+                recordKey, LocalDate.of(2024, 3, 31)) >> Optional.of(
+                createCumulativeEntity(recordKey, LocalDate.of(2024, 3, 29), 900000L, 36000.0d, 630.0d))
+        1 * dailySummaryRepository.findFirstByRecordKeyAndSummaryDateLessThanOrderBySummaryDateDesc(
+                recordKey, LocalDate.of(2024, 1, 10)) >> Optional.of(
+                createCumulativeEntity(recordKey, LocalDate.of(2024, 1, 8), 100000L, 4000.0d, 70.0d))
+        0 * dailySummaryRepository._
+        0 * summaryCacheService._
+
+        result.steps == 800000L
+        result.calories == 32000.0d
+        result.distance == 560.0d
+    }
+
+    def "누적 합계 기간 조회 테스트 - 시작일 이전 데이터 없음"() {
+        given:
+        String recordKey = "test-record-key"
+
+        when:
+        RangeTotalResponse result = healthQueryService.getCumulativeRangeTotal(
+                recordKey, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))
+
+        then:
+        1 * dailySummaryRepository.findFirstByRecordKeyAndSummaryDateLessThanEqualOrderBySummaryDateDesc(*_) >>
+                Optional.of(createCumulativeEntity(recordKey, LocalDate.of(2024, 1, 31), 150000L, 6000.0d, 100.0d))
+        1 * dailySummaryRepository.findFirstByRecordKeyAndSummaryDateLessThanOrderBySummaryDateDesc(*_) >> Optional.empty()
+
+        result.steps == 150000L
+        result.calories == 6000.0d
+    }
+
+    def "누적 합계 기간 조회 테스트 - 시작일이 종료일보다 늦으면 예외"() {
+        when:
+        healthQueryService.getCumulativeRangeTotal("test-record-key", LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 31))
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_DATE_RANGE_INVALID
+        0 * dailySummaryRepository._
+    }
+
     // Helper methods
     private DailyHealthSummaryEntity createDailyEntity(Long id, String recordKey, LocalDate date,
                                                         Integer steps, Float calories, Float distance) {
@@ -229,4 +555,18 @@ class HealthQueryServiceTest extends Specification {
                 .updatedAt(LocalDateTime.now())
                 .build()
     }
+
+    private DailyHealthSummaryEntity createCumulativeEntity(String recordKey, LocalDate date, Long cumulativeSteps,
+                                                            Double cumulativeCalories, Double cumulativeDistance) {
+        return DailyHealthSummaryEntity.builder()
+                .recordKey(recordKey)
+                .summaryDate(date)
+                .totalSteps(0)
+                .totalCalories(0.0f)
+                .totalDistance(0.0f)
+                .cumulativeSteps(cumulativeSteps)
+                .cumulativeCalories(cumulativeCalories)
+                .cumulativeDistance(cumulativeDistance)
+                .build()
+    }
 }
@@ -0,0 +1,46 @@
+package com.ocare.domain.health.service
+
+import com.ocare.domain.health.dto.SummaryRangeSegment
+import com.ocare.domain.health.dto.SummaryTier
+import spock.lang.Specification
+
+import java.time.LocalDate
+
+class HealthRangePlannerTest extends Specification {
+
+    def "기간 분해 테스트 - #description"() {
+        when:
+        List<SummaryRangeSegment> segments = HealthRangePlanner.plan(LocalDate.parse(start), LocalDate.parse(end))
+
+        then:
+        segments.collect { "${it.tier.name().charAt(0)}:${it.from}~${it.to}".toString() } == expected
+
+        where:
+        description          | start        | end          || expected
+        "하루"               | "2024-03-13" | "2024-03-13" || ["D:2024-03-13~2024-03-13"]
+        "한 주 미만"         | "2024-03-13" | "2024-03-17" || ["D:2024-03-13~2024-03-17"]
+        "월요일 시작 한 주"  | "2024-03-11" | "2024-03-17" || ["W:2024-03-11~2024-03-17"]
+        "주 + 가장자리"      | "2024-03-09" | "2024-03-27" || ["D:2024-03-09~2024-03-10", "W:2024-03-11~2024-03-24", "D:2024-03-25~2024-03-27"]
+        "온전한 한 달"       | "2024-02-01" | "2024-02-29" || ["M:2024-02-01~2024-02-29"]
+        "월 + 앞뒤 주/일"    | "2024-01-20" | "2024-04-10" || ["D:2024-01-20~2024-01-21", "W:2024-01-22~2024-01-28", "D:2024-01-29~2024-01-31",
+                                                                 "M:2024-02-01~2024-03-31", "W:2024-04-01~2024-04-07", "D:2024-04-08~2024-04-10"]
+        "온전한 한 해"       | "2024-01-01" | "2024-12-31" || ["Y:2024-01-01~2024-12-31"]
+        "여러 해 + 가장자리" | "2023-12-28" | "2026-02-12" || ["D:2023-12-28~2023-12-31", "Y:2024-01-01~2025-12-31", "M:2026-01-01~2026-01-31",
+                                                                 "D:2026-02-01~2026-02-01", "W:2026-02-02~2026-02-08", "D:2026-02-09~2026-02-12"]
+    }
+
+    def "기간 분해 테스트 - 구간이 겹치거나 빠지는 날짜 없음"() {
+        given:
+        LocalDate start = LocalDate.of(2022, 11, 17)
+        LocalDate end = LocalDate.of(2025, 8, 3)
+
+        when:
+        List<SummaryRangeSegment> segments = HealthRangePlanner.plan(start, end)
+
+        then:
+        segments.first().from == start
+        segments.last().to == end
+        (0..<segments.size() - 1).every { segments[it].to.plusDays(1) == segments[it + 1].from }
+        segments.every { it.tier == SummaryTier.DAILY || it.tier.periodStart(it.from) == it.from }
+    }
+}
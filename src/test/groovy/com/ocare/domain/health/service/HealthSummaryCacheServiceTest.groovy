@@ -0,0 +1,302 @@
+package com.ocare.domain.health.service
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.ocare.config.replica.ReadConsistencyTracker
+import com.ocare.domain.health.dto.SummaryCacheKey
+import com.ocare.domain.health.dto.response.DailySummaryResponse
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.core.HashOperations
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.script.RedisScript
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.LocalDate
+import java.util.concurrent.ConcurrentHashMap
+
+class HealthSummaryCacheServiceTest extends Specification {
+
+    static final TypeReference<List<DailySummaryResponse>> DAILY_LIST = new TypeReference<List<DailySummaryResponse>>() {}
+    static final TypeReference<Optional<DailySummaryResponse>> DAILY_ONE = new TypeReference<Optional<DailySummaryResponse>>() {}
+
+    StringRedisTemplate redisTemplate = Mock()
+    HashOperations<String, Object, Object> hashOperations = Mock()
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+    Cache<String, Map<String, Object>> localCache = Caffeine.newBuilder().build()
+    ReadConsistencyTracker readConsistencyTracker = Mock()
+
+    @Subject
+    HealthSummaryCacheService cacheService = new HealthSummaryCacheService(redisTemplate, objectMapper, meterRegistry,
+            localCache, readConsistencyTracker)
+
+    def setup() {
+        cacheService.ttlMinutes = 10
+        cacheService.invalidationChannel = "health:cache:invalidate"
+        redisTemplate.opsForHash() >> hashOperations
+    }
+
+    def "캐시 적중 테스트 - DB 조회 생략"() {
+        given:
+        SummaryCacheKey key = SummaryCacheKey.dailyAll("rk")
+        String cached = objectMapper.writeValueAsString([daily("rk", LocalDate.of(2024, 1, 1), 5000)])
+        hashOperations.multiGet("health:cache:daily:rk", ["all", "_version"]) >> [cached, "3"]
+
+        when:
+        List<DailySummaryResponse> result = cacheService.getOrLoad(key, DAILY_LIST, { throw new IllegalStateException("loader") })
+
+        then:
+        result.size() == 1
+        result[0].steps == 5000
+        result[0].date == LocalDate.of(2024, 1, 1)
+        0 * redisTemplate.execute(*_)
+        counter("daily", "l1", "miss") == 1
+        counter("daily", "l2", "hit") == 1
+        localEntry(key) == result
+    }
+
+    def "L1 적중 테스트 - Redis 조회 생략"() {
+        given:
+        SummaryCacheKey key = SummaryCacheKey.dailyAll("rk")
+        hashOperations.multiGet(_, _) >> [null, "0"]
+        redisTemplate.execute(*_) >> 1L
+        cacheService.getOrLoad(key, DAILY_LIST, { [daily("rk", LocalDate.of(2024, 1, 1), 5000)] })
+
+        when:
+        List<DailySummaryResponse> result = cacheService.getOrLoad(key, DAILY_LIST, { throw new IllegalStateException("loader") })
+
+        then:
+        result[0].steps == 5000
+        0 * hashOperations.multiGet(*_)
+        counter("daily", "l1", "hit") == 1
+    }
+
+    def "L1 저장 테스트 - 조건부 저장이 거부되면(조회 중 무효화) L1에 채우지 않음"() {
+        given:
+        SummaryCacheKey key = SummaryCacheKey.dailyAll("rk")
+        hashOperations.multiGet(_, _) >> [null, "0"]
+        redisTemplate.execute(*_) >> 0L
+
+        when:
+        cacheService.getOrLoad(key, DAILY_LIST, { [daily("rk", LocalDate.of(2024, 1, 1), 5000)] })
+
+        then:
+        localEntry(key) == null
+    }
+
+    def "L1 저장 테스트 - 조회 도중 무효화 메시지를 받으면 L1에 채우지 않음"() {
+        given:
+        SummaryCacheKey key = SummaryCacheKey.dailyAll("rk")
+        hashOperations.multiGet(_, _) >> [null, "0"]
+        redisTemplate.execute(*_) >> 1L
+        String message = '{"recordKey":"rk","changedDates":["2024-01-15"]}'
+
+        when:
+        cacheService.getOrLoad(key, DAILY_LIST, {
+            cacheService.handleInvalidationMessage(message)
+            [daily("rk", LocalDate.of(2024, 1, 1), 5000)]
+        })
+
+        then:
+        localEntry(key) == null
+    }
+
+    def "캐시 미적중 테스트 - DB 조회 후 조회 시점 버전으로 조건부 저장"() {
+        given:
+        SummaryCacheKey key = SummaryCacheKey.dailyRange("rk", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))
+        hashOperations.multiGet("health:cache:daily:rk", ["range:2024-01-01:2024-01-31", "_version"]) >> [null, "7"]
+
+        when:
+        List<DailySummaryResponse> result = cacheService.getOrLoad(key, DAILY_LIST, { [daily("rk", LocalDate.of(2024, 1, 2), 100)] })
+
+        then:
+        result.size() == 1
+        1 * redisTemplate.execute(_ as RedisScript, ["health:cache:daily:rk"],
+                "_version", "0", "7", "range:2024-01-01:2024-01-31", { it.contains('"steps":100') }, "600") >> 1L
+        counter("daily", "l2", "miss") == 1
+        localEntry(key) == result
+    }
+
+    def "캐시 미적중 테스트 - 버전 필드가 없으면 초기 버전 사용"() {
+        given:
+        SummaryCacheKey key = SummaryCacheKey.dailyDate("rk", LocalDate.of(2024, 1, 5))
+        hashOperations.multiGet(_, _) >> [null, null]
+
+        when:
+        Optional<DailySummaryResponse> result = cacheService.getOrLoad(key, DAILY_ONE, { Optional.empty() })
+
+        then:
+        result.isEmpty()
+        1 * redisTemplate.execute(_ as RedisScript, _, "_version", "0", "0", "date:2024-01-05", "null", "600")
+    }
+
+    def "캐시 적중 테스트 - 빈 결과(Optional.empty)도 캐시"() {
+        given:
+        SummaryCacheKey key = SummaryCacheKey.dailyDate("rk", LocalDate.of(2024, 1, 5))
+        hashOperations.multiGet(_, _) >> ["null", "0"]
+
+        when:
+        Optional<DailySummaryResponse> result = cacheService.getOrLoad(key, DAILY_ONE, { throw new IllegalStateException("loader") })
+
+        then:
+        result.isEmpty()
+        counter("daily", "l2", "hit") == 1
+    }
+
+    def "Redis 장애 테스트 - 캐시를 건너뛰고 DB 조회"() {
+        given:
+        SummaryCacheKey key = SummaryCacheKey.monthlyAll("rk")
+        hashOperations.multiGet(_, _) >> { throw new RedisConnectionFailureException("down") }
+
+        when:
+        List result = cacheService.getOrLoad(key, new TypeReference<List>() {}, { ["loaded"] })
+
+        then:
+        result == ["loaded"]
+        0 * redisTemplate.execute(*_)
+        counter("monthly", "l2", "error") == 1
+    }
+
+    def "캐시 무효화 테스트 - 변경 일자를 포함하는 필드만 삭제"() {
+        given:
+        Set<LocalDate> changedDates = [LocalDate.of(2024, 1, 15)] as Set
+        hashOperations.keys("health:cache:daily:rk") >> ([
+                "_version", "all", "date:2024-01-15", "date:2024-01-16",
+                "range:2024-01-01:2024-01-31", "range:2024-01-15:2024-01-15", "range:2024-02-01:2024-02-29",
+                "total:2024-01-10:2024-01-20", "total:2024-01-16:2024-12-31",
+                "modified:all", "modified:range:2024-01-01:2024-01-31", "modified:range:2024-02-01:2024-02-29"
+        ] as Set)
+        hashOperations.keys("health:cache:weekly:rk") >> ([
+                "_version", "all", "range:2024-01-15:2024-01-15", "range:2024-01-08:2024-01-14"
+        ] as Set)
+        hashOperations.keys("health:cache:monthly:rk") >> ([
+                "_version", "all", "year:2024", "year:2023", "month:2024-1", "month:2024-2"
+        ] as Set)
+        hashOperations.keys("health:cache:yearly:rk") >> (["_version", "all"] as Set)
+
+        when:
+        cacheService.evictSummaries("rk", changedDates)
+
+        then:
+        1 * hashOperations.increment("health:cache:daily:rk", "_version", 1)
+        1 * hashOperations.increment("health:cache:weekly:rk", "_version", 1)
+        1 * hashOperations.increment("health:cache:monthly:rk", "_version", 1)
+        1 * hashOperations.increment("health:cache:yearly:rk", "_version", 1)
+        1 * hashOperations.delete("health:cache:daily:rk", { Object[] fields ->
+            fields as Set == ["all", "date:2024-01-15", "range:2024-01-01:2024-01-31", "range:2024-01-15:2024-01-15",
+                              "total:2024-01-10:2024-01-20", "modified:all", "modified:range:2024-01-01:2024-01-31"] as Set
+        })
+        1 * hashOperations.delete("health:cache:weekly:rk", { Object[] fields ->
+            fields as Set == ["all", "range:2024-01-15:2024-01-15"] as Set
+        })
+        1 * hashOperations.delete("health:cache:monthly:rk", { Object[] fields ->
+            fields as Set == ["all", "year:2024", "month:2024-1"] as Set
+        })
+        1 * hashOperations.delete("health:cache:yearly:rk", { Object[] fields -> fields as Set == ["all"] as Set })
+    }
+
+    def "캐시 무효화 테스트 - 자신의 L1 정리 후 무효화 메시지 발행 (primary 읽기 기록은 쓰기 경로에서)"() {
+        given:
+        hashOperations.keys(_) >> ([] as Set)
+        putLocal(SummaryCacheKey.dailyDate("rk", LocalDate.of(2024, 1, 15)), Optional.empty())
+        putLocal(SummaryCacheKey.dailyDate("rk", LocalDate.of(2024, 1, 16)), Optional.empty())
+        putLocal(SummaryCacheKey.monthlyYear("rk", 2024), [])
+        putLocal(SummaryCacheKey.dailyAll("other"), [])
+
+        when:
+        cacheService.evictSummaries("rk", [LocalDate.of(2024, 1, 15)] as Set)
+
+        then:
+        1 * redisTemplate.convertAndSend("health:cache:invalidate", { String payload ->
+            payload.contains('"recordKey":"rk"') && payload.contains("2024-01-15")
+        })
+        0 * readConsistencyTracker.markWritten(_)
+        localCache.getIfPresent("rk").keySet() == [SummaryCacheKey.dailyDate("rk", LocalDate.of(2024, 1, 16)).localKey] as Set
+        localCache.getIfPresent("other").keySet() == [SummaryCacheKey.dailyAll("other").localKey] as Set
+    }
+
+    def "무효화 메시지 수신 테스트 - 다른 노드의 변경은 L1만 정리"() {
+        given:
+        putLocal(SummaryCacheKey.dailyAll("rk"), [])
+        putLocal(SummaryCacheKey.monthlyMonth("rk", 2024, 2), Optional.empty())
+
+        when:
+        cacheService.handleInvalidationMessage('{"recordKey":"rk","changedDates":["2024-01-15"]}')
+
+        then: "복제본을 쓰면 다른 노드의 변경도 복제 지연 동안 primary에서 읽도록 기록"
+        0 * hashOperations._
+        0 * redisTemplate.convertAndSend(*_)
+        1 * readConsistencyTracker.markWritten("rk")
+        localCache.getIfPresent("rk").keySet() == [SummaryCacheKey.monthlyMonth("rk", 2024, 2).localKey] as Set
+    }
+
+    def "무효화 메시지 수신 테스트 - 형식이 잘못된 메시지는 무시"() {
+        given:
+        putLocal(SummaryCacheKey.dailyAll("rk"), [])
+
+        when:
+        cacheService.handleInvalidationMessage("not-json")
+
+        then:
+        noExceptionThrown()
+        localCache.getIfPresent("rk").size() == 1
+    }
+
+    def "캐시 무효화 테스트 - 트랜잭션 안에서는 커밋 이후 실행"() {
+        given:
+        TransactionSynchronizationManager.initSynchronization()
+        hashOperations.keys(_) >> ([] as Set)
+
+        when:
+        cacheService.evictSummaries("rk", [LocalDate.of(2024, 1, 15)] as Set)
+
+        then:
+        0 * hashOperations.increment(*_)
+
+        when:
+        TransactionSynchronizationManager.synchronizations*.afterCommit()
+
+        then:
+        4 * hashOperations.increment(_, "_version", 1)
+
+        cleanup:
+        TransactionSynchronizationManager.clearSynchronization()
+    }
+
+    def "캐시 무효화 테스트 - 변경 일자 없음"() {
+        when:
+        cacheService.evictSummaries("rk", [] as Set)
+
+        then:
+        0 * hashOperations._
+    }
+
+    private Object localEntry(SummaryCacheKey key) {
+        return localCache.getIfPresent(key.recordKey)?.get(key.localKey)
+    }
+
+    private void putLocal(SummaryCacheKey key, Object value) {
+        localCache.get(key.recordKey, { new ConcurrentHashMap<>() }).put(key.localKey, value)
+    }
+
+    private double counter(String region, String tier, String result) {
+        return meterRegistry.counter("health.summary.cache", "region", region, "tier", tier, "result", result).count()
+    }
+
+    private DailySummaryResponse daily(String recordKey, LocalDate date, int steps) {
+        return DailySummaryResponse.builder()
+                .recordKey(recordKey)
+                .date(date)
+                .steps(steps)
+                .calories(1.0f)
+                .distance(1.0f)
+                .build()
+    }
+}
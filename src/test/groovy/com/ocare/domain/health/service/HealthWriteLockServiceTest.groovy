@@ -0,0 +1,141 @@
+package com.ocare.domain.health.service
+
+import com.ocare.common.exception.CustomException
+import com.ocare.common.exception.ErrorCode
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import org.springframework.data.redis.core.script.RedisScript
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+
+class HealthWriteLockServiceTest extends Specification {
+
+    StringRedisTemplate redisTemplate = Mock()
+    ValueOperations<String, String> valueOperations = Mock()
+
+    @Subject
+    HealthWriteLockService writeLockService = new HealthWriteLockService(redisTemplate)
+
+    def setup() {
+        writeLockService.stripeCount = 16
+        writeLockService.waitMillis = 200
+        writeLockService.distributed = false
+        writeLockService.leaseMillis = 30_000
+        writeLockService.retryMillis = 5
+        writeLockService.init()
+        redisTemplate.opsForValue() >> valueOperations
+    }
+
+    def "노드 내 락 테스트 - 같은 recordKey는 대기 시간 초과"() {
+        given:
+        CountDownLatch holding = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        def executor = Executors.newSingleThreadExecutor()
+        Future<Integer> first = executor.submit({
+            writeLockService.executeWithLock("rk", { holding.countDown(); release.await(); 1 })
+        } as Callable<Integer>)
+        holding.await(1, TimeUnit.SECONDS)
+
+        when:
+        writeLockService.executeWithLock("rk", { 2 })
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_WRITE_LOCK_TIMEOUT
+
+        cleanup:
+        release.countDown()
+        first.get(1, TimeUnit.SECONDS)
+        executor.shutdown()
+    }
+
+    def "노드 내 락 테스트 - 다른 스트라이프의 recordKey는 대기 없이 실행"() {
+        given:
+        CountDownLatch holding = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        def executor = Executors.newSingleThreadExecutor()
+        String other = (0..100).collect { "rk-" + it }
+                .find { Math.floorMod(it.hashCode(), 16) != Math.floorMod("rk".hashCode(), 16) }
+        executor.submit({
+            writeLockService.executeWithLock("rk", { holding.countDown(); release.await(); 1 })
+        } as Callable<Integer>)
+        holding.await(1, TimeUnit.SECONDS)
+
+        when:
+        Integer result = writeLockService.executeWithLock(other, { 2 })
+
+        then:
+        result == 2
+
+        cleanup:
+        release.countDown()
+        executor.shutdown()
+    }
+
+    def "노드 내 락 테스트 - 작업이 예외로 끝나도 락 해제"() {
+        when:
+        writeLockService.executeWithLock("rk", { throw new IllegalStateException("fail") })
+
+        then:
+        thrown(IllegalStateException)
+        writeLockService.executeWithLock("rk", { 1 }) == 1
+    }
+
+    def "Redis 락 테스트 - 선점되어 있으면 재시도 후 획득, 자신의 토큰으로 해제"() {
+        given:
+        writeLockService.distributed = true
+        List<String> tokens = []
+
+        when:
+        Integer result = writeLockService.executeWithLock("rk", { 1 })
+
+        then:
+        2 * valueOperations.setIfAbsent("health:ingest:lock:rk", _, Duration.ofMillis(30_000)) >> { args ->
+            tokens << args[1]
+            tokens.size() == 2
+        }
+        1 * redisTemplate.execute(_ as RedisScript, ["health:ingest:lock:rk"], { it == tokens[1] })
+        result == 1
+    }
+
+    def "Redis 락 테스트 - 대기 시간 안에 못 얻으면 예외, 노드 내 락은 해제"() {
+        given:
+        writeLockService.distributed = true
+        valueOperations.setIfAbsent("health:ingest:lock:rk", _, _) >> false
+
+        when:
+        writeLockService.executeWithLock("rk", { 1 })
+
+        then:
+        CustomException e = thrown()
+        e.errorCode == ErrorCode.HEALTH_WRITE_LOCK_TIMEOUT
+        0 * redisTemplate.execute(*_)
+
+        when:
+        writeLockService.distributed = false
+
+        then:
+        writeLockService.executeWithLock("rk", { 2 }) == 2
+    }
+
+    def "Redis 락 테스트 - Redis 장애 시 노드 내 락만으로 진행"() {
+        given:
+        writeLockService.distributed = true
+        valueOperations.setIfAbsent(_, _, _) >> { throw new RedisConnectionFailureException("down") }
+
+        when:
+        Integer result = writeLockService.executeWithLock("rk", { 1 })
+
+        then:
+        result == 1
+        0 * redisTemplate.execute(*_)
+    }
+}
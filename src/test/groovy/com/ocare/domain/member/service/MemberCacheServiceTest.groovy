@@ -0,0 +1,115 @@
+package com.ocare.domain.member.service
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
+import com.github.benmanes.caffeine.cache.Cache
+import com.github.benmanes.caffeine.cache.Caffeine
+import com.ocare.domain.member.dto.response.MemberResponse
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.core.StringRedisTemplate
+import org.springframework.data.redis.core.ValueOperations
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+import java.time.LocalDateTime
+
+class MemberCacheServiceTest extends Specification {
+
+    StringRedisTemplate redisTemplate = Mock()
+    ValueOperations<String, String> valueOperations = Mock()
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+    Cache<String, MemberResponse> localCache = Caffeine.newBuilder().build()
+
+    @Subject
+    MemberCacheService memberCacheService = new MemberCacheService(redisTemplate, objectMapper, meterRegistry, localCache)
+
+    def setup() {
+        memberCacheService.ttlMinutes = 30
+        redisTemplate.opsForValue() >> valueOperations
+    }
+
+    def "L1 적중 테스트 - Redis/DB 조회 생략"() {
+        given:
+        localCache.put("rk", member("rk"))
+
+        when:
+        Optional<MemberResponse> result = memberCacheService.getByRecordKey("rk", { throw new IllegalStateException("loader") })
+
+        then:
+        result.get().recordKey == "rk"
+        0 * valueOperations._
+        counter("l1", "hit") == 1
+    }
+
+    def "L2 적중 테스트 - L1에 채움"() {
+        given:
+        valueOperations.get("member:record-key:rk") >> objectMapper.writeValueAsString(member("rk"))
+
+        when:
+        Optional<MemberResponse> result = memberCacheService.getByRecordKey("rk", { throw new IllegalStateException("loader") })
+
+        then:
+        result.get().email == "rk@test.com"
+        localCache.getIfPresent("rk").email == "rk@test.com"
+        counter("l2", "hit") == 1
+    }
+
+    def "캐시 미적중 테스트 - DB 조회 후 L2/L1 저장"() {
+        given:
+        valueOperations.get(_) >> null
+
+        when:
+        Optional<MemberResponse> result = memberCacheService.getByRecordKey("rk", { Optional.of(member("rk")) })
+
+        then:
+        result.get().recordKey == "rk"
+        1 * valueOperations.set("member:record-key:rk", { it.contains('"recordKey":"rk"') }, Duration.ofMinutes(30))
+        localCache.getIfPresent("rk") != null
+        counter("l2", "miss") == 1
+    }
+
+    def "캐시 미적중 테스트 - 존재하지 않는 회원은 캐시하지 않음"() {
+        given:
+        valueOperations.get(_) >> null
+
+        when:
+        Optional<MemberResponse> result = memberCacheService.getByRecordKey("rk", { Optional.empty() })
+
+        then:
+        result.isEmpty()
+        0 * valueOperations.set(*_)
+        localCache.estimatedSize() == 0
+    }
+
+    def "Redis 장애 테스트 - DB 조회 결과 반환"() {
+        given:
+        valueOperations.get(_) >> { throw new RedisConnectionFailureException("down") }
+        valueOperations.set(*_) >> { throw new RedisConnectionFailureException("down") }
+
+        when:
+        Optional<MemberResponse> result = memberCacheService.getByRecordKey("rk", { Optional.of(member("rk")) })
+
+        then:
+        result.get().recordKey == "rk"
+        localCache.getIfPresent("rk") != null
+    }
+
+    private double counter(String tier, String result) {
+        return meterRegistry.counter("member.cache", "tier", tier, "result", result).count()
+    }
+
+    private MemberResponse member(String recordKey) {
+        return MemberResponse.builder()
+                .id(1L)
+                .name("홍길동")
+                .nickname("gildong")
+                .email(recordKey + "@test.com")
+                .recordKey(recordKey)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build()
+    }
+}
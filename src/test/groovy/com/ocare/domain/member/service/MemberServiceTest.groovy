@@ -18,9 +18,14 @@ class MemberServiceTest extends Specification {
     MemberRepository memberRepository = Mock()
     PasswordEncoder passwordEncoder = Mock()
     JwtTokenProvider jwtTokenProvider = Mock()
+    MemberCacheService memberCacheService = Mock()
 
     @Subject
-    MemberService memberService = new MemberService(memberRepository, passwordEncoder, jwtTokenProvider)
+    MemberService memberService = new MemberService(memberRepository, passwordEncoder, jwtTokenProvider, memberCacheService)
+
+    def setup() {
+        memberCacheService.getByRecordKey(_, _) >> { args -> args[1].get() }
+    }
 
     def "회원가입 성공 테스트"() {
         given:
@@ -152,7 +157,7 @@ class MemberServiceTest extends Specification {
         then:
         1 * memberRepository.findByEmail("gildong@test.com") >> Optional.of(member)
         1 * passwordEncoder.matches("password123", "encodedPassword") >> true
-        1 * jwtTokenProvider.createToken("gildong@test.com") >> "jwt-token-string"
+        1 * jwtTokenProvider.createToken("gildong@test.com", "test-record-key") >> "jwt-token-string"
 
         result.accessToken == "jwt-token-string"
         result.member.id == 1L
@@ -200,7 +205,7 @@ class MemberServiceTest extends Specification {
         then:
         1 * memberRepository.findByEmail("gildong@test.com") >> Optional.of(member)
         1 * passwordEncoder.matches("wrongPassword", "encodedPassword") >> false
-        0 * jwtTokenProvider.createToken(_)
+        0 * jwtTokenProvider.createToken(_, _)
 
         CustomException e = thrown(CustomException)
         e.errorCode == ErrorCode.MEMBER_PASSWORD_MISMATCH
@@ -263,7 +268,7 @@ class MemberServiceTest extends Specification {
                 .build()
 
         when:
-        MemberEntity result = memberService.findByRecordKey(recordKey)
+        MemberResponse result = memberService.findByRecordKey(recordKey)
 
         then:
         1 * memberRepository.findByRecordKey(recordKey) >> Optional.of(member)